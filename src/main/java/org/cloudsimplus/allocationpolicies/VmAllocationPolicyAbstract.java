@@ -12,6 +12,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.core.jfr.VmPlacementEvent;
 import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.hosts.HostAbstract;
@@ -243,6 +244,24 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
      */
     @Override
     public HostSuitability allocateHostForVm(final Vm vm) {
+        final var event = new VmPlacementEvent();
+        event.begin();
+        HostSuitability suitability = null;
+        try {
+            suitability = findHostAndAllocateVm(vm);
+            return suitability;
+        } finally {
+            event.commit(datacenter, vm, suitability, getHostList().size());
+        }
+    }
+
+    /**
+     * Finds a suitable Host and allocates it to a given VM.
+     * @param vm the VM to allocate a Host to
+     * @return a {@link HostSuitability} indicating if the VM was placed or not
+     * @see #allocateHostForVm(Vm)
+     */
+    private HostSuitability findHostAndAllocateVm(final Vm vm) {
         if (datacenterHasNoHosts(vm)) {
             return new HostSuitability(vm, "Datacenter has no host.");
         }
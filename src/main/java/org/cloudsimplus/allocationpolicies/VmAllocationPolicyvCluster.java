@@ -23,19 +23,32 @@
  */
 package org.cloudsimplus.allocationpolicies;
 
+import org.cloudsimplus.heuristics.VmToHostMappingSimulatedAnnealing;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.hosts.HostMultiClusters;
+import org.cloudsimplus.hosts.HostSuitability;
 import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmOversubscribable;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 public class VmAllocationPolicyvCluster extends VmAllocationPolicyAbstract {
 
     private boolean firstFit;
 
+    /**
+     * An optional heuristic to place batches of VMs, instead of the greedy host selection
+     * (null to always use the greedy selection).
+     */
+    private VmToHostMappingSimulatedAnnealing placementHeuristic;
+
     public VmAllocationPolicyvCluster(){
         this.firstFit = false;
     }
@@ -44,6 +57,64 @@ public class VmAllocationPolicyvCluster extends VmAllocationPolicyAbstract {
         this.firstFit = firstFit;
     }
 
+    public VmToHostMappingSimulatedAnnealing getPlacementHeuristic(){
+        return placementHeuristic;
+    }
+
+    /**
+     * Sets a heuristic to place batches of VMs, as an alternative to the greedy host selection
+     * performed by {@link #defaultFindHostForVm(Vm)} for each VM.
+     * Just active {@link HostMultiClusters} are considered by the heuristic.
+     * VMs the heuristic cannot place (or that fail to be created in the selected host)
+     * fall back to the greedy selection.
+     *
+     * @param placementHeuristic the heuristic to set or null to always use the greedy selection
+     * @return this policy
+     */
+    public VmAllocationPolicyvCluster setPlacementHeuristic(final VmToHostMappingSimulatedAnnealing placementHeuristic){
+        this.placementHeuristic = placementHeuristic;
+        return this;
+    }
+
+    /**
+     * Places a batch of VMs using the {@link #getPlacementHeuristic() placement heuristic}, if one is set.
+     * Otherwise, each VM is placed by the greedy host selection.
+     */
+    @Override
+    protected Set<HostSuitability> allocateHostForVmInternal(final List<Vm> vmList) {
+        if(placementHeuristic == null || vmList.size() < 2)
+            return super.allocateHostForVmInternal(vmList);
+
+        final List<VmOversubscribable> vms = new ArrayList<>(vmList.size());
+        for(Vm vm : vmList){
+            if(vm instanceof VmOversubscribable vmOversubscribable && !vm.isCreated())
+                vms.add(vmOversubscribable);
+        }
+
+        final List<HostMultiClusters> hosts = new ArrayList<>(getHostList().size());
+        for(Host host : getHostList()){
+            if(host.isActive() && host instanceof HostMultiClusters hostMultiClusters)
+                hosts.add(hostMultiClusters);
+        }
+
+        final Map<Vm, Host> placement = placementHeuristic.setHostList(hosts).setVmList(vms).solve().getResult();
+        final Set<HostSuitability> suitabilities = new HashSet<>();
+        for(Vm vm : vmList){
+            final Host host = placement.get(vm);
+            if(host != null){
+                final HostSuitability suitability = allocateHostForVm(vm, host);
+                if(suitability.fully()){
+                    suitabilities.add(suitability);
+                    continue;
+                }
+            }
+
+            suitabilities.add(allocateHostForVm(vm));
+        }
+
+        return suitabilities;
+    }
+
     /**
      * Gets a suitable host from the {@link #getHostList()}
      * Priority is given to the Availability (number of resources in vcluster available, without extending it)
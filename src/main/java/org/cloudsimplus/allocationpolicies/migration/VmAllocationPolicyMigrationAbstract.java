@@ -14,6 +14,7 @@ import lombok.experimental.Accessors;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicyAbstract;
 import org.cloudsimplus.core.CloudInformationService;
+import org.cloudsimplus.core.jfr.MigrationPlanningEvent;
 import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.hosts.HostAbstract;
@@ -124,6 +125,8 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     @Override
     public Map<Vm, Host> getOptimizedAllocationMap(final List<? extends Vm> vmList) {
         //@TODO See https://github.com/cloudsimplus/cloudsimplus/issues/94
+        final var event = new MigrationPlanningEvent();
+        event.begin();
         final var overloadedHosts = getOverloadedHosts();
         this.overloaded = !overloadedHosts.isEmpty();
         printOverUtilizedHosts(overloadedHosts);
@@ -135,6 +138,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
             hostSearchRetry();
         }
 
+        event.commit(getDatacenter(), vmList.size(), overloadedHosts.size(), migrationMap.size());
         return migrationMap;
     }
 
@@ -29,6 +29,7 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.cloudsimplus.brokers.DatacenterBroker;
 import org.cloudsimplus.listeners.VmHostEventInfo;
+import org.cloudsimplus.resources.*;
 import org.cloudsimplus.vms.Vm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,15 +71,109 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
      */
     private long cloudletCreationRequests;
 
-    @Getter @Setter @NonNull
+    @Getter @NonNull
     private Predicate<Vm> overloadPredicate;
 
+    /**
+     * The trigger notifying when a VM resource crosses the overload threshold,
+     * or null if the {@link #getOverloadPredicate() overload predicate} is checked at every VM processing update.
+     * @see #setUtilizationTrigger(Class, double, double)
+     */
+    @Getter
+    private UtilizationTrigger utilizationTrigger;
+
+    /**
+     * The class of the VM resource monitored by the {@link #utilizationTrigger}.
+     */
+    private Class<? extends ResourceManageable> triggerResourceClass;
+
+    /**
+     * The resource the {@link #utilizationTrigger} is registered into,
+     * or null if it's not registered yet.
+     */
+    private ResourceManageableAbstract triggerResource;
+
     public HorizontalVmScalingSimple(){
         super();
         this.overloadPredicate = FALSE_PREDICATE;
         this.vmSupplier = () -> Vm.NULL;
     }
 
+    /**
+     * Sets the {@link Predicate} that defines when the VM is overloaded.
+     * It disables any {@link #setUtilizationTrigger(Class, double, double) utilization trigger} previously set.
+     *
+     * @param overloadPredicate the overload predicate
+     * @return this scaling object
+     */
+    @Override
+    public HorizontalVmScaling setOverloadPredicate(@NonNull final Predicate<Vm> overloadPredicate) {
+        this.overloadPredicate = overloadPredicate;
+        unregisterUtilizationTrigger();
+        this.utilizationTrigger = null;
+        return this;
+    }
+
+    /**
+     * Sets a fixed overload threshold for a VM resource, which is monitored by a {@link UtilizationTrigger}
+     * registered into such a resource, replacing the {@link #getOverloadPredicate() overload predicate}.
+     * This way, instead of evaluating the predicate at every VM processing update,
+     * the creation of a new VM is requested just when the resource utilization actually crosses the threshold.
+     * That avoids the cost of checking every scaled VM at every update in large autoscaled fleets.
+     * A new crossing is just notified after the utilization falls to {@code upperThreshold - hysteresis} or below.
+     * As when using a predicate, a new VM is just requested if new Cloudlets have arrived since the last request.
+     *
+     * @param resourceClass the class of the VM resource to monitor (such as {@link Ram}.class,
+     *                      {@link Bandwidth}.class or {@link Processor}.class)
+     * @param upperThreshold the utilization percentage (in scale from 0 to 1) above which the VM is overloaded
+     * @param hysteresis the utilization percentage (in scale from 0 to 1) the resource must move away
+     *                   from the threshold before a new crossing of it is notified
+     * @return this scaling object
+     * @see UtilizationTrigger
+     */
+    public HorizontalVmScalingSimple setUtilizationTrigger(
+        @NonNull final Class<? extends ResourceManageable> resourceClass,
+        final double upperThreshold, final double hysteresis)
+    {
+        final var trigger = new UtilizationTrigger(0, upperThreshold, hysteresis, this::thresholdCrossed);
+        this.overloadPredicate = vm -> vm.getResource(resourceClass).getPercentUtilization() > upperThreshold;
+        unregisterUtilizationTrigger();
+        this.triggerResourceClass = resourceClass;
+        this.utilizationTrigger = trigger;
+        return this;
+    }
+
+    private void thresholdCrossed(final UtilizationTrigger trigger, final UtilizationTrigger.State previousState, final double time) {
+        if (trigger.getState() == UtilizationTrigger.State.OVERLOADED) {
+            setLastProcessingTime(time);
+            requestUpScaling(time);
+        }
+    }
+
+    /**
+     * Registers the {@link #utilizationTrigger} into the VM resource if it's not registered yet.
+     * The registration is lazy because VM resources may not be available before the simulation starts.
+     */
+    private void registerUtilizationTrigger() {
+        if (triggerResource == null && getVm().getResource(triggerResourceClass) instanceof ResourceManageableAbstract resource) {
+            resource.addUtilizationTrigger(utilizationTrigger);
+            triggerResource = resource;
+        }
+    }
+
+    private void unregisterUtilizationTrigger() {
+        if (triggerResource != null) {
+            triggerResource.removeUtilizationTrigger(utilizationTrigger);
+            triggerResource = null;
+        }
+    }
+
+    @Override
+    public VmScalingAbstract setVm(final Vm vm) {
+        unregisterUtilizationTrigger();
+        return super.setVm(vm);
+    }
+
     @Override
     protected boolean requestUpScaling(final double time) {
         if(!haveNewCloudletsArrived()){
@@ -107,6 +202,11 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
 
     @Override
     public final boolean requestUpScalingIfPredicateMatches(final VmHostEventInfo evt) {
+        if (utilizationTrigger != null) {
+            registerUtilizationTrigger();
+            return false;
+        }
+
         if (isTimeToCheckPredicate(evt.getTime())) {
             setLastProcessingTime(evt.getTime());
             return overloadPredicate.test(getVm()) && requestUpScaling(evt.getTime());
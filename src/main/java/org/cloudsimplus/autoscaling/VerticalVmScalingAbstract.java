@@ -62,6 +62,20 @@ public abstract class VerticalVmScalingAbstract extends VmScalingAbstract implem
     private double scalingFactor;
     private Resource vmResource;
 
+    /**
+     * The trigger notifying when the VM resource crosses the utilization thresholds,
+     * or null if the thresholds are checked at every VM processing update.
+     * @see #setUtilizationTrigger(double, double, double)
+     */
+    @Getter
+    private UtilizationTrigger utilizationTrigger;
+
+    /**
+     * The resource the {@link #utilizationTrigger} is registered into,
+     * or null if it's not registered yet.
+     */
+    private ResourceManageableAbstract triggerResource;
+
     /**
      * Creates a VerticalVmScalingAbstract.
      *
@@ -107,6 +121,7 @@ public abstract class VerticalVmScalingAbstract extends VmScalingAbstract implem
     public final VerticalVmScaling setUpperThresholdFunction(final Function<Vm, Double> upperThresholdFunction) {
         validateFunctions(lowerThresholdFunction, upperThresholdFunction);
         this.upperThresholdFunction = upperThresholdFunction;
+        disableUtilizationTrigger();
         return this;
     }
 
@@ -114,6 +129,7 @@ public abstract class VerticalVmScalingAbstract extends VmScalingAbstract implem
     public final VerticalVmScaling setLowerThresholdFunction(final Function<Vm, Double> lowerThresholdFunction) {
         validateFunctions(lowerThresholdFunction, upperThresholdFunction);
         this.lowerThresholdFunction = lowerThresholdFunction;
+        disableUtilizationTrigger();
         return this;
     }
 
@@ -136,13 +152,90 @@ public abstract class VerticalVmScalingAbstract extends VmScalingAbstract implem
         }
     }
 
+    /**
+     * Sets fixed lower and upper utilization thresholds that are monitored by a {@link UtilizationTrigger}
+     * registered into the VM resource, replacing the {@link #getLowerThresholdFunction() lower}
+     * and {@link #getUpperThresholdFunction() upper} threshold functions.
+     * This way, instead of evaluating the threshold functions at every VM processing update,
+     * a scaling request is sent just when the resource utilization actually crosses a threshold.
+     * That avoids the cost of checking every scaled VM at every update in large autoscaled fleets.
+     * Setting a threshold function afterwards disables the trigger.
+     *
+     * @param lowerThreshold the utilization percentage (in scale from 0 to 1) below which the VM is underloaded
+     * @param upperThreshold the utilization percentage (in scale from 0 to 1) above which the VM is overloaded
+     * @param hysteresis the utilization percentage (in scale from 0 to 1) the resource must move away
+     *                   from a crossed threshold before a new crossing of it is notified
+     * @return this scaling object
+     * @see UtilizationTrigger
+     * @see #setLowerThresholdFunction(Function)
+     * @see #setUpperThresholdFunction(Function)
+     */
+    public final VerticalVmScalingAbstract setUtilizationTrigger(
+        final double lowerThreshold, final double upperThreshold, final double hysteresis)
+    {
+        final var trigger = new UtilizationTrigger(lowerThreshold, upperThreshold, hysteresis, this::thresholdCrossed);
+        this.lowerThresholdFunction = vm -> lowerThreshold;
+        this.upperThresholdFunction = vm -> upperThreshold;
+        unregisterUtilizationTrigger();
+        this.utilizationTrigger = trigger;
+        return this;
+    }
+
+    private void thresholdCrossed(final UtilizationTrigger trigger, final UtilizationTrigger.State previousState, final double time) {
+        if (trigger.getState() != UtilizationTrigger.State.NORMAL) {
+            requestUpScaling(time);
+            setLastProcessingTime(time);
+        }
+    }
+
+    /**
+     * Registers the {@link #utilizationTrigger} into the VM resource if it's not registered yet.
+     * The registration is lazy because VM resources may not be available before the simulation starts.
+     */
+    private void registerUtilizationTrigger() {
+        if (triggerResource == null && getResource() instanceof ResourceManageableAbstract resource) {
+            resource.addUtilizationTrigger(utilizationTrigger);
+            triggerResource = resource;
+        }
+    }
+
+    /**
+     * Stops using the {@link #utilizationTrigger}, since threshold functions were set.
+     */
+    private void disableUtilizationTrigger() {
+        unregisterUtilizationTrigger();
+        this.utilizationTrigger = null;
+    }
+
+    private void unregisterUtilizationTrigger() {
+        if (triggerResource != null) {
+            triggerResource.removeUtilizationTrigger(utilizationTrigger);
+            triggerResource = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The resource is got again from the VM if it wasn't available
+     * when the VM was set (which happens before the simulation starts).
+     * @return {@inheritDoc}
+     */
     @Override
     public Resource getResource() {
+        if (vmResource == ResourceManageable.NULL) {
+            vmResource = getVm().getResource(resourceClassToScale);
+        }
+
         return vmResource;
     }
 
     @Override
     public final boolean requestUpScalingIfPredicateMatches(@NonNull final VmHostEventInfo evt) {
+        if(utilizationTrigger != null) {
+            registerUtilizationTrigger();
+            return false;
+        }
+
         if(!isTimeToCheckPredicate(evt.getTime())) {
             return false;
         }
@@ -209,6 +302,7 @@ public abstract class VerticalVmScalingAbstract extends VmScalingAbstract implem
     @Override
     public VmScalingAbstract setVm(final Vm vm) {
         super.setVm(vm);
+        unregisterUtilizationTrigger();
         this.vmResource = vm.getResource(this.resourceClassToScale);
         return this;
     }
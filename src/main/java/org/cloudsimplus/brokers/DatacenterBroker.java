@@ -130,6 +130,17 @@ public interface DatacenterBroker extends SimEntity {
      */
     DatacenterBroker requestIdleVmDestruction(Vm vm);
 
+    /**
+     * Notifies the broker that one of its VMs, which was destroyed from a Host
+     * (such as a failed one), was placed into another Host and is running again.
+     * That adds the VM back to the {@link #getVmExecList() list of running VMs}
+     * and clears its finish time.
+     *
+     * @param vm the VM placed again
+     * @return
+     */
+    DatacenterBroker restoreRunningVm(Vm vm);
+
     /**
      * Requests the broker shutdown if it's idle.
     */
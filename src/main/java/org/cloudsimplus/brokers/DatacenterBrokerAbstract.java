@@ -82,6 +82,13 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     private final List<Vm> vmCreatedList;
 
+    /**
+     * An index of the VMs in the {@link #vmExecList} and {@link #vmCreatedList}
+     * by their expected number of free PEs, used by VM mappers to find a suitable VM for a Cloudlet.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final VmFreePesIndex vmFreePesIndex;
+
     private final List<Cloudlet> cloudletWaitingList;
 
     private final List<Cloudlet> cloudletSubmittedList;
@@ -175,8 +182,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.vmCreation = new VmCreation();
         this.vmFailedList = new ArrayList<>();
         this.vmWaitingList = new ArrayList<>();
-        this.vmExecList = new ArrayList<>();
-        this.vmCreatedList = new ArrayList<>();
+        this.vmFreePesIndex = new VmFreePesIndex();
+        this.vmExecList = vmFreePesIndex.getRunningVms();
+        this.vmCreatedList = vmFreePesIndex.getCreatedVms();
         this.cloudletWaitingList = new ArrayList<>();
         this.cloudletFinishedList = new ArrayList<>();
         this.cloudletCreatedList = new ArrayList<>();
@@ -950,6 +958,16 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return this;
     }
 
+    @Override
+    public DatacenterBroker restoreRunningVm(@NonNull final Vm vm) {
+        if (!vmExecList.contains(vm)) {
+            vmExecList.add(vm);
+        }
+
+        vm.setFinishTime(Vm.NOT_ASSIGNED);
+        return this;
+    }
+
     private boolean isVmIdleEnough(final Vm vm) {
         final double delay = vmDestructionDelayFunction.apply(vm);
         return delay > DEF_VM_DESTRUCTION_DELAY && vm.isIdleEnough(delay);
@@ -27,8 +27,6 @@ import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.core.CloudSimPlus;
 import org.cloudsimplus.vms.Vm;
 
-import java.util.Comparator;
-
 /**
  * A implementation of {@link DatacenterBroker} that uses a Best Fit
  * mapping between submitted cloudlets and Vm's, trying to place a Cloudlet
@@ -52,6 +50,9 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
 
     /**
      * Selects the VM with the lowest number of PEs that is able to run a given Cloudlet.
+     * Running VMs are kept sorted by their expected number of free PEs,
+     * so that such a VM is found in logarithmic time.
+     * If there are multiple ones, the first one in the {@link #getVmExecList() VM execution list} is selected.
      * @param cloudlet the Cloudlet to find a VM to run it
      * @return the VM selected for the Cloudlet or {@link Vm#NULL} if no suitable VM was found
      */
@@ -61,11 +62,7 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        final Vm mappedVm = getVmExecList()
-            .stream()
-            .filter(vm -> vm.getExpectedFreePesNumber() >= cloudlet.getPesNumber())
-            .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
-            .orElse(Vm.NULL);
+        final Vm mappedVm = getVmFreePesIndex().findBestFit(cloudlet.getPesNumber());
 
         if (Vm.NULL.equals(mappedVm)) {
             LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
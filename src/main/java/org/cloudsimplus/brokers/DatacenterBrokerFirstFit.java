@@ -56,6 +56,8 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
      * Selects the first VM with the lowest number of PEs that is able to run a given Cloudlet.
      * In case the algorithm can't find such a VM, it uses the
      * default DatacenterBroker VM mapper as a fallback.
+     * The max expected number of free PEs of each range of created VMs is indexed,
+     * so that such a VM is found in logarithmic time.
      *
      * @param cloudlet the Cloudlet to find a VM to run it
      * @return the VM selected for the Cloudlet or {@link Vm#NULL} if no suitable VM was found
@@ -66,23 +68,16 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        /* The for loop just defines the maximum number of Hosts to try.
-         * When a suitable Host is found, the method returns immediately. */
-        final int maxTries = getVmCreatedList().size();
-        for (int i = 0; i < maxTries; i++) {
-            final Vm vm = getVmCreatedList().get(lastVmIndex);
-            if (vm.getExpectedFreePesNumber() >= cloudlet.getPesNumber()) {
-                LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
-                    getSimulation().clockStr(), getName(), cloudlet, cloudlet.getPesNumber(), vm,
-                    vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
-                return vm;
-            }
-
-            /* If it gets here, the previous Vm doesn't have capacity to place the Cloudlet.
-             * Then, moves to the next Vm.
-             * If the end of the Vm list is reached, starts from the beginning,
-             * until the max number of tries.*/
-            lastVmIndex = ++lastVmIndex % getVmCreatedList().size();
+        /* Finds the first VM (starting from the last selected one and going around the list of created VMs)
+         * with enough expected free PEs, without going through all VMs. */
+        final int vmIndex = getVmFreePesIndex().findFirstFit(cloudlet.getPesNumber(), lastVmIndex);
+        if (vmIndex >= 0) {
+            lastVmIndex = vmIndex;
+            final Vm vm = getVmCreatedList().get(vmIndex);
+            LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
+                getSimulation().clockStr(), getName(), cloudlet, cloudlet.getPesNumber(), vm,
+                vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
+            return vm;
         }
 
         LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
@@ -0,0 +1,98 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.vms.Vm;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An array-based list of VMs that notifies a {@link VmFreePesIndex}
+ * every time a VM is added or removed, so that the index is kept up-to-date
+ * even when the list is changed by other objects than the broker
+ * (such as Hosts destroying VMs or Datacenters finishing VM migrations).
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class IndexedVmList extends AbstractList<Vm> implements RandomAccess {
+    private final List<Vm> vms;
+
+    /**
+     * A listener notified after a VM is added, receiving the VM and its position in the list.
+     */
+    private final ObjIntConsumer<Vm> onAddListener;
+
+    /**
+     * A listener notified after a VM is removed, receiving the VM and its former position in the list.
+     */
+    private final ObjIntConsumer<Vm> onRemoveListener;
+
+    /**
+     * Creates an empty list.
+     *
+     * @param onAddListener a listener notified after a VM is added, receiving the VM and its position in the list
+     * @param onRemoveListener a listener notified after a VM is removed, receiving the VM and its former position in the list
+     */
+    IndexedVmList(final ObjIntConsumer<Vm> onAddListener, final ObjIntConsumer<Vm> onRemoveListener) {
+        this.vms = new ArrayList<>();
+        this.onAddListener = onAddListener;
+        this.onRemoveListener = onRemoveListener;
+    }
+
+    @Override
+    public Vm get(final int index) {
+        return vms.get(index);
+    }
+
+    @Override
+    public int size() {
+        return vms.size();
+    }
+
+    @Override
+    public void add(final int index, final Vm vm) {
+        vms.add(index, vm);
+        modCount++;
+        onAddListener.accept(vm, index);
+    }
+
+    @Override
+    public Vm set(final int index, final Vm vm) {
+        final Vm previous = remove(index);
+        add(index, vm);
+        return previous;
+    }
+
+    @Override
+    public Vm remove(final int index) {
+        final Vm vm = vms.remove(index);
+        modCount++;
+        onRemoveListener.accept(vm, index);
+        return vm;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.brokers;
+
+import lombok.Getter;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmAbstract;
+
+import java.util.*;
+
+/**
+ * Indexes the VMs of a {@link DatacenterBroker} by their {@link Vm#getExpectedFreePesNumber() expected number of free PEs},
+ * so that a VM able to run a Cloudlet is found in logarithmic time, instead of going through all VMs.
+ * It provides:
+ * <ul>
+ *   <li>an ordered set of running VMs sorted by their expected free PEs, to find the
+ *   {@link #findBestFit(long) best fit} VM;</li>
+ *   <li>a segment tree over the positions of the created VMs, storing the max expected free PEs
+ *   of each range of VMs, to find the {@link #findFirstFit(long, int) first fit} VM.</li>
+ * </ul>
+ *
+ * <p>The index owns the {@link #getRunningVms() running} and {@link #getCreatedVms() created} VM lists,
+ * which are updated when VMs are added or removed.
+ * It listens to changes in the expected free PEs of the VMs inside such lists,
+ * so that it's updated no matter who changes that value.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class VmFreePesIndex {
+    /**
+     * The initial number of leaves in the segment tree.
+     */
+    private static final int DEF_CAPACITY = 16;
+
+    /**
+     * The value for segment tree leaves which don't store any VM,
+     * which is lower than the number of PEs required by any Cloudlet.
+     */
+    private static final long NO_VM = -1;
+
+    /**
+     * Sorts entries by the expected free PEs and then by the order the VMs were added to the running list.
+     */
+    private static final Comparator<Entry> COMPARATOR =
+        Comparator.comparingLong(Entry::freePes).thenComparingLong(Entry::sequence);
+
+    /**
+     * An entry in the set of running VMs.
+     * @param freePes the expected free PEs of the VM when the entry was created
+     * @param sequence the sequence number indicating the order the VM was added to the running list
+     * @param vm the VM
+     */
+    private record Entry(long freePes, long sequence, Vm vm) {}
+
+    /**
+     * The list of running VMs, in the order they were added.
+     */
+    @Getter
+    private final List<Vm> runningVms;
+
+    /**
+     * The list of all VMs created so far, in the order they were created.
+     */
+    @Getter
+    private final List<Vm> createdVms;
+
+    private final NavigableSet<Entry> runningVmsSet;
+
+    private final Map<Vm, Entry> runningVmsEntries;
+
+    /**
+     * Maps each running VM to the number of times it is inside the {@link #runningVms} list,
+     * since the same VM may be added multiple times.
+     */
+    private final Map<Vm, Integer> runningVmsCount;
+
+    /**
+     * The number of VMs added to the running list so far, used to define the sequence of entries.
+     */
+    private long runningVmsSequence;
+
+    /**
+     * Maps each created VM to its position in the {@link #createdVms} list.
+     */
+    private final Map<Vm, Integer> createdVmsPositions;
+
+    /**
+     * The number of leaves in use inside the {@link #tree}.
+     */
+    private int createdVmsNumber;
+
+    /**
+     * A segment tree where element 1 is the root and the children of element i
+     * are at positions 2i and 2i+1. Leaves start at position {@link #capacity}
+     * and store the expected free PEs of the created VM at the same position inside the {@link #createdVms} list.
+     * Other elements store the max value of their children.
+     */
+    private long[] tree;
+
+    /**
+     * The number of leaves in the {@link #tree}, which is a power of 2.
+     */
+    private int capacity;
+
+    VmFreePesIndex() {
+        this.runningVms = new IndexedVmList((vm, index) -> addRunningVm(vm), (vm, index) -> removeRunningVm(vm));
+        this.createdVms = new IndexedVmList(this::addCreatedVm, (vm, index) -> rebuildCreatedVms());
+        this.runningVmsSet = new TreeSet<>(COMPARATOR);
+        this.runningVmsEntries = new IdentityHashMap<>();
+        this.runningVmsCount = new IdentityHashMap<>();
+        this.createdVmsPositions = new IdentityHashMap<>();
+        this.capacity = DEF_CAPACITY;
+        this.tree = newTree(capacity);
+    }
+
+    private static long[] newTree(final int capacity) {
+        final long[] tree = new long[capacity * 2];
+        Arrays.fill(tree, NO_VM);
+        return tree;
+    }
+
+    private void addRunningVm(final Vm vm) {
+        // The VM keeps the position of its first occurrence when it's added multiple times to the list
+        if (runningVmsCount.merge(vm, 1, Integer::sum) > 1) {
+            return;
+        }
+
+        listenExpectedFreePesNumberChange(vm);
+        final var entry = new Entry(vm.getExpectedFreePesNumber(), runningVmsSequence++, vm);
+        runningVmsEntries.put(vm, entry);
+        runningVmsSet.add(entry);
+    }
+
+    private void removeRunningVm(final Vm vm) {
+        final Integer count = runningVmsCount.get(vm);
+        if (count == null) {
+            return;
+        }
+
+        if (count > 1) {
+            runningVmsCount.put(vm, count - 1);
+            return;
+        }
+
+        runningVmsCount.remove(vm);
+        runningVmsSet.remove(runningVmsEntries.remove(vm));
+    }
+
+    private void listenExpectedFreePesNumberChange(final Vm vm) {
+        if (vm instanceof VmAbstract vmAbstract) {
+            vmAbstract.setOnExpectedFreePesNumberChangeListener(this::updateExpectedFreePesNumber);
+        }
+    }
+
+    private void addCreatedVm(final Vm vm, final int index) {
+        if (index != createdVmsNumber) {
+            rebuildCreatedVms();
+            return;
+        }
+
+        if (index == capacity) {
+            capacity *= 2;
+            final long[] oldTree = tree;
+            tree = newTree(capacity);
+            System.arraycopy(oldTree, oldTree.length / 2, tree, capacity, oldTree.length / 2);
+            for (int i = capacity - 1; i > 0; i--) {
+                tree[i] = Math.max(tree[2 * i], tree[2 * i + 1]);
+            }
+        }
+
+        createdVmsNumber++;
+        listenExpectedFreePesNumberChange(vm);
+        createdVmsPositions.put(vm, index);
+        setCreatedVmFreePes(index, vm.getExpectedFreePesNumber());
+    }
+
+    /**
+     * Rebuilds the segment tree when VMs are removed from (or inserted into the middle of)
+     * the created list, which changes the position of other VMs.
+     */
+    private void rebuildCreatedVms() {
+        createdVmsPositions.clear();
+        createdVmsNumber = 0;
+        capacity = DEF_CAPACITY;
+        tree = newTree(capacity);
+        final var vms = new ArrayList<>(createdVms);
+        for (int i = 0; i < vms.size(); i++) {
+            addCreatedVm(vms.get(i), i);
+        }
+    }
+
+    private void setCreatedVmFreePes(final int index, final long freePes) {
+        int i = capacity + index;
+        tree[i] = freePes;
+        for (i /= 2; i > 0; i /= 2) {
+            tree[i] = Math.max(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Updates the index when the expected free PEs of a VM changes.
+     *
+     * @param vm the VM whose expected free PEs changed
+     */
+    private void updateExpectedFreePesNumber(final Vm vm) {
+        final long freePes = vm.getExpectedFreePesNumber();
+        final var entry = runningVmsEntries.get(vm);
+        if (entry != null) {
+            runningVmsSet.remove(entry);
+            // Keeps the sequence so that the VM keeps its position among other VMs with the same free PEs
+            final var newEntry = new Entry(freePes, entry.sequence(), vm);
+            runningVmsEntries.put(vm, newEntry);
+            runningVmsSet.add(newEntry);
+        }
+
+        final Integer index = createdVmsPositions.get(vm);
+        if (index != null) {
+            setCreatedVmFreePes(index, freePes);
+        }
+    }
+
+    /**
+     * Finds the running VM with the lowest number of expected free PEs that is
+     * enough to run a Cloudlet. If there are multiple ones, the first one
+     * added to the {@link #getRunningVms() running list} is selected.
+     *
+     * @param pesNumber the number of PEs required by the Cloudlet
+     * @return the VM found or {@link Vm#NULL} if no suitable VM was found
+     */
+    Vm findBestFit(final long pesNumber) {
+        final var entry = runningVmsSet.ceiling(new Entry(pesNumber, Long.MIN_VALUE, Vm.NULL));
+        return entry == null ? Vm.NULL : entry.vm();
+    }
+
+    /**
+     * Finds the first created VM, starting from a given position of the {@link #getCreatedVms() created list}
+     * and going around the list, whose number of expected free PEs is enough to run a Cloudlet.
+     *
+     * @param pesNumber the number of PEs required by the Cloudlet
+     * @param fromIndex the position in the created list to start the search
+     * @return the position of the VM found in the created list or -1 if no suitable VM was found
+     */
+    int findFirstFit(final long pesNumber, final int fromIndex) {
+        final int index = findFirstFit(1, 0, capacity, pesNumber, fromIndex);
+        return index < 0 && fromIndex > 0 ? findFirstFit(1, 0, capacity, pesNumber, 0) : index;
+    }
+
+    /**
+     * Finds the first leaf from a given position whose value is at least a given number of PEs,
+     * going down through a node of the segment tree.
+     *
+     * @param node the position of the node in the tree
+     * @param start the position of the first leaf under the node (inclusive)
+     * @param end the position of the last leaf under the node (exclusive)
+     * @param pesNumber the number of PEs to look for
+     * @param fromIndex the position of the first leaf to consider
+     * @return the position of the leaf found (relative to the first leaf) or -1 if not found
+     */
+    private int findFirstFit(final int node, final int start, final int end, final long pesNumber, final int fromIndex) {
+        if (end <= fromIndex || tree[node] < pesNumber) {
+            return -1;
+        }
+
+        if (end - start == 1) {
+            return start;
+        }
+
+        final int middle = (start + end) / 2;
+        final int index = findFirstFit(2 * node, start, middle, pesNumber, fromIndex);
+        return index < 0 ? findFirstFit(2 * node + 1, middle, end, pesNumber, fromIndex) : index;
+    }
+}
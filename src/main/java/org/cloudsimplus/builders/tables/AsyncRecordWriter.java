@@ -0,0 +1,185 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A {@link RecordWriter} that hands records to another writer running in a background thread,
+ * so that the simulation doesn't wait for the output to be formatted and written.
+ * Records are kept in a bounded queue: if the background thread can't keep up,
+ * writing a record blocks until there is room in the queue.
+ *
+ * <p>Errors in the background writer (including unchecked exceptions thrown by the underlying writer)
+ * are reported by the next call to any method of this class.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class AsyncRecordWriter implements RecordWriter {
+    public static final int DEF_QUEUE_CAPACITY = 8192;
+
+    /**
+     * An element added to the queue to indicate there are no more records to write.
+     */
+    private static final Object END = new Object();
+
+    private final RecordWriter writer;
+
+    /**
+     * The queue of elements to write, which can be the header (a List of column names),
+     * a record (an Object array) or the {@link #END} marker.
+     */
+    private final BlockingQueue<Object> queue;
+
+    private final Thread thread;
+
+    /**
+     * The error that happened in the background writer (if any).
+     */
+    private volatile IOException failure;
+
+    private boolean closed;
+
+    /**
+     * Creates an asynchronous writer with the {@link #DEF_QUEUE_CAPACITY default queue capacity}.
+     * @param writer the writer that will actually write the records
+     */
+    public AsyncRecordWriter(final RecordWriter writer) {
+        this(writer, DEF_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates an asynchronous writer.
+     * @param writer the writer that will actually write the records
+     * @param queueCapacity the maximum number of records waiting to be written
+     */
+    public AsyncRecordWriter(@NonNull final RecordWriter writer, final int queueCapacity) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.thread = new Thread(this::writeQueuedElements, getClass().getSimpleName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void writeHeader(@NonNull final List<String> columnNames) throws IOException {
+        enqueue(List.copyOf(columnNames));
+    }
+
+    @Override
+    public void writeRecord(@NonNull final Object[] values) throws IOException {
+        enqueue(values);
+    }
+
+    private void enqueue(final Object element) throws IOException {
+        checkFailure();
+        if (closed) {
+            throw new IllegalStateException("The writer is closed.");
+        }
+
+        try {
+            queue.put(element);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write a record.");
+        }
+    }
+
+    /**
+     * Writes the elements in the queue until the {@link #END} marker is found,
+     * then closes the underlying writer.
+     * After an error, elements are just discarded, so that callers are never blocked.
+     */
+    @SuppressWarnings("unchecked")
+    private void writeQueuedElements() {
+        try {
+            for (Object element = queue.take(); element != END; element = queue.take()) {
+                if (failure != null) {
+                    continue;
+                }
+
+                try {
+                    if (element instanceof List<?> columnNames) {
+                        writer.writeHeader((List<String>) columnNames);
+                    } else {
+                        writer.writeRecord((Object[]) element);
+                    }
+                } catch (final IOException | RuntimeException e) {
+                    failure = asIOException(e);
+                }
+            }
+
+            writer.close();
+        } catch (final IOException | RuntimeException e) {
+            if (failure == null) {
+                failure = asIOException(e);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wraps an unchecked exception thrown by the underlying writer,
+     * so that it's reported just like an I/O error.
+     */
+    private static IOException asIOException(final Exception e) {
+        return e instanceof IOException ioException ? ioException : new IOException(e);
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Error writing records in background", failure);
+        }
+    }
+
+    /**
+     * Waits for all queued records to be written and the underlying writer to be closed
+     * by the background thread.
+     * If the calling thread is interrupted while waiting, the writer is left open
+     * and this method can be called again to keep waiting.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!closed) {
+                queue.put(END);
+                closed = true;
+            }
+
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for records to be written.");
+        }
+
+        checkFailure();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.NonNull;
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.core.Identifiable;
+
+/**
+ * Exports simulation results from Cloudlets, with the same default columns of the {@link CloudletsTableBuilder}.
+ * Cloudlets can be exported as soon as they finish, using {@link #exportOnReturn(DatacenterBroker)}.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class CloudletResultExporter extends ResultExporter<Cloudlet> {
+    /**
+     * Creates an exporter for Cloudlets.
+     * @param writer the writer used to write the records
+     * @see RecordWriter#csv(java.nio.file.Path)
+     * @see RecordWriter#columnar(java.nio.file.Path)
+     */
+    public CloudletResultExporter(final RecordWriter writer) {
+        super(writer);
+        addColumn("Cloudlet", Identifiable::getId);
+        addColumn("Status", cloudlet -> cloudlet.getStatus().name());
+        addColumn("DC", cloudlet -> cloudlet.getVm().getHost().getDatacenter().getId());
+        addColumn("Host", cloudlet -> cloudlet.getVm().getHost().getId());
+        addColumn("HostPEs", cloudlet -> cloudlet.getVm().getHost().getWorkingPesNumber());
+        addColumn("VM", cloudlet -> cloudlet.getVm().getId());
+        addColumn("VmPEs", cloudlet -> cloudlet.getVm().getPesNumber());
+        addColumn("CloudletLen", Cloudlet::getLength);
+        addColumn("FinishedLen", Cloudlet::getFinishedLengthSoFar);
+        addColumn("CloudletPEs", Cloudlet::getPesNumber);
+        addColumn("StartTime", Cloudlet::getStartTime);
+        addColumn("FinishTime", Cloudlet::getFinishTime);
+        addColumn("ExecTime", Cloudlet::getTotalExecutionTime);
+    }
+
+    /**
+     * Registers a listener to export every Cloudlet from a given broker as soon as it finishes
+     * and is returned to the broker (when the Cloudlet status is final).
+     * @param broker the broker whose Cloudlets will be exported
+     * @return this exporter
+     */
+    public CloudletResultExporter exportOnReturn(@NonNull final DatacenterBroker broker) {
+        broker.getSimulation().addOnEventProcessingListener(evt -> {
+            if (evt.getTag() == CloudSimTag.CLOUDLET_RETURN && broker.equals(evt.getDestination()) && evt.getData() instanceof Cloudlet cloudlet) {
+                export(cloudlet);
+            }
+        });
+        return this;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.cloudsimplus.builders.tables.ColumnarRecordWriter.*;
+
+/**
+ * Reads records written by a {@link ColumnarRecordWriter}.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class ColumnarRecordReader implements Closeable {
+    private final DataInputStream input;
+
+    /**
+     * The name of the columns read from the header.
+     */
+    @Getter
+    private final List<String> columnNames;
+
+    /**
+     * Creates a reader for a columnar file.
+     * @param path the path of the file to read
+     */
+    public ColumnarRecordReader(final Path path) throws IOException {
+        this(Files.newInputStream(path));
+    }
+
+    /**
+     * Creates a reader for a given input, reading its header.
+     * @param input the input to read the records from (which is buffered)
+     * @throws IOException when the input cannot be read or is not in the expected format
+     */
+    public ColumnarRecordReader(@NonNull final InputStream input) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(input));
+        if (this.input.readInt() != MAGIC) {
+            throw new IOException("The input is not in the columnar format.");
+        }
+
+        final byte version = this.input.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported columnar format version: " + version);
+        }
+
+        final int columns = this.input.readInt();
+        final var names = new ArrayList<String>(columns);
+        for (int i = 0; i < columns; i++) {
+            names.add(this.input.readUTF());
+        }
+
+        this.columnNames = List.copyOf(names);
+    }
+
+    /**
+     * Reads all the remaining records.
+     * Integer values are read as {@link Long}, other numbers as {@link Double}
+     * and any other value as {@link String}.
+     * @return the list of records, where each one has the value of each column
+     */
+    public List<Object[]> readAll() throws IOException {
+        final var records = new ArrayList<Object[]>();
+        for (int rows = input.readInt(); rows > 0; rows = input.readInt()) {
+            readBlock(records, rows);
+        }
+
+        return records;
+    }
+
+    private void readBlock(final List<Object[]> records, final int rows) throws IOException {
+        final int first = records.size();
+        for (int row = 0; row < rows; row++) {
+            records.add(new Object[columnNames.size()]);
+        }
+
+        for (int col = 0; col < columnNames.size(); col++) {
+            final byte type = input.readByte();
+            long previous = 0;
+            for (int row = 0; row < rows; row++) {
+                final Object value;
+                switch (type) {
+                    case TYPE_LONG -> {
+                        previous += readVarLong();
+                        value = previous;
+                    }
+                    case TYPE_DOUBLE -> value = input.readDouble();
+                    case TYPE_STRING -> value = input.readUTF();
+                    default -> throw new IOException("Unknown column type: " + type);
+                }
+
+                records.get(first + row)[col] = value;
+            }
+        }
+    }
+
+    private long readVarLong() throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; ; shift += 7) {
+            final int b = input.readUnsignedByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
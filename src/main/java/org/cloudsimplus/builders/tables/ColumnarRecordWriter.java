@@ -0,0 +1,221 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A {@link RecordWriter} that writes records into a compact columnar binary output,
+ * which can be read by a {@link ColumnarRecordReader}.
+ *
+ * <p>Records are grouped into blocks of {@link #getBlockSize()} rows.
+ * Inside a block, the values of each column are written together,
+ * using the most compact encoding for the type of all values in that column:</p>
+ * <ul>
+ *   <li>integer values (such as IDs and lengths) are written as the difference
+ *   to the previous value, using a variable-length encoding;</li>
+ *   <li>other numbers are written as 8-byte doubles;</li>
+ *   <li>any other value is written as a (modified UTF-8) string.</li>
+ * </ul>
+ *
+ * <p>The output starts with {@link #MAGIC}, the format version and the column names.
+ * Each block starts with its number of rows, followed by the type and values of each column.
+ * A block with zero rows indicates the end of the output.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class ColumnarRecordWriter implements RecordWriter {
+    /**
+     * The number that identifies the format, which is written at the beginning of the output.
+     */
+    public static final int MAGIC = 0x43535043;
+
+    public static final byte VERSION = 1;
+
+    public static final int DEF_BLOCK_SIZE = 4096;
+
+    static final byte TYPE_LONG = 'L';
+    static final byte TYPE_DOUBLE = 'D';
+    static final byte TYPE_STRING = 'S';
+
+    private final DataOutputStream output;
+
+    /**
+     * The maximum number of records in each block.
+     */
+    @Getter
+    private final int blockSize;
+
+    /**
+     * The records of the current block, which are written when the block is full.
+     */
+    private final Object[][] block;
+
+    /**
+     * The number of records in the current {@link #block}.
+     */
+    private int rows;
+
+    private int columns = -1;
+
+    /**
+     * Creates a writer for a columnar file (which is overwritten if it exists).
+     * @param path the path of the file to write
+     */
+    public ColumnarRecordWriter(final Path path) throws IOException {
+        this(Files.newOutputStream(path), DEF_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a writer for a given output.
+     * @param output the output to write the records to (which is buffered)
+     * @param blockSize the maximum number of records in each block
+     */
+    public ColumnarRecordWriter(@NonNull final OutputStream output, final int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be greater than zero.");
+        }
+
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.blockSize = blockSize;
+        this.block = new Object[blockSize][];
+    }
+
+    @Override
+    public void writeHeader(final List<String> columnNames) throws IOException {
+        if (columns != -1) {
+            throw new IllegalStateException("The header was already written.");
+        }
+
+        columns = columnNames.size();
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        output.writeInt(columns);
+        for (final String name : columnNames) {
+            output.writeUTF(name);
+        }
+    }
+
+    @Override
+    public void writeRecord(@NonNull final Object[] values) throws IOException {
+        if (values.length != columns) {
+            throw new IllegalArgumentException(
+                "The record has %d values but there are %d columns.".formatted(values.length, columns));
+        }
+
+        block[rows++] = values;
+        if (rows == blockSize) {
+            writeBlock();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        output.writeInt(rows);
+        for (int col = 0; col < columns; col++) {
+            writeColumn(col);
+        }
+
+        for (int row = 0; row < rows; row++) {
+            block[row] = null;
+        }
+
+        rows = 0;
+    }
+
+    private void writeColumn(final int col) throws IOException {
+        final byte type = getColumnType(col);
+        output.writeByte(type);
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            final Object value = block[row][col];
+            switch (type) {
+                case TYPE_LONG -> {
+                    final long current = ((Number) value).longValue();
+                    writeVarLong(current - previous);
+                    previous = current;
+                }
+                case TYPE_DOUBLE -> output.writeDouble(((Number) value).doubleValue());
+                default -> output.writeUTF(String.valueOf(value));
+            }
+        }
+    }
+
+    /**
+     * {@return the type used to write all the values of a column in the current block}
+     * @param col the index of the column
+     */
+    private byte getColumnType(final int col) {
+        byte type = TYPE_LONG;
+        for (int row = 0; row < rows; row++) {
+            final Object value = block[row][col];
+            if (!(value instanceof Number)) {
+                return TYPE_STRING;
+            }
+
+            if (!isInteger(value)) {
+                type = TYPE_DOUBLE;
+            }
+        }
+
+        return type;
+    }
+
+    private static boolean isInteger(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Writes a value using the zig-zag variable-length encoding,
+     * which uses fewer bytes for values closer to zero (either positive or negative).
+     * @param value the value to write
+     */
+    private void writeVarLong(final long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            output.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+
+        output.writeByte((int) zigZag);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rows > 0) {
+                writeBlock();
+            }
+
+            output.writeInt(0);
+        } finally {
+            output.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.NonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A {@link RecordWriter} that writes records into a buffered Comma Separated Text (CSV) output.
+ * Values containing the separator, quotes or line breaks are quoted.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class CsvRecordWriter implements RecordWriter {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final Writer writer;
+
+    /**
+     * Creates a writer for a CSV file (which is overwritten if it exists).
+     * @param path the path of the file to write
+     */
+    public CsvRecordWriter(final Path path) throws IOException {
+        this(Files.newBufferedWriter(path));
+    }
+
+    /**
+     * Creates a writer for a given output.
+     * @param writer the output to write the records to (which is buffered if it isn't already)
+     */
+    public CsvRecordWriter(@NonNull final Writer writer) {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    }
+
+    @Override
+    public void writeHeader(final List<String> columnNames) throws IOException {
+        writeRecord(columnNames.toArray());
+    }
+
+    @Override
+    public void writeRecord(final Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+
+            writeValue(values[i]);
+        }
+
+        writer.write(System.lineSeparator());
+    }
+
+    private void writeValue(final Object value) throws IOException {
+        final String str = String.valueOf(value);
+        if (str.indexOf(SEPARATOR) == -1 && str.indexOf(QUOTE) == -1 && str.indexOf('\n') == -1 && str.indexOf('\r') == -1) {
+            writer.write(str);
+            return;
+        }
+
+        writer.write(QUOTE);
+        writer.write(str.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.NonNull;
+import org.cloudsimplus.core.Identifiable;
+import org.cloudsimplus.hosts.Host;
+
+import java.util.Collection;
+
+/**
+ * Exports simulation results from Hosts.
+ * Hosts can be exported as soon as they are shut down, using {@link #exportOnShutdown(Collection)}.
+ * Hosts still active at the end of the simulation can be exported by {@link #exportAll(Collection)}.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class HostResultExporter extends ResultExporter<Host> {
+    /**
+     * Creates an exporter for Hosts.
+     * @param writer the writer used to write the records
+     * @see RecordWriter#csv(java.nio.file.Path)
+     * @see RecordWriter#columnar(java.nio.file.Path)
+     */
+    public HostResultExporter(final RecordWriter writer) {
+        super(writer);
+        addColumn("Host", Identifiable::getId);
+        addColumn("DC", host -> host.getDatacenter().getId());
+        addColumn("PEs", Host::getPesNumber);
+        addColumn("MIPS", Host::getMips);
+        addColumn("RAM", host -> host.getRam().getCapacity());
+        addColumn("BW", host -> host.getBw().getCapacity());
+        addColumn("CreatedVMs", host -> host.getVmCreatedList().size());
+        addColumn("StartTime", Host::getStartTime);
+        addColumn("FinishTime", Host::getFinishTime);
+        addColumn("TotalUpTime", Host::getTotalUpTime);
+    }
+
+    /**
+     * Registers a listener for each given Host to export it as soon as it's shut down.
+     * @param hosts the Hosts to export when shut down
+     * @return this exporter
+     */
+    public HostResultExporter exportOnShutdown(@NonNull final Collection<? extends Host> hosts) {
+        hosts.forEach(host -> host.addOnShutdownListener(info -> export(info.getHost())));
+        return this;
+    }
+}
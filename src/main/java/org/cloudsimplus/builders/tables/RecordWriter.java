@@ -0,0 +1,74 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes records (rows) of simulation results to some output, one at a time,
+ * so that results can be streamed as they are produced,
+ * instead of being kept in memory until the end of the simulation.
+ *
+ * @since CloudSim Plus 8.5.0
+ * @see ResultExporter
+ */
+public interface RecordWriter extends Closeable {
+    /**
+     * Writes the header containing the name of the columns.
+     * It must be called once, before writing any record.
+     * @param columnNames the name of each column
+     */
+    void writeHeader(List<String> columnNames) throws IOException;
+
+    /**
+     * Writes a record.
+     * @param values the value of each column, in the same order of the columns given to {@link #writeHeader(List)}.
+     *               Values are expected to be numbers, booleans, strings or any other object
+     *               (which is written as its {@link Object#toString()}).
+     */
+    void writeRecord(Object[] values) throws IOException;
+
+    /**
+     * Creates an {@link AsyncRecordWriter} for a CSV file.
+     * @param path the path of the file to write (which is overwritten if it exists)
+     * @return the new writer
+     * @see CsvRecordWriter
+     */
+    static RecordWriter csv(final Path path) throws IOException {
+        return new AsyncRecordWriter(new CsvRecordWriter(path));
+    }
+
+    /**
+     * Creates an {@link AsyncRecordWriter} for a columnar binary file.
+     * @param path the path of the file to write (which is overwritten if it exists)
+     * @return the new writer
+     * @see ColumnarRecordWriter
+     */
+    static RecordWriter columnar(final Path path) throws IOException {
+        return new AsyncRecordWriter(new ColumnarRecordWriter(path));
+    }
+}
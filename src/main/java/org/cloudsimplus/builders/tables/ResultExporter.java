@@ -0,0 +1,151 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An abstract class to export simulation results from objects of a given type,
+ * one record at a time, through a {@link RecordWriter}.
+ * Differently from a {@link TableBuilderAbstract}, it doesn't require a list with all objects,
+ * so that records can be written as soon as objects finish (such as when a Cloudlet finishes)
+ * and such objects don't need to be kept until the end of the simulation.
+ *
+ * <p>Subclasses define a set of default columns, but new ones can be added
+ * by {@link #addColumn(String, Function)} before the first record is exported.
+ * The data of each record is collected when {@link #export(Object)} is called.
+ * Exporters must be {@link #close() closed} at the end to ensure all records are written.</p>
+ *
+ * @param <T> the type of objects to export
+ * @since CloudSim Plus 8.5.0
+ */
+public abstract class ResultExporter<T> implements Closeable {
+    private final RecordWriter writer;
+
+    private final List<String> columnNames;
+
+    private final List<Function<? super T, Object>> dataFunctions;
+
+    /**
+     * The number of records exported so far.
+     */
+    @Getter
+    private long exportedNumber;
+
+    private boolean headerWritten;
+
+    /**
+     * Creates an exporter.
+     * @param writer the writer used to write the records
+     * @see RecordWriter#csv(java.nio.file.Path)
+     * @see RecordWriter#columnar(java.nio.file.Path)
+     */
+    protected ResultExporter(@NonNull final RecordWriter writer) {
+        this.writer = writer;
+        this.columnNames = new ArrayList<>();
+        this.dataFunctions = new ArrayList<>();
+    }
+
+    /**
+     * Adds a column to the end of the records.
+     * @param name the name of the column
+     * @param dataFunction a function that receives an object T and returns the data to be exported for the column
+     * @return this exporter
+     * @throws IllegalStateException when some record was already exported
+     */
+    public final ResultExporter<T> addColumn(@NonNull final String name, @NonNull final Function<? super T, Object> dataFunction) {
+        if (headerWritten) {
+            throw new IllegalStateException("Columns cannot be added after records have been exported.");
+        }
+
+        columnNames.add(name);
+        dataFunctions.add(dataFunction);
+        return this;
+    }
+
+    /**
+     * {@return a read-only list with the name of the columns}
+     */
+    public List<String> getColumnNames() {
+        return List.copyOf(columnNames);
+    }
+
+    /**
+     * Collects the data from an object and writes it as a new record.
+     * @param object the object to export
+     * @throws UncheckedIOException when the record cannot be written
+     */
+    public void export(@NonNull final T object) {
+        final Object[] values = new Object[dataFunctions.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = dataFunctions.get(i).apply(object);
+        }
+
+        try {
+            if (!headerWritten) {
+                writer.writeHeader(columnNames);
+                headerWritten = true;
+            }
+
+            writer.writeRecord(values);
+            exportedNumber++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Exports a collection of objects.
+     * @param objects the objects to export
+     * @throws UncheckedIOException when some record cannot be written
+     */
+    public void exportAll(@NonNull final Collection<? extends T> objects) {
+        objects.forEach(this::export);
+    }
+
+    /**
+     * Writes all pending records and closes the underlying {@link RecordWriter}.
+     * If no record was exported, just the header is written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!headerWritten) {
+                writer.writeHeader(columnNames);
+                headerWritten = true;
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
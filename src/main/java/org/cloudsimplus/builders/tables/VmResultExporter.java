@@ -0,0 +1,73 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.builders.tables;
+
+import lombok.NonNull;
+import org.cloudsimplus.core.Identifiable;
+import org.cloudsimplus.vms.Vm;
+
+import java.util.Collection;
+
+/**
+ * Exports simulation results from VMs.
+ * VMs can be exported as soon as they are destroyed, using {@link #exportOnDestroy(Collection)}.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class VmResultExporter extends ResultExporter<Vm> {
+    /**
+     * Creates an exporter for VMs.
+     * @param writer the writer used to write the records
+     * @see RecordWriter#csv(java.nio.file.Path)
+     * @see RecordWriter#columnar(java.nio.file.Path)
+     */
+    public VmResultExporter(final RecordWriter writer) {
+        super(writer);
+        addColumn("VM", Identifiable::getId);
+        addColumn("Broker", vm -> vm.getBroker().getId());
+        addColumn("Host", vm -> vm.getHost().getId());
+        addColumn("PEs", Vm::getPesNumber);
+        addColumn("MIPS", Vm::getMips);
+        addColumn("RAM", vm -> vm.getRam().getCapacity());
+        addColumn("BW", vm -> vm.getBw().getCapacity());
+        addColumn("StartTime", Vm::getStartTime);
+        addColumn("FinishTime", Vm::getFinishTime);
+        addColumn("ExecTime", Vm::getTotalExecutionTime);
+    }
+
+    /**
+     * Registers a listener for each given VM to export it as soon as it's destroyed.
+     * VMs are not exported when they are just removed from a Host due to migration.
+     * @param vms the VMs to export when destroyed
+     * @return this exporter
+     */
+    public VmResultExporter exportOnDestroy(@NonNull final Collection<? extends Vm> vms) {
+        vms.forEach(vm -> vm.addOnHostDeallocationListener(info -> {
+            if (!info.getVm().isInMigration()) {
+                export(info.getVm());
+            }
+        }));
+        return this;
+    }
+}
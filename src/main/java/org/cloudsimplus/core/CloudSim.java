@@ -124,6 +124,19 @@ abstract class CloudSim implements Simulation {
      */
     private boolean alreadyRunOnce;
 
+    /**
+     * The engine processing Datacenters in parallel,
+     * or null if the simulation is executed sequentially.
+     * @see #setParallelism(int)
+     */
+    private ParallelExecutionEngine parallelEngine;
+
+    /**
+     * The opt-in profiler recording statistics about the events processed.
+     */
+    @Getter
+    private final SimulationProfiler profiler;
+
     /**
      * Creates a CloudSim simulation.
      * Internally it creates a CloudInformationService.
@@ -149,6 +162,7 @@ abstract class CloudSim implements Simulation {
         this.future = new FutureQueue();
         this.deferred = new DeferredQueue();
         this.waitPredicates = new HashMap<>();
+        this.profiler = new SimulationProfiler();
         this.networkTopology = NetworkTopology.NULL;
         this.clock = 0;
         this.running = false;
@@ -190,8 +204,14 @@ abstract class CloudSim implements Simulation {
 
         shutdownEntities();
         running = false;
+        if (parallelEngine != null) {
+            parallelEngine.shutdown();
+        }
 
         printSimulationFinished();
+        if (profiler.isEnabled()) {
+            LOGGER.info("{}{}", System.lineSeparator(), profiler.getSummary());
+        }
     }
 
     /**
@@ -385,6 +405,12 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public void addEntity(@NonNull final CloudSimEntity entity) {
+        final var process = currentLogicalProcess();
+        if (process != null) {
+            process.add(() -> addEntity(entity));
+            return;
+        }
+
         if (running) {
             final var evt = new CloudSimEvent(SimEvent.Type.CREATE, 0, entity, SimEntity.NULL, CloudSimTag.NONE, entity);
             future.addEvent(evt);
@@ -402,6 +428,12 @@ abstract class CloudSim implements Simulation {
             throw new IllegalStateException(msg.formatted(entity));
         }
 
+        final var process = currentLogicalProcess();
+        if (process != null) {
+            process.add(() -> entityList.remove(entity));
+            return;
+        }
+
         entityList.remove(entity);
     }
 
@@ -485,6 +517,11 @@ abstract class CloudSim implements Simulation {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private void executeRunnableEntities(final double until) {
+        if (parallelEngine != null) {
+            parallelEngine.executeRunnableEntities(entityList, deferred, until);
+            return;
+        }
+
         /* Uses an indexed loop instead of anything else to avoid
         ConcurrencyModificationException when a HostFaultInjection is created inside a DC. */
         for (int i = 0; i < entityList.size(); i++) {
@@ -512,9 +549,7 @@ abstract class CloudSim implements Simulation {
     @Override
     public void send(@NonNull final SimEvent evt) {
         //Events with a negative tag have higher priority
-        if(evt.getTag() < 0)
-            future.addEventFirst(evt);
-        else future.addEvent(evt);
+        addFutureEvent(evt, evt.getTag() < 0);
     }
 
     @Override
@@ -524,7 +559,26 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public void sendFirst(SimEvent evt) {
-        future.addEventFirst(evt);
+        addFutureEvent(evt, true);
+    }
+
+    /**
+     * Adds an event to the {@link #future} queue or, if the current thread is running a {@link LogicalProcess},
+     * requests the process to add the event after all logical processes finish.
+     *
+     * @param evt the event to add
+     * @param first true to add the event to the head of the queue, false to add it according to its time
+     */
+    private void addFutureEvent(final SimEvent evt, final boolean first) {
+        final var process = currentLogicalProcess();
+        if (process != null) {
+            process.addEvent(evt, first, () -> addFutureEvent(evt, first));
+            return;
+        }
+
+        if (first)
+            future.addEventFirst(evt);
+        else future.addEvent(evt);
     }
 
     @Override
@@ -532,15 +586,19 @@ abstract class CloudSim implements Simulation {
         src.setState(SimEntity.State.WAITING);
         if (predicate != ANY_EVT) {
             // If a predicate has been used, store it in order to check incoming events that matches it
-            waitPredicates.put(src, predicate);
+            final var process = currentLogicalProcess();
+            if (process == null) {
+                waitPredicates.put(src, predicate);
+            } else process.add(() -> waitPredicates.put(src, predicate));
         }
     }
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        final SimEvent evt = findFirstDeferred(dest, predicate);
+        final var queue = getDeferredQueue(dest);
+        final SimEvent evt = filterEventsToDestinationEntity(queue, predicate, dest).findFirst().orElse(SimEvent.NULL);
         if(evt != SimEvent.NULL) {
-            deferred.remove(evt);
+            queue.remove(evt);
         }
 
         return evt;
@@ -548,7 +606,16 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        return filterEventsToDestinationEntity(deferred, predicate, dest).findFirst().orElse(SimEvent.NULL);
+        return filterEventsToDestinationEntity(getDeferredQueue(dest), predicate, dest).findFirst().orElse(SimEvent.NULL);
+    }
+
+    /**
+     * {@return the queue holding the deferred events} for a given entity.
+     * @param dest the entity to get its deferred events queue
+     */
+    private DeferredQueue getDeferredQueue(final SimEntity dest) {
+        final var process = currentLogicalProcess();
+        return process != null && process.contains(dest) ? process.getDeferredQueue(dest) : deferred;
     }
 
     /**
@@ -566,17 +633,32 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public SimEvent cancel(final SimEntity src, final Predicate<SimEvent> predicate) {
+        final var process = currentLogicalProcess();
+        if (process != null) {
+            return process.cancel(future, isEventSourceEqualsTo(predicate, src));
+        }
+
         final SimEvent canceled =
             future.stream()
                   .filter(isEventSourceEqualsTo(predicate, src))
                   .findFirst()
                   .orElse(SimEvent.NULL);
-        future.remove(canceled);
+
+        // Removing the NULL event would remove an arbitrary event, since it's equal to every other one
+        if (canceled != SimEvent.NULL) {
+            future.remove(canceled);
+        }
+
         return canceled;
     }
 
     @Override
     public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
+        final var process = currentLogicalProcess();
+        if (process != null) {
+            return process.cancelAll(future, isEventSourceEqualsTo(predicate, src));
+        }
+
         final int previousSize = future.size();
         future.removeIf(isEventSourceEqualsTo(predicate, src));
         return previousSize < future.size();
@@ -609,6 +691,10 @@ abstract class CloudSim implements Simulation {
         }
 
         setClock(evt.getTime());
+        if (profiler.isEnabled()) {
+            profiler.eventDispatched(evt, future.size(), deferred.size());
+        }
+
         processEventByType(evt);
     }
 
@@ -715,7 +801,7 @@ abstract class CloudSim implements Simulation {
     }
 
     private void addHoldingFutureEvent(final SimEntity src, final SimEvent evt) {
-        future.addEvent(evt);
+        addFutureEvent(evt, false);
         src.setState(SimEntity.State.HOLDING);
     }
 
@@ -767,11 +853,21 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public long getNumberOfFutureEvents(final Predicate<SimEvent> predicate){
+        final var process = currentLogicalProcess();
+        if (process != null) {
+            return process.futureEvents(future, predicate).size();
+        }
+
         return future.stream().filter(predicate).count();
     }
 
     @Override
     public boolean isThereAnyFutureEvt(final Predicate<SimEvent> predicate){
+        final var process = currentLogicalProcess();
+        if (process != null) {
+            return !process.futureEvents(future, predicate).isEmpty();
+        }
+
         return future.stream().anyMatch(predicate);
     }
 
@@ -814,4 +910,53 @@ abstract class CloudSim implements Simulation {
     public boolean noFutureEvents(){
         return future.isEmpty();
     }
+
+    /**
+     * Sets the number of threads used to process, in parallel, the events
+     * that {@link Datacenter}s and {@link IsolatedEntity isolated entities} receive at the same time.
+     * The events of each such entity are grouped and processed as a logical process isolated from the other ones,
+     * so that results are identical to the ones of a sequential execution.
+     * Datacenters serving VMs from the same broker or which may migrate VMs
+     * are always processed sequentially.
+     *
+     * <p><b>WARNING:</b> listeners attached to objects inside Datacenters
+     * (such as Hosts, VMs and Cloudlets) may be called from different threads
+     * and must not change state shared among Datacenters.</p>
+     *
+     * @param threads the number of threads to use (1 to process all events sequentially)
+     * @return this simulation instance
+     * @throws IllegalStateException when the simulation is already running
+     */
+    public Simulation setParallelism(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be at least 1.");
+        }
+
+        if (running) {
+            throw new IllegalStateException("The parallelism cannot be changed while the simulation is running.");
+        }
+
+        if (parallelEngine != null) {
+            parallelEngine.shutdown();
+        }
+
+        this.parallelEngine = threads == 1 ? null : new ParallelExecutionEngine(threads);
+        return this;
+    }
+
+    /**
+     * {@return the number of threads used to process Datacenters in parallel} (1 when executed sequentially)
+     * @see #setParallelism(int)
+     */
+    public int getParallelism() {
+        return parallelEngine == null ? 1 : parallelEngine.getParallelism();
+    }
+
+    /**
+     * {@return the logical process being executed by the current thread}
+     * or null if the simulation is executed sequentially or the current thread isn't running a logical process.
+     */
+    private LogicalProcess currentLogicalProcess() {
+        return parallelEngine == null ? null : LogicalProcess.current();
+    }
 }
@@ -318,7 +318,7 @@ public abstract class CloudSimEntity implements SimEntity {
         var evt = requireNonNullElse(buffer, getNextEvent(e -> e.getTime() <= until));
 
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            processProfiledEvent(evt);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -329,6 +329,26 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = null;
     }
 
+    /**
+     * Processes an event, recording statistics about it
+     * if the {@link SimulationProfiler} is enabled.
+     *
+     * @param evt the event to process
+     */
+    private void processProfiledEvent(final SimEvent evt) {
+        final var profiler = simulation instanceof CloudSim sim ? sim.getProfiler() : null;
+        if (profiler == null || !profiler.isEnabled()) {
+            processEvent(evt);
+            return;
+        }
+
+        final long startBytes = SimulationProfiler.allocatedBytes();
+        final long startNanos = System.nanoTime();
+        processEvent(evt);
+        final long nanos = System.nanoTime() - startNanos;
+        profiler.eventHandled(this, evt, nanos, SimulationProfiler.allocatedBytes() - startBytes);
+    }
+
     @Override
     public SimEntity setName(@NonNull final String name) throws IllegalArgumentException {
         if (name.isBlank()) {
@@ -366,6 +386,13 @@ public abstract class CloudSimEntity implements SimEntity {
         this.buffer = evt;
     }
 
+    /**
+     * {@return true if there is an event inside the buffer waiting to be processed, false otherwise}
+     */
+    boolean hasEventBuffered() {
+        return buffer != null;
+    }
+
     /**
      * Sends an event/message to another entity by <b>delaying</b> the
      * simulation time from the current time, with a tag representing the event
@@ -14,6 +14,7 @@ import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.network.HostPacket;
+import org.cloudsimplus.network.flows.FlowNetworkModel;
 import org.cloudsimplus.power.PowerMeter;
 import org.cloudsimplus.power.models.PowerModel;
 import org.cloudsimplus.schedulers.cloudlet.CloudletScheduler;
@@ -304,6 +305,12 @@ public class CloudSimTag{
 
     public static final int NETWORK_EVENT_SEND = BASE + 44;
 
+    /**
+     * Denotes an internal event generated by a {@link FlowNetworkModel}
+     * to notify itself to finish flows and recompute flow rates.
+     */
+    public static final int NETWORK_FLOW_UPDATE = BASE + 45;
+
     /**
      * Denotes the transmission of packets down through the network topology.
      */
@@ -312,6 +319,7 @@ public class CloudSimTag{
     /**
      * Denotes the transmission of packets targeting a given Host.
      * The {@link SimEvent#getData()} must be a {@link HostPacket}
+     * (or a {@code HostPacket[]} when packets are sent in batches)
      * to be processed.
      */
     public static final int NETWORK_EVENT_HOST = BASE + 47;
@@ -326,6 +334,12 @@ public class CloudSimTag{
      */
     public static final int HOST_FAILURE = FAILURE + 1;
 
+    /**
+     * Denotes an internal event generated by an entity replaying a trace file
+     * to notify itself to read the trace lines for the next time window.
+     */
+    public static final int TRACE_REPLAY = BASE + 50;
+
     /**
      * Denotes a request to a Datacenter to add a Host or list of Hosts to a Datacenter.
      * The {@link SimEvent#getData()} must be a Host to be added
@@ -0,0 +1,56 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core;
+
+/**
+ * A {@link SimEntity} declaring that processing its events doesn't read or change state
+ * shared with any other entity, except by sending events.
+ * When the {@link CloudSim#setParallelism(int) parallel execution} is enabled,
+ * the events such entities receive at the same time are processed in parallel,
+ * each entity as an independent {@link LogicalProcess}.
+ * The events they send are added to the future event queue in the same order
+ * as if the entities were processed sequentially.
+ *
+ * <p>Entities implementing this interface must not share mutable objects
+ * (such as VMs, Cloudlets or listeners) with other entities
+ * and can only call thread-safe methods of the {@link Simulation},
+ * such as the ones to get the {@link Simulation#clock() clock},
+ * send, select or cancel events.</p>
+ *
+ * <p>No built-in entity implements this interface, since all of them share state with other entities:
+ * brokers read and change the VMs and Cloudlets that Datacenters are processing;
+ * the {@link CloudInformationService} changes the Datacenter list brokers read;
+ * switches deliver packets directly to Hosts;
+ * and entities such as power meters, fault injectors and trace replay sources
+ * read or change Hosts, VMs or brokers directly.
+ * Datacenters have their own isolation rules and are grouped by the brokers they serve,
+ * so that bursts of VM submissions and Cloudlet updates targeting Datacenters
+ * of different brokers are already processed in parallel.
+ * This interface is meant for user-defined entities that only interact through events,
+ * such as workload generators sending events to brokers.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public interface IsolatedEntity extends SimEntity {
+}
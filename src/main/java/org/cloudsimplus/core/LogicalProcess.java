@@ -0,0 +1,308 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core;
+
+import org.cloudsimplus.core.events.DeferredQueue;
+import org.cloudsimplus.core.events.FutureQueue;
+import org.cloudsimplus.core.events.SimEvent;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A group of entities which are processed sequentially by a single thread
+ * during a {@link ParallelExecutionEngine parallel} clock tick,
+ * isolated from the entities of other logical processes.
+ *
+ * <p>Each entity inside the process reads events from its own {@link DeferredQueue},
+ * while every change the entities request to the shared simulation state
+ * (such as sending events or adding new entities) is recorded as an operation.
+ * These operations are just applied when all logical processes finish,
+ * following the order of the entities inside the {@link CloudSim} entity list,
+ * which is the order they would be applied if the entities were processed sequentially.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class LogicalProcess {
+    /**
+     * The logical process being executed by the current thread,
+     * or null if the thread is not running any logical process.
+     */
+    private static final ThreadLocal<LogicalProcess> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The entities inside this process, in the order they are processed.
+     */
+    private final List<CloudSimEntity> entities = new ArrayList<>();
+
+    /**
+     * The position of each entity of this process inside the simulation entity list.
+     */
+    private final List<Integer> positions = new ArrayList<>();
+
+    /**
+     * The deferred events of each entity inside this process.
+     */
+    private final Map<SimEntity, DeferredQueue> deferredQueues = new IdentityHashMap<>();
+
+    /**
+     * The operations requested by the entities, in the order they were requested.
+     */
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * The position of the entity being processed inside the simulation entity list.
+     */
+    private int currentPosition;
+
+    /**
+     * The number of operations requested so far, used to order them.
+     */
+    private int requestedOperations;
+
+    /**
+     * An operation requested by an entity, which is applied after all logical processes finish.
+     *
+     * @param position the position of the requesting entity inside the simulation entity list
+     * @param sequence the order the operation was requested inside this process
+     * @param evt the future event the operation adds or {@link SimEvent#NULL} if it doesn't add any
+     * @param first indicates if the event has to be added to the head of the {@link FutureQueue}
+     * @param action the action applying the operation
+     */
+    record Operation(int position, int sequence, SimEvent evt, boolean first, Runnable action)
+        implements Comparable<Operation>
+    {
+        @Override
+        public int compareTo(final Operation other) {
+            final int result = Integer.compare(position, other.position);
+            return result == 0 ? Integer.compare(sequence, other.sequence) : result;
+        }
+    }
+
+    /**
+     * {@return the logical process being executed by the current thread}
+     * or null if the thread isn't running any logical process.
+     */
+    static LogicalProcess current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Adds an entity to the process.
+     *
+     * @param entity the entity to add
+     * @param position the position of the entity inside the simulation entity list
+     * @param events the deferred events targeted to the entity, in the order they must be received
+     */
+    void addEntity(final CloudSimEntity entity, final int position, final List<SimEvent> events) {
+        final var queue = new DeferredQueue();
+        events.forEach(queue::addEvent);
+        entities.add(entity);
+        positions.add(position);
+        deferredQueues.put(entity, queue);
+    }
+
+    /**
+     * Processes the events of all entities inside this process, in the current thread.
+     *
+     * @param until the time up to which events are processed
+     */
+    void run(final double until) {
+        CURRENT.set(this);
+        try {
+            for (int i = 0; i < entities.size(); i++) {
+                currentPosition = positions.get(i);
+                entities.get(i).run(until);
+            }
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Checks if a given entity is inside this process.
+     * @param entity the entity to check
+     * @return true if the entity is inside this process, false otherwise
+     */
+    boolean contains(final SimEntity entity) {
+        return deferredQueues.containsKey(entity);
+    }
+
+    /**
+     * {@return the queue of deferred events} for an entity inside this process.
+     * @param entity the entity to get the queue
+     */
+    DeferredQueue getDeferredQueue(final SimEntity entity) {
+        return deferredQueues.get(entity);
+    }
+
+    /**
+     * {@return the events not processed by the entities} inside this process,
+     * which have to be moved back to the shared deferred queue.
+     */
+    Stream<SimEvent> remainingEvents() {
+        return deferredQueues.values().stream().flatMap(DeferredQueue::stream);
+    }
+
+    /**
+     * {@return the operations requested by the entities} inside this process.
+     */
+    List<Operation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Records the request to add an event to the {@link FutureQueue}.
+     *
+     * @param evt the event to add
+     * @param first indicates if the event has to be added to the head of the queue
+     * @param action the action effectively adding the event
+     */
+    void addEvent(final SimEvent evt, final boolean first, final Runnable action) {
+        operations.add(new Operation(currentPosition, requestedOperations++, evt, first, action));
+    }
+
+    /**
+     * Records a request to change the simulation state.
+     * @param action the action effectively changing the state
+     */
+    void add(final Runnable action) {
+        addEvent(SimEvent.NULL, false, action);
+    }
+
+    /**
+     * Removes the first event matching a predicate, considering both the events already inside
+     * the {@link FutureQueue} and the ones this process is waiting to add,
+     * in the same order they would be found if the entities were processed sequentially.
+     *
+     * @param future the queue of future events
+     * @param predicate the event selection predicate
+     * @return the removed event or {@link SimEvent#NULL} if not found
+     */
+    SimEvent cancel(final FutureQueue future, final Predicate<SimEvent> predicate) {
+        synchronized (future) {
+            final SimEvent queued = future.stream().filter(predicate).findFirst().orElse(SimEvent.NULL);
+            final Operation pending =
+                pendingEvents(predicate)
+                    .min(this::compareRequestedEvents)
+                    .orElse(null);
+
+            if (pending != null && (queued == SimEvent.NULL || isBeforeQueuedEvent(pending, queued))) {
+                cancelRequestedEvent(future, pending);
+                return pending.evt();
+            }
+
+            // Removing the NULL event would remove an arbitrary event, since it's equal to every other one
+            if (queued != SimEvent.NULL) {
+                future.remove(queued);
+            }
+
+            return queued;
+        }
+    }
+
+    /**
+     * Removes all events matching a predicate, both from the {@link FutureQueue}
+     * and from the ones this process is waiting to add.
+     *
+     * @param future the queue of future events
+     * @param predicate the event selection predicate
+     * @return the same result as {@link CloudSim#cancelAll(SimEntity, Predicate)}
+     */
+    boolean cancelAll(final FutureQueue future, final Predicate<SimEvent> predicate) {
+        pendingEvents(predicate).toList().forEach(op -> cancelRequestedEvent(future, op));
+        synchronized (future) {
+            final int previousSize = future.size();
+            future.removeIf(predicate);
+            return previousSize < future.size();
+        }
+    }
+
+    /**
+     * {@return a stream of future events} matching a predicate, both from the {@link FutureQueue}
+     * and from the ones this process is waiting to add.
+     *
+     * @param future the queue of future events
+     * @param predicate the event selection predicate
+     */
+    List<SimEvent> futureEvents(final FutureQueue future, final Predicate<SimEvent> predicate) {
+        final var events = new ArrayList<SimEvent>();
+        synchronized (future) {
+            future.stream().filter(predicate).forEach(events::add);
+        }
+
+        pendingEvents(predicate).map(Operation::evt).forEach(events::add);
+        return events;
+    }
+
+    /**
+     * Cancels an event this process is waiting to add to the {@link FutureQueue}.
+     * The event is still added and then immediately removed from the queue,
+     * so that it gets the same serial number it would get if the entities were processed sequentially
+     * and the serial of the next events is not changed.
+     *
+     * @param future the queue of future events
+     * @param op the operation adding the event to cancel
+     */
+    private void cancelRequestedEvent(final FutureQueue future, final Operation op) {
+        final var canceled = new Operation(op.position(), op.sequence(), SimEvent.NULL, false, () -> {
+            op.action().run();
+            future.remove(op.evt());
+        });
+        operations.set(operations.indexOf(op), canceled);
+    }
+
+    private Stream<Operation> pendingEvents(final Predicate<SimEvent> predicate) {
+        return operations.stream().filter(op -> op.evt() != SimEvent.NULL && predicate.test(op.evt()));
+    }
+
+    /**
+     * Compares two events this process is waiting to add to the {@link FutureQueue},
+     * according to the order they will have inside the queue.
+     * Events added to the head of the queue come before any other event with the same time
+     * (the last added first), while the other ones come in the order they are added.
+     */
+    private int compareRequestedEvents(final Operation op1, final Operation op2) {
+        final int result = Double.compare(op1.evt().getTime(), op2.evt().getTime());
+        if (result != 0) {
+            return result;
+        }
+
+        if (op1.first() != op2.first()) {
+            return op1.first() ? -1 : 1;
+        }
+
+        return op1.first() ? op2.compareTo(op1) : op1.compareTo(op2);
+    }
+
+    /**
+     * Checks if an event this process is waiting to add will come before an event
+     * already inside the {@link FutureQueue}.
+     */
+    private static boolean isBeforeQueuedEvent(final Operation pending, final SimEvent queued) {
+        final int result = Double.compare(pending.evt().getTime(), queued.getTime());
+        return result == 0 ? pending.first() : result < 0;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core;
+
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.core.events.DeferredQueue;
+import org.cloudsimplus.core.events.SimEvent;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executes the entities that are runnable in a clock tick, processing {@link DatacenterSimple Datacenters}
+ * and {@link IsolatedEntity isolated entities} in parallel, as {@link LogicalProcess logical processes},
+ * while keeping the results identical to the sequential execution.
+ * The events each entity received at the same time form a group which is processed by a single thread.
+ *
+ * <p>Inside a clock tick, an entity never receives the events sent by other entities in that same tick,
+ * since they are added to the future event queue. That is a time window with no lookahead,
+ * which is the widest window this simulator allows: Cloudlets are returned to brokers with no delay
+ * and brokers read and change Vm and Cloudlet objects while Datacenters process them.
+ * Therefore, Datacenters and entities declaring themselves isolated are the only ones processed in parallel,
+ * while all the other entities (such as brokers and the {@link CloudInformationService})
+ * are processed sequentially, working as synchronization barriers.</p>
+ *
+ * <p>Datacenters serving VMs or Cloudlets from the same broker change the state of that broker,
+ * so they are placed in the same logical process and processed sequentially.
+ * Datacenters which may migrate VMs are never processed in parallel,
+ * since a migration may select Hosts from other Datacenters.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class ParallelExecutionEngine {
+    /**
+     * The number of threads used to process logical processes.
+     */
+    private final int parallelism;
+
+    /**
+     * The executor running logical processes, which is just created
+     * when there are entities to process in parallel.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Creates a parallel execution engine.
+     * @param parallelism the number of threads used to process logical processes
+     */
+    ParallelExecutionEngine(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * {@return the number of threads} used to process logical processes.
+     */
+    int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Executes the entities which are in {@link SimEntity.State#RUNNABLE} state,
+     * in the same order as {@link CloudSim} would do sequentially,
+     * except that consecutive Datacenters are processed in parallel.
+     *
+     * @param entityList the simulation entity list
+     * @param deferred the simulation queue of deferred events
+     * @param until the time up to which events are processed
+     */
+    void executeRunnableEntities(final List<CloudSimEntity> entityList, final DeferredQueue deferred, final double until) {
+        int i = 0;
+        while (i < entityList.size()) {
+            final CloudSimEntity ent = entityList.get(i);
+            if (ent.getState() != SimEntity.State.RUNNABLE) {
+                i++;
+                continue;
+            }
+
+            if (!isIsolable(ent)) {
+                ent.run(until);
+                i++;
+                continue;
+            }
+
+            final var batch = new LinkedHashMap<CloudSimEntity, Integer>();
+            CloudSimEntity last = ent;
+            int next = i;
+            for (; next < entityList.size(); next++) {
+                final CloudSimEntity candidate = entityList.get(next);
+                if (candidate.getState() == SimEntity.State.RUNNABLE) {
+                    if (!isIsolable(candidate)) {
+                        break;
+                    }
+
+                    batch.put(candidate, next);
+                    last = candidate;
+                }
+            }
+
+            executeBatch(batch, deferred, until);
+
+            // Entities may be added or removed while executing the batch, changing the position of the next one
+            final int lastIndex = entityList.indexOf(last);
+            i = lastIndex < 0 ? Math.min(next, entityList.size()) : lastIndex + 1;
+        }
+    }
+
+    /**
+     * Checks if an entity can be processed in parallel with other ones.
+     * @param entity the entity to check
+     * @return true if the entity is isolated or a Datacenter that doesn't migrate VMs, false otherwise
+     */
+    private static boolean isIsolable(final CloudSimEntity entity) {
+        return entity instanceof IsolatedEntity ||
+               entity instanceof DatacenterSimple dc && !dc.getVmAllocationPolicy().isVmMigrationSupported();
+    }
+
+    /**
+     * Executes a sequence of consecutive isolable entities.
+     *
+     * @param batch a map where each key is an entity to execute and each value is its position inside the entity list
+     * @param deferred the simulation queue of deferred events
+     * @param until the time up to which events are processed
+     */
+    private void executeBatch(final Map<CloudSimEntity, Integer> batch, final DeferredQueue deferred, final double until) {
+        final var eventsByEntity = new IdentityHashMap<SimEntity, List<SimEvent>>();
+        deferred.stream()
+                .filter(evt -> batch.containsKey(evt.getDestination()))
+                .forEach(evt -> eventsByEntity.computeIfAbsent(evt.getDestination(), dest -> new ArrayList<>()).add(evt));
+
+        final var processes = createLogicalProcesses(batch, eventsByEntity);
+        if (processes.size() <= 1) {
+            batch.keySet().forEach(ent -> ent.run(until));
+            return;
+        }
+
+        deferred.removeIf(evt -> eventsByEntity.containsKey(evt.getDestination()));
+        try {
+            runLogicalProcesses(processes, until);
+        } finally {
+            processes.stream().flatMap(LogicalProcess::remainingEvents).forEach(deferred::addEvent);
+        }
+
+        processes.stream()
+                 .flatMap(process -> process.getOperations().stream())
+                 .sorted()
+                 .forEach(op -> op.action().run());
+    }
+
+    /**
+     * Groups the entities with events to process into logical processes,
+     * placing entities which change the state of the same broker into the same process.
+     *
+     * @param batch a map where each key is an entity to execute and each value is its position inside the entity list
+     * @param eventsByEntity the deferred events targeted to each entity
+     * @return the list of logical processes
+     */
+    private static List<LogicalProcess> createLogicalProcesses(
+        final Map<CloudSimEntity, Integer> batch,
+        final Map<SimEntity, List<SimEvent>> eventsByEntity)
+    {
+        final var busyEntities = batch.keySet()
+                                      .stream()
+                                      .filter(ent -> eventsByEntity.containsKey(ent) || ent.hasEventBuffered())
+                                      .toList();
+
+        // Union-find where each entity is linked to another one sharing some broker
+        final int[] parents = new int[busyEntities.size()];
+        final var entityIndexByBroker = new IdentityHashMap<DatacenterBroker, Integer>();
+        for (int i = 0; i < busyEntities.size(); i++) {
+            parents[i] = i;
+            final var ent = busyEntities.get(i);
+            for (final var broker : getBrokers(ent, eventsByEntity.getOrDefault(ent, List.of()))) {
+                final Integer previous = entityIndexByBroker.putIfAbsent(broker, i);
+                if (previous != null) {
+                    parents[findRoot(parents, i)] = findRoot(parents, previous);
+                }
+            }
+        }
+
+        final var processByRoot = new LinkedHashMap<Integer, LogicalProcess>();
+        for (int i = 0; i < busyEntities.size(); i++) {
+            final var ent = busyEntities.get(i);
+            processByRoot
+                .computeIfAbsent(findRoot(parents, i), root -> new LogicalProcess())
+                .addEntity(ent, batch.get(ent), eventsByEntity.getOrDefault(ent, List.of()));
+        }
+
+        return new ArrayList<>(processByRoot.values());
+    }
+
+    private static int findRoot(final int[] parents, int index) {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+
+        return index;
+    }
+
+    /**
+     * Gets the brokers whose state an entity may change when processing its events.
+     *
+     * @param entity the entity to get the brokers
+     * @param events the deferred events targeted to the entity
+     * @return the set of brokers (which is empty for {@link IsolatedEntity isolated entities})
+     */
+    private static Set<DatacenterBroker> getBrokers(final CloudSimEntity entity, final List<SimEvent> events) {
+        final var brokers = Collections.newSetFromMap(new IdentityHashMap<DatacenterBroker, Boolean>());
+        if (entity instanceof IsolatedEntity) {
+            return brokers;
+        }
+
+        if (entity instanceof DatacenterSimple dc) {
+            dc.getHostList().forEach(host -> host.getVmList().forEach(vm -> brokers.add(vm.getBroker())));
+        }
+
+        for (final SimEvent evt : events) {
+            if (evt.getSource() instanceof DatacenterBroker broker) {
+                brokers.add(broker);
+            }
+
+            final Object data = evt.getData() instanceof Map.Entry<?, ?> entry ? entry.getKey() : evt.getData();
+            if (data instanceof CustomerEntity customer) {
+                brokers.add(customer.getBroker());
+            }
+        }
+
+        brokers.remove(DatacenterBroker.NULL);
+        return brokers;
+    }
+
+    /**
+     * Runs logical processes in parallel and waits for all of them to finish.
+     * Since there may be thousands of processes in a clock tick,
+     * they are split into one task for each thread, which runs a contiguous range of processes.
+     *
+     * @param processes the logical processes to run
+     * @param until the time up to which events are processed
+     */
+    private void runLogicalProcesses(final List<LogicalProcess> processes, final double until) {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                final var thread = new Thread(runnable, "CloudSimPlus-LogicalProcess");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        final int tasks = Math.min(parallelism, processes.size());
+        final var futures = new ArrayList<Future<?>>(tasks);
+        for (int task = 0; task < tasks; task++) {
+            final var range = processes.subList(task * processes.size() / tasks, (task + 1) * processes.size() / tasks);
+            futures.add(executor.submit(() -> range.forEach(process -> process.run(until))));
+        }
+
+        Throwable failure = null;
+        for (final var future : futures) {
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new IllegalStateException("Interrupted while waiting for logical processes to finish.", e);
+            } catch (final ExecutionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+
+        if (failure instanceof RuntimeException ex) {
+            throw ex;
+        }
+
+        if (failure instanceof Error error) {
+            throw error;
+        }
+
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    /**
+     * Stops the threads used to process logical processes.
+     */
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.cloudsimplus.core.events.SimEvent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * An opt-in profiler for the simulation engine, which records
+ * the number of events, the wall time and the memory allocated
+ * by event handlers, for each event {@link SimEvent#getTag() tag}
+ * and each {@link SimEntity} class, besides the size of the event queues over time.
+ * It enables finding hot paths in simulation extensions without using external profilers.
+ *
+ * <p>The profiler is disabled by default and can be enabled by calling
+ * {@code simulation.getProfiler().setEnabled(true)} before starting the simulation.
+ * When enabled, a summary is logged when the simulation finishes
+ * (which can also be got from {@link #getSummary()}).</p>
+ *
+ * <p>Counters are thread-safe, so that events processed in parallel
+ * (see {@link CloudSim#setParallelism(int)}) are accounted correctly.
+ * The allocated memory is only recorded if the JVM supports measuring
+ * the memory allocated by each thread.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class SimulationProfiler {
+    /**
+     * The default maximum number of {@link QueueSample}s to store.
+     */
+    public static final int DEF_MAX_QUEUE_SAMPLES = 1024;
+
+    /**
+     * The number of lines shown in each table of the {@link #getSummary() summary}.
+     */
+    private static final int SUMMARY_LINES = 15;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = threadBean();
+
+    /**
+     * Names of the {@link CloudSimTag} constants, where each key is the tag value.
+     */
+    private static final Map<Integer, String> TAG_NAMES = tagNames();
+
+    /**
+     * Indicates if the profiler is enabled.
+     * It should be changed only before the simulation starts.
+     */
+    @Getter @Setter
+    private boolean enabled;
+
+    /**
+     * The maximum number of {@link QueueSample}s to store.
+     * When this number is reached, every other sample is discarded
+     * and the interval between samples is doubled,
+     * so that samples keep covering the entire simulation time.
+     */
+    @Getter
+    private final int maxQueueSamples;
+
+    private final Map<Integer, EventStats> tagStats;
+    private final Map<Class<?>, EventStats> entityStats;
+    private final List<QueueSample> queueSamples;
+
+    /**
+     * Number of distinct simulation times to skip between two consecutive {@link QueueSample}s.
+     */
+    private int sampleInterval;
+
+    /**
+     * Number of distinct simulation times seen since the last {@link QueueSample} was stored.
+     */
+    private int timesSinceLastSample;
+
+    private double lastEventTime;
+
+    /**
+     * The maximum number of events in the future queue at the time events were dispatched.
+     */
+    @Getter
+    private int maxFutureEvents;
+
+    /**
+     * The maximum number of events in the deferred queue at the time events were dispatched.
+     */
+    @Getter
+    private int maxDeferredEvents;
+
+    /**
+     * Creates a disabled profiler with the {@link #DEF_MAX_QUEUE_SAMPLES default maximum number of queue samples}.
+     */
+    public SimulationProfiler() {
+        this(DEF_MAX_QUEUE_SAMPLES);
+    }
+
+    /**
+     * Creates a disabled profiler.
+     * @param maxQueueSamples the maximum number of {@link QueueSample}s to store (at least 2)
+     */
+    public SimulationProfiler(final int maxQueueSamples) {
+        if (maxQueueSamples < 2) {
+            throw new IllegalArgumentException("The maximum number of queue samples must be at least 2.");
+        }
+
+        this.maxQueueSamples = maxQueueSamples;
+        this.tagStats = new ConcurrentHashMap<>();
+        this.entityStats = new ConcurrentHashMap<>();
+        this.queueSamples = new ArrayList<>();
+        this.sampleInterval = 1;
+        this.lastEventTime = -1;
+    }
+
+    /**
+     * Records an event being dispatched by the simulation engine,
+     * sampling the size of the event queues when the simulation time changes.
+     *
+     * @param evt the dispatched event
+     * @param futureEvents the number of events in the future queue
+     * @param deferredEvents the number of events in the deferred queue
+     */
+    void eventDispatched(final SimEvent evt, final int futureEvents, final int deferredEvents) {
+        tagStats(evt.getTag()).dispatched.increment();
+        if (evt.getDestination() != SimEntity.NULL) {
+            entityStats(evt.getDestination().getClass()).dispatched.increment();
+        }
+
+        maxFutureEvents = Math.max(maxFutureEvents, futureEvents);
+        maxDeferredEvents = Math.max(maxDeferredEvents, deferredEvents);
+        if (evt.getTime() == lastEventTime) {
+            return;
+        }
+
+        lastEventTime = evt.getTime();
+        if (timesSinceLastSample++ % sampleInterval != 0) {
+            return;
+        }
+
+        timesSinceLastSample = 1;
+        if (queueSamples.size() == maxQueueSamples) {
+            decimateQueueSamples();
+        }
+
+        queueSamples.add(new QueueSample(evt.getTime(), futureEvents, deferredEvents));
+    }
+
+    /**
+     * Keeps every other {@link QueueSample} and doubles the interval between samples.
+     */
+    private void decimateQueueSamples() {
+        int last = 0;
+        for (int i = 0; i < queueSamples.size(); i += 2) {
+            queueSamples.set(last++, queueSamples.get(i));
+        }
+
+        queueSamples.subList(last, queueSamples.size()).clear();
+        sampleInterval *= 2;
+    }
+
+    /**
+     * Records an event processed by an entity.
+     *
+     * @param entity the entity that processed the event
+     * @param evt the processed event
+     * @param nanos the wall time the entity took to process the event (in nanoseconds)
+     * @param bytes the number of bytes allocated while processing the event
+     */
+    void eventHandled(final SimEntity entity, final SimEvent evt, final long nanos, final long bytes) {
+        tagStats(evt.getTag()).handled(nanos, bytes);
+        entityStats(entity.getClass()).handled(nanos, bytes);
+    }
+
+    private EventStats tagStats(final int tag) {
+        return tagStats.computeIfAbsent(tag, key -> new EventStats());
+    }
+
+    private EventStats entityStats(final Class<?> entityClass) {
+        return entityStats.computeIfAbsent(entityClass, key -> new EventStats());
+    }
+
+    /**
+     * {@return the number of bytes allocated by the current thread so far}
+     * or 0 if the JVM doesn't support such a measurement.
+     */
+    static long allocatedBytes() {
+        return THREAD_BEAN == null ? 0 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * {@return the statistics for each event tag} where each key is the tag value.
+     * @see CloudSimTag
+     */
+    public Map<Integer, EventStats> getTagStats() {
+        return Collections.unmodifiableMap(tagStats);
+    }
+
+    /**
+     * {@return the statistics for each class of entity} receiving or processing events.
+     */
+    public Map<Class<?>, EventStats> getEntityStats() {
+        return Collections.unmodifiableMap(entityStats);
+    }
+
+    /**
+     * {@return the samples of the event queue sizes}, ordered by simulation time.
+     * @see #getMaxQueueSamples()
+     */
+    public List<QueueSample> getQueueSamples() {
+        return Collections.unmodifiableList(queueSamples);
+    }
+
+    /**
+     * {@return a textual summary of the recorded statistics}, including the tags and
+     * entity classes which took longer to process their events.
+     */
+    public String getSummary() {
+        final var builder = new StringBuilder();
+        final String nl = System.lineSeparator();
+        builder.append("Simulation profiling summary").append(nl);
+        appendTable(builder, "Event tag", tagStats, SimulationProfiler::tagName);
+        appendTable(builder, "Entity class", entityStats, Class::getSimpleName);
+        builder.append("Max future events: %d | Max deferred events: %d | Queue samples: %d%n"
+                           .formatted(maxFutureEvents, maxDeferredEvents, queueSamples.size()));
+        return builder.toString();
+    }
+
+    private static <K> void appendTable(
+        final StringBuilder builder, final String title,
+        final Map<K, EventStats> statsMap, final Function<K, String> nameFunction)
+    {
+        final var format = "%-36s %12s %12s %14s %14s %16s%n";
+        builder.append(format.formatted(title, "Dispatched", "Handled", "Total time ms", "Mean time us", "Allocated KB"));
+        statsMap.entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong((Map.Entry<K, EventStats> entry) -> entry.getValue().getTotalNanos()).reversed())
+                .limit(SUMMARY_LINES)
+                .forEach(entry -> {
+                    final var stats = entry.getValue();
+                    builder.append(format.formatted(
+                        nameFunction.apply(entry.getKey()), stats.getDispatched(), stats.getHandled(),
+                        "%.3f".formatted(stats.getTotalNanos() / 1_000_000.0),
+                        "%.3f".formatted(stats.getMeanNanos() / 1000.0),
+                        "%.1f".formatted(stats.getAllocatedBytes() / 1024.0)));
+                });
+    }
+
+    /**
+     * {@return the name of a tag} if it's one of the {@link CloudSimTag} constants,
+     * or its value otherwise.
+     * @param tag the tag value
+     */
+    private static String tagName(final int tag) {
+        return TAG_NAMES.getOrDefault(tag, String.valueOf(tag));
+    }
+
+    private static Map<Integer, String> tagNames() {
+        final var names = new HashMap<Integer, String>();
+        for (final var field : CloudSimTag.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == int.class) {
+                try {
+                    names.putIfAbsent(field.getInt(null), field.getName());
+                } catch (final IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        return names;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled())
+        {
+            return bean;
+        }
+
+        return null;
+    }
+
+    /**
+     * The size of the event queues at a given simulation time.
+     *
+     * @param time the simulation time
+     * @param futureEvents the number of events in the future queue
+     * @param deferredEvents the number of events in the deferred queue
+     */
+    public record QueueSample(double time, int futureEvents, int deferredEvents) {}
+
+    /**
+     * Statistics about the events of a given tag or entity class.
+     */
+    public static final class EventStats {
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder handled = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private EventStats() {/**/}
+
+        private void handled(final long nanos, final long bytes) {
+            handled.increment();
+            totalNanos.add(nanos);
+            allocatedBytes.add(bytes);
+        }
+
+        /** {@return the number of events dispatched by the simulation engine} */
+        public long getDispatched() {
+            return dispatched.sum();
+        }
+
+        /** {@return the number of events processed by entities} */
+        public long getHandled() {
+            return handled.sum();
+        }
+
+        /** {@return the total wall time entities took to process events (in nanoseconds)} */
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        /** {@return the mean wall time entities took to process an event (in nanoseconds)} */
+        public double getMeanNanos() {
+            final long count = getHandled();
+            return count == 0 ? 0 : getTotalNanos() / (double) count;
+        }
+
+        /** {@return the number of bytes allocated while processing events} */
+        public long getAllocatedBytes() {
+            return allocatedBytes.sum();
+        }
+    }
+}
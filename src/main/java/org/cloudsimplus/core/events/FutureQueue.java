@@ -9,6 +9,7 @@
 package org.cloudsimplus.core.events;
 
 import lombok.Getter;
+import org.cloudsimplus.core.jfr.EventQueueGrowthEvent;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -50,7 +51,26 @@ public class FutureQueue implements EventQueue {
     public void addEvent(final SimEvent newEvent) {
         newEvent.setSerial(serial++);
         sortedSet.add(newEvent);
-        maxEventsNumber = Math.max(maxEventsNumber, sortedSet.size());
+        updateMaxEventsNumber(newEvent);
+    }
+
+    /**
+     * Updates the {@link #getMaxEventsNumber() maximum number of events}
+     * after adding an event, emitting an {@link EventQueueGrowthEvent}
+     * when a new maximum that is a power of two is reached.
+     *
+     * @param newEvent the event just added
+     */
+    private void updateMaxEventsNumber(final SimEvent newEvent) {
+        final int size = sortedSet.size();
+        if (size <= maxEventsNumber) {
+            return;
+        }
+
+        maxEventsNumber = size;
+        if (Integer.bitCount(size) == 1) {
+            EventQueueGrowthEvent.emit(newEvent, size, serial);
+        }
     }
 
     /**
@@ -0,0 +1,77 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.jfr;
+
+import jdk.jfr.*;
+import org.cloudsimplus.datacenters.Datacenter;
+
+/**
+ * A JFR event recording a {@link Datacenter} processing tick,
+ * when the processing of Cloudlets running inside all its Hosts is updated.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+@Name("org.cloudsimplus.DatacenterProcessing")
+@Label("Datacenter Processing")
+@Category({"CloudSim Plus", "Datacenter"})
+@Description("Update of the processing of Cloudlets running inside a Datacenter")
+public final class DatacenterProcessingEvent extends Event {
+    @Label("Simulation Time")
+    @Description("The simulation clock (in seconds)")
+    public double simulationTime;
+
+    @Label("Datacenter Id")
+    public long datacenterId;
+
+    @Label("Hosts")
+    public int hostsNumber;
+
+    @Label("VMs")
+    public int vmsNumber;
+
+    @Label("Next Update Delay")
+    @Description("The delay (in seconds) until the next processing update or -1 if no update was scheduled")
+    public double nextUpdateDelay;
+
+    /**
+     * Commits the event if it's enabled and its duration passes the configured threshold.
+     *
+     * @param datacenter the Datacenter that processed its Cloudlets
+     * @param vmsNumber the number of VMs inside the Datacenter
+     * @param nextUpdateDelay the delay until the next processing update or {@link Double#MAX_VALUE} if there is none
+     */
+    public void commit(final Datacenter datacenter, final int vmsNumber, final double nextUpdateDelay) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.simulationTime = datacenter.getSimulation().clock();
+        this.datacenterId = datacenter.getId();
+        this.hostsNumber = datacenter.getHostList().size();
+        this.vmsNumber = vmsNumber;
+        this.nextUpdateDelay = nextUpdateDelay == Double.MAX_VALUE ? -1 : nextUpdateDelay;
+        commit();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.jfr;
+
+import jdk.jfr.*;
+import org.cloudsimplus.core.events.FutureQueue;
+import org.cloudsimplus.core.events.SimEvent;
+
+/**
+ * A JFR event recording the growth of the {@link FutureQueue}.
+ * It's emitted each time the number of events in the queue reaches
+ * a new maximum which is a power of two,
+ * so that the number of JFR events is logarithmic in the queue size.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+@Name("org.cloudsimplus.EventQueueGrowth")
+@Label("Event Queue Growth")
+@Category({"CloudSim Plus", "Engine"})
+@Description("The future event queue reached a new maximum size")
+@StackTrace(false)
+public final class EventQueueGrowthEvent extends Event {
+    @Label("Simulation Time")
+    @Description("The simulation clock (in seconds)")
+    public double simulationTime;
+
+    @Label("Queue Size")
+    @Description("The number of events in the queue")
+    public int queueSize;
+
+    @Label("Generated Events")
+    @Description("The total number of events added to the queue so far")
+    public long generatedEvents;
+
+    /**
+     * Commits the event if it's enabled.
+     *
+     * @param newEvent the event whose addition made the queue grow
+     * @param queueSize the number of events in the queue
+     * @param generatedEvents the total number of events added to the queue so far
+     */
+    public static void emit(final SimEvent newEvent, final int queueSize, final long generatedEvents) {
+        final var event = new EventQueueGrowthEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+
+        final var simulation = newEvent.getSimulation();
+        event.simulationTime = simulation == null ? newEvent.getTime() : simulation.clock();
+        event.queueSize = queueSize;
+        event.generatedEvents = generatedEvents;
+        event.commit();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.jfr;
+
+import jdk.jfr.*;
+import org.cloudsimplus.allocationpolicies.migration.VmAllocationPolicyMigration;
+import org.cloudsimplus.datacenters.Datacenter;
+
+/**
+ * A JFR event recording the search of a {@link VmAllocationPolicyMigration}
+ * for VMs to be migrated out from under or overloaded Hosts.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+@Name("org.cloudsimplus.MigrationPlanning")
+@Label("Migration Planning")
+@Category({"CloudSim Plus", "Allocation"})
+@Description("Computation of an optimized VM placement map for migration")
+public final class MigrationPlanningEvent extends Event {
+    @Label("Simulation Time")
+    @Description("The simulation clock (in seconds)")
+    public double simulationTime;
+
+    @Label("Datacenter Id")
+    public long datacenterId;
+
+    @Label("VMs")
+    @Description("The number of VMs evaluated")
+    public int vmsNumber;
+
+    @Label("Overloaded Hosts")
+    public int overloadedHostsNumber;
+
+    @Label("Migrations")
+    @Description("The number of VMs selected to be migrated")
+    public int migrationsNumber;
+
+    /**
+     * Commits the event if it's enabled and its duration passes the configured threshold.
+     *
+     * @param datacenter the Datacenter whose VMs placement was optimized
+     * @param vmsNumber the number of VMs evaluated
+     * @param overloadedHostsNumber the number of overloaded Hosts found
+     * @param migrationsNumber the number of VMs selected to be migrated
+     */
+    public void commit(final Datacenter datacenter, final int vmsNumber, final int overloadedHostsNumber, final int migrationsNumber) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.simulationTime = datacenter.getSimulation().clock();
+        this.datacenterId = datacenter.getId();
+        this.vmsNumber = vmsNumber;
+        this.overloadedHostsNumber = overloadedHostsNumber;
+        this.migrationsNumber = migrationsNumber;
+        commit();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.jfr;
+
+import jdk.jfr.*;
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
+import org.cloudsimplus.datacenters.Datacenter;
+import org.cloudsimplus.hosts.HostSuitability;
+import org.cloudsimplus.vms.Vm;
+
+/**
+ * A JFR event recording a decision of a {@link VmAllocationPolicy}
+ * to place a {@link Vm} into a Host.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+@Name("org.cloudsimplus.VmPlacement")
+@Label("VM Placement")
+@Category({"CloudSim Plus", "Allocation"})
+@Description("Search for a Host to place a VM")
+public final class VmPlacementEvent extends Event {
+    @Label("Simulation Time")
+    @Description("The simulation clock (in seconds)")
+    public double simulationTime;
+
+    @Label("Datacenter Id")
+    public long datacenterId;
+
+    @Label("VM Id")
+    public long vmId;
+
+    @Label("Host Id")
+    @Description("The Host where the VM was placed or -1 if it wasn't placed")
+    public long hostId;
+
+    @Label("Hosts")
+    @Description("The number of Hosts in the Datacenter")
+    public int hostsNumber;
+
+    @Label("Placed")
+    public boolean placed;
+
+    /**
+     * Commits the event if it's enabled and its duration passes the configured threshold.
+     *
+     * @param datacenter the Datacenter where the VM was requested to be placed
+     * @param vm the VM requested to be placed
+     * @param suitability the result of the placement or null if it failed with an exception
+     * @param hostsNumber the number of Hosts in the Datacenter
+     */
+    public void commit(final Datacenter datacenter, final Vm vm, final HostSuitability suitability, final int hostsNumber) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.simulationTime = datacenter.getSimulation().clock();
+        this.datacenterId = datacenter.getId();
+        this.vmId = vm.getId();
+        this.placed = suitability != null && suitability.fully();
+        this.hostId = placed ? suitability.getHost().getId() : -1;
+        this.hostsNumber = hostsNumber;
+        commit();
+    }
+}
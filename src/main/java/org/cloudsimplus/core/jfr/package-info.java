@@ -0,0 +1,14 @@
+/**
+ * Provides custom <a href="https://docs.oracle.com/en/java/javase/17/jfapi/">Java Flight Recorder (JFR)</a>
+ * events emitted by the simulation engine and its main components,
+ * enabling hot spots found when profiling a simulation to be correlated with the simulation time.
+ * All events carry the simulation clock and are grouped under the "CloudSim Plus" category.
+ *
+ * <p>Events are disabled by default. They can be enabled, for instance, by starting the JVM with
+ * {@code -XX:StartFlightRecording:settings=profile,+org.cloudsimplus.VmPlacement#enabled=true}
+ * or by programmatically creating a {@link jdk.jfr.Recording}.
+ * While disabled, creating and committing events has near-zero cost.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+package org.cloudsimplus.core.jfr;
@@ -16,11 +16,13 @@ import org.cloudsimplus.core.CloudSimEntity;
 import org.cloudsimplus.core.CloudSimTag;
 import org.cloudsimplus.core.CustomerEntityAbstract;
 import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.core.jfr.DatacenterProcessingEvent;
 import org.cloudsimplus.core.events.PredicateType;
 import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.DatacenterCharacteristics.Distribution;
 import org.cloudsimplus.faultinjection.HostFaultInjection;
 import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostAbstract;
 import org.cloudsimplus.hosts.HostSimple;
 import org.cloudsimplus.hosts.HostSuitability;
 import org.cloudsimplus.listeners.DatacenterVmMigrationEventInfo;
@@ -43,7 +45,6 @@ import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Predicate.not;
-import static java.util.stream.Collectors.toList;
 import static org.cloudsimplus.datacenters.DatacenterCharacteristics.Distribution.PRIVATE;
 import static org.cloudsimplus.util.BytesConversion.bitsToBytes;
 
@@ -69,6 +70,26 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     private List<? extends Host> hostList;
 
+    /**
+     * Maps the ID of each Host to the Host, to find Hosts by ID in constant time.
+     * @see #getHostById(long)
+     */
+    private final Map<Long, Host> hostsById = new HashMap<>();
+
+    /**
+     * The number of times each VM is inside the {@link Host#getVmList()} of the Hosts from this Datacenter
+     * (a VM being migrated may be inside the source and target Host at the same time).
+     * It's updated by Hosts when VMs are added or removed,
+     * so that the list of all VMs doesn't need to be built from every Host at each processing update.
+     * @see #getVmList()
+     */
+    private final Map<Vm, Integer> vmRegistry = new LinkedHashMap<>();
+
+    /**
+     * A cache for the {@link #getVmList()}, which is null when it has to be rebuilt.
+     */
+    private List<Vm> vmList;
+
     @Getter
     private long activeHostsNumber;
 
@@ -219,9 +240,47 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         long lastHostId = getLastHostId();
         for (final Host host : hostList) {
             lastHostId = setupHost(host, lastHostId);
+            registerHost(host);
         }
     }
 
+    /**
+     * Adds a Host and its VMs to the indexes used to find Hosts and VMs in this Datacenter.
+     * @param host the Host to add
+     */
+    private void registerHost(final Host host) {
+        hostsById.putIfAbsent(host.getId(), host);
+        host.getVmList().forEach(vm -> updateVmRegistry(vm, true));
+        if (host instanceof HostAbstract hostAbstract) {
+            hostAbstract.setVmListChangeListener(this::updateVmRegistry);
+        }
+    }
+
+    /**
+     * Rebuilds the index of Hosts by ID from the Host list.
+     */
+    private void rebuildHostIndex() {
+        hostsById.clear();
+        hostList.forEach(host -> hostsById.putIfAbsent(host.getId(), host));
+    }
+
+    /**
+     * Updates the registry of VMs in this Datacenter when a VM is added to or removed from some Host.
+     * It's the {@link HostAbstract#setVmListChangeListener(java.util.function.BiConsumer) listener}
+     * of VM list changes for every Host in this Datacenter.
+     *
+     * @param vm the VM added or removed
+     * @param added true if the VM was added to the {@link Host#getVmList()}, false if it was removed
+     */
+    private void updateVmRegistry(@NonNull final Vm vm, final boolean added) {
+        if (!added && !vmRegistry.containsKey(vm)) {
+            return;
+        }
+
+        vmRegistry.merge(vm, added ? 1 : -1, (count, delta) -> count + delta == 0 ? null : count + delta);
+        vmList = null;
+    }
+
     private long getLastHostId() {
         return hostList.isEmpty() ? -1 : hostList.get(hostList.size()-1).getId();
     }
@@ -782,6 +841,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return Double.MAX_VALUE;
         }
 
+        final var event = new DatacenterProcessingEvent();
+        event.begin();
         double nextSimulationDelay = updateHostsProcessing();
 
         if (nextSimulationDelay != Double.MAX_VALUE) {
@@ -791,6 +852,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         setLastProcessTime(clock());
 
         checkIfVmMigrationsAreNeeded();
+        event.commit(this, vmRegistry.size(), nextSimulationDelay);
         return nextSimulationDelay;
     }
 
@@ -983,17 +1045,17 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     /**
      * Gets a <b>read-only</b> list all VMs from all Hosts of this Datacenter.
+     * The list is just rebuilt when VMs are added to or removed from some Host.
      *
      * @param <T> the class of VMs inside the list
      * @return the list all VMs from all Hosts
      */
     private <T extends Vm> List<T> getVmList() {
-        return (List<T>) Collections.unmodifiableList(
-                getHostList()
-                    .stream()
-                    .map(Host::getVmList)
-                    .flatMap(List::stream)
-                    .collect(toList()));
+        if (vmList == null) {
+            vmList = List.copyOf(vmRegistry.keySet());
+        }
+
+        return (List<T>) vmList;
     }
 
     @Override
@@ -1031,7 +1093,19 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public Host getHostById(final long id) {
-        return hostList.stream().filter(host -> host.getId() == id).findFirst().map(host -> (Host)host).orElse(Host.NULL);
+        final Host host = hostsById.get(id);
+        if (host != null && host.getId() == id) {
+            return host;
+        }
+
+        /* The Host list may have been changed directly or the ID of some Host
+         * changed after it was added. In such cases, the index is rebuilt. */
+        final Host found = hostList.stream().filter(h -> h.getId() == id).findFirst().map(h -> (Host)h).orElse(Host.NULL);
+        if (found != Host.NULL) {
+            rebuildHostIndex();
+        }
+
+        return found;
     }
 
     @Override
@@ -1049,6 +1123,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         setupHost(host, getLastHostId());
         ((List<T>)hostList).add(host);
+        registerHost(host);
         return this;
     }
 
@@ -1058,7 +1133,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public <T extends Host> Datacenter removeHost(final T host) {
-        hostList.remove(host);
+        if (hostList.remove(host)) {
+            hostsById.remove(host.getId(), host);
+            host.getVmList().forEach(vm -> updateVmRegistry(vm, false));
+            if (host instanceof HostAbstract hostAbstract) {
+                hostAbstract.setVmListChangeListener((vm, added) -> {});
+            }
+        }
+
         return this;
     }
 
@@ -7,6 +7,8 @@
  */
 package org.cloudsimplus.datacenters.network;
 
+import lombok.Getter;
+import lombok.Setter;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicySimple;
 import org.cloudsimplus.core.Simulation;
@@ -14,6 +16,9 @@ import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.datacenters.DatacenterSimple;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.hosts.network.NetworkHost;
+import org.cloudsimplus.network.HostPacket;
+import org.cloudsimplus.network.HostPacketBatch;
+import org.cloudsimplus.network.flows.FlowNetworkModel;
 import org.cloudsimplus.network.switches.EdgeSwitch;
 import org.cloudsimplus.network.switches.Switch;
 
@@ -49,6 +54,25 @@ public class NetworkDatacenter extends DatacenterSimple {
     /** @see #getSwitchMap() */
     private final List<Switch> switchMap;
 
+    /**
+     * Indicates if {@link NetworkHost}s and {@link Switch}es inside this Datacenter
+     * forward all {@link HostPacket}s going to the same next hop and arriving at the same time
+     * inside a single simulation event, instead of sending one event for each packet.
+     * That considerably reduces the number of events for network-heavy simulations,
+     * without changing simulation results.
+     * @see HostPacketBatch
+     */
+    @Getter @Setter
+    private boolean packetBatchingEnabled;
+
+    /**
+     * The flow-level network model used to transfer packets between Hosts,
+     * instead of the per-packet simulation through {@link Switch}es;
+     * or null if packets are transferred through switches (the default).
+     */
+    @Getter @Setter
+    private FlowNetworkModel flowNetworkModel;
+
     /**
      * Creates a NetworkDatacenter with the given parameters.
      *
@@ -113,6 +137,16 @@ public class NetworkDatacenter extends DatacenterSimple {
         return Collections.unmodifiableList(switchMap);
     }
 
+    /**
+     * Checks if packets between Hosts are transferred as network flows
+     * by a {@link #getFlowNetworkModel() flow-level network model},
+     * instead of being forwarded packet by packet through {@link Switch}es.
+     * @return true if a flow-level network model is set, false otherwise
+     */
+    public boolean isFlowNetworkModelEnabled() {
+        return flowNetworkModel != null;
+    }
+
     @Override
     public List<NetworkHost> getHostList() {
         return super.getHostList();
@@ -232,6 +232,7 @@ public class CloudFactoryGeneratedWorkload {
         final var host = new HostMultiClusters(HOST_MEMORY, HOST_BW, HOST_STORAGE, peList, oversubscriptionLevels);
         host.setStateHistoryEnabled(true);
         host.enableUtilizationStats();
+        host.enableVClusterMetrics();
         return host;
     }
 
@@ -275,6 +276,44 @@ public class CloudFactoryGeneratedWorkload {
         }
         else
             System.out.println("Inactive host");
+        printVClusterMetrics((HostMultiClusters) host);
+    }
+
+    /**
+     * Prints a summary of the {@link HostMultiClusters#getVClusterMetrics() metrics of each vCluster} for a given Host.
+     * Since samples are taken at irregular intervals, delivered and demanded MIPS are weighted by the length of each interval.
+     * @param host
+     */
+    private void printVClusterMetrics(HostMultiClusters host) {
+        final var metrics = host.getVClusterMetrics();
+        if(metrics.size() == 0)
+            return;
+
+        for(Float oc : metrics.getOversubscriptionLevels()){
+            final long maxVcpus = Arrays.stream(metrics.getVcpus(oc)).max().orElse(0);
+            final long maxReservedPes = Arrays.stream(metrics.getReservedPes(oc)).max().orElse(0);
+            final double demanded = integrate(metrics.getTimes(), metrics.getDemandedMips(oc));
+            final double delivered = integrate(metrics.getTimes(), metrics.getDeliveredMips(oc));
+            final double[] throttledTime = metrics.getThrottledTime(oc);
+            System.out.printf(
+                "\toc%.0f | max vCPUs: %d | max reserved PEs: %d | delivered/demanded MIPS: %.2f%% | throttled time: %.0fs%n",
+                oc, maxVcpus, maxReservedPes, demanded > 0 ? delivered/demanded*100 : 100, throttledTime[throttledTime.length-1]);
+        }
+    }
+
+    /**
+     * Integrates a time series of MIPS samples taken at irregular intervals,
+     * where each sample holds until the time of the next one.
+     * @param times the time of each sample
+     * @param mips the MIPS of each sample
+     * @return the total MI over the time covered by the samples
+     */
+    private static double integrate(double[] times, double[] mips) {
+        double total = 0;
+        for(int i = 0; i < times.length - 1; i++){
+            total += mips[i] * (times[i+1] - times[i]);
+        }
+        return total;
     }
 
     private double getVmRequestedMips(Cloudlet c) {
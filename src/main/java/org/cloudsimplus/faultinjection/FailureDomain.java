@@ -0,0 +1,60 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.faultinjection;
+
+import lombok.NonNull;
+import org.cloudsimplus.hosts.Host;
+
+import java.util.List;
+
+/**
+ * A group of {@link Host}s sharing a common point of failure,
+ * such as a rack, a power domain or a network switch,
+ * which fail all together when a fault is injected into the domain.
+ *
+ * @param name the name of the domain
+ * @param hostList the Hosts that fail together
+ * @see HostFaultInjection#addFailureDomain(FailureDomain)
+ * @since CloudSim Plus 8.5.0
+ */
+public record FailureDomain(@NonNull String name, @NonNull List<Host> hostList) {
+    /**
+     * Creates a failure domain.
+     * @param name the name of the domain
+     * @param hostList the Hosts that fail together
+     * @throws IllegalArgumentException when the Host list is empty
+     */
+    public FailureDomain {
+        if (hostList.isEmpty()) {
+            throw new IllegalArgumentException("A failure domain must have at least one Host.");
+        }
+
+        hostList = List.copyOf(hostList);
+    }
+
+    @Override
+    public String toString() {
+        return "FailureDomain %s (%d Hosts)".formatted(name, hostList.size());
+    }
+}
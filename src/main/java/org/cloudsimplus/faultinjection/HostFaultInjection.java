@@ -26,6 +26,7 @@ package org.cloudsimplus.faultinjection;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
 import org.cloudsimplus.brokers.DatacenterBroker;
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.core.CloudSimEntity;
@@ -79,6 +80,15 @@ import static org.cloudsimplus.util.Conversion.HUNDRED_PERCENT;
  * </p>
  *
  * <p>
+ * If {@link FailureDomain}s are {@link #addFailureDomain(FailureDomain) added},
+ * each injected fault makes all Hosts of a randomly selected domain fail together,
+ * simulating correlated failures such as a rack or power outage.
+ * In such a case, the affected VMs can be re-placed into the remaining Hosts
+ * through a single batched allocation request
+ * (see {@link #setBatchEvacuationEnabled(boolean)}).
+ * </p>
+ *
+ * <p>
  * When Host's PEs fail, if there are more available PEs
  * than the required by its running VMs, no VM will be affected.
  * </p>
@@ -233,6 +243,35 @@ public class HostFaultInjection extends CloudSimEntity {
     @Getter @Setter
     private double maxTimeToFailInHours;
 
+    /**
+     * The groups of Hosts which fail together.
+     * @see #addFailureDomain(FailureDomain)
+     */
+    private final List<FailureDomain> failureDomains;
+
+    /**
+     * The total number of faults injected into {@link FailureDomain}s.
+     */
+    @Getter
+    private int domainFaultsNumber;
+
+    /**
+     * Indicates if VMs affected by a {@link FailureDomain} fault are re-placed
+     * into the remaining Hosts, through a single batched call to the Datacenter's
+     * {@link org.cloudsimplus.allocationpolicies.VmAllocationPolicy},
+     * instead of being destroyed.
+     * VMs which cannot be re-placed are destroyed as usual (and cloned if a {@link VmCloner} is set).
+     */
+    @Getter @Setter
+    private boolean batchEvacuationEnabled;
+
+    /**
+     * The total number of VMs re-placed into other Hosts after a {@link FailureDomain} fault.
+     * @see #setBatchEvacuationEnabled(boolean)
+     */
+    @Getter
+    private int evacuatedVmsNumber;
+
     /**
      * Creates a fault injection mechanism for the Hosts of a given {@link Datacenter}.
      * The Hosts failures are randomly injected according to a {@link UniformDistr}
@@ -270,6 +309,7 @@ public class HostFaultInjection extends CloudSimEntity {
         this.vmFaultsByBroker = new HashMap<>();
         this.vmClonerMap = new HashMap<>();
         this.maxTimeToFailInHours = Double.MAX_VALUE;
+        this.failureDomains = new ArrayList<>();
     }
 
     @Override
@@ -371,8 +411,10 @@ public class HostFaultInjection extends CloudSimEntity {
      */
     private void generateHostFaultAndScheduleNext() {
         try {
-            final Host host = getRandomHost();
-            generateHostFault(host, randomFailedPesNumber(host));
+            if (failureDomains.isEmpty()) {
+                final Host host = getRandomHost();
+                generateHostFault(host, randomFailedPesNumber(host));
+            } else generateDomainFault(getRandomFailureDomain());
         } finally {
             //schedules the next failure injection try
             scheduleFaultInjection();
@@ -401,6 +443,108 @@ public class HostFaultInjection extends CloudSimEntity {
         return datacenter.getHost(idx);
     }
 
+    /**
+     * Randomly gets a {@link FailureDomain} whose Hosts will fail.
+     * @return the randomly selected domain
+     */
+    private FailureDomain getRandomFailureDomain() {
+        final int idx = (int) (random.sample() * failureDomains.size());
+        return failureDomains.get(idx);
+    }
+
+    /**
+     * Generates a correlated fault for all PEs of all Hosts inside a {@link FailureDomain}.
+     * If {@link #isBatchEvacuationEnabled() batch evacuation is enabled},
+     * the affected VMs are re-placed into the remaining Hosts through a single call to
+     * {@link org.cloudsimplus.allocationpolicies.VmAllocationPolicy#allocateHostForVm(List)}.
+     * Otherwise (or for VMs that cannot be re-placed), VMs are destroyed
+     * as when a single Host fails.
+     * If all Hosts in the domain have already failed, no new fault is generated.
+     *
+     * @param domain the domain to generate the fault to
+     */
+    public void generateDomainFault(@NonNull final FailureDomain domain) {
+        final int previousHostFaultsNumber = hostFaultsNumber;
+        final var affectedVms = new ArrayList<Vm>();
+        for (final Host host : domain.hostList()) {
+            if (host.getWorkingPesNumber() == 0) {
+                continue;
+            }
+
+            this.lastFailedHost = host;
+            hostFaultsNumber++;
+            registerHostFaultTime();
+            this.lastFailedPesNumber = generateHostPesFaults(host.getWorkingPesNumber());
+            host.getVmList().stream().filter(Vm::isWorking).forEach(affectedVms::add);
+        }
+
+        if (hostFaultsNumber == previousHostFaultsNumber) {
+            LOGGER.debug(
+                "{}: {}: All Hosts from {} had already failed. No new fault generated.",
+                getSimulation().clockStr(), getClass().getSimpleName(), domain);
+            return;
+        }
+
+        domainFaultsNumber++;
+        LOGGER.error(
+            "{}: {}: All Hosts from {} failed at {}, affecting {} VMs.",
+            getSimulation().clockStr(), getClass().getSimpleName(), domain, getTime(), affectedVms.size());
+
+        final var failedVms = batchEvacuationEnabled ? evacuateVms(affectedVms) : affectedVms;
+        setVmListToFailed(failedVms);
+    }
+
+    /**
+     * Re-places VMs from failed Hosts into the remaining ones,
+     * using a single batched allocation request to the Datacenter's VM allocation policy.
+     *
+     * @param vms the VMs to re-place
+     * @return the list of VMs that could not be re-placed
+     */
+    private List<Vm> evacuateVms(final List<Vm> vms) {
+        if (vms.isEmpty()) {
+            return vms;
+        }
+
+        final var policy = datacenter.getVmAllocationPolicy();
+        vms.forEach(policy::deallocateHostForVm);
+        try {
+            policy.allocateHostForVm(vms);
+        } catch (final IllegalStateException e) {
+            /*The policy throws it when there is no suitable Host for some VM, stopping the whole batch.
+            * Since the policy may place the batch in any order, the VMs not placed yet are tried one by one
+            * to find out which ones actually can't be placed.*/
+            vms.stream().filter(Predicate.not(Vm::isCreated)).forEach(vm -> evacuateVm(policy, vm));
+        }
+
+        final var notEvacuatedVms = new ArrayList<Vm>();
+        for (final Vm vm : vms) {
+            if (vm.isCreated()) {
+                vm.getBroker().restoreRunningVm(vm);
+                evacuatedVmsNumber++;
+            } else notEvacuatedVms.add(vm);
+        }
+
+        LOGGER.info(
+            "{}: {}: {} VMs evacuated from failed Hosts and {} could not be re-placed.",
+            getSimulation().clockStr(), getClass().getSimpleName(),
+            vms.size() - notEvacuatedVms.size(), notEvacuatedVms.size());
+        return notEvacuatedVms;
+    }
+
+    /**
+     * Tries to place a single VM evacuated from a failed Host.
+     * @param policy the policy to place the VM
+     * @param vm the VM to place
+     */
+    private static void evacuateVm(final VmAllocationPolicy policy, final Vm vm) {
+        try {
+            policy.allocateHostForVm(vm);
+        } catch (final IllegalStateException e) {
+            //There is no suitable Host for the VM, which is then kept as not created
+        }
+    }
+
     /**
      * Sets all VMs inside the {@link #getLastFailedHost() last failed Host} to
      * failed, when all Host PEs have failed.
@@ -880,6 +1024,32 @@ public class HostFaultInjection extends CloudSimEntity {
         this.vmClonerMap.put(broker, cloner);
     }
 
+    /**
+     * Adds a group of Hosts which fail together.
+     * When some failure domain is added, each injected fault makes all Hosts
+     * of a randomly selected domain fail, instead of some PEs of a single random Host.
+     *
+     * @param domain the failure domain to add
+     * @throws IllegalArgumentException when some Host from the domain doesn't belong to the {@link #getDatacenter() Datacenter}
+     * @see #generateDomainFault(FailureDomain)
+     * @see #setBatchEvacuationEnabled(boolean)
+     */
+    public void addFailureDomain(@NonNull final FailureDomain domain) {
+        if (domain.hostList().stream().anyMatch(host -> host.getDatacenter() != datacenter)) {
+            throw new IllegalArgumentException("All Hosts of %s must belong to %s.".formatted(domain, datacenter));
+        }
+
+        this.failureDomains.add(domain);
+    }
+
+    /**
+     * {@return a read-only list} of groups of Hosts which fail together.
+     * @see #addFailureDomain(FailureDomain)
+     */
+    public List<FailureDomain> getFailureDomains() {
+        return Collections.unmodifiableList(failureDomains);
+    }
+
     /**
      * Gets a Pseudo Random Number used to give a
      * recovery time (in seconds) for each VM that was failed.
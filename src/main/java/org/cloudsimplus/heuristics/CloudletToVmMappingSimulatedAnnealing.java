@@ -32,6 +32,7 @@ import org.cloudsimplus.distributions.ContinuousDistribution;
 import org.cloudsimplus.vms.Vm;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A heuristic that uses <a href="http://en.wikipedia.org/wiki/Simulated_annealing">Simulated Annealing</a>
@@ -49,7 +50,7 @@ public class CloudletToVmMappingSimulatedAnnealing
     /**
      * Number of {@link CloudletToVmMappingSolution} created so far.
      */
-    private static int solutions = 0;
+    private static final AtomicInteger solutions = new AtomicInteger();
 
     private CloudletToVmMappingSolution initialSolution;
 
@@ -70,11 +71,11 @@ public class CloudletToVmMappingSimulatedAnnealing
     public CloudletToVmMappingSimulatedAnnealing(final double initialTemperature, final ContinuousDistribution random) {
         super(random, CloudletToVmMappingSolution.class);
 	    setCurrentTemperature(initialTemperature);
-        initialSolution = new CloudletToVmMappingSolution(this, ++solutions);
+        initialSolution = new CloudletToVmMappingSolution(this, solutions.incrementAndGet());
     }
 
     private CloudletToVmMappingSolution generateRandomSolution() {
-        final var solution = new CloudletToVmMappingSolution(this, ++solutions);
+        final var solution = new CloudletToVmMappingSolution(this, solutions.incrementAndGet());
         cloudletList.forEach(cloudlet -> solution.bindCloudletToVm(cloudlet, getRandomVm()));
         return solution;
     }
@@ -106,16 +107,31 @@ public class CloudletToVmMappingSimulatedAnnealing
 
     @Override
     public CloudletToVmMappingSolution createNeighbor(final CloudletToVmMappingSolution source) {
-        final var clone = new CloudletToVmMappingSolution(source, ++solutions);
+        final var clone = new CloudletToVmMappingSolution(source, solutions.incrementAndGet());
         clone.swapVmsOfTwoRandomSelectedMapEntries();
         return clone;
     }
 
+    @Override
+    protected CloudletToVmMappingSimulatedAnnealing createChain(final ContinuousDistribution random) {
+        final var chain = new CloudletToVmMappingSimulatedAnnealing(getCurrentTemperature(), random);
+        chain.setColdTemperature(getColdTemperature());
+        chain.setCoolingRate(getCoolingRate());
+        chain.setCloudletList(cloudletList);
+        chain.setVmList(vmList);
+        return chain;
+    }
+
+    @Override
+    protected CloudletToVmMappingSolution copySolution(final CloudletToVmMappingSolution solution) {
+        return new CloudletToVmMappingSolution(this, solution, solutions.incrementAndGet());
+    }
+
     /**
      * {@return the number of solutions created so far}
      * At the end of the simulations, it indicates the total number of solutions created.
      */
     public static int getSolutions() {
-        return solutions;
+        return solutions.get();
     }
 }
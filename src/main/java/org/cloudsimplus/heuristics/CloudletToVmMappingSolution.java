@@ -29,14 +29,17 @@ import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.vms.Vm;
 
 import java.util.*;
-import java.util.stream.Collectors;
-
-import static java.util.stream.Collectors.groupingBy;
 
 /**
  * A possible solution for mapping a set of Cloudlets to a set of Vm's.
  * It represents a solution generated using a {@link Heuristic} implementation.
  *
+ * <p>The solution keeps the total number of PEs required by the Cloudlets mapped to each VM,
+ * updating such aggregates and the solution cost whenever a Cloudlet is moved to another VM.
+ * That way, swapping the VMs of two Cloudlets to create a neighbor solution
+ * requires updating just the cost of the two affected VMs,
+ * instead of computing the cost of all VMs again.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @see Heuristic
  * @since CloudSim Plus 1.0
@@ -56,21 +59,48 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      */
     private final Map<Cloudlet, Vm> cloudletVmMap;
 
+    /**
+     * The Cloudlets in the {@link #cloudletVmMap}, in the order they were added,
+     * enabling random selection of Cloudlets in constant time.
+     */
+    private final List<Cloudlet> cloudlets;
+
+    /**
+     * Maps each VM to the aggregated data of the Cloudlets mapped to it.
+     */
+    private final Map<Vm, VmLoad> vmLoads;
+
+    /**
+     * The aggregated data of the Cloudlets mapped to a VM.
+     */
+    private static final class VmLoad {
+        /** The number of Cloudlets mapped to the VM. */
+        private int cloudlets;
+
+        /** The total number of PEs required by the Cloudlets mapped to the VM. */
+        private long pes;
+
+        private VmLoad() {/**/}
+
+        private VmLoad(final VmLoad source) {
+            this.cloudlets = source.cloudlets;
+            this.pes = source.pes;
+        }
+    }
+
     /** @see #getId() */
     private final int id;
 
     /**
-     * Indicates if the {@link #getCost()} has to be recomputed
-     * due to changes in {@link #cloudletVmMap}.
-     * When it is computed, its value is stored to be used
-     * in subsequent calls, until the map is changed again, in order to
-     * improve performance.
+     * Indicates if the {@link #getCost()} has to be recomputed from the entire {@link #cloudletVmMap}.
+     * Changes performed through {@link #bindCloudletToVm(Cloudlet, Vm)} incrementally update the cost,
+     * so that it just needs to be recomputed if the map is changed in a different way.
      */
     private boolean recomputeCost = true;
 
     /**
-     * The last computed cost value, since the
-     * last time the {@link #cloudletVmMap} was changed.
+     * The last computed cost value, which is updated every time
+     * a Cloudlet is bound to a VM.
      * @see #getCost()
      * @see #recomputeCost
      */
@@ -103,6 +133,8 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
     private CloudletToVmMappingSolution(@NonNull final Heuristic heuristic, @NonNull final Map<Cloudlet, Vm> cloudletVmMap, final int id){
         this.heuristic = heuristic;
         this.cloudletVmMap = cloudletVmMap;
+        this.cloudlets = new ArrayList<>(cloudletVmMap.keySet());
+        this.vmLoads = new HashMap<>();
         this.id = id;
     }
 
@@ -113,10 +145,27 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @param id unique solution id to identify the index of the solution inside the set of all solutions created
      */
     public CloudletToVmMappingSolution(@NonNull final CloudletToVmMappingSolution solution, final int id){
-        this(solution.heuristic, new HashMap<>(solution.cloudletVmMap), id);
+        this(solution.heuristic, solution, id);
+    }
+
+    /**
+     * Clones a given solution, binding the clone to another heuristic.
+     * This way, neighbors of the clone are randomly generated by the given heuristic
+     * (such as another chain of a parallel search).
+     *
+     * @param heuristic the heuristic implementation the cloned solution will belong to
+     * @param solution the solution to be cloned
+     * @param id unique solution id to identify the index of the solution inside the set of all solutions created
+     */
+    public CloudletToVmMappingSolution(
+        final Heuristic heuristic, @NonNull final CloudletToVmMappingSolution solution, final int id)
+    {
+        this(heuristic, new HashMap<>(solution.cloudletVmMap), id);
+        this.cloudlets.clear();
+        this.cloudlets.addAll(solution.cloudlets);
+        solution.vmLoads.forEach((vm, load) -> this.vmLoads.put(vm, new VmLoad(load)));
         this.recomputeCost = solution.recomputeCost;
         this.lastCost = solution.lastCost;
-        this.cloudletVmMap.putAll(solution.cloudletVmMap);
     }
 
     /**
@@ -134,8 +183,30 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @param vm the Vm to assign a cloudlet to
      */
     public void bindCloudletToVm(@NonNull final Cloudlet cloudlet, @NonNull final Vm vm){
-        cloudletVmMap.put(cloudlet, vm);
-        recomputeCost = true;
+        final Vm previousVm = cloudletVmMap.put(cloudlet, vm);
+        if (previousVm == null) {
+            cloudlets.add(cloudlet);
+        } else {
+            updateVmLoad(previousVm, -1, -cloudlet.getPesNumber());
+        }
+
+        updateVmLoad(vm, 1, cloudlet.getPesNumber());
+    }
+
+    /**
+     * Updates the load of a VM after a Cloudlet is added to or removed from it,
+     * replacing the cost of that VM inside the solution cost.
+     *
+     * @param vm the VM to update
+     * @param cloudlets the number of Cloudlets added (positive) or removed (negative)
+     * @param pes the number of Cloudlet PEs added (positive) or removed (negative)
+     */
+    private void updateVmLoad(final Vm vm, final int cloudlets, final long pes) {
+        final var load = vmLoads.computeIfAbsent(vm, key -> new VmLoad());
+        lastCost -= getVmCost(vm, load);
+        load.cloudlets += cloudlets;
+        load.pes += pes;
+        lastCost += getVmCost(vm, load);
     }
 
     private void recomputeCostIfRequested() {
@@ -145,25 +216,25 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
         }
     }
 
-    private double computeCostOfAllVms() {
-        return groupCloudletsByVm()
-                .entrySet()
-                .stream()
-                .mapToDouble(this::getVmCost)
-                .sum();
-    }
-
     /**
-     * Gets a Map of Cloudlets grouped by their VMs,
-     * where each key is a VM and the value is a List of Map Entries
-     * containing the Cloudlets running in that VM.
-     * @return
+     * Computes the cost of all VMs from the entire {@link #cloudletVmMap},
+     * rebuilding the load of every VM.
+     * @return the cost of the entire mapping between VMs and Cloudlets
      */
-    private Map<Vm, List<Map.Entry<Cloudlet, Vm>>> groupCloudletsByVm() {
-        return cloudletVmMap
-                .entrySet()
-                .stream()
-                .collect(groupingBy(Map.Entry::getValue));
+    private double computeCostOfAllVms() {
+        vmLoads.clear();
+        for (final var entry : cloudletVmMap.entrySet()) {
+            final var load = vmLoads.computeIfAbsent(entry.getValue(), key -> new VmLoad());
+            load.cloudlets++;
+            load.pes += entry.getKey().getPesNumber();
+        }
+
+        double cost = 0;
+        for (final var entry : vmLoads.entrySet()) {
+            cost += getVmCost(entry.getKey(), entry.getValue());
+        }
+
+        return cost;
     }
 
     /**
@@ -218,6 +289,19 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
         return Math.abs(vm.getPesNumber() - getTotalCloudletsPes(cloudlets));
     }
 
+    /**
+     * Computes the cost of all Cloudlets hosted by a given Vm from its load.
+     * A VM hosting no Cloudlet has no cost.
+     *
+     * @param vm the VM to compute the cost
+     * @param load the load of the VM
+     * @return the VM cost to host the Cloudlets
+     * @see #getVmCost(Vm, List)
+     */
+    private double getVmCost(final Vm vm, final VmLoad load) {
+        return load.cloudlets == 0 ? 0 : Math.abs(vm.getPesNumber() - load.pes);
+    }
+
     private List<Cloudlet> convertMapEntryListToCloudletList(final List<Map.Entry<Cloudlet, Vm>> entriesList) {
         return entriesList
             .stream()
@@ -276,6 +360,10 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * cloudlet of the first entry to the Vm of the second entry
      * and vice-versa.</p>
      *
+     * <p>If the entries were provided by {@link #getRandomMapEntries()},
+     * the cost of just the two affected VMs is updated.
+     * Otherwise, the cost of the entire solution will be recomputed.</p>
+     *
      * @param entries a List of 2 entries containing Cloudlets to swap their VMs.
      * If the entries don't have 2 elements, the method will
      * return without performing any change in the entries.
@@ -291,7 +379,11 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
         entries.get(0).setValue(vm1);
         entries.get(1).setValue(vm0);
 
-        return recomputeCost = true;
+        if(!(entries.get(0) instanceof MappingEntry && entries.get(1) instanceof MappingEntry)) {
+            recomputeCost = true;
+        }
+
+        return true;
     }
 
     /**
@@ -312,6 +404,7 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
 
     /**
      * Try to get 2 randomly selected entries from the {@link #cloudletVmMap}.
+     * Changing the VM of a returned entry binds its Cloudlet to such a VM inside this solution.
      *
      * @return a List with 2 entries from the {@link #cloudletVmMap} if the map size is at least 2;
      *         a unitary List if the map has only 1 entry;
@@ -320,11 +413,11 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @see #swapVmsOfTwoMapEntries(List)
      */
     protected List<Map.Entry<Cloudlet, Vm>> getRandomMapEntries() {
-        if(cloudletVmMap.isEmpty()) {
+        if(cloudlets.isEmpty()) {
             return new ArrayList<>();
         }
 
-        if(cloudletVmMap.size() == 1) {
+        if(cloudlets.size() == 1) {
             return createListWithFirstMapEntry();
         }
 
@@ -333,47 +426,90 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
 
     /**
      * Creates a List using only the first entry in the {@link #cloudletVmMap}.
-     * @return a single-entry List with either the first {@link #cloudletVmMap} entry,
-     *         or an empty List in case no entry is found.
+     * @return a single-entry List with the first {@link #cloudletVmMap} entry
      */
     private List<Map.Entry<Cloudlet, Vm>> createListWithFirstMapEntry() {
-        return cloudletVmMap
-                .entrySet()
-                .stream()
-                .limit(1)
-                .collect(Collectors.toList());
+        final List<Map.Entry<Cloudlet, Vm>> selected = new ArrayList<>(1);
+        selected.add(new MappingEntry(cloudlets.get(0)));
+        return selected;
     }
 
     /**
      * Creates a List with 2 randomly selected entries from the {@link #cloudletVmMap}.
      * The way the method is called is ensured there is at least to entries
      * in the {@link #cloudletVmMap}.
+     * Since Cloudlets are stored in a List, the entries are selected in constant time.
      *
      * @return a List with the 2 randomly selected entries
+     *         (or a single entry if the same one is randomly selected twice)
      */
     private List<Map.Entry<Cloudlet, Vm>> createListWithTwoRandomEntries() {
-        final int size = cloudletVmMap.entrySet().size();
+        final int size = cloudlets.size();
         final int firstIdx = heuristic.getRandomValue(size);
         final int secondIdx = heuristic.getRandomValue(size);
 
         final List<Map.Entry<Cloudlet, Vm>> selected = new ArrayList<>(2);
-        final var entryIterator = cloudletVmMap.entrySet().iterator();
-
-        /*
-        Loop over the entries until those defined by the first and second index
-        are found and added to the List.
-        Since Map doesn't have an index, we can't access the ith entry directly.
-        This loop ensures we iterate the least number of times
-        until finding the required entries, without creating
-        a List with all entries in order to get just two of them.
-        */
-        for(int i = 0; selected.size() < 2 && entryIterator.hasNext(); i++){
-            final Map.Entry<Cloudlet, Vm> solution = entryIterator.next();
-            if(i == firstIdx || i == secondIdx){
-                selected.add(solution);
-            }
+        selected.add(new MappingEntry(cloudlets.get(Math.min(firstIdx, secondIdx))));
+        if(firstIdx != secondIdx){
+            selected.add(new MappingEntry(cloudlets.get(Math.max(firstIdx, secondIdx))));
         }
 
         return selected;
     }
+
+    /**
+     * A Map Entry representing the VM a Cloudlet is mapped to inside this solution.
+     * Setting its value binds the Cloudlet to another VM,
+     * incrementally updating the solution cost.
+     */
+    private final class MappingEntry implements Map.Entry<Cloudlet, Vm> {
+        private final Cloudlet cloudlet;
+
+        private MappingEntry(final Cloudlet cloudlet) {
+            this.cloudlet = cloudlet;
+        }
+
+        @Override
+        public Cloudlet getKey() {
+            return cloudlet;
+        }
+
+        @Override
+        public Vm getValue() {
+            return cloudletVmMap.get(cloudlet);
+        }
+
+        @Override
+        public Vm setValue(final Vm vm) {
+            final Vm previousVm = getValue();
+            bindCloudletToVm(cloudlet, vm);
+            return previousVm;
+        }
+
+        /**
+         * {@inheritDoc}
+         * Follows the {@link Map.Entry#equals(Object)} contract,
+         * comparing the key and the current value of both entries.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Map.Entry<?, ?> entry &&
+                   Objects.equals(cloudlet, entry.getKey()) &&
+                   Objects.equals(getValue(), entry.getValue());
+        }
+
+        /**
+         * {@inheritDoc}
+         * Follows the {@link Map.Entry#hashCode()} contract.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(cloudlet) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return cloudlet + "=" + getValue();
+        }
+    }
 }
@@ -143,9 +143,6 @@ public interface Heuristic<S extends HeuristicSolution<?>> {
 	 *
 	 * @return the final solution
 	 * @see #getBestSolutionSoFar()
-     *
-	 * TODO Try to parallelize the solution finding in order
-     *      to reduce search time using Parallel Streams.
 	 */
 	S solve();
 
@@ -29,12 +29,24 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.cloudsimplus.distributions.ContinuousDistribution;
+import org.cloudsimplus.distributions.UniformDistr;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * An abstract class for {@link Heuristic} implementations.
  *
+ * <p>The search can be performed by multiple independent chains in parallel
+ * (a multi-start search) by {@link #setChains(int) setting the number of chains}.
+ * Each chain starts from its own random solution and uses a separately seeded random number generator,
+ * running on the common {@link java.util.concurrent.ForkJoinPool}.
+ * After every {@link #getExchangeInterval() exchange interval},
+ * the worst chain restarts from the best solution found so far by any chain,
+ * while the other ones keep exploring their own regions of the search space.
+ * Subclasses create such chains by implementing {@link #createChain(ContinuousDistribution)}.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @param <S> The {@link HeuristicSolution class of solutions} the heuristic will deal with.
  *            It starts with an initial
@@ -68,6 +80,19 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 
 	private double solveTime;
 
+    /**
+     * The number of independent search chains run in parallel when {@link #solve() solving} the problem.
+     * @see #setChains(int)
+     */
+    private int chains;
+
+    /**
+     * The number of iterations each chain performs before
+     * the best solution is exchanged among {@link #getChains() chains}.
+     * @see #setExchangeInterval(int)
+     */
+    private int exchangeInterval;
+
 	/**
 	 * Creates a heuristic.
 	 *
@@ -78,6 +103,8 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
         this.random = random;
         this.solutionClass = solutionClass;
 		this.searchesByIteration = 1;
+        this.chains = 1;
+        this.exchangeInterval = 100;
 		setBestSolutionSoFar(newSolutionInstance());
 		setNeighborSolution(bestSolutionSoFar);
 	}
@@ -115,19 +142,159 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 		return (int)(uniform >= 1 ? uniform % maxValue : uniform * maxValue);
 	}
 
+    /**
+     * Sets the number of independent search chains run in parallel when {@link #solve() solving} the problem.
+     *
+     * @param chains the number of chains to set (1 means a sequential search)
+     * @return this heuristic
+     */
+    public HeuristicAbstract<S> setChains(final int chains) {
+        if (chains < 1) {
+            throw new IllegalArgumentException("The number of chains must be at least 1.");
+        }
+
+        this.chains = chains;
+        return this;
+    }
+
+    /**
+     * Sets the number of iterations each chain performs before
+     * the best solution is exchanged among {@link #getChains() chains}.
+     *
+     * @param exchangeInterval the number of iterations to set
+     * @return this heuristic
+     */
+    public HeuristicAbstract<S> setExchangeInterval(final int exchangeInterval) {
+        if (exchangeInterval < 1) {
+            throw new IllegalArgumentException("The exchange interval must be at least 1.");
+        }
+
+        this.exchangeInterval = exchangeInterval;
+        return this;
+    }
+
 	@Override
 	public S solve() {
 		final long startTime = System.currentTimeMillis();
 		setBestSolutionSoFar(getInitialSolution());
-		while (!isToStopSearch()) {
-            searchSolutionInNeighborhood();
-            updateSystemState();
-		}
+        if (chains > 1) {
+            solveInParallel();
+        } else {
+            searchSolution(Integer.MAX_VALUE);
+        }
 		setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
 
 		return bestSolutionSoFar;
 	}
 
+    /**
+     * Searches for a solution until the search can be stopped
+     * or a given number of iterations is reached.
+     * @param maxIterations the maximum number of iterations to perform
+     */
+    private void searchSolution(final int maxIterations) {
+        for (int i = 0; i < maxIterations && !isToStopSearch(); i++) {
+            searchSolutionInNeighborhood();
+            updateSystemState();
+        }
+    }
+
+    /**
+     * Searches for a solution using multiple chains in parallel,
+     * where this heuristic is the first chain.
+     * Chains run until all of them can be stopped,
+     * exchanging the best solution after every {@link #getExchangeInterval() interval}.
+     */
+    private void solveInParallel() {
+        final List<HeuristicAbstract<S>> chainList = createChains();
+        while (!chainList.stream().allMatch(HeuristicAbstract::isToStopSearch)) {
+            chainList.parallelStream().forEach(chain -> chain.searchSolution(exchangeInterval));
+            exchangeBestSolution(chainList);
+        }
+
+        chainList.stream().skip(1).forEach(this::mergeChain);
+    }
+
+    /**
+     * Creates the chains to search for a solution in parallel,
+     * each one using a random number generator seeded from the seed of this heuristic.
+     * @return the list of chains, including this heuristic as the first one
+     */
+    private List<HeuristicAbstract<S>> createChains() {
+        final List<HeuristicAbstract<S>> chainList = new ArrayList<>(chains);
+        chainList.add(this);
+        for (int i = 1; i < chains; i++) {
+            final var chain = createChain(new UniformDistr(0, 1, random.getSeed() + i));
+            chain.searchesByIteration = searchesByIteration;
+            chain.setBestSolutionSoFar(chain.getInitialSolution());
+            chainList.add(chain);
+        }
+
+        return chainList;
+    }
+
+    /**
+     * Makes the chain with the worst solution restart from a copy of the best solution among all chains.
+     * Other chains keep their own solutions, so that the search doesn't collapse into a single region.
+     * @param chainList the list of chains
+     */
+    private void exchangeBestSolution(final List<HeuristicAbstract<S>> chainList) {
+        var best = chainList.get(0);
+        var worst = best;
+        for (final var chain : chainList) {
+            final double cost = chain.bestSolutionSoFar.getCost();
+            if (cost < best.bestSolutionSoFar.getCost()) {
+                best = chain;
+            }
+
+            if (cost > worst.bestSolutionSoFar.getCost()) {
+                worst = chain;
+            }
+        }
+
+        if (worst.bestSolutionSoFar.getCost() > best.bestSolutionSoFar.getCost()) {
+            worst.setBestSolutionSoFar(worst.copySolution(best.bestSolutionSoFar));
+        }
+    }
+
+    /**
+     * Creates a new independent chain to search for a solution in parallel with this heuristic.
+     * The chain must be configured for the same problem and have the same settings as this heuristic,
+     * except the random number generator. It must not share mutable state with other chains.
+     *
+     * @param random the random number generator for the chain
+     * @return the new chain
+     * @see #setChains(int)
+     */
+    protected abstract HeuristicAbstract<S> createChain(ContinuousDistribution random);
+
+    /**
+     * Merges the result of another chain into this heuristic after all
+     * {@link #setChains(int) chains} finished searching,
+     * so that the solution returned by {@link #solve()} is the best one among all chains.
+     * Subclasses keeping other solutions along the search must override it to merge them too.
+     *
+     * @param chain the chain to merge the result from
+     */
+    protected void mergeChain(final HeuristicAbstract<S> chain) {
+        if (chain.bestSolutionSoFar.getCost() < bestSolutionSoFar.getCost()) {
+            setBestSolutionSoFar(copySolution(chain.bestSolutionSoFar));
+        }
+    }
+
+    /**
+     * Copies a solution found by another chain so that it can be used by this heuristic
+     * when {@link #setChains(int) multiple chains} are used.
+     * The default implementation just returns the given solution,
+     * which is enough if solutions don't keep any reference to the heuristic that created them.
+     *
+     * @param solution the solution to copy
+     * @return the copy of the solution belonging to this heuristic
+     */
+    protected S copySolution(final S solution) {
+        return solution;
+    }
+
     private void searchSolutionInNeighborhood() {
         for (int i = 0; i < searchesByIteration; i++) {
             setNeighborSolution(createNeighbor(bestSolutionSoFar));
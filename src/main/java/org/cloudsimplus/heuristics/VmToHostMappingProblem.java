@@ -0,0 +1,175 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudsimplus.hosts.HostMultiClusters;
+import org.cloudsimplus.schedulers.vm.VmSchedulerMultiClusters;
+import org.cloudsimplus.vms.VmOversubscribable;
+
+import java.util.List;
+
+/**
+ * The immutable data of a problem of placing a batch of {@link VmOversubscribable} VMs into {@link HostMultiClusters},
+ * shared among all solutions (and search chains) of a {@link VmToHostMappingSimulatedAnnealing}.
+ *
+ * <p>Hosts and VMs are identified by their index into the given lists.
+ * The state of each host is represented by the number of vCPUs and VMs in each vCluster
+ * (stored in flat arrays with {@link #LEVELS} elements per host) and the allocated RAM,
+ * so that solutions can evaluate a host without actually allocating VMs.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class VmToHostMappingProblem {
+    /**
+     * The number of vCluster oversubscription levels considered to compute the physical footprint of a host.
+     * @see VmSchedulerMultiClusters#getUsedResources(long[], int[], int)
+     */
+    static final int LEVELS = 3;
+
+    /**
+     * A problem with no hosts and VMs.
+     */
+    static final VmToHostMappingProblem EMPTY = new VmToHostMappingProblem(List.of(), List.of(), 0);
+
+    final List<HostMultiClusters> hosts;
+    final List<VmOversubscribable> vms;
+
+    /**
+     * The weight of the relative distance between the CPU/RAM ratio of a host and its ideal ratio,
+     * when computing the cost of the host.
+     */
+    private final double ratioWeight;
+
+    private final VmSchedulerMultiClusters[] schedulers;
+
+    /** The number of vCPUs already allocated in each vCluster of each host. */
+    final long[] vcpus;
+
+    /** The number of VMs already placed into each vCluster of each host. */
+    final int[] vmCounts;
+
+    /** The RAM already allocated in each host. */
+    final long[] ram;
+
+    private final long[] ramCapacity;
+    private final long[] workingPes;
+    private final float[] idealRatio;
+
+    /** The index of the vCluster of each VM or -1 if the VM isn't considered in the host footprint. */
+    final int[] vmLevels;
+    final long[] vmPes;
+    final long[] vmRam;
+
+    VmToHostMappingProblem(final List<HostMultiClusters> hosts, final List<VmOversubscribable> vms, final double ratioWeight) {
+        this.hosts = hosts;
+        this.vms = vms;
+        this.ratioWeight = ratioWeight;
+
+        final int hostsNumber = hosts.size();
+        this.schedulers = new VmSchedulerMultiClusters[hostsNumber];
+        this.vcpus = new long[hostsNumber * LEVELS];
+        this.vmCounts = new int[hostsNumber * LEVELS];
+        this.ram = new long[hostsNumber];
+        this.ramCapacity = new long[hostsNumber];
+        this.workingPes = new long[hostsNumber];
+        this.idealRatio = new float[hostsNumber];
+        for (int host = 0; host < hostsNumber; host++) {
+            final var hostMultiClusters = hosts.get(host);
+            schedulers[host] = (VmSchedulerMultiClusters) hostMultiClusters.getVmScheduler();
+            for (int level = 0; level < LEVELS; level++) {
+                vcpus[host * LEVELS + level] = schedulers[host].getSizeFor(oversubscriptionLevel(level));
+                vmCounts[host * LEVELS + level] = schedulers[host].getVmCountFor(oversubscriptionLevel(level));
+            }
+
+            ram[host] = hostMultiClusters.getRam().getAllocatedResource();
+            ramCapacity[host] = hostMultiClusters.getRam().getCapacity();
+            workingPes[host] = hostMultiClusters.getWorkingPesNumber();
+            idealRatio[host] = Math.max(hostMultiClusters.getIdealCpuMemRatio(), 1);
+        }
+
+        this.vmLevels = new int[vms.size()];
+        this.vmPes = new long[vms.size()];
+        this.vmRam = new long[vms.size()];
+        for (int vm = 0; vm < vms.size(); vm++) {
+            final var vmOversubscribable = vms.get(vm);
+            vmLevels[vm] = levelIndex(vmOversubscribable.getOversubscriptionLevel());
+            vmPes[vm] = vmOversubscribable.getPesNumber();
+            vmRam[vm] = vmOversubscribable.getRam().getCapacity();
+        }
+    }
+
+    private static Float oversubscriptionLevel(final int levelIndex) {
+        return (float) (levelIndex + 1);
+    }
+
+    private static int levelIndex(final Float oversubscriptionLevel) {
+        for (int level = 0; level < LEVELS; level++) {
+            if (oversubscriptionLevel(level).equals(oversubscriptionLevel)) {
+                return level;
+            }
+        }
+
+        return -1;
+    }
+
+    int getHostsNumber() {
+        return schedulers.length;
+    }
+
+    int getVmsNumber() {
+        return vmLevels.length;
+    }
+
+    /**
+     * Checks if a host state is within the host capacity.
+     * @param host the index of the host
+     * @param vcpus the number of vCPUs in each vCluster of every host
+     * @param vmCounts the number of VMs in each vCluster of every host
+     * @param ram the RAM allocated in every host
+     * @return true if the host physical footprint and RAM don't exceed its capacity, false otherwise
+     */
+    boolean isWithinCapacity(final int host, final long[] vcpus, final int[] vmCounts, final long[] ram) {
+        return ram[host] <= ramCapacity[host] && getUsedResources(host, vcpus, vmCounts) <= workingPes[host];
+    }
+
+    /**
+     * Computes the cost of a host state, which is its physical footprint (in PEs)
+     * plus the weighted relative distance between its CPU/RAM ratio and the ideal one.
+     *
+     * @param host the index of the host
+     * @param vcpus the number of vCPUs in each vCluster of every host
+     * @param vmCounts the number of VMs in each vCluster of every host
+     * @param ram the RAM allocated in every host
+     * @return the host cost
+     */
+    double getHostCost(final int host, final long[] vcpus, final int[] vmCounts, final long[] ram) {
+        final long usedPes = getUsedResources(host, vcpus, vmCounts);
+        final float ratio = hosts.get(host).getCpuMemRatio(usedPes, ram[host]);
+        return usedPes + ratioWeight * Math.abs(ratio - idealRatio[host]) / idealRatio[host];
+    }
+
+    private long getUsedResources(final int host, final long[] vcpus, final int[] vmCounts) {
+        return schedulers[host].getUsedResources(vcpus, vmCounts, host * LEVELS);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.cloudsimplus.distributions.ContinuousDistribution;
+import org.cloudsimplus.hosts.HostMultiClusters;
+import org.cloudsimplus.vms.VmOversubscribable;
+
+import java.util.List;
+
+/**
+ * A heuristic that uses <a href="http://en.wikipedia.org/wiki/Simulated_annealing">Simulated Annealing</a>
+ * to find a suboptimal placement of a batch of {@link VmOversubscribable} VMs into {@link HostMultiClusters}.
+ * It minimises the summed physical footprint of the hosts
+ * (computed by {@link org.cloudsimplus.schedulers.vm.VmSchedulerMultiClusters})
+ * and the distance between the CPU/RAM ratio of each host and its ideal ratio.
+ *
+ * <p>The search starts from a first-fit placement beginning at a random host
+ * and generates neighbor solutions by moving a random VM to another host
+ * (or swapping the hosts of two VMs), evaluating just the two affected hosts.
+ * The number of iterations, and so the search time, is bounded by the
+ * {@link #getCoolingRate() cooling rate} and {@link #getColdTemperature() cold temperature}.
+ * Since worse solutions may be accepted along the search, the solution with the lowest cost
+ * visited is the one returned at the end.</p>
+ *
+ * @see org.cloudsimplus.allocationpolicies.VmAllocationPolicyvCluster#setPlacementHeuristic(VmToHostMappingSimulatedAnnealing)
+ * @since CloudSim Plus 8.5.0
+ */
+public class VmToHostMappingSimulatedAnnealing extends SimulatedAnnealingAbstract<VmToHostMappingSolution> {
+    /**
+     * The temperature the system is reset to every time the heuristic is {@link #solve() solved}.
+     */
+    @Getter
+    private final double initialTemperature;
+
+    /**
+     * The weight of the relative distance between the CPU/RAM ratio of a host and its ideal ratio
+     * in the cost of a solution, which is otherwise given in physical PEs.
+     */
+    @Getter
+    private double ratioWeight;
+
+    @Getter
+    private List<HostMultiClusters> hostList;
+
+    @Getter
+    private List<VmOversubscribable> vmList;
+
+    /**
+     * The problem built from the {@link #hostList} and {@link #vmList} when the heuristic is solved.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private VmToHostMappingProblem problem;
+
+    private VmToHostMappingSolution initialSolution;
+
+    /**
+     * The solution with the lowest cost visited during the search.
+     */
+    private VmToHostMappingSolution lowestCostSolution;
+
+    /**
+     * Creates a new Simulated Annealing Heuristic for placing VMs into hosts.
+     *
+     * @param initialTemperature the system initial temperature
+     * @param random a random number generator
+     * @see #setColdTemperature(double)
+     * @see #setCoolingRate(double)
+     */
+    public VmToHostMappingSimulatedAnnealing(final double initialTemperature, final ContinuousDistribution random) {
+        super(random, VmToHostMappingSolution.class);
+        this.initialTemperature = initialTemperature;
+        this.ratioWeight = 1;
+        this.hostList = List.of();
+        this.vmList = List.of();
+        this.problem = VmToHostMappingProblem.EMPTY;
+        setCurrentTemperature(initialTemperature);
+    }
+
+    /**
+     * Sets the weight of the relative distance between the CPU/RAM ratio of a host and its ideal ratio
+     * in the cost of a solution, which is otherwise given in physical PEs.
+     * @param ratioWeight the weight to set
+     * @return this heuristic
+     */
+    public VmToHostMappingSimulatedAnnealing setRatioWeight(final double ratioWeight) {
+        if (ratioWeight < 0) {
+            throw new IllegalArgumentException("Ratio weight cannot be negative.");
+        }
+
+        this.ratioWeight = ratioWeight;
+        return this;
+    }
+
+    /**
+     * Sets the list of hosts where VMs can be placed.
+     * @param hostList the list to set
+     * @return this heuristic
+     */
+    public VmToHostMappingSimulatedAnnealing setHostList(@NonNull final List<HostMultiClusters> hostList) {
+        this.hostList = hostList;
+        return this;
+    }
+
+    /**
+     * Sets the list of VMs to place into the {@link #getHostList() hosts}.
+     * @param vmList the list to set
+     * @return this heuristic
+     */
+    public VmToHostMappingSimulatedAnnealing setVmList(@NonNull final List<VmOversubscribable> vmList) {
+        this.vmList = vmList;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The current state of the {@link #getHostList() hosts} is captured and
+     * the system temperature is reset to the {@link #getInitialTemperature() initial temperature},
+     * so that the heuristic can be solved again for new batches of VMs.
+     *
+     * @return the solution with the lowest cost visited during the search
+     */
+    @Override
+    public VmToHostMappingSolution solve() {
+        problem = new VmToHostMappingProblem(hostList, vmList, ratioWeight);
+        initialSolution = null;
+        lowestCostSolution = null;
+        setCurrentTemperature(initialTemperature);
+        super.solve();
+
+        keepLowestCostSolution(getInitialSolution());
+        keepLowestCostSolution(getBestSolutionSoFar());
+        setBestSolutionSoFar(lowestCostSolution);
+        return lowestCostSolution;
+    }
+
+    @Override
+    public void updateSystemState() {
+        super.updateSystemState();
+        keepLowestCostSolution(getBestSolutionSoFar());
+    }
+
+    private void keepLowestCostSolution(final VmToHostMappingSolution solution) {
+        if (lowestCostSolution == null || solution.getCost() < lowestCostSolution.getCost()) {
+            lowestCostSolution = solution;
+        }
+    }
+
+    @Override
+    public VmToHostMappingSolution getInitialSolution() {
+        if (initialSolution == null) {
+            initialSolution = new VmToHostMappingSolution(this);
+            if (problem.getHostsNumber() > 0) {
+                initialSolution.placeVmsFirstFit(getRandomValue(problem.getHostsNumber()));
+            }
+        }
+
+        return initialSolution;
+    }
+
+    @Override
+    public VmToHostMappingSolution createNeighbor(final VmToHostMappingSolution source) {
+        final var neighbor = new VmToHostMappingSolution(this, source);
+        neighbor.moveRandomVm();
+        return neighbor;
+    }
+
+    @Override
+    protected VmToHostMappingSimulatedAnnealing createChain(final ContinuousDistribution random) {
+        final var chain = new VmToHostMappingSimulatedAnnealing(initialTemperature, random);
+        chain.setColdTemperature(getColdTemperature());
+        chain.setCoolingRate(getCoolingRate());
+        chain.setRatioWeight(ratioWeight);
+        chain.setHostList(hostList).setVmList(vmList);
+        chain.problem = problem;
+        return chain;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The solution with the lowest cost visited by the chain is merged too.
+     */
+    @Override
+    protected void mergeChain(final HeuristicAbstract<VmToHostMappingSolution> chain) {
+        super.mergeChain(chain);
+        final var chainLowestCost = ((VmToHostMappingSimulatedAnnealing) chain).lowestCostSolution;
+        if (chainLowestCost != null && (lowestCostSolution == null || chainLowestCost.getCost() < lowestCostSolution.getCost())) {
+            lowestCostSolution = copySolution(chainLowestCost);
+        }
+    }
+
+    @Override
+    protected VmToHostMappingSolution copySolution(final VmToHostMappingSolution solution) {
+        return new VmToHostMappingSolution(this, solution);
+    }
+}
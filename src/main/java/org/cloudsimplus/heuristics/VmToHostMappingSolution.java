@@ -0,0 +1,295 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.vms.Vm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.cloudsimplus.heuristics.VmToHostMappingProblem.LEVELS;
+
+/**
+ * A possible solution for placing a batch of VMs into a set of
+ * {@link org.cloudsimplus.hosts.HostMultiClusters}.
+ * It represents a solution generated using a {@link VmToHostMappingSimulatedAnnealing}.
+ *
+ * <p>The solution keeps the state of each host (the vCPUs and VMs in each vCluster and the allocated RAM)
+ * and its cost. Moving a VM to another host, or swapping the hosts of two VMs,
+ * just re-evaluates the two affected hosts.
+ * VMs that don't fit into any host in the initial solution are left unmapped.</p>
+ *
+ * @see VmToHostMappingProblem
+ * @since CloudSim Plus 8.5.0
+ */
+public class VmToHostMappingSolution implements HeuristicSolution<Map<Vm, Host>> {
+    @Getter
+    private final Heuristic heuristic;
+
+    private final VmToHostMappingProblem problem;
+
+    /**
+     * The index of the host of each VM or -1 if the VM is unmapped.
+     */
+    private final int[] vmHosts;
+
+    private final long[] vcpus;
+    private final int[] vmCounts;
+    private final long[] ram;
+    private final double[] hostCosts;
+
+    /**
+     * The sum of the {@link #hostCosts}.
+     */
+    private double cost;
+
+    /**
+     * Creates a solution with all VMs unmapped.
+     * @param heuristic the heuristic implementation used to find the solution being created.
+     */
+    public VmToHostMappingSolution(@NonNull final Heuristic heuristic) {
+        this(heuristic, problemOf(heuristic));
+    }
+
+    private VmToHostMappingSolution(final Heuristic heuristic, final VmToHostMappingProblem problem) {
+        this.heuristic = heuristic;
+        this.problem = problem;
+        this.vmHosts = new int[problem.getVmsNumber()];
+        Arrays.fill(vmHosts, -1);
+        this.vcpus = problem.vcpus.clone();
+        this.vmCounts = problem.vmCounts.clone();
+        this.ram = problem.ram.clone();
+        this.hostCosts = new double[problem.getHostsNumber()];
+        for (int host = 0; host < hostCosts.length; host++) {
+            hostCosts[host] = problem.getHostCost(host, vcpus, vmCounts, ram);
+            cost += hostCosts[host];
+        }
+    }
+
+    /**
+     * Clones a given solution, binding the clone to a given heuristic.
+     *
+     * @param heuristic the heuristic implementation the cloned solution will belong to
+     * @param source the solution to be cloned
+     */
+    public VmToHostMappingSolution(@NonNull final Heuristic heuristic, @NonNull final VmToHostMappingSolution source) {
+        this.heuristic = heuristic;
+        this.problem = source.problem;
+        this.vmHosts = source.vmHosts.clone();
+        this.vcpus = source.vcpus.clone();
+        this.vmCounts = source.vmCounts.clone();
+        this.ram = source.ram.clone();
+        this.hostCosts = source.hostCosts.clone();
+        this.cost = source.cost;
+    }
+
+    private static VmToHostMappingProblem problemOf(final Heuristic heuristic) {
+        /* The problem is null while the heuristic is being constructed,
+           since the superclass constructor creates a solution */
+        if (heuristic instanceof VmToHostMappingSimulatedAnnealing annealing && annealing.getProblem() != null) {
+            return annealing.getProblem();
+        }
+
+        return VmToHostMappingProblem.EMPTY;
+    }
+
+    /**
+     * Places every unmapped VM into the first host where it fits,
+     * trying hosts in circular order from a given one.
+     * @param firstHost the index of the first host to try
+     */
+    void placeVmsFirstFit(final int firstHost) {
+        final int hostsNumber = problem.getHostsNumber();
+        for (int vm = 0; vm < vmHosts.length; vm++) {
+            for (int i = 0; i < hostsNumber && vmHosts[vm] < 0; i++) {
+                placeVm(vm, (firstHost + i) % hostsNumber);
+            }
+        }
+    }
+
+    /**
+     * Moves a randomly selected VM to a random host or,
+     * if it doesn't fit there, swaps its host with the one of another random VM,
+     * in order to provide a neighbor solution.
+     * @return true if the solution was changed, false otherwise
+     */
+    boolean moveRandomVm() {
+        final int hostsNumber = problem.getHostsNumber();
+        if (vmHosts.length == 0 || hostsNumber < 2) {
+            return false;
+        }
+
+        final int vm = heuristic.getRandomValue(vmHosts.length);
+        if (vmHosts[vm] < 0) {
+            return false;
+        }
+
+        final int host = (vmHosts[vm] + 1 + heuristic.getRandomValue(hostsNumber - 1)) % hostsNumber;
+        return placeVm(vm, host) || swapHosts(vm, heuristic.getRandomValue(vmHosts.length));
+    }
+
+    /**
+     * Places a VM into a host, if it fits there.
+     * @param vm the index of the VM (which may be unmapped)
+     * @param host the index of the target host
+     * @return true if the VM was placed into the host, false otherwise
+     */
+    boolean placeVm(final int vm, final int host) {
+        final int sourceHost = vmHosts[vm];
+        if (sourceHost == host) {
+            return false;
+        }
+
+        update(vm, host, 1);
+        if (!problem.isWithinCapacity(host, vcpus, vmCounts, ram)) {
+            update(vm, host, -1);
+            return false;
+        }
+
+        if (sourceHost >= 0) {
+            update(vm, sourceHost, -1);
+            updateHostCost(sourceHost);
+        }
+
+        vmHosts[vm] = host;
+        updateHostCost(host);
+        return true;
+    }
+
+    /**
+     * Swaps the hosts of two mapped VMs, if each one fits into the host of the other.
+     * @param vm1 the index of the first VM
+     * @param vm2 the index of the second VM
+     * @return true if the hosts were swapped, false otherwise
+     */
+    private boolean swapHosts(final int vm1, final int vm2) {
+        final int host1 = vmHosts[vm1];
+        final int host2 = vmHosts[vm2];
+        if (host1 < 0 || host2 < 0 || host1 == host2) {
+            return false;
+        }
+
+        update(vm1, host1, -1);
+        update(vm2, host2, -1);
+        update(vm1, host2, 1);
+        update(vm2, host1, 1);
+        if (problem.isWithinCapacity(host1, vcpus, vmCounts, ram) && problem.isWithinCapacity(host2, vcpus, vmCounts, ram)) {
+            vmHosts[vm1] = host2;
+            vmHosts[vm2] = host1;
+            updateHostCost(host1);
+            updateHostCost(host2);
+            return true;
+        }
+
+        update(vm1, host2, -1);
+        update(vm2, host1, -1);
+        update(vm1, host1, 1);
+        update(vm2, host2, 1);
+        return false;
+    }
+
+    /**
+     * Adds or removes the resources of a VM to/from the state of a host.
+     * @param vm the index of the VM
+     * @param host the index of the host
+     * @param sign 1 to add the VM resources, -1 to remove them
+     */
+    private void update(final int vm, final int host, final int sign) {
+        final int level = problem.vmLevels[vm];
+        if (level >= 0) {
+            vcpus[host * LEVELS + level] += sign * problem.vmPes[vm];
+            vmCounts[host * LEVELS + level] += sign;
+        }
+
+        ram[host] += sign * problem.vmRam[vm];
+    }
+
+    private void updateHostCost(final int host) {
+        cost -= hostCosts[host];
+        hostCosts[host] = problem.getHostCost(host, vcpus, vmCounts, ram);
+        cost += hostCosts[host];
+    }
+
+    /**
+     * {@inheritDoc}
+     * It is the sum of the cost of all hosts, which is defined by
+     * their physical footprint and the distance of their CPU/RAM ratio to the ideal one.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double getCost() {
+        return cost;
+    }
+
+    /**
+     * {@return the number of VMs mapped to some host}
+     */
+    public int getMappedVmsNumber() {
+        int mapped = 0;
+        for (final int host : vmHosts) {
+            mapped += host < 0 ? 0 : 1;
+        }
+
+        return mapped;
+    }
+
+    /**
+     * @return the actual solution, providing the mapping between VMs and Hosts,
+     *         not including the VMs that don't fit into any host.
+     */
+    @Override
+    public Map<Vm, Host> getResult() {
+        final Map<Vm, Host> result = new LinkedHashMap<>();
+        for (int vm = 0; vm < vmHosts.length; vm++) {
+            if (vmHosts[vm] >= 0) {
+                result.put(problem.vms.get(vm), problem.hosts.get(vmHosts[vm]));
+            }
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Compares this solution with another given one, based on the solution cost.
+     * The current object is considered to be greater than the given one if it has a lower cost.
+     *
+     * @param solution the solution to compare this instance to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@NonNull final HeuristicSolution solution) {
+        final double diff = this.getCost() - solution.getCost();
+        if (Math.abs(diff) <= CloudletToVmMappingSolution.MIN_DIFF) {
+            return 0;
+        }
+
+        return diff > 0 ? -1 : 1;
+    }
+}
@@ -24,6 +24,7 @@ import org.cloudsimplus.util.TimeUtil;
 import org.cloudsimplus.vms.*;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
@@ -61,6 +62,8 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
     protected final HarddriveStorage disk;
     /** @see #getStateHistory() */
     protected final List<HostStateHistoryEntry> stateHistory;
+    /** @see #setVmListChangeListener(BiConsumer) */
+    private BiConsumer<Vm, Boolean> vmListChangeListener = (vm, added) -> {};
     /** @see #getVmsMigratingIn() */
     protected final Set<Vm> vmsMigratingIn;
     /** @see #getVmsMigratingOut() */
@@ -305,7 +308,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
         final HostSuitability suitability = allocateResourcesForVm(vm, false);
         if (suitability.fully()) {
-            vmList.add(vm);
+            addVmToList(vm);
         }
         ((VmAbstract)vm).setCreated(suitability.fully());
 
@@ -366,7 +369,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
     public void reallocateMigratingInVms() {
         for (final Vm vm : vmsMigratingIn) {
             if (!vmList.contains(vm)) {
-                vmList.add(vm);
+                addVmToList(vm);
             }
 
             allocateResourcesForVm(vm);
@@ -560,7 +563,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
     public void destroyVmInternal(@NonNull final Vm vm) {
         deallocateResourcesOfVm(vm);
-        vmList.remove(vm);
+        removeVmFromList(vm);
         vm.getBroker().getVmExecList().remove(vm);
         vm.setFinishTime(getSimulation().clock());
     }
@@ -587,6 +590,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
     public void destroyAllVms() {
         for (final Vm vm : vmList) {
             deallocateResourcesOfVm(vm);
+            notifyVmListChangeListener(vm, false);
         }
 
         vmList.clear();
@@ -809,6 +813,38 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
     protected void addVmToList(@NonNull final Vm vm) {
         vmList.add(vm);
+        notifyVmListChangeListener(vm, true);
+    }
+
+    /**
+     * Removes a VM from the {@link #getVmList()}.
+     * @param vm the VM to remove
+     */
+    protected void removeVmFromList(@NonNull final Vm vm) {
+        if (vmList.remove(vm)) {
+            notifyVmListChangeListener(vm, false);
+        }
+    }
+
+    /**
+     * Notifies the {@link #setVmListChangeListener(BiConsumer) listener} that a VM was added to
+     * or removed from the {@link #getVmList()}.
+     * @param vm the VM added or removed
+     * @param added true if the VM was added, false if it was removed
+     */
+    private void notifyVmListChangeListener(final Vm vm, final boolean added) {
+        vmListChangeListener.accept(vm, added);
+    }
+
+    /**
+     * Sets a listener notified every time a VM is added to (true) or removed from (false) the {@link #getVmList()}.
+     * It's set by the Datacenter the Host belongs to, so that it can keep its registry of VMs updated.
+     * Setting another listener replaces the current one.
+     *
+     * @param vmListChangeListener the listener to set
+     */
+    public void setVmListChangeListener(@NonNull final BiConsumer<Vm, Boolean> vmListChangeListener) {
+        this.vmListChangeListener = vmListChangeListener;
     }
 
     protected void addVmToCreatedList(@NonNull final Vm vm) {
@@ -933,7 +969,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
     @Override
     public void removeMigratingInVm(@NonNull final Vm vm) {
         vmsMigratingIn.remove(vm);
-        vmList.remove(vm);
+        removeVmFromList(vm);
         vm.setInMigration(false);
     }
 
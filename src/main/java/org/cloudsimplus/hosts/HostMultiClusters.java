@@ -45,6 +45,12 @@ import static java.util.Objects.requireNonNull;
  */
 public class HostMultiClusters extends HostSimple {
 
+    /**
+     * Time series of metrics for each vCluster, which are just collected if enabled.
+     * @see #enableVClusterMetrics()
+     */
+    private VClusterMetrics vClusterMetrics = VClusterMetrics.NULL;
+
     /**
      * Creates and powers on a Host without a pre-defined ID.
      * It uses a {@link ResourceProvisionerSimple}
@@ -68,6 +74,56 @@ public class HostMultiClusters extends HostSimple {
         setVmScheduler(new VmSchedulerMultiClusters(peList, oversubscriptionLevels));
     }
 
+    /**
+     * {@inheritDoc}
+     * The demand of VMs is just updated when it's used,
+     * which is when {@link VmSchedulerMultiClusters#isContentionAware() contention is enabled}
+     * or {@link #enableVClusterMetrics() vCluster metrics are collected}.
+     * The demand of each VM is updated right before its processing,
+     * so that the delivered MIPS of a throttled vCluster consider
+     * the demand already updated for the VMs processed before.
+     */
+    @Override
+    public double updateProcessing(final double currentTime) {
+        final var scheduler = (VmSchedulerMultiClusters)vmScheduler;
+        if(isVmDemandUsed())
+            scheduler.updateThrottledTime(currentTime);
+        final double nextSimulationDelay = super.updateProcessing(currentTime);
+        scheduler.updateDemandSketches(currentTime);
+        vClusterMetrics.add(currentTime, scheduler);
+        return nextSimulationDelay;
+    }
+
+    @Override
+    protected double updateVmProcessing(final Vm vm, final double currentTime, final double nextSimulationDelay) {
+        if(isVmDemandUsed())
+            ((VmSchedulerMultiClusters)vmScheduler).updateVmDemand(vm, currentTime);
+        return super.updateVmProcessing(vm, currentTime, nextSimulationDelay);
+    }
+
+    private boolean isVmDemandUsed() {
+        return ((VmSchedulerMultiClusters)vmScheduler).isContentionAware() || vClusterMetrics != VClusterMetrics.NULL;
+    }
+
+    /**
+     * Enables the collection of {@link #getVClusterMetrics() metrics for each vCluster}
+     * every time the host processing is updated.
+     * It must be called before starting the simulation to collect all samples.
+     */
+    public void enableVClusterMetrics(){
+        if(vClusterMetrics == VClusterMetrics.NULL)
+            vClusterMetrics = new VClusterMetrics(((VmSchedulerMultiClusters)vmScheduler).getOversubscriptionLevels());
+    }
+
+    /**
+     * Gets the time series of metrics for each vCluster (vCPUs, reserved physical PEs,
+     * demanded and delivered MIPS, and throttled time).
+     * @return the metrics or {@link VClusterMetrics#NULL} if they were not {@link #enableVClusterMetrics() enabled}
+     */
+    public VClusterMetrics getVClusterMetrics(){
+        return vClusterMetrics;
+    }
+
     @Override
     protected HostSuitability isSuitableForVm(final Vm vm, final boolean inMigration, final boolean showFailureLog) {
         final var suitability = new HostSuitability(this, vm);
@@ -143,6 +199,13 @@ public class HostMultiClusters extends HostSimple {
     public float getCpuMemRatio(VmOversubscribable additionalVm){
         long cpu = ((VmSchedulerMultiClusters)vmScheduler).getUsedResources(additionalVm);
         long mem = getRam().getAllocatedResource();
+        return getCpuMemRatio(cpu, mem);
+    }
+
+    /* getCpuMemRatio(cpu, mem)
+    *  Ratio between a given physical Cpu usage and allocated Mem
+    */
+    public float getCpuMemRatio(long cpu, long mem){
         if(mem<=0 || cpu<=0)
             return getIdealCpuMemRatio(); // No VM deployed
         return mem/cpu;
@@ -0,0 +1,183 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.hosts;
+
+import org.cloudsimplus.schedulers.vm.VmSchedulerMultiClusters;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Time series of metrics for each vCluster (oversubscription level) of a {@link HostMultiClusters},
+ * sampled every time the host processing is updated.
+ * Each metric is stored in a primitive array per vCluster, indexed by sample,
+ * growing as new samples are added. If more than one sample is added for the same time,
+ * the last one replaces the previous.
+ *
+ * @see HostMultiClusters#enableVClusterMetrics()
+ * @since CloudSim Plus 8.5.0
+ */
+public final class VClusterMetrics {
+    /**
+     * An instance with no vClusters and samples,
+     * used when metrics are not enabled for a host.
+     */
+    public static final VClusterMetrics NULL = new VClusterMetrics(List.of());
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final List<Float> oversubscriptionLevels;
+    private double[] times;
+    private long[][] vcpus;
+    private long[][] reservedPes;
+    private double[][] demandedMips;
+    private double[][] deliveredMips;
+    private double[][] throttledTime;
+    private int size;
+
+    /**
+     * Creates the time series for a list of vClusters.
+     * @param oversubscriptionLevels the oversubscription level of each vCluster
+     */
+    public VClusterMetrics(final List<Float> oversubscriptionLevels) {
+        this.oversubscriptionLevels = List.copyOf(oversubscriptionLevels);
+        final int levels = oversubscriptionLevels.size();
+        this.times = new double[INITIAL_CAPACITY];
+        this.vcpus = new long[levels][INITIAL_CAPACITY];
+        this.reservedPes = new long[levels][INITIAL_CAPACITY];
+        this.demandedMips = new double[levels][INITIAL_CAPACITY];
+        this.deliveredMips = new double[levels][INITIAL_CAPACITY];
+        this.throttledTime = new double[levels][INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a sample of the metrics of every vCluster.
+     * @param time the current simulation time
+     * @param scheduler the scheduler to get the vClusters' metrics from
+     */
+    void add(final double time, final VmSchedulerMultiClusters scheduler) {
+        if (oversubscriptionLevels.isEmpty()) {
+            return;
+        }
+
+        final int sample = size > 0 && times[size - 1] == time ? size - 1 : size;
+        if (sample == times.length) {
+            grow();
+        }
+
+        times[sample] = time;
+        for (int level = 0; level < oversubscriptionLevels.size(); level++) {
+            final Float oversubscription = oversubscriptionLevels.get(level);
+            vcpus[level][sample] = scheduler.getSizeFor(oversubscription);
+            reservedPes[level][sample] = scheduler.getReservedPesFor(oversubscription);
+            demandedMips[level][sample] = scheduler.getDemandedMipsFor(oversubscription);
+            deliveredMips[level][sample] = scheduler.getDeliveredMipsFor(oversubscription);
+            throttledTime[level][sample] = scheduler.getThrottledTimeFor(oversubscription);
+        }
+
+        size = sample + 1;
+    }
+
+    private void grow() {
+        final int capacity = times.length * 2;
+        times = Arrays.copyOf(times, capacity);
+        for (int level = 0; level < oversubscriptionLevels.size(); level++) {
+            vcpus[level] = Arrays.copyOf(vcpus[level], capacity);
+            reservedPes[level] = Arrays.copyOf(reservedPes[level], capacity);
+            demandedMips[level] = Arrays.copyOf(demandedMips[level], capacity);
+            deliveredMips[level] = Arrays.copyOf(deliveredMips[level], capacity);
+            throttledTime[level] = Arrays.copyOf(throttledTime[level], capacity);
+        }
+    }
+
+    /**
+     * {@return the oversubscription level of each vCluster}
+     */
+    public List<Float> getOversubscriptionLevels() {
+        return oversubscriptionLevels;
+    }
+
+    /**
+     * {@return the number of samples}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@return a copy of the time of each sample}
+     */
+    public double[] getTimes() {
+        return Arrays.copyOf(times, size);
+    }
+
+    /**
+     * {@return a copy of the number of vCPUs of a vCluster at each sample}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public long[] getVcpus(final Float oversubscription) {
+        return Arrays.copyOf(vcpus[levelIndex(oversubscription)], size);
+    }
+
+    /**
+     * {@return a copy of the number of physical PEs reserved for a vCluster at each sample}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public long[] getReservedPes(final Float oversubscription) {
+        return Arrays.copyOf(reservedPes[levelIndex(oversubscription)], size);
+    }
+
+    /**
+     * {@return a copy of the MIPS demanded by the VMs of a vCluster at each sample}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public double[] getDemandedMips(final Float oversubscription) {
+        return Arrays.copyOf(demandedMips[levelIndex(oversubscription)], size);
+    }
+
+    /**
+     * {@return a copy of the MIPS delivered to the VMs of a vCluster at each sample}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public double[] getDeliveredMips(final Float oversubscription) {
+        return Arrays.copyOf(deliveredMips[levelIndex(oversubscription)], size);
+    }
+
+    /**
+     * {@return a copy of the total time (in seconds) a vCluster was throttled, up to each sample}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public double[] getThrottledTime(final Float oversubscription) {
+        return Arrays.copyOf(throttledTime[levelIndex(oversubscription)], size);
+    }
+
+    private int levelIndex(final Float oversubscription) {
+        final int index = oversubscriptionLevels.indexOf(oversubscription);
+        if (index < 0) {
+            throw new IllegalArgumentException("There is no vCluster with oversubscription level " + oversubscription);
+        }
+
+        return index;
+    }
+}
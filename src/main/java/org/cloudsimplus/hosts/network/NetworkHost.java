@@ -12,9 +12,11 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.datacenters.network.NetworkDatacenter;
 import org.cloudsimplus.hosts.HostSimple;
 import org.cloudsimplus.hosts.HostSuitability;
 import org.cloudsimplus.network.HostPacket;
+import org.cloudsimplus.network.HostPacketBatch;
 import org.cloudsimplus.network.VmPacket;
 import org.cloudsimplus.network.switches.EdgeSwitch;
 import org.cloudsimplus.resources.Pe;
@@ -186,18 +188,28 @@ public class NetworkHost extends HostSimple {
     }
 
     /**
-     * Sends packets from the local packets buffer to VMs outside this host.
+     * Sends packets from the local packets buffer to VMs outside this host,
+     * either individually or in batches, or as flows if a
+     * {@link NetworkDatacenter#getFlowNetworkModel() flow-level network model} is enabled.
+     * @see HostPacketBatch
      */
     private void sendPacketsToExternalVms() {
+        final int simultaneousPackets = pktsToSendForExternalVms.size();
         for (final HostPacket pkt : pktsToSendForExternalVms) {
-            final double delay = edgeSwitch.downlinkTransferDelay(pkt, pktsToSendForExternalVms.size());
             totalDataTransferBytes += pkt.getSize();
+        }
 
-            getSimulation().send(
-                    getDatacenter(), getEdgeSwitch(),
-                    delay, CloudSimTag.NETWORK_EVENT_UP, pkt);
+        if (getDatacenter() instanceof NetworkDatacenter dc && dc.isFlowNetworkModelEnabled()) {
+            pktsToSendForExternalVms.forEach(dc.getFlowNetworkModel()::startFlow);
+            pktsToSendForExternalVms.clear();
+            return;
         }
 
+        HostPacketBatch.forward(
+            pktsToSendForExternalVms, HostPacketBatch.isEnabled(getDatacenter()),
+            pkt -> edgeSwitch.downlinkTransferDelay(pkt, simultaneousPackets),
+            (data, delay) -> getSimulation().send(getDatacenter(), edgeSwitch, delay, CloudSimTag.NETWORK_EVENT_UP, data));
+
         pktsToSendForExternalVms.clear();
     }
 
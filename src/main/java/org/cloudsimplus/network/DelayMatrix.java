@@ -10,25 +10,29 @@ package org.cloudsimplus.network;
 
 import org.cloudsimplus.network.topologies.TopologicalGraph;
 import org.cloudsimplus.network.topologies.TopologicalLink;
-import org.cloudsimplus.util.Util;
+
+import java.util.Arrays;
 
 /**
  * Represents matrix containing the delay (in seconds) between every pair or nodes
  * inside a network topology. It stores every distance between connected nodes.
+ * The matrix is kept as a single flat row-major array to reduce memory footprint
+ * and enable the {@link FloydWarshall} blocked algorithm to work on it directly.
  *
  * @author Thomas Hohnstein
  * @since CloudSim Toolkit 1.0
  */
-public class DelayMatrix {
+public class DelayMatrix implements DelayProvider {
     /**
      * A value to indicate that the delay for a given pair of nodes was not set.
      */
     private static final double DELAY_NOT_SET = Double.MAX_VALUE;
 
     /**
-	 * Matrix holding delay between any pair of nodes (in seconds).
+	 * Flat row-major matrix holding delay between any pair of nodes (in seconds),
+	 * where the delay from node i to j is at index {@code i * mTotalNodeNum + j}.
 	 */
-    private double[][] mDelayMatrix;
+    private double[] mDelayMatrix;
 
 	/**
 	 * Number of nodes in the distance-aware-topology.
@@ -39,7 +43,7 @@ public class DelayMatrix {
      * Creates an empty matrix with no columns or rows.
      */
 	public DelayMatrix() {
-        mDelayMatrix = new double[0][0];
+        mDelayMatrix = new double[0];
 	}
 
 	/**
@@ -53,19 +57,13 @@ public class DelayMatrix {
 		calculateShortestPath();
 	}
 
-	/**
-     * Gets the delay between two nodes.
-     *
-	 * @param srcID the id of the source node
-	 * @param destID the id of the destination node
-	 * @return the delay between the given two nodes
-	 */
+	@Override
 	public double getDelay(final int srcID, final int destID) {
-		if (srcID > mTotalNodeNum || destID > mTotalNodeNum) {
-			throw new ArrayIndexOutOfBoundsException("srcID or destID is higher than highest stored nodeID!");
+		if (srcID < 0 || destID < 0 || srcID >= mTotalNodeNum || destID >= mTotalNodeNum) {
+			throw new ArrayIndexOutOfBoundsException("srcID or destID is out of the range of stored nodeIDs!");
 		}
 
-		return mDelayMatrix[srcID][destID];
+		return mDelayMatrix[srcID * mTotalNodeNum + destID];
 	}
 
 	/**
@@ -78,13 +76,14 @@ public class DelayMatrix {
 	 */
 	private void createDelayMatrix(final TopologicalGraph graph, final boolean directed) {
 		mTotalNodeNum = graph.getNumberOfNodes();
-		mDelayMatrix = Util.newSquareMatrix(mTotalNodeNum, DELAY_NOT_SET);
+		mDelayMatrix = new double[mTotalNodeNum * mTotalNodeNum];
+		Arrays.fill(mDelayMatrix, DELAY_NOT_SET);
 
         for (final TopologicalLink edge : graph.getLinksList()) {
-			mDelayMatrix[edge.getSrcNodeID()][edge.getDestNodeID()] = edge.getLinkDelay();
+			mDelayMatrix[edge.getSrcNodeID() * mTotalNodeNum + edge.getDestNodeID()] = edge.getLinkDelay();
 			if (!directed) {
 				// according to symmetry to all communication-paths
-				mDelayMatrix[edge.getDestNodeID()][edge.getSrcNodeID()] = edge.getLinkDelay();
+				mDelayMatrix[edge.getDestNodeID() * mTotalNodeNum + edge.getSrcNodeID()] = edge.getLinkDelay();
 			}
 		}
 	}
@@ -94,8 +93,8 @@ public class DelayMatrix {
 	 * and the shortest path between them.
 	 */
 	private void calculateShortestPath() {
-		final var floyd = new FloydWarshall(mTotalNodeNum);
-		mDelayMatrix = floyd.computeShortestPaths(mDelayMatrix);
+		final var floyd = new FloydWarshall(mTotalNodeNum, false);
+		floyd.computeShortestPaths(mDelayMatrix);
 	}
 
 	@Override
@@ -111,9 +110,10 @@ public class DelayMatrix {
 			builder.append(System.lineSeparator()).append(row);
 
 			for (int col = 0; col < mTotalNodeNum; ++col) {
-				if (mDelayMatrix[row][col] == DELAY_NOT_SET)
+				final double delay = mDelayMatrix[row * mTotalNodeNum + col];
+				if (delay == DELAY_NOT_SET)
 					builder.append("\t-");
-				else builder.append('\t').append(mDelayMatrix[row][col]);
+				else builder.append('\t').append(delay);
 			}
 		}
 
@@ -0,0 +1,45 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network;
+
+/**
+ * An interface for classes providing the delay (in seconds) between pairs of nodes
+ * inside a network topology.
+ *
+ * @since CloudSim Plus 8.5.0
+ * @see DelayMatrix
+ * @see LazyDelayProvider
+ */
+public interface DelayProvider {
+    /**
+     * Gets the delay between two nodes.
+     *
+     * @param srcID the id of the source node
+     * @param destID the id of the destination node
+     * @return the delay between the given two nodes or {@link Double#MAX_VALUE}
+     *         if there is no path between them
+     * @throws ArrayIndexOutOfBoundsException if any of the node ids is out of the range of existing nodes
+     */
+    double getDelay(int srcID, int destID);
+}
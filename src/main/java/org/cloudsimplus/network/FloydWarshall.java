@@ -11,23 +11,45 @@ import lombok.Getter;
 import org.cloudsimplus.util.MathUtil;
 
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
-import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * <a href="https://en.wikipedia.org/wiki/Floyd-Warshall_algorithm">Floyd-Warshall algorithm</a>
  * to calculate the predecessor matrix and the delay between all pairs of nodes.
  * The delay represents the distance between the two vertices,
  * working as the weight for the Floyd-Warshall algorithm.
  *
+ * <p>The implementation is cache-blocked: the matrix is stored as a single flat row-major array
+ * and split into square tiles of {@link #getBlockSize()} vertices.
+ * For each diagonal tile, the algorithm relaxes the tile itself, then its row and column panels
+ * and finally all the remaining tiles. Tiles inside the last two phases are independent,
+ * so they are processed in parallel using the common {@link java.util.concurrent.ForkJoinPool}
+ * when the number of vertices is large enough.</p>
+ *
+ * <p>Computing the predecessor matrix is optional, since it doubles the memory
+ * required and is not needed when only delays are relevant (such as for a {@link DelayMatrix}).</p>
+ *
  * @author Rahul Simha
  * @author Weishuai Yang
  * @since CloudSim Toolkit 1.0
  */
 public class FloydWarshall {
+    /**
+     * The default number of vertices in each side of a square tile (block) of the matrix.
+     */
+    public static final int DEF_BLOCK_SIZE = 64;
+
+    /**
+     * The minimum number of vertices that makes it worth processing tiles in parallel.
+     */
+    private static final int MIN_VERTICES_FOR_PARALLELISM = 256;
+
+    /**
+     * A value indicating there is no path between two vertices.
+     */
+    private static final double NO_PATH = Double.MAX_VALUE;
 
     /**
      * Number of vertices (network nodes).
@@ -36,37 +58,61 @@ public class FloydWarshall {
     private final int numVertices;
 
     /**
-     * List with the indexes of all vertices, from 0 to {@link #numVertices} - 1.
+     * The number of vertices in each side of a square tile (block) of the matrix.
      */
-    private final List<Integer> vertices;
+    @Getter
+    private final int blockSize;
 
     /**
-     * Weights when k is equal to -1.
-     * (used for dynamic programming).
+     * Indicates if the predecessor matrix is computed, enabling path reconstruction.
      */
-    private final double[][] dkMinusOne;
+    @Getter
+    private final boolean pathsEnabled;
 
     /**
-     * The predecessor matrix (used for dynamic programming).
+     * The flat row-major predecessor matrix, where the element at {@code i * numVertices + j}
+     * is the vertex preceding j in the shortest path from i to j (-1 if there is no such path).
+     * It's empty if {@link #isPathsEnabled() paths are disabled}.
      */
-    private final int[][] pk;
+    private int[] predecessors;
+
+    /**
+     * Creates a matrix of network nodes which computes the predecessor matrix
+     * together with the delays.
+     *
+     * @param numVertices number of network nodes
+     * @see #FloydWarshall(int, boolean)
+     */
+    public FloydWarshall(final int numVertices) {
+        this(numVertices, true);
+    }
 
     /**
-     * Used for dynamic programming.
+     * Creates a matrix of network nodes using the {@link #DEF_BLOCK_SIZE default block size}.
+     *
+     * @param numVertices number of network nodes
+     * @param pathsEnabled true to compute the predecessor matrix, enabling path reconstruction; false otherwise
      */
-    private final int[][] pkMinusOne;
+    public FloydWarshall(final int numVertices, final boolean pathsEnabled) {
+        this(numVertices, pathsEnabled, DEF_BLOCK_SIZE);
+    }
 
     /**
      * Creates a matrix of network nodes.
      *
      * @param numVertices number of network nodes
+     * @param pathsEnabled true to compute the predecessor matrix, enabling path reconstruction; false otherwise
+     * @param blockSize the number of vertices in each side of a square tile (block) of the matrix
      */
-    public FloydWarshall(final int numVertices) {
+    public FloydWarshall(final int numVertices, final boolean pathsEnabled, final int blockSize) {
         this.numVertices = MathUtil.nonNegative(numVertices, "Number of vertices");
-        this.vertices = IntStream.range(0, numVertices).boxed().collect(toList());
-        this.dkMinusOne = new double[numVertices][numVertices];
-        this.pk = new int[numVertices][numVertices];
-        this.pkMinusOne = new int[numVertices][numVertices];
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be greater than zero.");
+        }
+
+        this.blockSize = blockSize;
+        this.pathsEnabled = pathsEnabled;
+        this.predecessors = new int[pathsEnabled ? numVertices * numVertices : 0];
     }
 
     /**
@@ -74,106 +120,207 @@ public class FloydWarshall {
      * for all existing vertices.
      * This is represented by the delay between all pairs vertices.
      *
-     * @param originalDelayMatrix original delay matrix
+     * @param originalDelayMatrix original delay matrix, where 0 means there is no direct link between two vertices
      * @return the new delay matrix (dk)
+     * @see #computeShortestPaths(double[])
      */
     public double[][] computeShortestPaths(final double[][] originalDelayMatrix) {
-        savePreviousDelays(originalDelayMatrix);
-        return computeShortestPaths();
+        final double[] delays = new double[numVertices * numVertices];
+        for (int i = 0; i < numVertices; i++) {
+            System.arraycopy(originalDelayMatrix[i], 0, delays, i * numVertices, numVertices);
+        }
+
+        computeShortestPaths(delays);
+
+        final double[][] dk = new double[numVertices][];
+        for (int i = 0; i < numVertices; i++) {
+            dk[i] = Arrays.copyOfRange(delays, i * numVertices, (i + 1) * numVertices);
+        }
+
+        return dk;
     }
 
     /**
-     * Computes the shortest path between a vertex to all the other ones,
+     * Computes, in place, the shortest path between a vertex to all the other ones,
      * for all existing vertices.
      * This is represented by the delay between all pairs vertices.
      *
-     * @return the new delay matrix (dk)
+     * @param delays a flat row-major delay matrix with {@code numVertices * numVertices} elements,
+     *               where the element at {@code i * numVertices + j} is the delay from vertex i to j
+     *               and 0 means there is no direct link between the vertices.
+     *               It's updated with the delay of the shortest path between every pair of vertices,
+     *               or {@link Double#MAX_VALUE} if there is no such path.
+     * @return the given delay array, now updated
      */
-    private double[][] computeShortestPaths() {
-        final double[][] dk = new double[numVertices][numVertices];
+    public double[] computeShortestPaths(final double[] delays) {
+        if (delays.length != numVertices * numVertices) {
+            throw new IllegalArgumentException(
+                "The delay matrix must have %d elements but it has %d.".formatted(numVertices * numVertices, delays.length));
+        }
 
-        for(final int k: vertices) {
-            computeShortestPathForSpecificNumberOfHops(dk, k);
+        initMatrices(delays);
+        final int blocks = (numVertices + blockSize - 1) / blockSize;
+        for (int kb = 0; kb < blocks; kb++) {
+            computeShortestPathsThroughBlock(delays, blocks, kb);
         }
 
-        return dk;
+        return delays;
     }
 
     /**
-     * Computes the shortest path between a vertex to all the other ones,
-     * for all existing vertices, limited to a maximum number of hops.
-     * This is represented by the delay between all pairs vertices.
+     * Relaxes all paths using as intermediate vertices the ones inside a given diagonal block.
      *
-     * @param dk the delay matrix to be updated
-     * @param k maximum number of hops to try finding the shortest path between each vertex i and j
+     * @param delays the flat delay matrix
+     * @param blocks the number of blocks in each side of the matrix
+     * @param kb the index of the diagonal block containing the intermediate vertices
      */
-    private void computeShortestPathForSpecificNumberOfHops(final double[][] dk, final int k) {
-        for(final int i: vertices) {
-            computeShortestPathFromVertexToAllVertices(dk, k, i);
-        }
+    private void computeShortestPathsThroughBlock(final double[] delays, final int blocks, final int kb) {
+        // Phase 1: the diagonal block depends only on itself
+        relaxBlock(delays, kb, kb, kb);
 
-        updateMatrices((i,j) -> {
-            dkMinusOne[i][j] = dk[i][j];
-            pkMinusOne[i][j] = pk[i][j];
+        // Phase 2: the blocks in the same row and column of the diagonal one depend on themselves and on that block
+        blockIndexes(blocks).forEach(b -> {
+            if (b != kb) {
+                relaxBlock(delays, kb, b, kb);
+                relaxBlock(delays, b, kb, kb);
+            }
+        });
+
+        // Phase 3: the remaining blocks depend on the row and column panels, which are already final for this round
+        blockIndexes(blocks * blocks).forEach(idx -> {
+            final int ib = idx / blocks;
+            final int jb = idx % blocks;
+            if (ib != kb && jb != kb) {
+                relaxBlock(delays, ib, jb, kb);
+            }
         });
     }
 
     /**
-     * Iterates over the path from one vertex to all the other ones, for all existing vertices,
-     * updating some matrices as defined by a  {@link BiConsumer}.
+     * {@return a stream of block indexes} which is parallel if the number of vertices is large enough.
+     * @param count the number of indexes to generate
+     */
+    private IntStream blockIndexes(final int count) {
+        final var stream = IntStream.range(0, count);
+        return numVertices >= MIN_VERTICES_FOR_PARALLELISM ? stream.parallel() : stream;
+    }
+
+    /**
+     * Tries to reduce the delay between every pair of vertices (i, j) inside a block,
+     * going through each intermediate vertex k inside another block.
      *
-     * @param updater a {@link BiConsumer} that updates all elements of any matrices, where the parameters
-     *                that this BiConsumer receives are the index i and j representing the path
-     *                between two vertices, for all existing vertices
-     */
-    private void updateMatrices(final BiConsumer<Integer, Integer> updater){
-        for(final int i: vertices) {
-            for(final int j: vertices) {
-                updater.accept(i, j);
+     * @param delays the flat delay matrix
+     * @param ib the row index of the block to relax
+     * @param jb the column index of the block to relax
+     * @param kb the index of the block containing the intermediate vertices
+     */
+    private void relaxBlock(final double[] delays, final int ib, final int jb, final int kb) {
+        final int iEnd = blockEnd(ib);
+        final int jStart = jb * blockSize;
+        final int jEnd = blockEnd(jb);
+        final int kEnd = blockEnd(kb);
+
+        for (int k = kb * blockSize; k < kEnd; k++) {
+            final int rowK = k * numVertices;
+            for (int i = ib * blockSize; i < iEnd; i++) {
+                final int rowI = i * numVertices;
+                final double dik = delays[rowI + k];
+                if (dik == NO_PATH) {
+                    continue;
+                }
+
+                for (int j = jStart; j < jEnd; j++) {
+                    final double newDelay = dik + delays[rowK + j];
+                    if (newDelay < delays[rowI + j]) {
+                        delays[rowI + j] = newDelay;
+                        if (pathsEnabled) {
+                            predecessors[rowI + j] = predecessors[rowK + j];
+                        }
+                    }
+                }
             }
         }
     }
 
     /**
-     * Computes the shortest path between only a specific vertex to all the other ones,
-     * limited to a maximum number of hops, and then updating the delay matrix.
-     * This is represented by the delay between all pairs vertices.
+     * {@return the (exclusive) index of the last vertex in a given block}
+     * @param block the block index
+     */
+    private int blockEnd(final int block) {
+        return Math.min(numVertices, (block + 1) * blockSize);
+    }
+
+    /**
+     * Replaces the delays for vertices with no direct link by {@link #NO_PATH}
+     * and initializes the predecessor matrix (if enabled).
      *
-     * @param dk the delay matrix to be updated
-     * @param k maximum number of hops to try finding the shortest path between each vertex i and j
-     * @param i the index of the vertex to compute its distance to all the other vertices
-     */
-    private void computeShortestPathFromVertexToAllVertices(final double[][] dk, final int k, final int i) {
-        for(final int j: vertices) {
-            pk[i][j] = -1;
-            if (i != j) {
-                if (dkMinusOne[i][j] <= dkMinusOne[i][k] + dkMinusOne[k][j]) {
-                    dk[i][j] = dkMinusOne[i][j];
-                    pk[i][j] = pkMinusOne[i][j];
-                } else {
-                    dk[i][j] = dkMinusOne[i][k] + dkMinusOne[k][j];
-                    pk[i][j] = pkMinusOne[k][j];
+     * @param delays the flat delay matrix
+     */
+    private void initMatrices(final double[] delays) {
+        for (int i = 0; i < numVertices; i++) {
+            final int rowI = i * numVertices;
+            for (int j = 0; j < numVertices; j++) {
+                final int idx = rowI + j;
+                // NOTE: we set the value to infinity and will exploit this to avoid a comparison.
+                final boolean noLink = delays[idx] == 0 || delays[idx] == NO_PATH;
+                if (i == j) {
+                    delays[idx] = 0;
+                } else if (noLink) {
+                    delays[idx] = NO_PATH;
+                }
+
+                if (pathsEnabled) {
+                    predecessors[idx] = i == j || noLink ? -1 : i;
                 }
             }
         }
     }
 
     /**
-     * Saves the delay matrix before updating.
+     * Gets the vertex preceding a destination one in the shortest path from a source vertex.
      *
-     * @param originalDelayMatrix the original delay matrix
-     */
-    private void savePreviousDelays(final double[][] originalDelayMatrix) {
-        for(final int i: vertices) {
-            for(final int j: vertices) {
-                dkMinusOne[i][j] = Double.MAX_VALUE;
-                pkMinusOne[i][j] = -1;
-                if (originalDelayMatrix[i][j] != 0) {
-                    dkMinusOne[i][j] = originalDelayMatrix[i][j];
-                    pkMinusOne[i][j] = i;
-                }
-                // NOTE: we have set the value to infinity and will exploit this to avoid a comparison.
+     * @param src the source vertex
+     * @param dest the destination vertex
+     * @return the predecessor vertex or -1 if there is no path between the vertices
+     * @throws IllegalStateException if {@link #isPathsEnabled() paths are disabled}
+     */
+    public int getPredecessor(final int src, final int dest) {
+        requirePathsEnabled();
+        return predecessors[src * numVertices + dest];
+    }
+
+    /**
+     * Reconstructs the shortest path between two vertices from the predecessor matrix.
+     *
+     * @param src the source vertex
+     * @param dest the destination vertex
+     * @return the list of vertices in the path, from src to dest (inclusive),
+     *         or an empty list if there is no path between the vertices
+     * @throws IllegalStateException if {@link #isPathsEnabled() paths are disabled}
+     */
+    public List<Integer> getPath(final int src, final int dest) {
+        requirePathsEnabled();
+        final var path = new LinkedList<Integer>();
+        if (src == dest) {
+            path.add(src);
+            return path;
+        }
+
+        for (int vertex = dest; vertex != src; vertex = predecessors[src * numVertices + vertex]) {
+            if (vertex == -1) {
+                return new LinkedList<>();
             }
+
+            path.addFirst(vertex);
+        }
+
+        path.addFirst(src);
+        return path;
+    }
+
+    private void requirePathsEnabled() {
+        if (!pathsEnabled) {
+            throw new IllegalStateException("Path reconstruction was not enabled for this " + getClass().getSimpleName());
         }
     }
 
@@ -181,8 +328,15 @@ public class FloydWarshall {
      * Gets a <b>copy</b> of the predecessor matrix.
      *
      * @return the predecessor matrix copy
+     * @throws IllegalStateException if {@link #isPathsEnabled() paths are disabled}
      */
     public int[][] getPk() {
-        return Arrays.copyOf(pk, pk.length);
+        requirePathsEnabled();
+        final int[][] pk = new int[numVertices][];
+        for (int i = 0; i < numVertices; i++) {
+            pk[i] = Arrays.copyOfRange(predecessors, i * numVertices, (i + 1) * numVertices);
+        }
+
+        return pk;
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network;
+
+import org.cloudsimplus.datacenters.Datacenter;
+import org.cloudsimplus.datacenters.network.NetworkDatacenter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Utility methods to forward {@link HostPacket}s through the network either individually or in batches.
+ * When {@link NetworkDatacenter#isPacketBatchingEnabled() packet batching} is enabled,
+ * all packets going to the same next hop and arriving at the same time
+ * travel inside a single simulation event carrying a {@code HostPacket[]},
+ * instead of one event for each packet.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class HostPacketBatch {
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private HostPacketBatch(){/**/}
+
+    /**
+     * Forwards a list of packets to a next hop.
+     *
+     * @param packets the packets to forward
+     * @param batched true to send all packets with the same delay inside a single event, false to send each packet individually
+     * @param delayFunction a function that computes the transfer delay for a given packet
+     * @param sender a function that actually sends an event, receiving the data
+     *               (either a {@link HostPacket} or a {@code HostPacket[]}) and the delay to send it
+     */
+    public static void forward(
+        final List<HostPacket> packets, final boolean batched,
+        final ToDoubleFunction<HostPacket> delayFunction, final ObjDoubleConsumer<Object> sender)
+    {
+        if (packets.isEmpty()) {
+            return;
+        }
+
+        if (!batched) {
+            for (final HostPacket pkt : packets) {
+                sender.accept(pkt, delayFunction.applyAsDouble(pkt));
+            }
+            return;
+        }
+
+        // Each delay is computed just once, since it may be an expensive computation
+        final int size = packets.size();
+        final double[] delays = new double[size];
+        boolean sameDelay = true;
+        for (int i = 0; i < size; i++) {
+            delays[i] = delayFunction.applyAsDouble(packets.get(i));
+            sameDelay &= delays[i] == delays[0];
+        }
+
+        /* Packets usually have the same size and then the same delay.
+         * In such a case, all of them can be sent together without grouping. */
+        if (sameDelay) {
+            sender.accept(packets.toArray(HostPacket[]::new), delays[0]);
+            return;
+        }
+
+        final var packetsByDelay = new LinkedHashMap<Double, List<HostPacket>>();
+        for (int i = 0; i < size; i++) {
+            packetsByDelay.computeIfAbsent(delays[i], delay -> new ArrayList<>()).add(packets.get(i));
+        }
+
+        packetsByDelay.forEach((delay, list) -> sender.accept(list.toArray(HostPacket[]::new), delay));
+    }
+
+    /**
+     * Performs an action for each packet carried by a simulation event.
+     *
+     * @param data the event data, either a {@link HostPacket} or a {@code HostPacket[]}
+     * @param action the action to perform for each packet
+     * @throws IllegalStateException if the data is not a packet or an array of packets
+     */
+    public static void forEach(final Object data, final Consumer<HostPacket> action) {
+        if (data instanceof HostPacket pkt) {
+            action.accept(pkt);
+        } else if (data instanceof HostPacket[] packets) {
+            for (final HostPacket pkt : packets) {
+                action.accept(pkt);
+            }
+        } else throw new IllegalStateException("Network SimEvent data must be a HostPacket or a HostPacket[]");
+    }
+
+    /**
+     * Checks if packet batching is enabled for the Datacenter where a network entity is.
+     * @param datacenter the Datacenter to check
+     * @return true if the Datacenter is a {@link NetworkDatacenter} with packet batching enabled, false otherwise
+     */
+    public static boolean isEnabled(final Datacenter datacenter) {
+        return datacenter instanceof NetworkDatacenter dc && dc.isPacketBatchingEnabled();
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network;
+
+import lombok.Getter;
+import org.cloudsimplus.network.topologies.TopologicalGraph;
+import org.cloudsimplus.network.topologies.TopologicalLink;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link DelayProvider} that computes the delay between network nodes on demand.
+ * Instead of computing the delay between all pairs of nodes up front (as the {@link DelayMatrix} does),
+ * it runs the <a href="https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm">Dijkstra algorithm</a>
+ * from a source node only when the delay from that node is requested for the first time.
+ * The delays from the most recently used sources are kept in a bounded LRU cache,
+ * so that memory is proportional to the number of links plus the number of cached sources
+ * times the number of nodes, instead of the number of nodes squared.
+ *
+ * <p>That is suitable for large and sparse topologies where just a few nodes
+ * (such as datacenters and brokers) exchange messages.
+ * Whenever the topology graph changes, {@link #invalidate()} must be called.</p>
+ *
+ * <p>Since entities processed in parallel (see {@link org.cloudsimplus.core.CloudSim#setParallelism(int)})
+ * may request delays at the same time, the methods that read or change the cache
+ * and the structures used by the Dijkstra algorithm are synchronized.</p>
+ *
+ * <p>As in the {@link DelayMatrix}, links with zero delay are ignored
+ * and node ids are expected to range from 0 to the number of nodes - 1.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class LazyDelayProvider implements DelayProvider {
+    /**
+     * The default maximum number of source nodes whose delays to all the other nodes are cached.
+     */
+    public static final int DEF_MAX_CACHED_SOURCES = 512;
+
+    /**
+     * A value indicating there is no path between two nodes.
+     */
+    private static final double NO_PATH = Double.MAX_VALUE;
+
+    /**
+     * The topology graph to compute delays for.
+     */
+    private final TopologicalGraph graph;
+
+    /**
+     * Indicates if the links in the graph are directed or, otherwise, communication paths are symmetrical.
+     */
+    private final boolean directed;
+
+    /**
+     * The maximum number of source nodes whose delays to all the other nodes are cached.
+     */
+    @Getter
+    private final int maxCachedSources;
+
+    /**
+     * An LRU cache where each key is the id of a source node and each value is
+     * an array with the delay from that node to every node in the graph.
+     */
+    private final Map<Integer, double[]> cache;
+
+    /**
+     * The number of nodes when the adjacency arrays were built.
+     */
+    private int nodes;
+
+    /**
+     * The index inside {@link #targets} and {@link #weights} where the links of each node start
+     * (a compressed sparse row representation of the graph).
+     */
+    private int[] offsets;
+
+    /**
+     * The destination node of each link, grouped by source node.
+     */
+    private int[] targets;
+
+    /**
+     * The delay of each link, grouped by source node.
+     */
+    private double[] weights;
+
+    /**
+     * Indicates if the graph was changed and the adjacency arrays must be rebuilt.
+     */
+    private boolean outdated;
+
+    /**
+     * Nodes inside the binary heap used by the Dijkstra algorithm.
+     */
+    private int[] heapNodes;
+
+    /**
+     * Delays of the nodes inside the binary heap used by the Dijkstra algorithm.
+     */
+    private double[] heapDelays;
+
+    /**
+     * Number of elements inside the binary heap.
+     */
+    private int heapSize;
+
+    /**
+     * Creates a lazy delay provider for a network topology graph,
+     * using the {@link #DEF_MAX_CACHED_SOURCES default cache size}.
+     *
+     * @param graph the network topological graph
+     * @param directed indicates if the graph is directed (true) or not (false)
+     */
+    public LazyDelayProvider(final TopologicalGraph graph, final boolean directed) {
+        this(graph, directed, DEF_MAX_CACHED_SOURCES);
+    }
+
+    /**
+     * Creates a lazy delay provider for a network topology graph.
+     *
+     * @param graph the network topological graph
+     * @param directed indicates if the graph is directed (true) or not (false)
+     * @param maxCachedSources the maximum number of source nodes whose delays to all the other nodes are cached
+     */
+    public LazyDelayProvider(final TopologicalGraph graph, final boolean directed, final int maxCachedSources) {
+        if (maxCachedSources <= 0) {
+            throw new IllegalArgumentException("The maximum number of cached sources must be greater than zero.");
+        }
+
+        this.graph = graph;
+        this.directed = directed;
+        this.maxCachedSources = maxCachedSources;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, double[]> eldest) {
+                return size() > LazyDelayProvider.this.maxCachedSources;
+            }
+        };
+        this.outdated = true;
+    }
+
+    @Override
+    public synchronized double getDelay(final int srcID, final int destID) {
+        buildAdjacencyIfOutdated();
+        if (srcID < 0 || destID < 0 || srcID >= nodes || destID >= nodes) {
+            throw new ArrayIndexOutOfBoundsException("srcID or destID is out of the range of stored nodeIDs!");
+        }
+
+        if (srcID == destID) {
+            return 0;
+        }
+
+        final double[] srcDelays = cache.get(srcID);
+        if (srcDelays != null) {
+            return srcDelays[destID];
+        }
+
+        if (!directed) {
+            final double[] destDelays = cache.get(destID);
+            if (destDelays != null) {
+                return destDelays[srcID];
+            }
+        }
+
+        final double[] delays = computeDelaysFrom(srcID);
+        cache.put(srcID, delays);
+        return delays[destID];
+    }
+
+    /**
+     * Discards all cached delays, forcing them to be recomputed on demand.
+     * It must be called whenever the topology graph changes (e.g., when links are added or removed).
+     */
+    public synchronized void invalidate() {
+        cache.clear();
+        outdated = true;
+    }
+
+    /**
+     * {@return the number of source nodes} whose delays to all the other nodes are currently cached.
+     */
+    public synchronized int getCachedSourcesNumber() {
+        return cache.size();
+    }
+
+    /**
+     * Rebuilds the compressed sparse row representation of the graph if it has changed.
+     */
+    private void buildAdjacencyIfOutdated() {
+        if (!outdated) {
+            return;
+        }
+
+        nodes = graph.getNumberOfNodes();
+        offsets = new int[nodes + 1];
+        final var links = graph.getLinksList().stream().filter(link -> link.getLinkDelay() != 0).toList();
+        for (final TopologicalLink link : links) {
+            offsets[link.getSrcNodeID() + 1]++;
+            if (!directed) {
+                offsets[link.getDestNodeID() + 1]++;
+            }
+        }
+
+        for (int node = 0; node < nodes; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+
+        targets = new int[offsets[nodes]];
+        weights = new double[offsets[nodes]];
+        final int[] next = Arrays.copyOf(offsets, nodes);
+        for (final TopologicalLink link : links) {
+            addAdjacency(next, link.getSrcNodeID(), link.getDestNodeID(), link.getLinkDelay());
+            if (!directed) {
+                addAdjacency(next, link.getDestNodeID(), link.getSrcNodeID(), link.getLinkDelay());
+            }
+        }
+
+        heapNodes = new int[targets.length + 1];
+        heapDelays = new double[targets.length + 1];
+        outdated = false;
+    }
+
+    private void addAdjacency(final int[] next, final int src, final int dest, final double delay) {
+        final int idx = next[src]++;
+        targets[idx] = dest;
+        weights[idx] = delay;
+    }
+
+    /**
+     * Computes the delay of the shortest path from a given node to all the other ones,
+     * using the Dijkstra algorithm.
+     *
+     * @param srcID the id of the source node
+     * @return an array with the delay to every node, or {@link #NO_PATH} for unreachable nodes
+     */
+    private double[] computeDelaysFrom(final int srcID) {
+        final double[] delays = new double[nodes];
+        Arrays.fill(delays, NO_PATH);
+        delays[srcID] = 0;
+
+        heapSize = 0;
+        pushHeap(srcID, 0);
+        while (heapSize > 0) {
+            final int node = heapNodes[0];
+            final double delay = heapDelays[0];
+            popHeap();
+            // A node may be inserted multiple times. Just the entry with the lowest delay is processed.
+            if (delay > delays[node]) {
+                continue;
+            }
+
+            for (int idx = offsets[node]; idx < offsets[node + 1]; idx++) {
+                final double newDelay = delay + weights[idx];
+                if (newDelay < delays[targets[idx]]) {
+                    delays[targets[idx]] = newDelay;
+                    pushHeap(targets[idx], newDelay);
+                }
+            }
+        }
+
+        return delays;
+    }
+
+    private void pushHeap(final int node, final double delay) {
+        int idx = heapSize++;
+        while (idx > 0) {
+            final int parent = (idx - 1) / 2;
+            if (heapDelays[parent] <= delay) {
+                break;
+            }
+
+            heapNodes[idx] = heapNodes[parent];
+            heapDelays[idx] = heapDelays[parent];
+            idx = parent;
+        }
+
+        heapNodes[idx] = node;
+        heapDelays[idx] = delay;
+    }
+
+    private void popHeap() {
+        final int lastNode = heapNodes[--heapSize];
+        final double lastDelay = heapDelays[heapSize];
+        int idx = 0;
+        while (true) {
+            int child = 2 * idx + 1;
+            if (child >= heapSize) {
+                break;
+            }
+
+            if (child + 1 < heapSize && heapDelays[child + 1] < heapDelays[child]) {
+                child++;
+            }
+
+            if (lastDelay <= heapDelays[child]) {
+                break;
+            }
+
+            heapNodes[idx] = heapNodes[child];
+            heapDelays[idx] = heapDelays[child];
+            idx = child;
+        }
+
+        heapNodes[idx] = lastNode;
+        heapDelays[idx] = lastDelay;
+    }
+}
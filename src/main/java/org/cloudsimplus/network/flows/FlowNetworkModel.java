@@ -0,0 +1,373 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network.flows;
+
+import lombok.Getter;
+import org.cloudsimplus.core.CloudSimEntity;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.core.Identifiable;
+import org.cloudsimplus.core.events.PredicateType;
+import org.cloudsimplus.core.events.SimEvent;
+import org.cloudsimplus.datacenters.network.NetworkDatacenter;
+import org.cloudsimplus.hosts.network.NetworkHost;
+import org.cloudsimplus.network.HostPacket;
+import org.cloudsimplus.network.HostPacketBatch;
+import org.cloudsimplus.network.switches.EdgeSwitch;
+import org.cloudsimplus.network.switches.Switch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * A flow-level network model for a {@link NetworkDatacenter}, used as an alternative to
+ * the per-packet simulation performed by {@link Switch}es.
+ * When {@link NetworkDatacenter#setFlowNetworkModel(FlowNetworkModel) enabled} for a Datacenter,
+ * each {@link HostPacket} sent by a {@link NetworkHost} to another Host becomes a {@link NetworkFlow}
+ * going through the links of the {@link EdgeSwitch} / {@link org.cloudsimplus.network.switches.AggregateSwitch}
+ * / {@link org.cloudsimplus.network.switches.RootSwitch} tree.
+ *
+ * <p>Flow rates are computed using <a href="https://en.wikipedia.org/wiki/Max-min_fairness">max-min fairness</a>
+ * (progressive filling) and are recomputed only when flows start or finish,
+ * just for the flows that share (directly or transitively) links with the changed flows.
+ * The only events generated are one update when the next flow finishes and
+ * one delivery for each finished flow, after the switching delays along its path.
+ * That way, large east-west traffic scenarios scale with the number of flow changes instead of packets.</p>
+ *
+ * <p>As for the per-packet model, it's assumed that each Edge Switch is connected to a single
+ * Aggregate Switch and each Aggregate Switch is connected to a single Root Switch.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public class FlowNetworkModel extends CloudSimEntity {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowNetworkModel.class.getSimpleName());
+
+    /**
+     * Maximum difference (in seconds) between the simulation clock and the expected finish time of a flow
+     * to consider the flow finished, avoiding floating-point rounding errors.
+     */
+    private static final double FINISH_TIME_TOLERANCE = 1e-9;
+
+    /**
+     * The Datacenter whose network is modelled.
+     */
+    @Getter
+    private final NetworkDatacenter datacenter;
+
+    /**
+     * A map of the links between network nodes, where each key is the source node of a link
+     * and each value is another map from the destination node to the link itself.
+     */
+    private final Map<Identifiable, Map<Identifiable, NetworkLink>> links;
+
+    /**
+     * Active flows sorted by expected finish time.
+     */
+    private final NavigableSet<NetworkFlow> activeFlows;
+
+    /**
+     * Links whose set of flows has changed since the last computation of flow rates.
+     */
+    private final Set<NetworkLink> changedLinks;
+
+    /**
+     * The number of flows that have already finished.
+     */
+    @Getter
+    private long finishedFlowsNumber;
+
+    /**
+     * The id for the next flow to be created.
+     */
+    private long nextFlowId;
+
+    /**
+     * The time of the next scheduled update of flows or -1 if there is no update scheduled.
+     */
+    private double nextUpdateTime;
+
+    /**
+     * The last time the {@link #datacenter} was requested to update the processing of Cloudlets
+     * due to the delivery of packets.
+     */
+    private double lastProcessingRequestTime;
+
+    /**
+     * Creates a flow-level network model for a Datacenter.
+     *
+     * @param simulation the CloudSimPlus instance that represents the simulation the Entity belongs
+     * @param dc the Datacenter whose network will be modelled
+     * @see NetworkDatacenter#setFlowNetworkModel(FlowNetworkModel)
+     */
+    public FlowNetworkModel(final CloudSimPlus simulation, final NetworkDatacenter dc) {
+        super(simulation);
+        this.datacenter = Objects.requireNonNull(dc);
+        this.links = new HashMap<>();
+        this.activeFlows = new TreeSet<>(
+            Comparator.comparingDouble(NetworkFlow::getExpectedFinishTime).thenComparingLong(NetworkFlow::getId));
+        this.changedLinks = new HashSet<>();
+        this.nextUpdateTime = -1;
+        this.lastProcessingRequestTime = -1;
+    }
+
+    @Override
+    protected void startInternal() {
+        LOGGER.info("{} is starting...", this);
+    }
+
+    @Override
+    public void processEvent(final SimEvent evt) {
+        switch (evt.getTag()) {
+            case CloudSimTag.NETWORK_FLOW_UPDATE -> updateFlows();
+            case CloudSimTag.NETWORK_EVENT_HOST -> deliverPackets(evt);
+            default -> LOGGER.trace("{}: {}: Unknown event {} received.", getSimulation().clockStr(), this, evt.getTag());
+        }
+    }
+
+    /**
+     * Starts a flow to transfer a packet from its source to its destination Host.
+     * The flow rate is just computed after all flows starting at the current time are added.
+     *
+     * @param pkt the packet to transfer
+     * @return the created flow
+     */
+    public NetworkFlow startFlow(final HostPacket pkt) {
+        final NetworkHost destination = pkt.getVmPacket().getDestinationHost();
+        pkt.setDestination(destination);
+
+        final List<NetworkLink> path = computePath(pkt.getSource(), destination);
+        final double latency =
+            path.stream()
+                .map(NetworkLink::getDestination)
+                .filter(Switch.class::isInstance)
+                .mapToDouble(sw -> ((Switch) sw).getSwitchingDelay())
+                .sum();
+
+        final var flow = new NetworkFlow(nextFlowId++, pkt, path, latency, getSimulation().clock());
+        for (final NetworkLink link : path) {
+            link.getFlows().add(flow);
+            changedLinks.add(link);
+        }
+
+        activeFlows.add(flow);
+        scheduleUpdate(0);
+        return flow;
+    }
+
+    /**
+     * Computes the path between two Hosts through the tree of switches.
+     * @param source the source Host
+     * @param destination the destination Host
+     * @return the list of links from the source to the destination Host
+     */
+    private List<NetworkLink> computePath(final NetworkHost source, final NetworkHost destination) {
+        final EdgeSwitch srcEdge = source.getEdgeSwitch();
+        final EdgeSwitch destEdge = destination.getEdgeSwitch();
+        final var path = new ArrayList<NetworkLink>(6);
+
+        // The downlink bandwidth of Edge Switches also represents the bandwidth of connected Hosts
+        path.add(getLink(source, srcEdge, srcEdge.getDownlinkBandwidth()));
+        if (srcEdge != destEdge) {
+            final Switch srcAggregate = srcEdge.getUplinkSwitches().get(0);
+            final Switch destAggregate = destEdge.getUplinkSwitches().get(0);
+            path.add(getLink(srcEdge, srcAggregate, srcEdge.getUplinkBandwidth()));
+            if (srcAggregate != destAggregate) {
+                final Switch root = srcAggregate.getUplinkSwitches().get(0);
+                path.add(getLink(srcAggregate, root, srcAggregate.getUplinkBandwidth()));
+                path.add(getLink(root, destAggregate, root.getDownlinkBandwidth()));
+            }
+
+            path.add(getLink(destAggregate, destEdge, destAggregate.getDownlinkBandwidth()));
+        }
+
+        path.add(getLink(destEdge, destination, destEdge.getDownlinkBandwidth()));
+        return path;
+    }
+
+    private NetworkLink getLink(final Identifiable source, final Identifiable destination, final double capacity) {
+        return links
+            .computeIfAbsent(source, src -> new HashMap<>())
+            .computeIfAbsent(destination, dest -> new NetworkLink(source, destination, capacity));
+    }
+
+    /**
+     * Finishes flows which have transferred all their data,
+     * recomputes the rate of flows affected by flow changes
+     * and schedules the next update.
+     */
+    private void updateFlows() {
+        final double time = getSimulation().clock();
+        nextUpdateTime = -1;
+        finishFlows(time);
+        computeFairRates(time);
+
+        if (!activeFlows.isEmpty() && activeFlows.first().getExpectedFinishTime() < Double.MAX_VALUE) {
+            scheduleUpdate(activeFlows.first().getExpectedFinishTime() - time);
+        }
+    }
+
+    private void finishFlows(final double time) {
+        while (!activeFlows.isEmpty() && activeFlows.first().getExpectedFinishTime() <= time + FINISH_TIME_TOLERANCE) {
+            final NetworkFlow flow = activeFlows.pollFirst();
+            for (final NetworkLink link : flow.getPath()) {
+                link.getFlows().remove(flow);
+                changedLinks.add(link);
+            }
+
+            finishedFlowsNumber++;
+            send(this, flow.getLatency(), CloudSimTag.NETWORK_EVENT_HOST, flow.getPacket());
+        }
+    }
+
+    /**
+     * Computes max-min fair rates for the flows sharing (directly or transitively)
+     * links with flows that have started or finished.
+     * The rates of other flows don't change.
+     *
+     * @param time the current simulation time
+     */
+    private void computeFairRates(final double time) {
+        final var flows = new HashSet<NetworkFlow>();
+        final var affectedLinks = new HashSet<NetworkLink>();
+        final var pendingLinks = new ArrayDeque<>(changedLinks);
+        changedLinks.clear();
+        while (!pendingLinks.isEmpty()) {
+            final NetworkLink link = pendingLinks.poll();
+            if (!affectedLinks.add(link)) {
+                continue;
+            }
+
+            for (final NetworkFlow flow : link.getFlows()) {
+                if (flows.add(flow)) {
+                    pendingLinks.addAll(flow.getPath());
+                }
+            }
+        }
+
+        for (final NetworkLink link : affectedLinks) {
+            link.remainingCapacity = link.getCapacity();
+            link.unassignedFlows = link.getFlows().size();
+        }
+
+        // Progressive filling: the flows in the most constrained link get an equal share and are frozen
+        while (!flows.isEmpty()) {
+            final NetworkLink bottleneck = findBottleneckLink(affectedLinks);
+            final double share = Math.max(0, bottleneck.remainingCapacity / bottleneck.unassignedFlows);
+            for (final NetworkFlow flow : bottleneck.getFlows()) {
+                if (flows.remove(flow)) {
+                    setFlowRate(flow, time, share);
+                    for (final NetworkLink link : flow.getPath()) {
+                        link.remainingCapacity -= share;
+                        link.unassignedFlows--;
+                    }
+                }
+            }
+        }
+    }
+
+    private NetworkLink findBottleneckLink(final Set<NetworkLink> affectedLinks) {
+        NetworkLink bottleneck = null;
+        double minShare = Double.MAX_VALUE;
+        for (final NetworkLink link : affectedLinks) {
+            if (link.unassignedFlows > 0 && link.remainingCapacity / link.unassignedFlows <= minShare) {
+                minShare = link.remainingCapacity / link.unassignedFlows;
+                bottleneck = link;
+            }
+        }
+
+        return bottleneck;
+    }
+
+    private void setFlowRate(final NetworkFlow flow, final double time, final double rate) {
+        if (flow.getRate() == rate) {
+            return;
+        }
+
+        // The flow is re-inserted since its expected finish time (used for sorting) changes
+        activeFlows.remove(flow);
+        flow.updateRate(time, rate);
+        activeFlows.add(flow);
+    }
+
+    /**
+     * Schedules an update of flows, replacing any update previously scheduled for a different time.
+     * @param delay the delay to perform the update
+     */
+    private void scheduleUpdate(final double delay) {
+        final double time = getSimulation().clock() + delay;
+        if (nextUpdateTime == time) {
+            return;
+        }
+
+        if (nextUpdateTime >= 0) {
+            getSimulation().cancelAll(this, new PredicateType(CloudSimTag.NETWORK_FLOW_UPDATE));
+        }
+
+        nextUpdateTime = schedule(this, delay, CloudSimTag.NETWORK_FLOW_UPDATE) ? time : -1;
+    }
+
+    /**
+     * Delivers packets of finished flows to their destination Hosts
+     * and requests the Datacenter to process them.
+     *
+     * @param evt the event carrying a {@link HostPacket}
+     */
+    private void deliverPackets(final SimEvent evt) {
+        HostPacketBatch.forEach(evt.getData(), pkt -> pkt.getDestination().addReceivedNetworkPacket(pkt));
+
+        final double time = getSimulation().clock();
+        if (lastProcessingRequestTime != time) {
+            lastProcessingRequestTime = time;
+            datacenter.schedule(datacenter, getSimulation().getMinTimeBetweenEvents(), CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING);
+        }
+    }
+
+    /**
+     * {@return the number of flows currently transferring data}
+     */
+    public int getActiveFlowsNumber() {
+        return activeFlows.size();
+    }
+
+    /**
+     * {@return a read-only set of flows currently transferring data}
+     */
+    public Set<NetworkFlow> getActiveFlows() {
+        return Collections.unmodifiableSet(activeFlows);
+    }
+
+    /**
+     * {@return a list of links} between network nodes that have been used by some flow.
+     */
+    public List<NetworkLink> getLinks() {
+        return links.values().stream().flatMap(map -> map.values().stream()).toList();
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        LOGGER.info("{} is shutting down...", getName());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network.flows;
+
+import lombok.Getter;
+import org.cloudsimplus.network.HostPacket;
+import org.cloudsimplus.util.BytesConversion;
+
+import java.util.List;
+
+/**
+ * A transfer of a {@link HostPacket} between two hosts,
+ * modelled as a fluid flow going through a path of {@link NetworkLink}s
+ * at a rate that changes only when other flows sharing some of those links start or finish.
+ *
+ * @since CloudSim Plus 8.5.0
+ * @see FlowNetworkModel
+ */
+@Getter
+public final class NetworkFlow {
+    /**
+     * The id of the flow, used to break ties between flows finishing at the same time.
+     */
+    private final long id;
+
+    /**
+     * The packet being transferred.
+     */
+    private final HostPacket packet;
+
+    /**
+     * The links the flow goes through, from the source to the destination host.
+     */
+    private final List<NetworkLink> path;
+
+    /**
+     * The time spent by switches along the path to process the packet (in seconds),
+     * which is added to the time to transfer the data.
+     */
+    private final double latency;
+
+    /**
+     * The time the flow started (in seconds).
+     */
+    private final double startTime;
+
+    /**
+     * The amount of data still to be transferred (in Megabits) when the {@link #getRate() rate}
+     * was last changed.
+     */
+    private double remainingData;
+
+    /**
+     * The current transfer rate (in Megabits/s).
+     */
+    private double rate;
+
+    /**
+     * The last time the {@link #getRemainingData() remaining data} was updated (in seconds).
+     */
+    private double lastUpdateTime;
+
+    /**
+     * The time the transfer is expected to finish at the current rate (in seconds).
+     */
+    private double expectedFinishTime;
+
+    NetworkFlow(final long id, final HostPacket packet, final List<NetworkLink> path, final double latency, final double startTime) {
+        this.id = id;
+        this.packet = packet;
+        this.path = path;
+        this.latency = latency;
+        this.startTime = startTime;
+        this.lastUpdateTime = startTime;
+        this.remainingData = BytesConversion.bytesToMegaBits(packet.getSize());
+        this.expectedFinishTime = remainingData == 0 ? startTime : Double.MAX_VALUE;
+    }
+
+    /**
+     * Updates the amount of data transferred until a given time
+     * and sets a new rate from that time on.
+     *
+     * @param time the current simulation time
+     * @param newRate the new transfer rate (in Megabits/s)
+     */
+    void updateRate(final double time, final double newRate) {
+        remainingData = Math.max(0, remainingData - rate * (time - lastUpdateTime));
+        lastUpdateTime = time;
+        rate = newRate;
+        if (remainingData == 0) {
+            expectedFinishTime = time;
+        } else expectedFinishTime = rate > 0 ? time + remainingData / rate : Double.MAX_VALUE;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.network.flows;
+
+import lombok.Getter;
+import org.cloudsimplus.core.Identifiable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A unidirectional link between two network nodes (a host and a switch or two switches)
+ * that is shared by the {@link NetworkFlow}s going through it.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+@Getter
+public final class NetworkLink {
+    /**
+     * The node (host or switch) sending data through the link.
+     */
+    private final Identifiable source;
+
+    /**
+     * The node (host or switch) receiving data through the link.
+     */
+    private final Identifiable destination;
+
+    /**
+     * The link bandwidth capacity (in Megabits/s).
+     */
+    private final double capacity;
+
+    /**
+     * The flows currently going through the link.
+     */
+    private final Set<NetworkFlow> flows;
+
+    /**
+     * Capacity not yet assigned to any flow during the computation of max-min fair rates (in Megabits/s).
+     */
+    double remainingCapacity;
+
+    /**
+     * Number of flows without an assigned rate during the computation of max-min fair rates.
+     */
+    int unassignedFlows;
+
+    NetworkLink(final Identifiable source, final Identifiable destination, final double capacity) {
+        this.source = source;
+        this.destination = destination;
+        this.capacity = capacity;
+        this.flows = new HashSet<>();
+    }
+
+    /**
+     * {@return the sum of rates of all flows} going through the link (in Megabits/s).
+     */
+    public double getAllocatedBandwidth() {
+        return flows.stream().mapToDouble(NetworkFlow::getRate).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "NetworkLink(%s -> %s, %.2f Mbps)".formatted(source, destination, capacity);
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Provides classes for a flow-level network model, an alternative to the
+ * per-packet simulation performed by the {@link org.cloudsimplus.network.switches.Switch}es.
+ * Each transfer between two {@link org.cloudsimplus.hosts.network.NetworkHost}s
+ * becomes a {@link org.cloudsimplus.network.flows.NetworkFlow} whose rate is computed
+ * with max-min fairness among the flows sharing the links of the switch tree.
+ * Rates are recomputed only when flows start or finish,
+ * so the simulation cost depends on the number of flow changes instead of the number of packets.
+ *
+ * For more general information, see the package {@link org.cloudsimplus.network} at the upper level.
+ */
+package org.cloudsimplus.network.flows;
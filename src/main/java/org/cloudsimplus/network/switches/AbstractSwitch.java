@@ -19,6 +19,7 @@ import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.network.NetworkDatacenter;
 import org.cloudsimplus.hosts.network.NetworkHost;
 import org.cloudsimplus.network.HostPacket;
+import org.cloudsimplus.network.HostPacketBatch;
 import org.cloudsimplus.util.BytesConversion;
 import org.cloudsimplus.util.MathUtil;
 import org.cloudsimplus.vms.Vm;
@@ -104,29 +105,46 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     }
 
     /**
-     * Process a packet sent to a host.
+     * Process a packet (or a batch of packets) sent to a host.
      *
-     * @param evt the packet sent
+     * @param evt the event carrying a {@link HostPacket} or a {@code HostPacket[]}
+     * @see HostPacketBatch
      */
     protected void processHostPacket(final SimEvent evt) {
-        if(evt.getData() instanceof HostPacket pkt) {
-            final NetworkHost host = pkt.getDestination();
-            host.addReceivedNetworkPacket(pkt);
-        }
-        else throw new IllegalStateException("NETWORK_EVENT_HOST SimEvent data must be a HostPacket");
+        HostPacketBatch.forEach(evt.getData(), pkt -> pkt.getDestination().addReceivedNetworkPacket(pkt));
     }
 
     /**
-     * Sends a packet from uplink to Datacenter connected through a downlink port.
+     * Sends a packet (or a batch of packets) from uplink to Datacenter connected through a downlink port.
      *
-     * @param evt event/packet to process
+     * @param evt the event carrying a {@link HostPacket} or a {@code HostPacket[]}
+     * @see #routePacketDown(HostPacket)
      */
     protected void processPacketDown(final SimEvent evt) {
         // Packet coming from up level router has to send downward.
         getSimulation().cancelAll(this, new PredicateType(CloudSimTag.NETWORK_EVENT_SEND));
         schedule(this, getSwitchingDelay(), CloudSimTag.NETWORK_EVENT_SEND);
+        HostPacketBatch.forEach(evt.getData(), this::routePacketDown);
     }
 
+    /**
+     * Defines where a packet received from an uplink port has to be sent.
+     * By default, the packet is not forwarded anywhere.
+     *
+     * @param pkt the received packet
+     * @see #processPacketDown(SimEvent)
+     */
+    protected void routePacketDown(final HostPacket pkt) {/**/}
+
+    /**
+     * Defines where a packet received from a downlink port has to be sent.
+     * By default, the packet is not forwarded anywhere.
+     *
+     * @param pkt the received packet
+     * @see #processPacketUp(SimEvent)
+     */
+    protected void routePacketUp(final HostPacket pkt) {/**/}
+
     /**
      * Gets the Host where a VM is placed.
      * @param vm the VM to get its Host
@@ -137,14 +155,16 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     }
 
     /**
-     * Sends a packet from down switch or host to Datacenter connected through an uplink port.
+     * Sends a packet (or a batch of packets) from down switch or host to Datacenter connected through an uplink port.
      *
-     * @param evt Event/packet to process
+     * @param evt the event carrying a {@link HostPacket} or a {@code HostPacket[]}
+     * @see #routePacketUp(HostPacket)
      */
     protected void processPacketUp(final SimEvent evt) {
         // Packet coming from down level router has to be sent up.
         getSimulation().cancelAll(this, new PredicateType(CloudSimTag.NETWORK_EVENT_SEND));
         schedule(this, switchingDelay, CloudSimTag.NETWORK_EVENT_SEND);
+        HostPacketBatch.forEach(evt.getData(), this::routePacketUp);
     }
 
     /**
@@ -163,10 +183,8 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      * @see #downlinkSwitchPacketMap
      */
     private void forwardPacketsToDownlinkSwitches() {
-        for (final var targetSwitch: downlinkSwitchPacketMap.keySet()) {
-            final var hostPktList = getDownlinkSwitchPacketList(targetSwitch);
-            final double bw = this.downlinkBandwidth;
-            forwardPacketsToSwitch(targetSwitch, hostPktList, bw, CloudSimTag.NETWORK_EVENT_DOWN);
+        for (final var entry : downlinkSwitchPacketMap.entrySet()) {
+            forwardPacketsToSwitch(entry.getKey(), entry.getValue(), downlinkBandwidth, CloudSimTag.NETWORK_EVENT_DOWN);
         }
     }
 
@@ -177,21 +195,26 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      * @see #uplinkSwitchPacketMap
      */
     private void forwardPacketsToUplinkSwitches() {
-        for (final var targetSwitch : uplinkSwitchPacketMap.keySet()) {
-            final var hostPktList = getUplinkSwitchPacketList(targetSwitch);
-            final double bw = uplinkBandwidth;
-            forwardPacketsToSwitch(targetSwitch, hostPktList, bw, CloudSimTag.NETWORK_EVENT_UP);
+        for (final var entry : uplinkSwitchPacketMap.entrySet()) {
+            forwardPacketsToSwitch(entry.getKey(), entry.getValue(), uplinkBandwidth, CloudSimTag.NETWORK_EVENT_UP);
         }
     }
 
+    /**
+     * Forwards a list of packets to a switch, either individually or in batches.
+     * The list is cleared afterwards, so that it can be reused for the next packets.
+     *
+     * @see HostPacketBatch
+     */
     private void forwardPacketsToSwitch(
         final Switch destinationSwitch, final List<HostPacket> packetList,
         final double bandwidth, final int tag)
     {
-        for (final HostPacket pkt : packetList) {
-            final double delay = packetTransferDelay(pkt, bandwidth, packetList.size());
-            send(destinationSwitch, delay, tag, pkt);
-        }
+        final int simultaneousPackets = packetList.size();
+        HostPacketBatch.forward(
+            packetList, HostPacketBatch.isEnabled(datacenter),
+            pkt -> packetTransferDelay(pkt, bandwidth, simultaneousPackets),
+            (data, delay) -> send(destinationSwitch, delay, tag, data));
 
         packetList.clear();
     }
@@ -203,8 +226,7 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      * @see #packetToHostMap
      */
     private void forwardPacketsToHosts() {
-        for (final NetworkHost host : packetToHostMap.keySet()) {
-            final var hostPktList = getHostPacketList(host);
+        for (final List<HostPacket> hostPktList : packetToHostMap.values()) {
             forwardPacketsToSwitch(this, hostPktList, downlinkBandwidth, CloudSimTag.NETWORK_EVENT_HOST);
         }
     }
@@ -278,28 +300,31 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
     /**
      * Gets the list of packets to be sent to a downlink switch.
      * @param downlinkSwitch the id of the switch to get the list of packets to send
-     * @return the list of packets to be sent to the given switch.
+     * @return the list of packets to be sent to the given switch
+     *         (an empty immutable list if there is no packet for that switch).
      */
     protected List<HostPacket> getDownlinkSwitchPacketList(final Switch downlinkSwitch) {
-        return downlinkSwitchPacketMap.getOrDefault(downlinkSwitch, new ArrayList<>());
+        return downlinkSwitchPacketMap.getOrDefault(downlinkSwitch, Collections.emptyList());
     }
 
     /**
      * Gets the list of packets to be sent to an uplink switch.
      * @param uplinkSwitch the switch to get the list of packets to send
-     * @return the list of packets to be sent to the given switch.
+     * @return the list of packets to be sent to the given switch
+     *         (an empty immutable list if there is no packet for that switch).
      */
     protected List<HostPacket> getUplinkSwitchPacketList(final Switch uplinkSwitch) {
-        return uplinkSwitchPacketMap.getOrDefault(uplinkSwitch, new ArrayList<>());
+        return uplinkSwitchPacketMap.getOrDefault(uplinkSwitch, Collections.emptyList());
     }
 
     /**
      * Gets the list of packets to be sent to a host.
      * @param host the host to get the list of packets to send
-     * @return the list of packets to be sent to the given host.
+     * @return the list of packets to be sent to the given host
+     *         (an empty immutable list if there is no packet for that host).
      */
     protected List<HostPacket> getHostPacketList(final NetworkHost host) {
-        return packetToHostMap.getOrDefault(host, new ArrayList<>());
+        return packetToHostMap.getOrDefault(host, Collections.emptyList());
     }
 
     /**
@@ -343,6 +368,6 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      * @param <V> type of the map value
      */
     private <K, V> void computeMapValue(final Map<K, List<V>> map, final K key, final V valueToAdd) {
-        map.compute(key, (k, list) -> list == null ? new ArrayList<>() : list).add(valueToAdd);
+        map.computeIfAbsent(key, k -> new ArrayList<>()).add(valueToAdd);
     }
 }
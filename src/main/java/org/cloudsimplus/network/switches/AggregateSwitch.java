@@ -8,7 +8,6 @@
 package org.cloudsimplus.network.switches;
 
 import org.cloudsimplus.core.CloudSimPlus;
-import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.network.NetworkDatacenter;
 import org.cloudsimplus.network.HostPacket;
 import org.cloudsimplus.util.BytesConversion;
@@ -74,20 +73,16 @@ public class AggregateSwitch extends AbstractSwitch {
     }
 
     @Override
-    protected void processPacketDown(final SimEvent evt) {
+    protected void routePacketDown(final HostPacket netPkt) {
         /* packet is coming from root switch,
         so it needs to be sent to edge switch */
-        super.processPacketDown(evt);
-        final var netPkt = (HostPacket) evt.getData();
         final var downlinkSw = netPkt.getVmEdgeSwitch();
         addPacketToSendToDownlinkSwitch(downlinkSw, netPkt);
     }
 
     @Override
-    protected void processPacketUp(final SimEvent evt) {
+    protected void routePacketUp(final HostPacket netPkt) {
         // packet is coming from edge router, so it needs to be sent to either root or another edge switch
-        super.processPacketUp(evt);
-        final var netPkt = (HostPacket) evt.getData();
         final var downlinkSw = netPkt.getVmEdgeSwitch();
 
         if (findConnectedEdgeSwitch(downlinkSw))
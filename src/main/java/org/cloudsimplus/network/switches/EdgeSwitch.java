@@ -9,7 +9,6 @@ package org.cloudsimplus.network.switches;
 
 import lombok.NonNull;
 import org.cloudsimplus.core.CloudSimPlus;
-import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.network.NetworkDatacenter;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.hosts.network.NetworkHost;
@@ -86,29 +85,23 @@ public class EdgeSwitch extends AbstractSwitch {
     }
 
     @Override
-    protected void processPacketDown(final SimEvent evt) {
-        super.processPacketDown(evt);
-
+    protected void routePacketDown(final HostPacket pkt) {
         // packet is to be received by host
-        final HostPacket pkt = extractReceivedHostPacket(evt);
+        setReceiverHost(pkt);
         addPacketToSendToHost(pkt.getDestination(), pkt);
     }
 
-    private HostPacket extractReceivedHostPacket(final SimEvent evt) {
-        final var pkt = (HostPacket) evt.getData();
+    private void setReceiverHost(final HostPacket pkt) {
         final var receiverVm = pkt.getVmPacket().getDestination();
         final var host = getVmHost(receiverVm);
         pkt.setDestination(host);
-        return pkt;
     }
 
     @Override
-    protected void processPacketUp(final SimEvent evt) {
-        super.processPacketUp(evt);
-
+    protected void routePacketUp(final HostPacket pkt) {
         /* packet is received from host and to be sent to
         aggregate level or to another host in the same level */
-        final HostPacket pkt = extractReceivedHostPacket(evt);
+        setReceiverHost(pkt);
 
         // packet needs to go to a host which is connected directly to switch
         if (pkt.getDestination() != null && pkt.getDestination() != Host.NULL) {
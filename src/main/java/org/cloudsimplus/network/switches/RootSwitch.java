@@ -8,7 +8,6 @@
 package org.cloudsimplus.network.switches;
 
 import org.cloudsimplus.core.CloudSimPlus;
-import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.network.NetworkDatacenter;
 import org.cloudsimplus.network.HostPacket;
 import org.cloudsimplus.util.BytesConversion;
@@ -80,9 +79,7 @@ public class RootSwitch extends AbstractSwitch {
     }
 
     @Override
-    protected void processPacketUp(final SimEvent evt) {
-        super.processPacketUp(evt);
-        final var netPkt = (HostPacket) evt.getData();
+    protected void routePacketUp(final HostPacket netPkt) {
         final var edgeSwitch = netPkt.getVmEdgeSwitch();
 
         final var optionalAggrSw = findAggregateConnectedToEdgeSwitch(edgeSwitch);
@@ -10,6 +10,8 @@ package org.cloudsimplus.network.topologies;
 import lombok.Getter;
 import org.cloudsimplus.core.SimEntity;
 import org.cloudsimplus.network.DelayMatrix;
+import org.cloudsimplus.network.DelayProvider;
+import org.cloudsimplus.network.LazyDelayProvider;
 import org.cloudsimplus.network.topologies.readers.TopologyReaderBrite;
 import org.cloudsimplus.util.ResourceLoader;
 import org.cloudsimplus.util.Util;
@@ -36,6 +38,11 @@ import java.util.Map;
  * to one (and only one) BRITE node to allow proper work of the network
  * simulation. Each BRITE node can be mapped to only one entity at a time.</p>
  *
+ * <p>By default, the delay between all pairs of nodes is computed up front into a {@link DelayMatrix}.
+ * For large and sparse topologies where just a few nodes exchange messages,
+ * a topology with {@link #isLazyDelays() lazy delays} can be created instead.
+ * It uses a {@link LazyDelayProvider} to compute delays only for the pairs of nodes actually used.</p>
+ *
  * @author Rodrigo N. Calheiros
  * @author Anton Beloglazov
  * @author Manoel Campos da Silva Filho
@@ -61,11 +68,21 @@ public final class BriteNetworkTopology implements NetworkTopology {
     private boolean networkEnabled;
 
     /**
-     * A matrix containing the delay (in seconds) between every pair of nodes in the network.
+     * Checks if the delay between nodes is computed on demand by a {@link LazyDelayProvider}
+     * or, otherwise, up front for every pair of nodes by a {@link DelayMatrix}.
+     */
+    @Getter
+    private final boolean lazyDelays;
+
+    /**
+     * Provides the delay (in seconds) between every pair of nodes in the network.
      */
-    private DelayMatrix delayMatrix;
+    private DelayProvider delayProvider;
 
-    /** @see #getBwMatrix() */
+    /**
+     * The bandwidth matrix, built on demand when it's requested.
+     * @see #getBwMatrix()
+     */
     private double[][] bwMatrix;
 
     /**
@@ -86,21 +103,41 @@ public final class BriteNetworkTopology implements NetworkTopology {
      * @return the BriteNetworkTopology instance.
      */
     public static BriteNetworkTopology getInstance(final String fileName){
+        return getInstance(fileName, false);
+    }
+
+    /**
+     * Instantiates a Network Topology from a file inside the <b>application's resource directory</b>.
+     * @param fileName the <b>relative name</b> of the BRITE file
+     * @param lazyDelays true to compute the delay between nodes on demand, false to compute it up front
+     * @return the BriteNetworkTopology instance.
+     * @see #isLazyDelays()
+     */
+    public static BriteNetworkTopology getInstance(final String fileName, final boolean lazyDelays){
         final InputStreamReader reader = ResourceLoader.newInputStreamReader(fileName, BriteNetworkTopology.class);
-        return new BriteNetworkTopology(reader);
+        return new BriteNetworkTopology(reader, lazyDelays);
     }
 
     /**
      * Instantiates an empty Network Topology.
      * @see #BriteNetworkTopology(String)
-     * @see #BriteNetworkTopology(InputStreamReader)
+     * @see #BriteNetworkTopology(InputStreamReader, boolean)
      * @see #getInstance(String)
      */
     public BriteNetworkTopology() {
+        this(false);
+    }
+
+    /**
+     * Instantiates an empty Network Topology.
+     * @param lazyDelays true to compute the delay between nodes on demand, false to compute it up front
+     * @see #isLazyDelays()
+     */
+    public BriteNetworkTopology(final boolean lazyDelays) {
+        this.lazyDelays = lazyDelays;
         entitiesMap = new HashMap<>();
-        bwMatrix = new double[0][0];
         graph = new TopologicalGraph();
-        delayMatrix = new DelayMatrix();
+        delayProvider = newDelayProvider();
     }
 
     /**
@@ -110,11 +147,24 @@ public final class BriteNetworkTopology implements NetworkTopology {
      *
      * @param filePath the path of the BRITE file
      * @see #BriteNetworkTopology()
-     * @see #BriteNetworkTopology(InputStreamReader)
+     * @see #BriteNetworkTopology(InputStreamReader, boolean)
      * @see #getInstance(String)
      */
     public BriteNetworkTopology(final String filePath) {
-        this(ResourceLoader.newInputStreamReader(filePath));
+        this(filePath, false);
+    }
+
+    /**
+     * Instantiates a Network Topology if a given file exists and can be successfully
+     * parsed. File is written in the BRITE format and contains
+     * topological information on simulation entities.
+     *
+     * @param filePath the path of the BRITE file
+     * @param lazyDelays true to compute the delay between nodes on demand, false to compute it up front
+     * @see #isLazyDelays()
+     */
+    public BriteNetworkTopology(final String filePath, final boolean lazyDelays) {
+        this(ResourceLoader.newInputStreamReader(filePath), lazyDelays);
         LOGGER.info("Topology file: {}", filePath);
     }
 
@@ -124,24 +174,41 @@ public final class BriteNetworkTopology implements NetworkTopology {
      * topological information on simulation entities.
      *
      * @param reader the reader for the topology file
+     * @param lazyDelays true to compute the delay between nodes on demand, false to compute it up front
      * @see #BriteNetworkTopology()
-     * @see #BriteNetworkTopology(InputStreamReader)
      * @see #getInstance(String)
      */
-    private BriteNetworkTopology(final InputStreamReader reader) {
-        this();
+    private BriteNetworkTopology(final InputStreamReader reader, final boolean lazyDelays) {
+        this(lazyDelays);
         final var instance = new TopologyReaderBrite();
         graph = instance.readGraphFile(reader);
+        delayProvider = newDelayProvider();
         generateMatrices();
     }
 
+    /**
+     * Creates the provider of delays between the nodes of the current {@link #graph},
+     * which must be called whenever such a graph object is replaced.
+     * @return a new {@link LazyDelayProvider} or an empty {@link DelayMatrix}, according to {@link #isLazyDelays()}
+     */
+    private DelayProvider newDelayProvider() {
+        return lazyDelays ? new LazyDelayProvider(graph, false) : new DelayMatrix();
+    }
+
     /**
      * Generates the matrices used internally to set latency and bandwidth
-     * between elements.
+     * between elements. If {@link #isLazyDelays() delays are lazy},
+     * or for the bandwidth matrix, that just discards previous values
+     * so that they are computed on demand.
      */
     private void generateMatrices() {
-        delayMatrix = new DelayMatrix(graph, false);
-        bwMatrix = createBwMatrix(graph, false);
+        if (delayProvider instanceof LazyDelayProvider lazyProvider) {
+            lazyProvider.invalidate();
+        } else {
+            delayProvider = new DelayMatrix(graph, false);
+        }
+
+        bwMatrix = null;
         networkEnabled = true;
     }
 
@@ -171,6 +238,7 @@ public final class BriteNetworkTopology implements NetworkTopology {
     public void addLink(final SimEntity src, final SimEntity dest, final double bandwidth, final double latency) {
         if (graph == null) {
             graph = new TopologicalGraph();
+            delayProvider = newDelayProvider();
         }
 
         if (entitiesMap == null) {
@@ -187,7 +255,15 @@ public final class BriteNetworkTopology implements NetworkTopology {
 
     @Override
     public void removeLink(final SimEntity src, final SimEntity dest) {
-        throw new UnsupportedOperationException("Removing links is not yet supported on BriteNetworkTopologies");
+        final Integer srcBriteId = entitiesMap.get(src);
+        final Integer destBriteId = entitiesMap.get(dest);
+        if (srcBriteId == null || destBriteId == null) {
+            return;
+        }
+
+        if (graph.removeLinks(srcBriteId, destBriteId, false)) {
+            generateMatrices();
+        }
     }
 
     /**
@@ -247,7 +323,7 @@ public final class BriteNetworkTopology implements NetworkTopology {
         try {
             final int srcEntityBriteId = entitiesMap.getOrDefault(src, -1);
             final int destEntityBriteId = entitiesMap.getOrDefault(dest, -1);
-            return delayMatrix.getDelay(srcEntityBriteId, destEntityBriteId);
+            return delayProvider.getDelay(srcEntityBriteId, destEntityBriteId);
         } catch (ArrayIndexOutOfBoundsException e) {
             return 0.0;
         }
@@ -258,6 +334,10 @@ public final class BriteNetworkTopology implements NetworkTopology {
      * between every pair of {@link SimEntity}s in the network.
      */
     public double[][] getBwMatrix() {
+        if (bwMatrix == null) {
+            bwMatrix = createBwMatrix(graph, false);
+        }
+
         return Arrays.copyOf(bwMatrix, bwMatrix.length);
     }
 }
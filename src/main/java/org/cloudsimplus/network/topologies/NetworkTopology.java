@@ -38,6 +38,11 @@ public interface NetworkTopology {
      */
     void addLink(SimEntity src, SimEntity dest, double bw, double lat);
 
+    /**
+     * Removes the link between two {@link SimEntity}s in the network topology (if any).
+     * @param src {@link SimEntity} that represents the link's source node
+     * @param dest {@link SimEntity} that represents the link's destination node
+     */
     void removeLink(SimEntity src, SimEntity dest);
 
     /**
@@ -55,6 +55,21 @@ public class TopologicalGraph {
         linksList.add(Objects.requireNonNull(edge));
     }
 
+    /**
+     * Removes all links from a source to a destination topological node.
+     *
+     * @param srcNodeID the BRITE id of the source node
+     * @param destNodeID the BRITE id of the destination node
+     * @param directed true to remove only links from the source to the destination node;
+     *                 false to also remove links in the opposite direction
+     * @return true if any link was removed, false otherwise
+     */
+    public boolean removeLinks(final int srcNodeID, final int destNodeID, final boolean directed) {
+        return linksList.removeIf(link ->
+            link.getSrcNodeID() == srcNodeID && link.getDestNodeID() == destNodeID ||
+            !directed && link.getSrcNodeID() == destNodeID && link.getDestNodeID() == srcNodeID);
+    }
+
     /**
      * Adds a Topological Node to this graph.
      *
@@ -8,6 +8,7 @@
 
 package org.cloudsimplus.resources;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -67,6 +68,13 @@ public class File {
      */
     private boolean deleted;
 
+    /**
+     * The storage where the file is stored (if any),
+     * which is notified when the file size or deletion status changes.
+     */
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.NONE)
+    private SanStorage storage;
+
     /**
      * Creates a new DataCloud file with a given size (in MBytes). <br>
      * NOTE: By default, a newly-created file is set to a <b>master</b> copy.
@@ -241,6 +249,29 @@ public class File {
      */
     public void setSize(final int fileSize) {
         attribute.setFileSize(fileSize);
+        if (storage != null) {
+            storage.updateFile(this);
+        }
+    }
+
+    /**
+     * Sets if the file was deleted or not.
+     *
+     * @param deleted true to indicate the file was deleted, false otherwise
+     */
+    public void setDeleted(final boolean deleted) {
+        this.deleted = deleted;
+        if (storage != null) {
+            storage.updateFile(this);
+        }
+    }
+
+    /**
+     * Sets the storage where the file is stored.
+     * @param storage the storage or null if the file was removed from it
+     */
+    void setStorage(final SanStorage storage) {
+        this.storage = storage;
     }
 
     /**
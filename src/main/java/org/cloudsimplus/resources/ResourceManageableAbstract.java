@@ -7,8 +7,12 @@
  */
 package org.cloudsimplus.resources;
 
+import lombok.NonNull;
 import org.cloudsimplus.util.MathUtil;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A class that represents simple resources such as RAM, CPU, Bandwidth or Pe.
  * It stores, for instance, the resource capacity and amount of free available resource.
@@ -29,6 +33,13 @@ public abstract class ResourceManageableAbstract extends ResourceAbstract implem
     /** @see #getAvailableResource() */
     private long availableResource;
 
+    /**
+     * The triggers monitoring the utilization of this resource.
+     * It's an immutable empty list until some trigger is added, to save memory.
+     * @see #addUtilizationTrigger(UtilizationTrigger)
+     */
+    private List<UtilizationTrigger> utilizationTriggers = List.of();
+
     public ResourceManageableAbstract(final long capacity, final String unit) {
         super(capacity, unit);
         this.availableResource = capacity;
@@ -43,6 +54,10 @@ public abstract class ResourceManageableAbstract extends ResourceAbstract implem
         final long oldCapacity = this.capacity;
         this.capacity = newCapacity;
         sumAvailableResource(newCapacity - oldCapacity);
+        if (oldCapacity != newCapacity) {
+            utilizationTriggers.forEach(UtilizationTrigger::reset);
+        }
+
         return true;
     }
 
@@ -165,6 +180,53 @@ public abstract class ResourceManageableAbstract extends ResourceAbstract implem
         return previousAllocated;
     }
 
+    /**
+     * Adds a trigger to monitor the utilization of this resource.
+     * The utilization is checked when the resource owner calls {@link #updateUtilizationTriggers(double)},
+     * since the allocation may transiently change while the owner processing is updated.
+     * For a {@link org.cloudsimplus.vms.Vm} resource, this happens at every VM processing update.
+     *
+     * @param trigger the trigger to add
+     * @return this resource
+     */
+    public ResourceManageableAbstract addUtilizationTrigger(@NonNull final UtilizationTrigger trigger) {
+        if (utilizationTriggers.isEmpty()) {
+            utilizationTriggers = new ArrayList<>(1);
+        }
+
+        utilizationTriggers.add(trigger);
+        return this;
+    }
+
+    /**
+     * Removes a trigger monitoring the utilization of this resource.
+     *
+     * @param trigger the trigger to remove
+     * @return true if the trigger was removed, false if it was not added to this resource
+     */
+    public boolean removeUtilizationTrigger(final UtilizationTrigger trigger) {
+        return !utilizationTriggers.isEmpty() && utilizationTriggers.remove(trigger);
+    }
+
+    /**
+     * Checks the current {@link #getPercentUtilization() utilization} against all the
+     * {@link #addUtilizationTrigger(UtilizationTrigger) registered triggers},
+     * which notify their listeners just when a threshold is crossed.
+     *
+     * @param time the current simulation time
+     */
+    public void updateUtilizationTriggers(final double time) {
+        if (utilizationTriggers.isEmpty()) {
+            return;
+        }
+
+        final double utilization = getPercentUtilization();
+        //Uses indexed loop to avoid ConcurrentModificationException if a listener changes the triggers
+        for (int i = 0; i < utilizationTriggers.size(); i++) {
+            utilizationTriggers.get(i).update(utilization, time);
+        }
+    }
+
     @Override
     public String toString() {
         return "%s: used %d of %d".formatted(getClass().getSimpleName(), getAllocatedResource(), getCapacity());
@@ -11,10 +11,9 @@ package org.cloudsimplus.resources;
 import lombok.Getter;
 import lombok.NonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import org.cloudsimplus.util.FenwickTree;
+
+import java.util.*;
 
 /**
  * SanStorage represents a Storage Area Network (SAN) composed of a set of
@@ -26,6 +25,10 @@ import java.util.Optional;
  * not considered in the simulation. So, time for file transfer is underestimated in the presence of
  * high network load.</p>
  *
+ * <p>Files are indexed by name and the sizes of stored files are kept in a {@link FenwickTree},
+ * in the order files were added. This way, finding a file and computing its seek time
+ * (which depends on the total size of the files stored before it) take O(log n) time.</p>
+ *
  * @author Rodrigo N. Calheiros
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 1.0
@@ -59,11 +62,46 @@ public class SanStorage extends HarddriveStorage {
     @Getter
     private double networkLatency;
 
-    /** @see #getFileNameList() */
-    private final List<String> fileNameList;
+    /**
+     * The minimum number of slots to consider {@link #compactSlots() compacting} them.
+     */
+    private static final int MIN_SLOTS_TO_COMPACT = 32;
+
+    /**
+     * The stored files, in the order they were added.
+     * Slots of removed files are set to null until they are {@link #compactSlots() compacted}.
+     */
+    private final List<File> slots;
+
+    /**
+     * Maps the name of each stored file to its index in the {@link #slots} list.
+     */
+    private final Map<String, Integer> slotsByName;
+
+    /**
+     * The size of the file in each slot (0 for empty slots),
+     * used to get the total size of the files before a given one.
+     */
+    private final FenwickTree slotSizes;
+
+    /**
+     * Indicates which slots contain files marked as deleted.
+     * @see File#isDeleted()
+     */
+    private final BitSet deletedSlots;
+
+    /** @see #getDeletedFilesTotalSize() */
+    private long deletedFilesTotalSize;
+
+    /**
+     * A cache for the {@link #getFileList()}, which is null when it has to be rebuilt.
+     */
+    private List<File> fileList;
 
-    /** @see #getFileList() */
-    private final List<File> fileList;
+    /**
+     * A cache for the {@link #getFileNameList()}, which is null when it has to be rebuilt.
+     */
+    private List<String> fileNameList;
 
     /**
      * Creates a SAN with a given capacity, latency, and bandwidth of the network connection.
@@ -92,8 +130,10 @@ public class SanStorage extends HarddriveStorage {
         this.setBandwidth(bandwidth);
         this.setNetworkLatency(networkLatency);
 
-        this.fileList = new ArrayList<>();
-        this.fileNameList = new ArrayList<>();
+        this.slots = new ArrayList<>();
+        this.slotsByName = new HashMap<>();
+        this.slotSizes = new FenwickTree();
+        this.deletedSlots = new BitSet();
         this.reservedStorage = new SimpleStorage(capacity);
     }
 
@@ -106,6 +146,7 @@ public class SanStorage extends HarddriveStorage {
      * @return the time (in seconds) required to add the file
      */
     public double addReservedFile(@NonNull final File file) {
+        validateFileStorage(file);
         if (!reservedStorage.isResourceAmountBeingUsed(file.getSize())) {
             throw new IllegalStateException("The file size wasn't previously reserved in order to add a reserved file.");
         }
@@ -148,16 +189,17 @@ public class SanStorage extends HarddriveStorage {
      * @param file the file to be added
      * @return the time taken (in seconds) for adding the specified file or zero if
      * there isn't available storage space.
+     * @throws IllegalArgumentException when the file is stored in another storage
      */
     public double addFile(final File file) {
         double time = 0.0;
         File.validate(file);
+        validateFileStorage(file);
 
         if (!getStorage().isAmountAvailable(file.getSize())) {
             LOGGER.error("{}.addFile(): Not enough space to store {}", getName(), file.getName());
         } else if (!contains(file.getName())) { // check if the same file name is already taken
-            fileList.add(file);               // add the file into the HD
-            fileNameList.add(file.getName());     // add the name to the name list
+            addSlot(file);
             getStorage().allocateResource(file.getSize());    // increment the current HD space
             time = getTotalFileAddTime(file);
             file.setTransactionTime(time);
@@ -170,6 +212,22 @@ public class SanStorage extends HarddriveStorage {
         return time + getTransferTime(file);
     }
 
+    /**
+     * Checks if a file isn't stored in another storage, since a file
+     * keeps track of a single storage to notify about its changes.
+     * A {@link File#File(File) replica} must be created to store the file in another storage.
+     *
+     * @param file the file to check
+     * @throws IllegalArgumentException when the file is stored in another storage
+     */
+    private void validateFileStorage(final File file) {
+        final var fileStorage = file.getStorage();
+        if (fileStorage != null && fileStorage != this) {
+            throw new IllegalArgumentException(
+                "%s is already stored in %s. Create a replica to store it in %s.".formatted(file.getName(), fileStorage.getName(), getName()));
+        }
+    }
+
     /**
      * Sets the bandwidth of the SAN network (in Megabits/s).
      *
@@ -209,7 +267,7 @@ public class SanStorage extends HarddriveStorage {
      * @return the number of stored files
      */
     public int getNumStoredFile() {
-        return fileList.size();
+        return slotsByName.size();
     }
 
     /**
@@ -255,8 +313,12 @@ public class SanStorage extends HarddriveStorage {
         return getFile(fileName).isPresent();
     }
 
-    private int getDeletedFilesTotalSize() {
-        return fileList.stream().filter(File::isDeleted).mapToInt(File::getSize).sum();
+    /**
+     * {@return the total size of the stored files marked as deleted}
+     * @see File#isDeleted()
+     */
+    private long getDeletedFilesTotalSize() {
+        return deletedFilesTotalSize;
     }
 
     /**
@@ -269,23 +331,20 @@ public class SanStorage extends HarddriveStorage {
     public Optional<File> getFile(final String fileName) {
         File.validate(fileName);
 
-        int size = 0;
-
-        // find the file in the disk
-        for (final File currentFile : fileList) {
-            size += currentFile.getSize();
-            if (currentFile.getName().equals(fileName)) {
-                // if the file is found, then determine the time taken to get it
-                final double seekTime = getSeekTime(size);
-                final double transferTime = getTransferTime(currentFile.getSize());
-
-                // total time for this operation
-                currentFile.setTransactionTime(seekTime + transferTime);
-                return Optional.of(currentFile);
-            }
+        final Integer slot = slotsByName.get(fileName);
+        if (slot == null) {
+            return Optional.empty();
         }
 
-        return Optional.empty();
+        // the seek time considers the size of all files up to the one found
+        final File file = slots.get(slot);
+        final long size = slotSizes.prefixSum(slot);
+        final double seekTime = getSeekTime((int) Math.min(size, Integer.MAX_VALUE));
+        final double transferTime = getTransferTime(file.getSize());
+
+        // total time for this operation
+        file.setTransactionTime(seekTime + transferTime);
+        return Optional.of(file);
     }
 
     /**
@@ -294,7 +353,11 @@ public class SanStorage extends HarddriveStorage {
      * @return a List of file names
      */
     public List<String> getFileNameList() {
-        return Collections.unmodifiableList(fileNameList);
+        if (fileNameList == null) {
+            fileNameList = getFileList().stream().map(File::getName).toList();
+        }
+
+        return fileNameList;
     }
 
     /**
@@ -303,7 +366,11 @@ public class SanStorage extends HarddriveStorage {
      * @return a List of files
      */
     public List<File> getFileList() {
-        return Collections.unmodifiableList(fileList);
+        if (fileList == null) {
+            fileList = slots.stream().filter(Objects::nonNull).toList();
+        }
+
+        return fileList;
     }
 
     /**
@@ -365,9 +432,9 @@ public class SanStorage extends HarddriveStorage {
     public Optional<File> deleteFile(final String fileName) {
         File.validate(fileName);
 
-        final int index = fileNameList.indexOf(fileName);
-        if (index != -1) {
-            final File file = fileList.get(index);
+        final Integer slot = slotsByName.get(fileName);
+        if (slot != null) {
+            final File file = slots.get(slot);
             final double result = deleteFile(file);
             file.setTransactionTime(result);
             return Optional.of(file);
@@ -388,8 +455,7 @@ public class SanStorage extends HarddriveStorage {
 
         double time = 0.0;
         if (contains(file)) {
-            fileList.remove(file);
-            fileNameList.remove(file.getName());
+            removeSlot(slotsByName.get(file.getName()));
             getStorage().deallocateResource(file.getSize());
             time = this.getTotalFileAddTime(file);
             file.setTransactionTime(time);
@@ -422,8 +488,8 @@ public class SanStorage extends HarddriveStorage {
             .map(fileFound -> {
                 fileFound.setName(newName);
                 fileFound.setTransactionTime(0);
-                fileNameList.remove(oldName);
-                fileNameList.add(newName);
+                slotsByName.put(newName, slotsByName.remove(oldName));
+                fileNameList = null;
                 return fileFound;
             }).isPresent();
     }
@@ -445,6 +511,97 @@ public class SanStorage extends HarddriveStorage {
      * @return true if the file is in the storage, false otherwise
      */
     public boolean contains(@NonNull final String fileName) {
-        return fileNameList.contains(fileName);
+        return slotsByName.containsKey(fileName);
+    }
+
+    /**
+     * Stores a file in a new slot at the end of the {@link #slots} list.
+     * @param file the file to store
+     */
+    private void addSlot(final File file) {
+        final int slot = slots.size();
+        slots.add(file);
+        slotsByName.put(file.getName(), slot);
+        slotSizes.add(0);
+        updateSlot(slot, file.getSize(), file.isDeleted());
+        file.setStorage(this);
+        invalidateFileLists();
+    }
+
+    /**
+     * Removes the file from a given slot, leaving the slot empty.
+     * @param slot the index of the slot to remove the file from
+     */
+    private void removeSlot(final int slot) {
+        final File file = slots.set(slot, null);
+        slotsByName.remove(file.getName());
+        updateSlot(slot, 0, false);
+        file.setStorage(null);
+        invalidateFileLists();
+
+        final int emptySlots = slots.size() - slotsByName.size();
+        if (slots.size() >= MIN_SLOTS_TO_COMPACT && emptySlots > slots.size() / 2) {
+            compactSlots();
+        }
+    }
+
+    /**
+     * Updates the size and deletion status of the file in a given slot,
+     * keeping the {@link #getDeletedFilesTotalSize() size of deleted files} updated.
+     *
+     * @param slot the index of the slot to update
+     * @param size the new file size
+     * @param deleted the new deletion status of the file
+     */
+    private void updateSlot(final int slot, final long size, final boolean deleted) {
+        if (deletedSlots.get(slot)) {
+            deletedFilesTotalSize -= slotSizes.get(slot);
+        }
+
+        slotSizes.set(slot, size);
+        deletedSlots.set(slot, deleted);
+        if (deleted) {
+            deletedFilesTotalSize += size;
+        }
+    }
+
+    /**
+     * Removes the empty slots from the {@link #slots} list, keeping the order of the files.
+     */
+    private void compactSlots() {
+        final var files = getFileList();
+        final long[] sizes = new long[files.size()];
+        slots.clear();
+        slotsByName.clear();
+        deletedSlots.clear();
+        deletedFilesTotalSize = 0;
+        for (int slot = 0; slot < sizes.length; slot++) {
+            final File file = files.get(slot);
+            slots.add(file);
+            slotsByName.put(file.getName(), slot);
+            sizes[slot] = file.getSize();
+            if (file.isDeleted()) {
+                deletedSlots.set(slot);
+                deletedFilesTotalSize += sizes[slot];
+            }
+        }
+
+        slotSizes.reset(sizes, sizes.length);
+    }
+
+    private void invalidateFileLists() {
+        fileList = null;
+        fileNameList = null;
+    }
+
+    /**
+     * Updates the information about a stored file after its size or deletion status changes.
+     * @param file the file that has changed
+     */
+    void updateFile(final File file) {
+        final Integer slot = slotsByName.get(file.getName());
+        if (slot != null && slots.get(slot) == file) {
+            updateSlot(slot, file.getSize(), file.isDeleted());
+        }
     }
 }
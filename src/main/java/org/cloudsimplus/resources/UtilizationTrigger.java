@@ -0,0 +1,186 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.resources;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A trigger that monitors the percentage of utilization of a {@link ResourceManageable resource}
+ * and notifies a {@link Listener} only when the utilization crosses a lower or upper threshold,
+ * instead of having the utilization checked against the thresholds by every interested party
+ * at every processing update.
+ *
+ * <p>To avoid notifications flapping when the utilization oscillates around a threshold,
+ * a hysteresis band is applied: an {@link State#OVERLOADED overloaded} resource
+ * just gets back to the {@link State#NORMAL normal} state when its utilization
+ * falls to {@code upperThreshold - hysteresis} or below.
+ * Likewise, an {@link State#UNDERLOADED underloaded} resource
+ * just gets back to normal when its utilization rises to {@code lowerThreshold + hysteresis} or above.</p>
+ *
+ * <p>Triggers are registered into a resource by {@link ResourceManageableAbstract#addUtilizationTrigger(UtilizationTrigger)}.
+ * A trigger is re-armed (moved back to the normal state) when the resource capacity changes
+ * (such as after the resource is vertically scaled), so that a resource which is still
+ * under or overloaded with its new capacity fires the trigger again.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+@Getter
+public final class UtilizationTrigger {
+    /**
+     * The states of a resource regarding the thresholds of a {@link UtilizationTrigger}.
+     */
+    public enum State {
+        /** The utilization is between the thresholds. */
+        NORMAL,
+        /** The utilization is below the lower threshold. */
+        UNDERLOADED,
+        /** The utilization is above the upper threshold. */
+        OVERLOADED
+    }
+
+    /**
+     * A listener notified when a {@link UtilizationTrigger} changes its {@link State}.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Notifies that a utilization threshold was crossed.
+         *
+         * @param trigger the trigger whose {@link UtilizationTrigger#getState() state} has changed
+         * @param previousState the state before the threshold was crossed
+         * @param time the simulation time the threshold crossing was detected
+         */
+        void thresholdCrossed(UtilizationTrigger trigger, State previousState, double time);
+    }
+
+    /**
+     * The utilization percentage (in scale from 0 to 1) below which the resource is underloaded.
+     */
+    private final double lowerThreshold;
+
+    /**
+     * The utilization percentage (in scale from 0 to 1) above which the resource is overloaded.
+     */
+    private final double upperThreshold;
+
+    /**
+     * The utilization percentage (in scale from 0 to 1) the resource must move away from a crossed threshold
+     * to get back to the {@link State#NORMAL normal} state.
+     */
+    private final double hysteresis;
+
+    private final Listener listener;
+
+    /**
+     * The current state of the resource regarding the thresholds.
+     */
+    private State state;
+
+    /**
+     * The last utilization percentage (in scale from 0 to 1) checked by the trigger.
+     */
+    private double lastUtilization;
+
+    /**
+     * Creates a utilization trigger.
+     *
+     * @param lowerThreshold the utilization percentage (in scale from 0 to 1) below which the resource is underloaded
+     * @param upperThreshold the utilization percentage (in scale from 0 to 1) above which the resource is overloaded
+     * @param hysteresis the utilization percentage (in scale from 0 to 1) the resource must move away
+     *                   from a crossed threshold to get back to the normal state
+     * @param listener the listener to notify when a threshold is crossed
+     * @throws IllegalArgumentException when the thresholds are not in scale from 0 to 1,
+     *         the lower threshold is not lower than the upper one or the hysteresis
+     *         is negative or so large that the hysteresis bands of both thresholds overlap
+     */
+    public UtilizationTrigger(
+        final double lowerThreshold, final double upperThreshold,
+        final double hysteresis, @NonNull final Listener listener)
+    {
+        if (lowerThreshold < 0 || upperThreshold > 1 || lowerThreshold >= upperThreshold) {
+            throw new IllegalArgumentException(
+                "Thresholds must be in scale from 0 to 1, with the lower one less than the upper one.");
+        }
+
+        if (hysteresis < 0 || lowerThreshold + hysteresis > upperThreshold - hysteresis) {
+            throw new IllegalArgumentException(
+                "Hysteresis must be non-negative and cannot make the bands of the lower and upper thresholds overlap.");
+        }
+
+        this.lowerThreshold = lowerThreshold;
+        this.upperThreshold = upperThreshold;
+        this.hysteresis = hysteresis;
+        this.listener = listener;
+        this.state = State.NORMAL;
+    }
+
+    /**
+     * Checks a new utilization value, notifying the {@link Listener} if a threshold is crossed.
+     *
+     * @param utilization the utilization percentage (in scale from 0 to 1)
+     * @param time the current simulation time
+     * @return true if a threshold was crossed, false otherwise
+     */
+    public boolean update(final double utilization, final double time) {
+        this.lastUtilization = utilization;
+        final State previousState = state;
+        state = nextState(utilization);
+        if (state == previousState) {
+            return false;
+        }
+
+        listener.thresholdCrossed(this, previousState, time);
+        return true;
+    }
+
+    private State nextState(final double utilization) {
+        if (utilization > upperThreshold) {
+            return State.OVERLOADED;
+        }
+
+        if (utilization < lowerThreshold) {
+            return State.UNDERLOADED;
+        }
+
+        if (state == State.OVERLOADED && utilization > upperThreshold - hysteresis) {
+            return State.OVERLOADED;
+        }
+
+        if (state == State.UNDERLOADED && utilization < lowerThreshold + hysteresis) {
+            return State.UNDERLOADED;
+        }
+
+        return State.NORMAL;
+    }
+
+    /**
+     * Re-arms the trigger, moving it back to the {@link State#NORMAL normal} state without notifying the listener.
+     * This way, the next {@link #update(double, double) update} fires the trigger again
+     * if the utilization is still beyond a threshold.
+     */
+    public void reset() {
+        this.state = State.NORMAL;
+    }
+}
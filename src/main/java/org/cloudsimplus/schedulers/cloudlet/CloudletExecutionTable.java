@@ -0,0 +1,183 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.schedulers.cloudlet;
+
+import org.cloudsimplus.cloudlets.CloudletExecution;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A structure-of-arrays table holding, for each Cloudlet in the execution list
+ * of a {@link CloudletSchedulerAbstract}, the primitive values required to update
+ * its processing at a given simulation time.
+ * Each row {@code i} refers to the {@link CloudletExecution} at index {@code i}
+ * of the {@link CloudletScheduler#getCloudletExecList() execution list}.
+ *
+ * <p>Values which require calling {@link CloudletExecution} and
+ * {@link org.cloudsimplus.utilizationmodels.UtilizationModel} objects
+ * (or which change VM resource allocation) are gathered row by row by the scheduler.
+ * Then the executed length and the estimated finish time of all Cloudlets
+ * are computed in tight loops over the primitive arrays, avoiding
+ * virtual calls and pointer chasing for each Cloudlet.</p>
+ *
+ * <p>This table is just a transient working area for the scheduler.
+ * {@link CloudletExecution} objects are still the view provided for API callers.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class CloudletExecutionTable {
+    private static final int DEF_CAPACITY = 16;
+
+    /** The number of rows in use. */
+    private int size;
+
+    /**
+     * The Cloudlets in each row, which is a snapshot of the execution list
+     * taken when the table is {@link #reset(List) reset}.
+     * That ensures the rows keep matching their Cloudlets if the execution list
+     * is changed during the update (for instance, by a listener cancelling some Cloudlet).
+     */
+    CloudletExecution[] cloudlets;
+
+    /** The number of PEs required by each Cloudlet. */
+    long[] pes;
+
+    /** Indicates if it's time to update the processing of each Cloudlet. */
+    boolean[] updatable;
+
+    /** The MIPS allocated to each PE of each Cloudlet. */
+    double[] allocatedMips;
+
+    /**
+     * The time each Cloudlet actually spent processing since the last update,
+     * excluding delays due to RAM/BW over-subscription.
+     */
+    double[] processingTime;
+
+    /** The length (in MI) each Cloudlet executed since the last update. */
+    long[] executedMI;
+
+    /** The remaining length (in MI) of each Cloudlet after the update. */
+    long[] remainingLength;
+
+    /** The remaining lifetime (in seconds) of each Cloudlet after the update. */
+    double[] remainingLifeTime;
+
+    /** The last MIPS actually allocated for each Cloudlet. */
+    double[] lastAllocatedMips;
+
+    CloudletExecutionTable() {
+        cloudlets = new CloudletExecution[DEF_CAPACITY];
+        pes = new long[DEF_CAPACITY];
+        updatable = new boolean[DEF_CAPACITY];
+        allocatedMips = new double[DEF_CAPACITY];
+        processingTime = new double[DEF_CAPACITY];
+        executedMI = new long[DEF_CAPACITY];
+        remainingLength = new long[DEF_CAPACITY];
+        remainingLifeTime = new double[DEF_CAPACITY];
+        lastAllocatedMips = new double[DEF_CAPACITY];
+    }
+
+    /**
+     * Resets the table to store a given list of Cloudlets, growing the arrays if required.
+     * The Cloudlet and the number of PEs of each row are set,
+     * while other values must be set by the scheduler.
+     * @param execList the list of executing Cloudlets to store
+     */
+    void reset(final List<CloudletExecution> execList) {
+        final int size = execList.size();
+        if (size > pes.length) {
+            final int capacity = Math.max(size, pes.length * 2);
+            cloudlets = Arrays.copyOf(cloudlets, capacity);
+            pes = Arrays.copyOf(pes, capacity);
+            updatable = Arrays.copyOf(updatable, capacity);
+            allocatedMips = Arrays.copyOf(allocatedMips, capacity);
+            processingTime = Arrays.copyOf(processingTime, capacity);
+            executedMI = Arrays.copyOf(executedMI, capacity);
+            remainingLength = Arrays.copyOf(remainingLength, capacity);
+            remainingLifeTime = Arrays.copyOf(remainingLifeTime, capacity);
+            lastAllocatedMips = Arrays.copyOf(lastAllocatedMips, capacity);
+        }
+
+        this.size = size;
+        for (int i = 0; i < size; i++) {
+            cloudlets[i] = execList.get(i);
+            pes[i] = cloudlets[i].getPesNumber();
+        }
+    }
+
+    /**
+     * Releases the references to the Cloudlets stored in the table,
+     * so that finished Cloudlets can be garbage collected.
+     */
+    void clear() {
+        Arrays.fill(cloudlets, 0, size, null);
+        size = 0;
+    }
+
+    /** {@return the number of rows in use} */
+    int size() {
+        return size;
+    }
+
+    /** {@return the total number of PEs required by all Cloudlets} */
+    long totalPes() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += pes[i];
+        }
+
+        return total;
+    }
+
+    /**
+     * Computes the length (in MI) each Cloudlet executed since the last update,
+     * according to its allocated MIPS and actual processing time.
+     */
+    void computeExecutedMI() {
+        for (int i = 0; i < size; i++) {
+            executedMI[i] = (long) (allocatedMips[i] * processingTime[i]);
+        }
+    }
+
+    /**
+     * Computes the estimated finish time of every Cloudlet
+     * (which is a relative delay from the current simulation time).
+     *
+     * @param minTimeBetweenEvents the minimum time between events
+     * @return the estimated finish time of the earliest finishing Cloudlet
+     * or {@link Double#MAX_VALUE} if there is no Cloudlet
+     */
+    double computeNextFinishTime(final double minTimeBetweenEvents) {
+        double nextFinishTime = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            final double finishTimeForRemainingLen = remainingLength[i] / lastAllocatedMips[i];
+            final double estimatedFinishTime = Math.min(remainingLifeTime[i], finishTimeForRemainingLen);
+            nextFinishTime = Math.min(nextFinishTime, Math.max(estimatedFinishTime, minTimeBetweenEvents));
+        }
+
+        return nextFinishTime;
+    }
+}
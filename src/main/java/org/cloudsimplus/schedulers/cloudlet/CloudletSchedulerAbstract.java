@@ -91,6 +91,14 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     @Getter(AccessLevel.NONE)
     private final List<EventListener<CloudletResourceAllocationFailEventInfo>> resourceAllocationFailListeners;
 
+    /**
+     * A structure-of-arrays working area used to update the processing of executing Cloudlets
+     * when the {@link #isExecutionTableEnabled() execution table is enabled}.
+     * It's created on demand.
+     */
+    @Getter(AccessLevel.NONE)
+    private transient CloudletExecutionTable executionTable;
+
     /**
      * Creates a CloudletScheduler.
      */
@@ -153,7 +161,16 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
          *       other schedulers such as the CloudletSchedulerCompletelyFair,
          *       which in fact performs task preemption.
         */
-        final long totalAllExecCloudletsPes = totalAllExecCloudletsPes();
+        return getAvailableMipsByPe(totalAllExecCloudletsPes());
+    }
+
+    /**
+     * Gets the amount of MIPS available (free) for each Processor PE.
+     * @param totalAllExecCloudletsPes the total number of PEs of all cloudlets currently executing
+     * @return the amount of available MIPS for each Processor PE.
+     * @see #getAvailableMipsByPe()
+     */
+    private double getAvailableMipsByPe(final long totalAllExecCloudletsPes){
         if(totalAllExecCloudletsPes > currentMipsShare.pes()) {
             return getTotalMipsShare() / totalAllExecCloudletsPes;
         }
@@ -506,6 +523,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private double updateCloudletsProcessing(final double currentTime) {
+        if(isExecutionTableEnabled()) {
+            return updateCloudletsProcessingThroughTable(currentTime);
+        }
+
         double nextCloudletFinishTime = Double.MAX_VALUE;
         long usedPes = 0;
         /* Uses an indexed for to avoid ConcurrentModificationException,
@@ -522,6 +543,114 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return nextCloudletFinishTime;
     }
 
+    /**
+     * Indicates if the processing of executing Cloudlets is updated through a
+     * {@link CloudletExecutionTable}, which stores the values required for such an update
+     * in primitive arrays, so that the executed length and estimated finish time of all
+     * Cloudlets are computed in tight loops.
+     * The result is the same as processing each {@link CloudletExecution} individually,
+     * but {@link #updateCloudletProcessing(CloudletExecution, double)} and
+     * {@link #cloudletEstimatedFinishTime(CloudletExecution, double)} are not called.
+     * Therefore, it must be disabled for subclasses overriding such methods.
+     *
+     * @return true if the execution table is enabled, false otherwise (the default)
+     */
+    protected boolean isExecutionTableEnabled() {
+        return false;
+    }
+
+    /**
+     * Updates the processing of all cloudlets in the {@link #getCloudletExecList() cloudlet execution list}
+     * using a {@link CloudletExecutionTable}.
+     * The values depending on {@link CloudletExecution} objects or changing VM resource allocation
+     * are gathered in the original order of Cloudlets.
+     * Then, the executed length and estimated finish time are computed over the table,
+     * which are finally written back to the {@link CloudletExecution} objects.
+     *
+     * @param currentTime current simulation time
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @see #isExecutionTableEnabled()
+     */
+    private double updateCloudletsProcessingThroughTable(final double currentTime) {
+        if(executionTable == null) {
+            executionTable = new CloudletExecutionTable();
+        }
+
+        final var table = executionTable;
+        table.reset(cloudletExecList);
+        final int size = table.size();
+        final long usedPes = table.totalPes();
+        final double availableMipsByPe = getAvailableMipsByPe(usedPes);
+        final double timeSpan = timeSpan(currentTime);
+
+        for (int i = 0; i < size; i++) {
+            gatherCloudletProcessing(table, i, table.cloudlets[i], currentTime, timeSpan, availableMipsByPe);
+        }
+
+        table.computeExecutedMI();
+
+        for (int i = 0; i < size; i++) {
+            final CloudletExecution cle = table.cloudlets[i];
+            final Cloudlet cloudlet = cle.getCloudlet();
+            if(table.updatable[i]) {
+                cle.updateProcessing(table.executedMI[i]);
+            }
+
+            taskScheduler.processCloudletTasks(cloudlet, table.executedMI[i]);
+            cle.setLastAllocatedMips(table.allocatedMips[i]);
+            table.lastAllocatedMips[i] = cle.getLastAllocatedMips();
+            table.remainingLength[i] = cle.getRemainingCloudletLength();
+            table.remainingLifeTime[i] = cle.getRemainingLifeTime();
+        }
+
+        ((VmSimple) vm).setFreePesNumber(vm.getPesNumber() - usedPes);
+        final double nextCloudletFinishTime = table.computeNextFinishTime(vm.getSimulation().getMinTimeBetweenEvents());
+        table.clear();
+        return nextCloudletFinishTime;
+    }
+
+    /**
+     * Stores into a row of the {@link CloudletExecutionTable} the allocated MIPS and
+     * the actual processing time of a Cloudlet since the last update.
+     * It also updates the VM RAM and BW allocation for the Cloudlet, which must be performed
+     * in the order of the execution list, since the over-subscription delay for a Cloudlet
+     * depends on the resources allocated to the previous ones.
+     *
+     * @param table the table to store the values
+     * @param row the row in the table for the Cloudlet
+     * @param cle the Cloudlet to gather data from
+     * @param currentTime current simulation time
+     * @param timeSpan the time span since the last processing update
+     * @param availableMipsByPe the MIPS available for each PE
+     * @see #cloudletTimeSpanExecutedMI(CloudletExecution, double)
+     */
+    private void gatherCloudletProcessing(
+        final CloudletExecutionTable table, final int row, final CloudletExecution cle,
+        final double currentTime, final double timeSpan, final double availableMipsByPe)
+    {
+        final Cloudlet cloudlet = cle.getCloudlet();
+        table.processingTime[row] = 0;
+        table.updatable[row] = taskScheduler.isTimeToUpdateCloudletProcessing(cloudlet);
+        if(!table.updatable[row]) {
+            table.allocatedMips[row] = getAllocatedMipsForCloudlet(cloudlet, currentTime, availableMipsByPe, "");
+            return;
+        }
+
+        final double processingTimeSpan = hasCloudletFileTransferTimePassed(cle, currentTime) ? timeSpan : 0;
+        final double vMemDelay = getVirtualMemoryDelay(cle, processingTimeSpan);
+        final double reducedBwDelay = getBandwidthOverSubscriptionDelay(cle, processingTimeSpan);
+        final boolean processed = vMemDelay != Double.MIN_VALUE || reducedBwDelay != Double.MIN_VALUE;
+        table.allocatedMips[row] = getAllocatedMipsForCloudlet(cloudlet, currentTime, availableMipsByPe, processed ? "CPU" : "");
+        if(processed) {
+            table.processingTime[row] = processingTimeSpan - (validateDelay(vMemDelay) + validateDelay(reducedBwDelay));
+        }
+
+        updateVmResourceAbsoluteUtilization(cle, ((VmSimple)vm).getRam());
+        updateVmResourceAbsoluteUtilization(cle, ((VmSimple)vm).getBw());
+    }
+
     /**
      * Updates the processing of a specific cloudlet of the Vm using this
      * scheduler. Then process tasks such a Cloudlet may have
@@ -1149,9 +1278,24 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return the current allocated mips for cloudlet
      */
     public double getAllocatedMipsForCloudlet(final CloudletExecution cle, final double time, final boolean log) {
-        final Cloudlet cloudlet = cle.getCloudlet();
-        final String resourceName = log ? "CPU" : "";
-        return getAbsoluteCloudletResourceUtilization(cloudlet, cloudlet.getUtilizationModelCpu(), time, getAvailableMipsByPe(), resourceName, false);
+        return getAllocatedMipsForCloudlet(cle.getCloudlet(), time, getAvailableMipsByPe(), log ? "CPU" : "");
+    }
+
+    /**
+     * Gets the current allocated MIPS for cloudlet, given the MIPS available for each PE.
+     *
+     * @param cloudlet the Cloudlet to get the allocated MIPS
+     * @param time the time
+     * @param availableMipsByPe the MIPS available for each PE
+     * @param resourceName "CPU" to issue a log when the requested resource is larger than the capacity,
+     *                     or an empty string otherwise
+     * @return the current allocated mips for cloudlet
+     */
+    private double getAllocatedMipsForCloudlet(
+        final Cloudlet cloudlet, final double time,
+        final double availableMipsByPe, final String resourceName)
+    {
+        return getAbsoluteCloudletResourceUtilization(cloudlet, cloudlet.getUtilizationModelCpu(), time, availableMipsByPe, resourceName, false);
     }
 
     @Override
@@ -362,6 +362,22 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
                 .min().orElse(Double.MAX_VALUE);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The execution table is never used by this scheduler,
+     * even if enabled by {@link #setExecutionTableEnabled(boolean)}.
+     * The table doesn't call {@link #updateCloudletProcessing(CloudletExecution, double)},
+     * which this scheduler overrides to update the virtual runtime of each Cloudlet.
+     * Without that, the order Cloudlets are picked to run would be wrong.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isExecutionTableEnabled() {
+        return false;
+    }
+
     @Override
     public long updateCloudletProcessing(final CloudletExecution cle, final double currentTime) {
         /*
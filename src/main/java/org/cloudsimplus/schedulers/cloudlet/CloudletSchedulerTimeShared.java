@@ -77,6 +77,9 @@ public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
     @Serial
     private static final long serialVersionUID = 2115862129708036038L;
 
+    /** @see #isExecutionTableEnabled() */
+    private boolean executionTableEnabled;
+
     /**
      * {@inheritDoc}
      *
@@ -93,6 +96,38 @@ public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
         return super.getCloudletWaitingList();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Since all Cloudlets in the execution list share the VM PEs,
+     * this scheduler can update them at once through the execution table,
+     * if it was enabled by {@link #setExecutionTableEnabled(boolean)}.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isExecutionTableEnabled() {
+        return executionTableEnabled;
+    }
+
+    /**
+     * Enables or disables the update of executing Cloudlets through a {@link CloudletExecutionTable},
+     * which is faster when there are many Cloudlets running at the same time.
+     * It's disabled by default, since the table doesn't call
+     * {@link #updateCloudletProcessing(CloudletExecution, double)} and
+     * {@link #cloudletEstimatedFinishTime(CloudletExecution, double)}.
+     * It must not be enabled for subclasses overriding any of these methods.
+     * Schedulers that always process Cloudlets one by one
+     * (such as the {@link CloudletSchedulerCompletelyFair}) ignore this setting.
+     *
+     * @param enabled true to enable the execution table, false to disable it
+     * @return this scheduler
+     */
+    public CloudletSchedulerTimeShared setExecutionTableEnabled(final boolean enabled) {
+        this.executionTableEnabled = enabled;
+        return this;
+    }
+
     /**
      * Moves a Cloudlet that was paused and has just been resumed to the
      * Cloudlet execution list.
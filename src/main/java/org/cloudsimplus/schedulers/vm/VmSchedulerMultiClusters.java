@@ -14,6 +14,7 @@ import org.cloudsimplus.schedulers.MipsShare;
 import org.cloudsimplus.vms.*;
 import org.cloudsimplus.vms.VmOversubscribable;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicyFirstFit;
+import org.cloudsimplus.util.RollingPercentileSketch;
 
 import java.util.Iterator;
 import java.util.List;
@@ -66,6 +67,82 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
     protected List<Pe> peList;
     protected Integer criticalSize;
 
+    /**
+     * The number of buckets of the sketches of vCluster utilization,
+     * i.e. their resolution is 1% of the vCluster vCPUs.
+     */
+    private static final int DEMAND_SKETCH_BUCKETS = 100;
+
+    /**
+     * Sketches of the utilization of each vCluster (its aggregated CPU demand divided by its vCPUs),
+     * used for predictive admission (empty if it's disabled).
+     * @see #enablePredictiveAdmission(int, double, int)
+     */
+    protected Map<Float, RollingPercentileSketch> demandSketches;
+
+    /**
+     * The minimum number of samples of a vCluster utilization required to use it for predictive admission.
+     */
+    private int minDemandSamples;
+
+    /**
+     * The maximum ratio between the static footprint of the host and its working PEs
+     * when VMs are admitted by predictive admission.
+     */
+    private double maxStaticFootprintRatio;
+
+    /**
+     * The last (integer) simulation time vCluster utilization was sampled.
+     */
+    private double lastDemandSampleTime;
+
+    /**
+     * The CPU demand and physical capacity of each vCluster.
+     */
+    protected Map<Float, VClusterShare> sharePerOversubscription;
+
+    /**
+     * The last CPU demand (in MIPS) of each VM, used to update the demand of its vCluster incrementally.
+     */
+    protected Map<Vm, Double> demandPerVm;
+
+    /**
+     * Indicates if VMs inside a vCluster compete for the physical PEs backing it.
+     * @see #setContentionAware(boolean)
+     */
+    private boolean contentionAware;
+
+    /**
+     * The last simulation time the demand of VMs was updated.
+     */
+    private double lastDemandUpdateTime;
+
+    /**
+     * The aggregated CPU demand of the VMs inside a vCluster and the capacity of the physical PEs backing it.
+     */
+    protected static final class VClusterShare {
+        /** The sum of the CPU demand (in MIPS) of the VMs inside the vCluster. */
+        private double demand;
+
+        /** The MIPS capacity of the physical PEs reserved for the vCluster. */
+        private double capacity;
+
+        /** The total time (in seconds) the vCluster demand exceeded its capacity. */
+        private double throttledTime;
+
+        private boolean isThrottled(){
+            return demand > capacity;
+        }
+
+        /**
+         * {@return the fraction of the demand that is delivered to VMs}
+         * (1 if the vCluster is not throttled).
+         */
+        private double getDeliveredFraction(){
+            return isThrottled() ? capacity/demand : 1;
+        }
+    }
+
     /**
      * Creates a time-shared VM scheduler.
      *
@@ -86,9 +163,14 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
         this.consumerPerOversubscription = new HashMap<Float, List<VmOversubscribable>>();
         this.resourceCountPerOversubscription = new HashMap<Float, Long>();
         this.criticalSize = 2;
+        this.demandSketches = new HashMap<Float, RollingPercentileSketch>();
+        this.lastDemandSampleTime = -1;
+        this.sharePerOversubscription = new HashMap<Float, VClusterShare>();
+        this.demandPerVm = new HashMap<Vm, Double>();
         for(Float oversubscription : oversubscriptionLevels){
             this.consumerPerOversubscription.put(oversubscription, new ArrayList<VmOversubscribable>());
             this.resourceCountPerOversubscription.put(oversubscription, new Long(0));
+            this.sharePerOversubscription.put(oversubscription, new VClusterShare());
         }
     }
 
@@ -99,6 +181,8 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
             Float oversubscriptionLevel = ((VmOversubscribable)vm).getOversubscriptionLevel();
             consumerPerOversubscription.get(oversubscriptionLevel).add((VmOversubscribable)vm);
             resourceCountPerOversubscription.put(oversubscriptionLevel, requestedMips.pes() + resourceCountPerOversubscription.get(oversubscriptionLevel));
+            demandPerVm.put(vm, 0.0);
+            updateCapacity(oversubscriptionLevel);
             debug(null);
         }
         return success;
@@ -141,8 +225,115 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
         return hostPe.getPeProvisioner().getAvailableResource();
     }
 
+    /**
+     * Enables predictive admission: instead of the static {@code ceil(vCPUs / oc)} footprint,
+     * a VM is admitted if the predicted peak demand of the host plus the worst-case demand of the VM
+     * (all its vCPUs fully used) fits into its working PEs.
+     * The predicted peak demand of a vCluster is a rolling percentile of its utilization
+     * (sampled at most once a second when the host processing is updated) times its vCPUs.
+     * While some non-empty vCluster doesn't have enough samples, the static admission is used.
+     * The static footprint isn't limited when VMs are admitted by prediction.
+     *
+     * @param windowSize the number of last utilization samples of each vCluster to consider
+     * @param percentile the percentile of utilization used to predict the peak demand, in scale from 0 to 1 (such as 0.95)
+     * @param minSamples the minimum number of samples of a vCluster required to predict its demand
+     * @see #enablePredictiveAdmission(int, double, int, double)
+     */
+    public void enablePredictiveAdmission(final int windowSize, final double percentile, final int minSamples){
+        enablePredictiveAdmission(windowSize, percentile, minSamples, Double.MAX_VALUE);
+    }
+
+    /**
+     * Enables predictive admission, limiting the static footprint of the host when VMs are admitted by prediction.
+     *
+     * @param windowSize the number of last utilization samples of each vCluster to consider
+     * @param percentile the percentile of utilization used to predict the peak demand, in scale from 0 to 1 (such as 0.95)
+     * @param minSamples the minimum number of samples of a vCluster required to predict its demand
+     * @param maxStaticFootprintRatio the maximum ratio between the static footprint of the host (including the VM being admitted)
+     *                                and its working PEs, as a hard cap for predictive admission (such as 1.5)
+     * @see #enablePredictiveAdmission(int, double, int)
+     */
+    public void enablePredictiveAdmission(
+        final int windowSize, final double percentile, final int minSamples, final double maxStaticFootprintRatio)
+    {
+        if(minSamples < 1 || minSamples > windowSize)
+            throw new IllegalArgumentException("The minimum number of samples must be in the range [1, windowSize].");
+        if(maxStaticFootprintRatio < 1)
+            throw new IllegalArgumentException("The maximum static footprint ratio must be at least 1.");
+
+        demandSketches.clear();
+        for(Float oversubscriptionLevel : consumerPerOversubscription.keySet()){
+            demandSketches.put(oversubscriptionLevel, new RollingPercentileSketch(windowSize, percentile, DEMAND_SKETCH_BUCKETS));
+        }
+        this.minDemandSamples = minSamples;
+        this.maxStaticFootprintRatio = maxStaticFootprintRatio;
+    }
+
+    /**
+     * Disables predictive admission, discarding the vCluster utilization samples.
+     * @see #enablePredictiveAdmission(int, double, int)
+     */
+    public void disablePredictiveAdmission(){
+        demandSketches.clear();
+    }
+
+    public boolean isPredictiveAdmission(){
+        return !demandSketches.isEmpty();
+    }
+
+    /**
+     * Samples the utilization of each non-empty vCluster if predictive admission is enabled
+     * and the time (in whole seconds) has changed since the last sample.
+     * @param time the current simulation time
+     */
+    public void updateDemandSketches(final double time){
+        if(demandSketches.isEmpty() || Math.floor(time) <= lastDemandSampleTime)
+            return;
+
+        lastDemandSampleTime = Math.floor(time);
+        for (Map.Entry<Float, RollingPercentileSketch> entry : demandSketches.entrySet()) {
+            long vcpus = resourceCountPerOversubscription.get(entry.getKey());
+            if(vcpus <= 0)
+                continue;
+
+            double demand = 0;
+            for(VmOversubscribable vm : consumerPerOversubscription.get(entry.getKey())){
+                demand += vm.getCpuPercentUtilization() * vm.getPesNumber();
+            }
+            entry.getValue().add(demand/vcpus);
+        }
+    }
+
+    /**
+     * Gets the predicted peak demand (in PEs) of the host, considering an additional VM.
+     * It takes constant time, since it just uses the already computed percentile of each vCluster.
+     *
+     * @param additionalVm a VM to include into its vCluster or null to consider just the current VMs
+     * @return the predicted peak demand or -1 if some non-empty vCluster hasn't enough samples yet
+     */
+    public double getPredictedPeakDemand(VmOversubscribable additionalVm){
+        double demand = 0;
+        for (Map.Entry<Float, RollingPercentileSketch> entry : demandSketches.entrySet()) {
+            long vcpus = resourceCountPerOversubscription.get(entry.getKey());
+            if((additionalVm != null) && additionalVm.getOversubscriptionLevel().equals(entry.getKey()))
+                vcpus += additionalVm.getPesNumber();
+            if(vcpus <= 0)
+                continue;
+
+            RollingPercentileSketch sketch = entry.getValue();
+            if(sketch.getCount() < minDemandSamples)
+                return -1;
+            demand += sketch.getPercentileValue() * vcpus;
+        }
+        return demand;
+    }
+
     /**
      * The non-emptiness of the list is ensured by the {@link VmScheduler#isSuitableForVm(Vm, MipsShare)} method.
+     * If {@link #isPredictiveAdmission() predictive admission} is enabled and there are enough utilization samples,
+     * the VM is admitted if the {@link #getPredictedPeakDemand(VmOversubscribable) predicted peak demand}
+     * of the current VMs plus the VM vCPUs fits.
+     * Otherwise, it's admitted if the static footprint of the host, including the VM, fits into the working PEs.
      */
     @Override
     protected boolean isSuitableForVmInternal(final Vm vm, final MipsShare requestedMips) {
@@ -153,7 +344,15 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
         //System.out.println("> #Debug id" + vmOversubscribable.getId() + " : " + vmOversubscribable.getOversubscriptionLevel() + " " + requestedMips.pes() + "vcpu" + " " + requestedMips.totalMips() + "mips");
         //System.out.println("> #Debug AvailableMips " + getTotalAvailableMips() + " requested mips" + totalRequestedMips);
 
-        return possibleNewHostAllocation <= getHost().getWorkingPesNumber();
+        final long workingPes = getHost().getWorkingPesNumber();
+        if(isPredictiveAdmission()){
+            double predictedDemand = getPredictedPeakDemand(null);
+            if(predictedDemand >= 0)
+                return predictedDemand + vmOversubscribable.getPesNumber() <= workingPes &&
+                       possibleNewHostAllocation <= maxStaticFootprintRatio * workingPes;
+        }
+
+        return possibleNewHostAllocation <= workingPes;
         //return getHost().getWorkingPesNumber() >= requestedMips.pes() && getTotalAvailableMips() >= totalRequestedMips;
     }
 
@@ -201,6 +400,10 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
         Float oversubscriptionLevel = vmOversubscribable.getOversubscriptionLevel();
         consumerPerOversubscription.get(oversubscriptionLevel).remove(vmOversubscribable);
         resourceCountPerOversubscription.put(oversubscriptionLevel, resourceCountPerOversubscription.get(oversubscriptionLevel) - vmOversubscribable.getPesNumber());
+        Double demand = demandPerVm.remove(vm);
+        if(demand != null)
+            sharePerOversubscription.get(oversubscriptionLevel).demand -= demand;
+        updateCapacity(oversubscriptionLevel);
         long afterPes = getUsedResources();
 
         long removedPes = afterPes - beforePes;
@@ -232,6 +435,138 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
         return hostPesAllocation;
     }
 
+    /**
+     * Enables or disables contention among VMs inside the same vCluster.
+     * If enabled, when the aggregated CPU demand of a vCluster exceeds the MIPS capacity of the
+     * physical PEs reserved for it (as given by its static {@code ceil(vCPUs / oc)} footprint),
+     * each VM receives a share of the capacity proportional to its demand.
+     * Otherwise, each VM just receives its requested MIPS.
+     * Demand and {@link #getThrottlingFor(Float) throttling} are tracked by {@link #updateVmDemand(Vm, double)}
+     * and {@link #updateThrottledTime(double)} in both cases, but the {@link org.cloudsimplus.hosts.HostMultiClusters}
+     * just calls them when contention is enabled or its vCluster metrics are collected.
+     *
+     * @param contentionAware true to enable contention, false to disable
+     */
+    public void setContentionAware(final boolean contentionAware){
+        this.contentionAware = contentionAware;
+    }
+
+    public boolean isContentionAware(){
+        return contentionAware;
+    }
+
+    /**
+     * Accumulates the time vClusters were throttled since the last update.
+     * It takes time proportional to the number of vClusters, not VMs.
+     *
+     * @param time the current simulation time
+     */
+    public void updateThrottledTime(final double time){
+        if(time <= lastDemandUpdateTime)
+            return;
+
+        for (VClusterShare share : sharePerOversubscription.values()) {
+            if(share.isThrottled())
+                share.throttledTime += time - lastDemandUpdateTime;
+        }
+        lastDemandUpdateTime = time;
+    }
+
+    /**
+     * Updates the CPU demand of a VM (and so of its vCluster) for the current time,
+     * in constant time. It's called for each VM when its processing is updated,
+     * so that the demand of all VMs is never recomputed at once.
+     *
+     * @param vm the VM to update its demand
+     * @param time the current simulation time
+     */
+    public void updateVmDemand(final Vm vm, final double time){
+        final Double previousDemand = demandPerVm.get(vm);
+        if(previousDemand == null)
+            return;
+
+        final double demand = vm.getCpuPercentRequested(time) * vm.getTotalMipsCapacity();
+        if(demand != previousDemand){
+            demandPerVm.put(vm, demand);
+            sharePerOversubscription.get(((VmOversubscribable)vm).getOversubscriptionLevel()).demand += demand - previousDemand;
+        }
+    }
+
+    /**
+     * Updates the MIPS capacity of the physical PEs reserved for a vCluster, after its VMs change.
+     * @param oversubscriptionLevel the oversubscription level of the vCluster
+     */
+    private void updateCapacity(final Float oversubscriptionLevel){
+        VClusterShare share = sharePerOversubscription.get(oversubscriptionLevel);
+        share.capacity = getHypothethicalPhysicalAllocationOf(Arrays.asList(oversubscriptionLevel)) * (double)getPeCapacity();
+        if(consumerPerOversubscription.get(oversubscriptionLevel).isEmpty())
+            share.demand = 0; // avoids accumulating floating-point errors
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@link #isContentionAware() contention is enabled} and the VM's vCluster is throttled,
+     * the VM receives its demand scaled by the fraction of the vCluster demand that can be delivered.
+     */
+    @Override
+    public MipsShare getAllocatedMips(@NonNull final Vm vm) {
+        final MipsShare mipsShare = super.getAllocatedMips(vm);
+        if(!contentionAware || !(vm instanceof VmOversubscribable vmOversubscribable))
+            return mipsShare;
+
+        final VClusterShare share = sharePerOversubscription.get(vmOversubscribable.getOversubscriptionLevel());
+        final Double demand = demandPerVm.get(vm);
+        if(share == null || demand == null || !share.isThrottled() || mipsShare.pes() == 0)
+            return mipsShare;
+
+        final double mipsPerPe = demand * share.getDeliveredFraction() / mipsShare.pes();
+        return new MipsShare(mipsShare.pes(), Math.min(mipsShare.mips(), mipsPerPe));
+    }
+
+    /**
+     * {@return the aggregated CPU demand (in MIPS) of the VMs in a vCluster}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public double getDemandedMipsFor(Float oversubscription){
+        return sharePerOversubscription.get(oversubscription).demand;
+    }
+
+    /**
+     * {@return the MIPS delivered to the VMs in a vCluster}
+     * which is lower than the demand just if the vCluster is throttled and contention is enabled.
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public double getDeliveredMipsFor(Float oversubscription){
+        VClusterShare share = sharePerOversubscription.get(oversubscription);
+        return contentionAware ? share.demand * share.getDeliveredFraction() : share.demand;
+    }
+
+    /**
+     * {@return the MIPS capacity of the physical PEs reserved for a vCluster}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public double getCapacityMipsFor(Float oversubscription){
+        return sharePerOversubscription.get(oversubscription).capacity;
+    }
+
+    /**
+     * Gets the contention metric of a vCluster: the fraction of its aggregated CPU demand
+     * that exceeds the capacity of the physical PEs reserved for it.
+     * @param oversubscription the oversubscription level of the vCluster
+     * @return the throttling in scale from 0 (no contention) to 1
+     */
+    public double getThrottlingFor(Float oversubscription){
+        return 1 - sharePerOversubscription.get(oversubscription).getDeliveredFraction();
+    }
+
+    /**
+     * {@return the total time (in seconds) the demand of a vCluster exceeded its capacity}
+     * @param oversubscription the oversubscription level of the vCluster
+     */
+    public double getThrottledTimeFor(Float oversubscription){
+        return sharePerOversubscription.get(oversubscription).throttledTime;
+    }
+
     /* getAvailabilityFor(oversubscriptionLevel)
     *  Availability is defined as the number of resources in vcluster available, without having to extend it
     */
@@ -244,6 +579,22 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
         return 0;
     }
 
+    /* getReservedPesFor(oversubscriptionLevel)
+    *  Physical PEs reserved for the vCluster of oversubscriptionLevel, without mutualisation
+    */
+    public long getReservedPesFor(Float oversubscription){
+        return getHypothethicalPhysicalAllocationOf(Arrays.asList(oversubscription));
+    }
+
+    /* getOversubscriptionLevels()
+    *  Oversubscription levels of the vClusters, in ascending order
+    */
+    public List<Float> getOversubscriptionLevels(){
+        List<Float> levels = new ArrayList<Float>(consumerPerOversubscription.keySet());
+        levels.sort(null);
+        return levels;
+    }
+
     /* getSizeFor(oversubscriptionLevel)
     *  Allocation size of oversubscriptionLevel
     */
@@ -252,6 +603,13 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
         return resourceCountPerOversubscription.get(oversubscription); 
     }
 
+    /* getVmCountFor(oversubscriptionLevel)
+    *  Number of VMs in the vCluster of oversubscriptionLevel
+    */
+    public int getVmCountFor(Float oversubscription){
+        return consumerPerOversubscription.get(oversubscription).size();
+    }
+
     public long getUsedResources(){
         return getUsedResources(null);
     }
@@ -285,9 +643,30 @@ public class VmSchedulerMultiClusters extends VmSchedulerAbstract {
             if(oversubscriptionLevel < minimalOversubscription)
                 minimalOversubscription = oversubscriptionLevel;
         }
-        if(size < this.criticalSize)
-            return sumAllocation;
-        return (long) Math.ceil(sumAllocation/minimalOversubscription);
+        return getPhysicalAllocation(sumAllocation, size, minimalOversubscription);
+    }
+
+    /* getUsedResources(vcpus, vms, offset)
+    *  Same as getUsedResources(additionalVm), but for hypothetical vClusters of oversubscription levels 1, 2 and 3,
+    *  whose number of vCPUs and VMs are stored in the given arrays from the offset index on.
+    *  It enables placement heuristics to evaluate hosts without allocating VMs.
+    */
+    public long getUsedResources(final long[] vcpus, final int[] vms, final int offset){
+        long oc1 = getPhysicalAllocation(vcpus[offset], vms[offset], 1);
+        long oc2_dedicated = getPhysicalAllocation(vcpus[offset+1], vms[offset+1], 2);
+        long oc3_dedicated = getPhysicalAllocation(vcpus[offset+2], vms[offset+2], 3);
+        long oc2oc3_mutualisation = getPhysicalAllocation(vcpus[offset+1] + vcpus[offset+2], vms[offset+1] + vms[offset+2], 2);
+        return oc1 + Math.min(oc2_dedicated+oc3_dedicated, oc2oc3_mutualisation);
+    }
+
+    /* getPhysicalAllocation(vcpus, vms, oversubscription)
+    *  Physical PEs required by a vCluster with a number of vCPUs and VMs.
+    *  The vCluster is only oversubscribed when it reaches the critical size.
+    */
+    private long getPhysicalAllocation(final long vcpus, final long vms, final float oversubscription){
+        if(vms < this.criticalSize)
+            return vcpus;
+        return (long) Math.ceil(vcpus/oversubscription);
     }
 
 }
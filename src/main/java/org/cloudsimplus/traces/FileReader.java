@@ -31,8 +31,13 @@ import org.cloudsimplus.util.ResourceLoader;
 import org.cloudsimplus.util.Util;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipInputStream;
 
@@ -46,6 +51,11 @@ import java.util.zip.ZipInputStream;
 public class FileReader {
     public static final String DEF_FIELD_DELIMITER_REGEX = "\\s+";
 
+    /**
+     * The size of the buffer for decompressing gzip files (in bytes).
+     */
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
     @Getter
     private final String filePath;
 
@@ -69,6 +79,18 @@ public class FileReader {
 
     private String[] commentString = {";", "#"};
 
+    /**
+     * Indicates if uncompressed files in the filesystem are split into chunks that are parsed in parallel,
+     * using the common {@link java.util.concurrent.ForkJoinPool}.
+     * Lines are still processed in file order, after their chunk is parsed.
+     * Compressed files, files loaded from the classpath and files whose
+     * {@link #getFieldDelimiterRegex() field delimiter} is not
+     * {@link TraceLineTokenizer#isSupportedDelimiter(String) supported by the tokenizer}
+     * are always read sequentially.
+     */
+    @Getter @Setter
+    private boolean parallelParsingEnabled;
+
     /**
      * Creates a file reader that consider spaces as field delimiter.
      * @param filePath path of the file to read
@@ -172,93 +194,224 @@ public class FileReader {
      * Reads a trace file indicated by the {@link #getFilePath()}.
      * It performs additional processing after parsing the line.
      *
+     * <p>Each line is given as a new array of Strings.
+     * Prefer {@link #readLines(Predicate)} to avoid allocating such objects for every line.</p>
+     *
      * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
      *                              and performs an operation over it, returning true if the operation was executed
      * @return the last parsed line
      * @throws UncheckedIOException if the there was any error reading the file
      */
     protected String[] readFile(final Function<String[], Boolean> processParsedLineFunc) {
+        return readLines(tokenizer -> processParsedLineFunc.apply(tokenizer.toArray())).toArray();
+    }
+
+    /**
+     * Reads a trace file indicated by the {@link #getFilePath()},
+     * splitting each line into fields using a {@link TraceLineTokenizer}.
+     * If the {@link #getFieldDelimiterRegex() field delimiter} is
+     * {@link TraceLineTokenizer#isSupportedDelimiter(String) supported} by the tokenizer,
+     * lines and fields are not converted to Strings.
+     * Otherwise, lines are split using the delimiter regex.
+     * Comment lines are skipped.
+     *
+     * @param processLineFunc a {@link Predicate} that receives a tokenizer holding the fields of each line
+     *                        and performs an operation over them, returning true if the operation was executed.
+     *                        The tokenizer is reused for the next lines, so it must not be stored.
+     * @return the tokenizer holding the fields of the last line read
+     * @throws UncheckedIOException if the there was any error reading the file
+     */
+    protected TraceLineTokenizer readLines(@NonNull final Predicate<TraceLineTokenizer> processLineFunc) {
         try {
-            final var ext = Util.getFileExtension(getFilePath());
-            final var is = ResourceLoader.newInputStream(getFilePath(), getClass());
-            return switch (ext) {
-                case ".gz" -> readFileInternal(new GZIPInputStream(is), processParsedLineFunc);
-                case ".zip" -> readZipFile(is, processParsedLineFunc);
-                default -> readFileInternal(is, processParsedLineFunc);
-            };
+            return readLines(openChannel(), processLineFunc);
         } catch(IOException e){
             throw new UncheckedIOException(e);
         }
     }
 
     /**
-     * Reads a trace file inside a zip.
+     * Opens the trace file indicated by the {@link #getFilePath()} so that its lines
+     * can be read one by one, calling {@link #nextLine(TraceLineTokenizer)} whenever the caller needs a new line,
+     * instead of reading the entire file at once by {@link #readLines(Predicate)}.
+     * The caller is responsible for closing the returned tokenizer.
      *
-     * @param is a {@link InputStream} to read the file
-     * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
-     *                              and performs an operation over it, returning true if the operation was executed
-     * @return the last parsed line
-     * @throws IOException if the there was any error reading the file
+     * @return a tokenizer to read the file lines, which is positioned before the first line
+     * @throws IllegalStateException if the {@link #getFieldDelimiterRegex() field delimiter} is not
+     *                               {@link TraceLineTokenizer#isSupportedDelimiter(String) supported} by the tokenizer
+     * @throws UncheckedIOException if the there was any error opening the file
      */
-    @SneakyThrows(IOException.class)
-    private String[] readZipFile(
-        @NonNull final InputStream is,
-        final Function<String[], Boolean> processParsedLineFunc)
-    {
-        try (var zipInputStream = new ZipInputStream(is)) {
-            //Get the first file inside the zip (other ones are ignored)
-            if (zipInputStream.getNextEntry() != null) {
-                return readFileInternal(zipInputStream, processParsedLineFunc);
+    protected TraceLineTokenizer openLines() {
+        if (!TraceLineTokenizer.isSupportedDelimiter(fieldDelimiterRegex)) {
+            throw new IllegalStateException("The field delimiter regex is not supported for reading lines one by one: " + fieldDelimiterRegex);
+        }
+
+        try {
+            this.lastLineNumber = 0;
+            return new TraceLineTokenizer(openChannel(), fieldDelimiterRegex, commentString, TraceLineTokenizer.DEF_BUFFER_SIZE);
+        } catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next non-comment line from a tokenizer returned by {@link #openLines()}.
+     * After the line is used, it must be given to {@link #processLine(TraceLineTokenizer, Predicate)}
+     * so that it's accounted for the {@link #getMaxLinesToRead() max number of lines to read}.
+     *
+     * @param tokenizer the tokenizer to read the line from
+     * @return true if a line was read, false if the end of the file or
+     *         the {@link #getMaxLinesToRead() max number of lines to read} was reached
+     * @throws UncheckedIOException if the there was any error reading the file
+     */
+    protected final boolean nextLine(@NonNull final TraceLineTokenizer tokenizer) {
+        try {
+            while (isThereLinesToRead() && tokenizer.nextLine()) {
+                if (tokenizer.getFieldCount() > 0) {
+                    return true;
+                }
             }
+
+            return false;
+        } catch(IOException e){
+            throw new UncheckedIOException(e);
         }
+    }
 
-        return new String[0];
+    /**
+     * Opens a channel to read the trace file according to its extension.
+     * For zip files, just the first file inside the zip is read (other ones are ignored).
+     *
+     * @return a channel to read the uncompressed file content
+     * @throws IOException if the there was any error opening the file
+     */
+    private ReadableByteChannel openChannel() throws IOException {
+        return switch (Util.getFileExtension(getFilePath())) {
+            case ".gz" -> {
+                final var is = ResourceLoader.newInputStream(getFilePath(), getClass());
+                yield Channels.newChannel(new GZIPInputStream(is, GZIP_BUFFER_SIZE));
+            }
+            case ".zip" -> {
+                final var zipInputStream = new ZipInputStream(ResourceLoader.newInputStream(getFilePath(), getClass()));
+                if (zipInputStream.getNextEntry() == null) {
+                    zipInputStream.close();
+                    yield Channels.newChannel(InputStream.nullInputStream());
+                }
+
+                yield Channels.newChannel(zipInputStream);
+            }
+            default -> ResourceLoader.newReadableChannel(getFilePath(), getClass());
+        };
     }
 
     /**
-     * Reads a trace file from an {@link InputStream} linked to a file in any supported format.
+     * Reads a trace file from a {@link ReadableByteChannel} linked to a file in any supported format.
      *
-     * @param is a {@link InputStream} to read the file
-     * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
-     *                              and performs an operation over it, returning true if the operation was executed.
-     * @return the last parsed line
+     * @param channel a {@link ReadableByteChannel} to read the file
+     * @param processLineFunc a {@link Predicate} that receives a tokenizer holding the fields of each line
+     *                        and performs an operation over them, returning true if the operation was executed
+     * @return the tokenizer holding the fields of the last line read
      * @throws IOException if the there was any error reading the file
      */
     @SneakyThrows(IOException.class)
-    private String[] readFileInternal(
-        @NonNull final InputStream is,
-        @NonNull final Function<String[], Boolean> processParsedLineFunc)
+    private TraceLineTokenizer readLines(
+        @NonNull final ReadableByteChannel channel,
+        @NonNull final Predicate<TraceLineTokenizer> processLineFunc)
     {
         this.lastLineNumber = 0;
-        String[] parsedLine = new String[0];
-        try(var reader = new BufferedReader(new InputStreamReader(is))) {
-            String line;
-            while ((line = readNextLine(reader)) != null) {
-                parsedLine = parseLine(line);
-                if (parsedLine.length > 0 && processParsedLineFunc.apply(parsedLine)) {
-                    this.lastLineNumber++;
+        if (!TraceLineTokenizer.isSupportedDelimiter(fieldDelimiterRegex)) {
+            return readLinesByRegex(channel, processLineFunc);
+        }
+
+        if (parallelParsingEnabled && channel instanceof FileChannel fileChannel) {
+            return readLinesInParallel(fileChannel, processLineFunc);
+        }
+
+        try(var tokenizer = new TraceLineTokenizer(channel, fieldDelimiterRegex, commentString, TraceLineTokenizer.DEF_BUFFER_SIZE)) {
+            while (isThereLinesToRead() && tokenizer.nextLine()) {
+                processLine(tokenizer, processLineFunc);
+            }
+
+            return tokenizer;
+        }
+    }
+
+    /**
+     * Reads an uncompressed trace file by splitting it into newline-aligned chunks,
+     * which are parsed in parallel by a {@link TraceChunkParser}.
+     * Lines are processed in file order.
+     *
+     * @param channel a {@link FileChannel} to read the file
+     * @param processLineFunc a {@link Predicate} that receives a tokenizer holding the fields of each line
+     *                        and performs an operation over them, returning true if the operation was executed
+     * @return the tokenizer holding the fields of the last line read
+     * @throws IOException if the there was any error reading the file
+     * @see #isParallelParsingEnabled()
+     */
+    private TraceLineTokenizer readLinesInParallel(
+        final FileChannel channel,
+        final Predicate<TraceLineTokenizer> processLineFunc) throws IOException
+    {
+        final var tokenizer = new TraceLineTokenizer();
+        try (channel; var parser = new TraceChunkParser(channel, fieldDelimiterRegex, commentString, TraceChunkParser.DEF_CHUNK_SIZE)) {
+            while (isThereLinesToRead() && parser.hasNext()) {
+                final TraceRecordBatch batch = parser.next();
+                for (int line = 0; line < batch.getLines() && isThereLinesToRead(); line++) {
+                    processLine(tokenizer.loadLine(batch, line), processLineFunc);
                 }
             }
         }
 
-        return parsedLine;
+        return tokenizer;
     }
 
     /**
-     * Reads the next line of the trace file.
+     * Reads a trace file from a {@link ReadableByteChannel}, splitting each line
+     * using the {@link #getFieldDelimiterRegex() field delimiter regex}.
+     * This is used when the regex is not {@link TraceLineTokenizer#isSupportedDelimiter(String) supported}
+     * by the {@link TraceLineTokenizer}.
      *
-     * @param reader the object that is reading the trace file
-     * @return the line read; otherwise null if there isn't any more lines to read or if
-     * the number of lines to read was reached
-     * @see #getMaxLinesToRead()
+     * @param channel a {@link ReadableByteChannel} to read the file
+     * @param processLineFunc a {@link Predicate} that receives a tokenizer holding the fields of each line
+     *                        and performs an operation over them, returning true if the operation was executed
+     * @return the tokenizer holding the fields of the last line read
+     * @throws IOException if the there was any error reading the file
      */
-    @SneakyThrows
-    private String readNextLine(final BufferedReader reader) {
-        if (reader.ready() && lastLineNumber <= maxLinesToRead - 1) {
-            return reader.readLine();
+    private TraceLineTokenizer readLinesByRegex(
+        final ReadableByteChannel channel,
+        final Predicate<TraceLineTokenizer> processLineFunc) throws IOException
+    {
+        final var tokenizer = new TraceLineTokenizer();
+        try(var reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8))) {
+            String line;
+            while (isThereLinesToRead() && (line = reader.readLine()) != null) {
+                tokenizer.setFields(parseLine(line));
+                processLine(tokenizer, processLineFunc);
+            }
         }
 
-        return null;
+        return tokenizer;
+    }
+
+    /**
+     * Checks if the number of lines to read was not reached yet.
+     * @return true if more lines can be read, false otherwise
+     * @see #getMaxLinesToRead()
+     */
+    private boolean isThereLinesToRead() {
+        return lastLineNumber <= maxLinesToRead - 1;
+    }
+
+    /**
+     * Processes a line that was read, counting it as a read line if it was actually processed.
+     *
+     * @param tokenizer the tokenizer holding the fields of the line
+     * @param processLineFunc a {@link Predicate} that receives the tokenizer
+     *                        and performs an operation over it, returning true if the operation was executed
+     */
+    protected final void processLine(final TraceLineTokenizer tokenizer, final Predicate<TraceLineTokenizer> processLineFunc) {
+        if (tokenizer.getFieldCount() > 0 && processLineFunc.test(tokenizer)) {
+            this.lastLineNumber++;
+        }
     }
 
     private String[] parseLine(final String line) {
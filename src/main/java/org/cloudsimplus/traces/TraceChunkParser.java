@@ -0,0 +1,200 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Splits an uncompressed trace file into newline-aligned chunks which are
+ * parsed in parallel into {@link TraceRecordBatch}es, using the common {@link ForkJoinPool}.
+ * Batches are returned in file order, so that lines can be processed just like
+ * when the file is read sequentially.
+ *
+ * <p>A line belongs to the chunk where it starts.
+ * To keep memory usage bounded, just a limited number of chunks are parsed
+ * ahead of the batch being consumed.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class TraceChunkParser implements Iterator<TraceRecordBatch>, AutoCloseable {
+    /**
+     * The default size of each chunk (in bytes).
+     */
+    static final int DEF_CHUNK_SIZE = 8 << 20;
+
+    /** The size of the blocks read when looking for the start of a line. */
+    private static final int SCAN_BLOCK_SIZE = 8 << 10;
+
+    private final FileChannel channel;
+    private final String fieldDelimiterRegex;
+    private final String[] commentStrings;
+    private final int chunkSize;
+    private final long fileSize;
+
+    /** The maximum number of chunks being parsed ahead of the batch being consumed. */
+    private final int maxPendingChunks;
+
+    /** The (nominal) start position of the next chunk to submit for parsing. */
+    private long nextChunkStart;
+
+    private final Queue<CompletableFuture<TraceRecordBatch>> pendingChunks;
+
+    /**
+     * Creates a parser for a file channel.
+     *
+     * @param channel the channel to read the file from
+     * @param fieldDelimiterRegex a regex defining how fields are delimited, which must be
+     *                            {@link TraceLineTokenizer#isSupportedDelimiter(String) supported}
+     * @param commentStrings the Strings that identify the start of a comment line
+     * @param chunkSize the size of each chunk (in bytes)
+     * @throws IOException if the file size cannot be read
+     */
+    TraceChunkParser(
+        final FileChannel channel, final String fieldDelimiterRegex,
+        final String[] commentStrings, final int chunkSize) throws IOException
+    {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero.");
+        }
+
+        this.channel = channel;
+        this.fieldDelimiterRegex = fieldDelimiterRegex;
+        this.commentStrings = commentStrings;
+        this.chunkSize = chunkSize;
+        this.fileSize = channel.size();
+        this.maxPendingChunks = ForkJoinPool.getCommonPoolParallelism() * 2;
+        this.pendingChunks = new ArrayDeque<>(maxPendingChunks);
+    }
+
+    @Override
+    public boolean hasNext() {
+        submitChunks();
+        return !pendingChunks.isEmpty();
+    }
+
+    @Override
+    public TraceRecordBatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            return pendingChunks.poll().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Submits chunks to be parsed until the maximum number of pending chunks is reached.
+     */
+    private void submitChunks() {
+        while (pendingChunks.size() < maxPendingChunks && nextChunkStart < fileSize) {
+            final long start = nextChunkStart;
+            final long end = Math.min(start + chunkSize, fileSize);
+            pendingChunks.add(CompletableFuture.supplyAsync(() -> parseChunk(start, end)));
+            nextChunkStart = end;
+        }
+    }
+
+    /**
+     * Reads and parses the lines starting inside a given range of the file.
+     * @param start the (nominal) start position of the chunk
+     * @param end the (nominal and exclusive) end position of the chunk
+     * @return the parsed batch
+     */
+    private TraceRecordBatch parseChunk(final long start, final long end) {
+        try {
+            final long lineStart = findLineStart(start);
+            final long lineEnd = findLineStart(end);
+            final byte[] data = read(lineStart, (int) Math.max(lineEnd - lineStart, 0));
+            return TraceRecordBatch.parse(data, fieldDelimiterRegex, commentStrings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finds the first position in the file, from a given one, where a line starts.
+     * @param position the position to start looking for
+     * @return the position where the line starts or the file size if there is no line after the given position
+     */
+    private long findLineStart(final long position) throws IOException {
+        if (position == 0 || position >= fileSize) {
+            return Math.min(position, fileSize);
+        }
+
+        final var block = ByteBuffer.allocate(SCAN_BLOCK_SIZE);
+        for (long blockStart = position - 1; blockStart < fileSize; blockStart += block.limit()) {
+            block.clear();
+            if (channel.read(block, blockStart) < 0) {
+                break;
+            }
+
+            block.flip();
+            for (int i = 0; i < block.limit(); i++) {
+                if (block.get(i) == '\n') {
+                    return blockStart + i + 1;
+                }
+            }
+        }
+
+        return fileSize;
+    }
+
+    private byte[] read(final long position, final int length) throws IOException {
+        final byte[] data = new byte[length];
+        final var buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file when reading a trace chunk.");
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Cancels the parsing of pending chunks.
+     */
+    @Override
+    public void close() {
+        pendingChunks.forEach(future -> future.cancel(false));
+        pendingChunks.clear();
+    }
+}
@@ -0,0 +1,760 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A byte-oriented tokenizer that reads lines from a trace file and splits them into fields
+ * without creating a {@link String} for each line or field.
+ * Bytes are read from a {@link ReadableByteChannel} (such as a {@link java.nio.channels.FileChannel}
+ * or a channel over a decompressed {@link java.util.zip.GZIPInputStream}) into a large reusable buffer.
+ * Each field of the current line is just a pair of offsets inside that buffer,
+ * which can be parsed by {@link #parseLong(int)}, {@link #parseInt(int)} and {@link #parseDouble(int)}
+ * without allocating objects.
+ *
+ * <p>Lines are split just like {@code line.trim().split(fieldDelimiterRegex, -1)},
+ * but only for delimiter regexes representing a single ASCII character (such as {@code ","}, {@code ";"} or {@code "\\t"})
+ * or whitespace sequences ({@code "\\s+"}). See {@link #isSupportedDelimiter(String)}.</p>
+ *
+ * <p>A tokenizer may also be created with no channel, to just hold the fields
+ * set by {@link #setFields(String...)}.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class TraceLineTokenizer implements Closeable {
+    /**
+     * The default size of the buffer to read data from the channel (in bytes).
+     */
+    public static final int DEF_BUFFER_SIZE = 1 << 20;
+
+    private static final String WHITESPACE_DELIMITER_REGEX = "\\s+";
+
+    /** A delimiter value indicating fields are separated by sequences of whitespaces. */
+    private static final int WHITESPACE_DELIMITER = -1;
+
+    /** A delimiter value indicating the delimiter regex is not supported. */
+    private static final int UNSUPPORTED_DELIMITER = -2;
+
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+
+    /** The maximum number of digits that a long value can have without checking overflow. */
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    /** The maximum number of digits that an int value can have without checking overflow. */
+    private static final int MAX_SAFE_INT_DIGITS = 9;
+
+    /**
+     * The maximum mantissa for a double value to be exactly computed from its decimal digits
+     * (2<sup>53</sup>).
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** Powers of 10 which are exactly represented as a double. */
+    private static final double[] POWERS_OF_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int DEF_FIELDS = 32;
+
+    private final ReadableByteChannel channel;
+
+    /**
+     * The delimiter byte, or {@link #WHITESPACE_DELIMITER}
+     * to indicate fields are separated by sequences of whitespaces.
+     */
+    private final int delimiter;
+
+    /** The UTF-8 bytes of the Strings that identify the start of a comment line. */
+    private final byte[][] commentPrefixes;
+
+    private byte[] buffer;
+
+    /** The index of the first byte in the {@link #buffer} not consumed yet. */
+    private int position;
+
+    /**
+     * The index of the first byte of the current line in the {@link #buffer}.
+     * The bytes of the current line are kept when the buffer is filled,
+     * so that its fields are still available after the end of the channel is reached.
+     */
+    private int lineStart;
+
+    /** The number of valid bytes inside the {@link #buffer}. */
+    private int limit;
+
+    /** Indicates if the end of the channel was reached. */
+    private boolean endOfChannel;
+
+    private int[] fieldStarts;
+
+    /** The (exclusive) index of the last byte of each field. */
+    private int[] fieldEnds;
+
+    private int fieldCount;
+
+    /** Indicates if the current line is a comment. */
+    private boolean comment;
+
+    /**
+     * The batch holding the current line, when it was {@link #loadLine(TraceRecordBatch, int) loaded}
+     * from a batch parsed in advance; or null otherwise.
+     */
+    private TraceRecordBatch batch;
+
+    /** The index of the first field of the current line inside the {@link #batch}. */
+    private int batchFieldOffset;
+
+    /** The value of the last exponent parsed by {@link #parseExponent(int, int)}. */
+    private int exponentValue;
+
+    /**
+     * Creates a tokenizer with no channel, to just hold fields set by {@link #setFields(String...)}.
+     */
+    public TraceLineTokenizer() {
+        this.channel = null;
+        this.delimiter = WHITESPACE_DELIMITER;
+        this.commentPrefixes = new byte[0][];
+        this.buffer = new byte[256];
+        this.endOfChannel = true;
+        this.fieldStarts = new int[DEF_FIELDS];
+        this.fieldEnds = new int[DEF_FIELDS];
+    }
+
+    /**
+     * Creates a tokenizer to read lines from a byte array,
+     * which is used directly as the tokenizer buffer (without being copied).
+     *
+     * @param data the array containing the lines to read
+     * @param length the number of valid bytes in the array
+     * @param fieldDelimiterRegex a regex defining how fields are delimited, which must be
+     *                            {@link #isSupportedDelimiter(String) supported}
+     * @param commentStrings the Strings that identify the start of a comment line
+     */
+    TraceLineTokenizer(final byte[] data, final int length, final String fieldDelimiterRegex, final String[] commentStrings) {
+        this.delimiter = delimiterOf(fieldDelimiterRegex);
+        if (delimiter == UNSUPPORTED_DELIMITER) {
+            throw new IllegalArgumentException("Unsupported field delimiter regex: " + fieldDelimiterRegex);
+        }
+
+        this.channel = null;
+        this.commentPrefixes = commentPrefixes(commentStrings);
+        this.buffer = data;
+        this.limit = length;
+        this.endOfChannel = true;
+        this.fieldStarts = new int[DEF_FIELDS];
+        this.fieldEnds = new int[DEF_FIELDS];
+    }
+
+    /**
+     * Creates a tokenizer to read lines from a given channel.
+     *
+     * @param channel the channel to read data from
+     * @param fieldDelimiterRegex a regex defining how fields are delimited, which must be
+     *                            {@link #isSupportedDelimiter(String) supported}
+     * @param commentStrings the Strings that identify the start of a comment line
+     * @param bufferSize the size of the buffer to read data from the channel (in bytes).
+     *                   The buffer grows if some line is larger than it.
+     * @throws IllegalArgumentException if the delimiter regex is not supported or the buffer size is not positive
+     */
+    public TraceLineTokenizer(
+        @NonNull final ReadableByteChannel channel,
+        @NonNull final String fieldDelimiterRegex,
+        @NonNull final String[] commentStrings,
+        final int bufferSize)
+    {
+        this.delimiter = delimiterOf(fieldDelimiterRegex);
+        if (delimiter == UNSUPPORTED_DELIMITER) {
+            throw new IllegalArgumentException("Unsupported field delimiter regex: " + fieldDelimiterRegex);
+        }
+
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than zero.");
+        }
+
+        this.channel = channel;
+        this.commentPrefixes = commentPrefixes(commentStrings);
+        this.buffer = new byte[bufferSize];
+        this.fieldStarts = new int[DEF_FIELDS];
+        this.fieldEnds = new int[DEF_FIELDS];
+    }
+
+    private static byte[][] commentPrefixes(final String[] commentStrings) {
+        return Arrays.stream(commentStrings)
+                     .map(str -> str.getBytes(StandardCharsets.UTF_8))
+                     .toArray(byte[][]::new);
+    }
+
+    /**
+     * Checks if a field delimiter regex can be handled by the tokenizer,
+     * which is the case for a single ASCII character (possibly escaped, such as {@code "\\|"} or {@code "\\t"})
+     * or for {@code "\\s+"}.
+     *
+     * @param fieldDelimiterRegex the regex to check
+     * @return true if the delimiter is supported, false otherwise
+     */
+    public static boolean isSupportedDelimiter(@NonNull final String fieldDelimiterRegex) {
+        return delimiterOf(fieldDelimiterRegex) != UNSUPPORTED_DELIMITER;
+    }
+
+    private static int delimiterOf(final String regex) {
+        if (WHITESPACE_DELIMITER_REGEX.equals(regex)) {
+            return WHITESPACE_DELIMITER;
+        }
+
+        if (regex.length() == 1 && regex.charAt(0) < 128 && REGEX_META_CHARS.indexOf(regex.charAt(0)) < 0) {
+            return regex.charAt(0);
+        }
+
+        if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            final char escaped = regex.charAt(1);
+            if (escaped == 't') {
+                return '\t';
+            }
+
+            return REGEX_META_CHARS.indexOf(escaped) >= 0 ? escaped : UNSUPPORTED_DELIMITER;
+        }
+
+        return UNSUPPORTED_DELIMITER;
+    }
+
+    /**
+     * Reads the next line from the channel and splits it into fields.
+     * If the line is a comment, it has no fields.
+     * If there is no more lines, the fields from the last line are kept.
+     *
+     * @return true if a line was read, false if the end of the channel was reached
+     * @throws IOException if an error occurs when reading the channel
+     */
+    public boolean nextLine() throws IOException {
+        int newLine = indexOfNewLine(position);
+        while (newLine < 0 && !endOfChannel) {
+            final int scannedBytes = limit - position;
+            fill();
+            newLine = indexOfNewLine(position + scannedBytes);
+        }
+
+        if (newLine < 0) {
+            if (position == limit) {
+                return false;
+            }
+
+            newLine = limit;
+        }
+
+        lineStart = position;
+        tokenize(position, newLine);
+        position = Math.min(newLine + 1, limit);
+        return true;
+    }
+
+    private int indexOfNewLine(final int from) {
+        for (int i = from; i < limit; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Moves the bytes of the current line and the unconsumed ones to the beginning of the buffer
+     * (growing it if it's full) and reads more data from the channel.
+     */
+    private void fill() throws IOException {
+        final int kept = limit - lineStart;
+        if (kept == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        } else if (lineStart > 0) {
+            System.arraycopy(buffer, lineStart, buffer, 0, kept);
+        }
+
+        updateFieldOffsets(-lineStart);
+        position -= lineStart;
+        lineStart = 0;
+        limit = kept;
+
+        final var byteBuffer = ByteBuffer.wrap(buffer, limit, buffer.length - limit);
+        final int read = channel.read(byteBuffer);
+        if (read < 0) {
+            endOfChannel = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * Shifts the offsets of the fields in the current line,
+     * after the buffer content was moved.
+     * @param shift the number of bytes the content was moved
+     */
+    private void updateFieldOffsets(final int shift) {
+        for (int i = 0; i < fieldCount; i++) {
+            fieldStarts[i] += shift;
+            fieldEnds[i] += shift;
+        }
+    }
+
+    /**
+     * Splits the line between two indexes of the buffer into fields.
+     * @param start the index of the first byte of the line
+     * @param end the (exclusive) index of the last byte of the line
+     */
+    private void tokenize(int start, int end) {
+        fieldCount = 0;
+        batch = null;
+        comment = isComment(start, end);
+        if (comment) {
+            return;
+        }
+
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+
+        if (delimiter == WHITESPACE_DELIMITER) {
+            tokenizeByWhitespaces(start, end);
+            return;
+        }
+
+        int fieldStart = start;
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == delimiter) {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+
+        addField(fieldStart, end);
+    }
+
+    private void tokenizeByWhitespaces(final int start, final int end) {
+        int fieldStart = start;
+        int i = start;
+        while (i < end) {
+            if (isWhitespace(buffer[i])) {
+                addField(fieldStart, i);
+                while (i < end && isWhitespace(buffer[i])) {
+                    i++;
+                }
+
+                fieldStart = i;
+            } else i++;
+        }
+
+        addField(fieldStart, end);
+    }
+
+    /**
+     * Checks if a byte is a whitespace according to the {@code \s} regex character class.
+     * @param b the byte to check
+     * @return true if it's a whitespace, false otherwise
+     */
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+    }
+
+    private boolean isComment(final int start, final int end) {
+        for (final byte[] prefix : commentPrefixes) {
+            if (prefix.length <= end - start && Arrays.equals(buffer, start, start + prefix.length, prefix, 0, prefix.length)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addField(final int start, final int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Replaces the fields of the current line by the given ones.
+     * This enables using the tokenizer for lines parsed in other ways.
+     *
+     * @param fields the field values to set
+     * @return this tokenizer
+     */
+    public TraceLineTokenizer setFields(@NonNull final String... fields) {
+        final byte[][] bytes = new byte[fields.length][];
+        int size = 0;
+        for (int i = 0; i < fields.length; i++) {
+            bytes[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            size += bytes[i].length;
+        }
+
+        if (size > buffer.length - limit) {
+            buffer = Arrays.copyOf(buffer, limit + size);
+        }
+
+        fieldCount = 0;
+        comment = false;
+        batch = null;
+        int start = limit;
+        for (final byte[] field : bytes) {
+            System.arraycopy(field, 0, buffer, start, field.length);
+            addField(start, start + field.length);
+            start += field.length;
+        }
+
+        return this;
+    }
+
+    /**
+     * Removes leading and trailing whitespaces from every field in the current line,
+     * just like {@link String#trim()}, but without allocating objects.
+     * @return this tokenizer
+     */
+    public TraceLineTokenizer trimFields() {
+        for (int i = 0; i < fieldCount; i++) {
+            while (fieldStarts[i] < fieldEnds[i] && buffer[fieldStarts[i]] <= ' ') {
+                fieldStarts[i]++;
+            }
+
+            while (fieldEnds[i] > fieldStarts[i] && buffer[fieldEnds[i] - 1] <= ' ') {
+                fieldEnds[i]--;
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Loads a line from a batch parsed in advance, making its fields the current ones.
+     * Numeric values already parsed into the batch are returned by the parse methods
+     * without parsing the field again.
+     *
+     * @param batch the batch holding the line
+     * @param line the index of the line inside the batch
+     * @return this tokenizer
+     */
+    TraceLineTokenizer loadLine(final TraceRecordBatch batch, final int line) {
+        this.batch = batch;
+        this.batchFieldOffset = batch.lineFields[line];
+        this.buffer = batch.data;
+        this.comment = false;
+        this.fieldCount = 0;
+        for (int i = batchFieldOffset; i < batch.lineFields[line + 1]; i++) {
+            addField(batch.fieldStarts[i], batch.fieldEnds[i]);
+        }
+
+        return this;
+    }
+
+    /** {@return the index of the first byte of a field in the tokenizer buffer} */
+    int getFieldStart(final int field) {
+        return fieldStarts[field];
+    }
+
+    /** {@return the (exclusive) index of the last byte of a field in the tokenizer buffer} */
+    int getFieldEnd(final int field) {
+        return fieldEnds[field];
+    }
+
+    /**
+     * Checks if the value of a field was already parsed into the {@link #batch}
+     * holding the current line.
+     * @param field the index of the field
+     * @param parsedFlag the flag indicating the kind of value to check
+     * @return true if the value is available in the batch, false otherwise
+     */
+    private boolean isParsedInBatch(final int field, final byte parsedFlag) {
+        return batch != null && (batch.parsedFlags[batchFieldOffset + field] & parsedFlag) != 0;
+    }
+
+    /**
+     * {@return the number of fields in the current line}
+     * which is 0 if the line is a comment or no line was read yet.
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * {@return true if the current line is a comment, false otherwise}
+     */
+    public boolean isComment() {
+        return comment;
+    }
+
+    /**
+     * {@return the length of a field (in bytes)}
+     * @param field the index of the field
+     * @throws ArrayIndexOutOfBoundsException if the field index is invalid
+     */
+    public int getFieldLength(final int field) {
+        checkField(field);
+        return fieldEnds[field] - fieldStarts[field];
+    }
+
+    /**
+     * {@return the value of a field as a new String}
+     * Prefer the parse methods to avoid allocating objects.
+     * @param field the index of the field
+     * @throws ArrayIndexOutOfBoundsException if the field index is invalid
+     */
+    public String getString(final int field) {
+        checkField(field);
+        return new String(buffer, fieldStarts[field], fieldEnds[field] - fieldStarts[field], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@return a new array with the values of all fields in the current line}
+     */
+    public String[] toArray() {
+        final String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = getString(i);
+        }
+
+        return fields;
+    }
+
+    private void checkField(final int field) {
+        if (field < 0 || field >= fieldCount) {
+            throw new ArrayIndexOutOfBoundsException("Index %d out of bounds for %d fields".formatted(field, fieldCount));
+        }
+    }
+
+    /**
+     * Checks if a field is an integer number, matching the regex {@code ^-?\d+$}.
+     * @param field the index of the field
+     * @return true if the field is an integer, false otherwise
+     * @throws ArrayIndexOutOfBoundsException if the field index is invalid
+     */
+    public boolean isInteger(final int field) {
+        checkField(field);
+        final int end = fieldEnds[field];
+        final int start = skipMinusSign(fieldStarts[field], end);
+        return start < end && skipDigits(start, end) == end;
+    }
+
+    /**
+     * Checks if a field is a decimal number, matching the regex {@code ^-?\d+(\.?\d+)?$}.
+     * @param field the index of the field
+     * @return true if the field is a decimal number, false otherwise
+     * @throws ArrayIndexOutOfBoundsException if the field index is invalid
+     */
+    public boolean isDecimal(final int field) {
+        checkField(field);
+        final int end = fieldEnds[field];
+        final int start = skipMinusSign(fieldStarts[field], end);
+        final int dot = skipDigits(start, end);
+        if (dot == start) {
+            return false;
+        }
+
+        if (dot == end) {
+            return true;
+        }
+
+        return buffer[dot] == '.' && dot + 1 < end && skipDigits(dot + 1, end) == end;
+    }
+
+    private int skipMinusSign(final int start, final int end) {
+        return start < end && buffer[start] == '-' ? start + 1 : start;
+    }
+
+    private int skipDigits(int start, final int end) {
+        while (start < end && isDigit(buffer[start])) {
+            start++;
+        }
+
+        return start;
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Parses a field as a long, with the same rules as {@link Long#parseLong(String)}.
+     * @param field the index of the field
+     * @return the long value
+     * @throws NumberFormatException if the field is not a valid long
+     * @throws ArrayIndexOutOfBoundsException if the field index is invalid
+     */
+    public long parseLong(final int field) {
+        checkField(field);
+        if (isParsedInBatch(field, TraceRecordBatch.LONG_PARSED)) {
+            return batch.longs[batchFieldOffset + field];
+        }
+
+        final int start = fieldStarts[field];
+        final int end = fieldEnds[field];
+        final boolean negative = start < end && buffer[start] == '-';
+        final int digitsStart = start < end && (negative || buffer[start] == '+') ? start + 1 : start;
+        final int digits = end - digitsStart;
+        if (digits == 0 || digits > MAX_SAFE_LONG_DIGITS || skipDigits(digitsStart, end) != end) {
+            return Long.parseLong(getString(field));
+        }
+
+        final long value = parseDigits(digitsStart, end);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a field as an int, with the same rules as {@link Integer#parseInt(String)}.
+     * @param field the index of the field
+     * @return the int value
+     * @throws NumberFormatException if the field is not a valid int
+     * @throws ArrayIndexOutOfBoundsException if the field index is invalid
+     */
+    public int parseInt(final int field) {
+        checkField(field);
+        if (isParsedInBatch(field, TraceRecordBatch.INT_PARSED)) {
+            return (int) batch.longs[batchFieldOffset + field];
+        }
+
+        final int start = fieldStarts[field];
+        final int end = fieldEnds[field];
+        final boolean negative = start < end && buffer[start] == '-';
+        final int digitsStart = start < end && (negative || buffer[start] == '+') ? start + 1 : start;
+        final int digits = end - digitsStart;
+        if (digits == 0 || digits > MAX_SAFE_INT_DIGITS || skipDigits(digitsStart, end) != end) {
+            return Integer.parseInt(getString(field));
+        }
+
+        final int value = (int) parseDigits(digitsStart, end);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a field as a double, with the same result as {@link Double#parseDouble(String)}.
+     * Plain decimal numbers (such as {@code -12.345} or {@code 1.5e-3})
+     * whose value can be exactly computed are parsed without allocating objects.
+     * Other values fall back to {@link Double#parseDouble(String)}.
+     *
+     * @param field the index of the field
+     * @return the double value
+     * @throws NumberFormatException if the field is not a valid double
+     * @throws ArrayIndexOutOfBoundsException if the field index is invalid
+     */
+    public double parseDouble(final int field) {
+        checkField(field);
+        if (isParsedInBatch(field, TraceRecordBatch.DOUBLE_PARSED)) {
+            return batch.doubles[batchFieldOffset + field];
+        }
+
+        final int end = fieldEnds[field];
+        int i = fieldStarts[field];
+        final boolean negative = i < end && buffer[i] == '-';
+        if (i < end && (negative || buffer[i] == '+')) {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        final int intStart = i;
+        for (; i < end && isDigit(buffer[i]); i++) {
+            mantissa = mantissa * 10 + (buffer[i] - '0');
+            digits += digits > 0 || buffer[i] != '0' ? 1 : 0;
+        }
+
+        boolean hasDigits = i > intStart;
+        if (i < end && buffer[i] == '.') {
+            final int fractionStart = ++i;
+            for (; i < end && isDigit(buffer[i]); i++) {
+                mantissa = mantissa * 10 + (buffer[i] - '0');
+                digits += digits > 0 || buffer[i] != '0' ? 1 : 0;
+                exponent--;
+            }
+
+            hasDigits |= i > fractionStart;
+        }
+
+        if (i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            i = parseExponent(i + 1, end);
+            exponent += exponentValue;
+        }
+
+        if (!hasDigits || i != end || digits > MAX_SAFE_LONG_DIGITS || mantissa > MAX_EXACT_MANTISSA
+            || exponent < -22 || exponent > 22)
+        {
+            return Double.parseDouble(getString(field));
+        }
+
+        final double value = exponent < 0 ? mantissa / POWERS_OF_10[-exponent] : mantissa * POWERS_OF_10[exponent];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the exponent of a number in scientific notation, storing it into {@link #exponentValue}.
+     * @param start the index of the first byte after the exponent indicator
+     * @param end the (exclusive) index of the last byte of the field
+     * @return the index after the exponent or -1 if the exponent is invalid or too large
+     */
+    private int parseExponent(int start, final int end) {
+        final boolean negative = start < end && buffer[start] == '-';
+        if (start < end && (negative || buffer[start] == '+')) {
+            start++;
+        }
+
+        final int digitsEnd = skipDigits(start, end);
+        if (digitsEnd == start || digitsEnd - start > 3) {
+            return -1;
+        }
+
+        final int value = (int) parseDigits(start, digitsEnd);
+        exponentValue = negative ? -value : value;
+        return digitsEnd;
+    }
+
+    private long parseDigits(final int start, final int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (buffer[i] - '0');
+        }
+
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
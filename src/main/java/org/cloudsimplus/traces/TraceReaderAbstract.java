@@ -50,13 +50,8 @@ import lombok.experimental.Accessors;
 @Accessors
 public abstract class TraceReaderAbstract extends FileReader implements TraceReader {
 
-    /**
-     * Regular expression to check if a String corresponds to an integer number.
-     */
-    private static final String INT_REGEX = "^-?\\d+$";
-
-    /** @see #getLastParsedLineArray() */
-    private String[] lastParsedLineArray;
+    /** @see #getLastParsedLine() */
+    private TraceLineTokenizer lastParsedLine;
 
     /**
      * Create a TraceReader object.
@@ -72,97 +67,116 @@ public abstract class TraceReaderAbstract extends FileReader implements TraceRea
         }
 
         this.setMaxLinesToRead(Integer.MAX_VALUE);
+        this.lastParsedLine = new TraceLineTokenizer();
     }
 
     /**
-     * Gets a field's value from the {@link #getLastParsedLineArray() last parsed line} as String.
+     * Gets a field's value from the {@link #getLastParsedLine() last parsed line} as String.
      *
      * @param field a enum value representing the index of the field to get the value
      * @return
      */
     public <T extends Enum> String getFieldValue(final T field){
-        return lastParsedLineArray[field.ordinal()];
+        return lastParsedLine.getString(field.ordinal());
     }
 
     /**
-     * Gets a field's value from the {@link #getLastParsedLineArray() last parsed line} as double.
+     * Gets a field's value from the {@link #getLastParsedLine() last parsed line} as double.
      *
      * @param field an enum value representing the index of the field to get the value
      * @return
      */
     public <T extends Enum> double getFieldDoubleValue(final T field){
-        return Double.parseDouble(getFieldValue(field));
+        return lastParsedLine.parseDouble(field.ordinal());
     }
 
     /**
-     * Gets a field's value from the {@link #getLastParsedLineArray() last parsed line} as double.
+     * Gets a field's value from the {@link #getLastParsedLine() last parsed line} as double.
      *
      * @param field an enum value representing the index of the field to get the value
      * @param defaultValue the default value to be returned if the field value is not a number
      * @return
      */
     public <T extends Enum> double getFieldDoubleValue(final T field, final double defaultValue){
-        final String value = getFieldValue(field);
-        return  value.matches("^-?\\d+(\\.?\\d+)?$") ? Double.parseDouble(value) : defaultValue;
+        final int index = field.ordinal();
+        return lastParsedLine.isDecimal(index) ? lastParsedLine.parseDouble(index) : defaultValue;
     }
 
     /**
-     * Gets a field's value from the {@link #getLastParsedLineArray() last parsed line} as an int.
+     * Gets a field's value from the {@link #getLastParsedLine() last parsed line} as an int.
      *
      * @param field an enum value representing the index of the field to get the value
      * @return
      */
     public <T extends Enum> int getFieldIntValue(final T field){
-        return Integer.parseInt(getFieldValue(field));
+        return lastParsedLine.parseInt(field.ordinal());
     }
 
     /**
-     * Gets a field's value from the {@link #getLastParsedLineArray() last parsed line} as an int.
+     * Gets a field's value from the {@link #getLastParsedLine() last parsed line} as an int.
      *
      * @param field an enum value representing the index of the field to get the value
      * @param defaultValue the default value to be returned if the field value is not an int
      * @return
      */
     public <T extends Enum> int getFieldIntValue(final T field, final int defaultValue){
-        final String value = getFieldValue(field);
-        return  value.matches(INT_REGEX) ? Integer.parseInt(value) : defaultValue;
+        final int index = field.ordinal();
+        return lastParsedLine.isInteger(index) ? lastParsedLine.parseInt(index) : defaultValue;
     }
 
     /**
-     * Gets a field's value from the {@link #getLastParsedLineArray() last parsed line} as an int.
+     * Gets a field's value from the {@link #getLastParsedLine() last parsed line} as an int.
      *
      * @param field an enum value representing the index of the field to get the value
      * @return
      */
     public <T extends Enum> long getFieldLongValue(final T field){
-        return Long.parseLong(getFieldValue(field));
+        return lastParsedLine.parseLong(field.ordinal());
     }
 
     /**
-     * Gets a field's value from the {@link #getLastParsedLineArray() last parsed line} as an int.
+     * Gets a field's value from the {@link #getLastParsedLine() last parsed line} as an int.
      *
      * @param field an enum value representing the index of the field to get the value
      * @param defaultValue the default value to be returned if the field value is not an int
      * @return
      */
     public <T extends Enum> long getFieldLongValue(final T field, final long defaultValue){
-        final String value = getFieldValue(field);
-        return  value.matches(INT_REGEX) ? Long.parseLong(value) : defaultValue;
+        final int index = field.ordinal();
+        return lastParsedLine.isInteger(index) ? lastParsedLine.parseLong(index) : defaultValue;
+    }
+
+    /**
+     * Gets the tokenizer holding the field values from the last parsed trace line.
+     * @return
+     */
+    protected TraceLineTokenizer getLastParsedLine() {
+        return lastParsedLine;
+    }
+
+    /**
+     * Sets the tokenizer holding the field values from the last parsed trace line.
+     * @param lastParsedLine the tokenizer holding the field values from the last parsed trace line
+     */
+    protected void setLastParsedLine(@NonNull final TraceLineTokenizer lastParsedLine) {
+        this.lastParsedLine = lastParsedLine;
     }
 
     /**
-     * Gets an array containing the field values from the last parsed trace line.
+     * Gets a new array containing the field values from the last parsed trace line.
      * @return
+     * @see #getLastParsedLine()
      */
     protected String[] getLastParsedLineArray() {
-        return lastParsedLineArray;
+        return lastParsedLine.toArray();
     }
 
     /**
      * Sets an array containing the field values from the last parsed trace line.
      * @param lastParsedLineArray the field values from the last parsed trace line
+     * @see #setLastParsedLine(TraceLineTokenizer)
      */
     protected void setLastParsedLineArray(@NonNull final String[] lastParsedLineArray) {
-        this.lastParsedLineArray = lastParsedLineArray;
+        this.lastParsedLine = new TraceLineTokenizer().setFields(lastParsedLineArray);
     }
 }
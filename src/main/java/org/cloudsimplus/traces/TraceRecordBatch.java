@@ -0,0 +1,172 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * A batch of lines from a chunk of a trace file, split into fields and
+ * with numeric fields parsed in advance into primitive arrays.
+ * Batches are created in parallel by a {@link TraceChunkParser},
+ * then each line is {@link TraceLineTokenizer#loadLine(TraceRecordBatch, int) loaded}
+ * into a tokenizer to be processed in file order.
+ * Comment lines are not included in the batch.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class TraceRecordBatch {
+    /** A flag indicating a field was parsed as a long. */
+    static final byte LONG_PARSED = 1;
+
+    /** A flag indicating a field was parsed as an int (its value is stored into {@link #longs}). */
+    static final byte INT_PARSED = 2;
+
+    /** A flag indicating a field was parsed as a double. */
+    static final byte DOUBLE_PARSED = 4;
+
+    private static final int DEF_FIELDS = 1024;
+
+    /** The bytes of the chunk. */
+    final byte[] data;
+
+    /** The number of lines in the batch. */
+    private int lines;
+
+    /**
+     * The index of the first field of each line inside the field arrays.
+     * The fields of line {@code i} go from {@code lineFields[i]} to {@code lineFields[i+1]} (exclusive).
+     */
+    int[] lineFields;
+
+    /** The number of fields in all lines. */
+    private int fields;
+
+    int[] fieldStarts;
+    int[] fieldEnds;
+
+    /** The value of the fields parsed as long or int, according to the {@link #parsedFlags}. */
+    long[] longs;
+
+    /** The value of the fields parsed as double, according to the {@link #parsedFlags}. */
+    double[] doubles;
+
+    /** Flags indicating how each field was parsed. */
+    byte[] parsedFlags;
+
+    private TraceRecordBatch(final byte[] data) {
+        this.data = data;
+        this.lineFields = new int[DEF_FIELDS];
+        this.fieldStarts = new int[DEF_FIELDS];
+        this.fieldEnds = new int[DEF_FIELDS];
+        this.longs = new long[DEF_FIELDS];
+        this.doubles = new double[DEF_FIELDS];
+        this.parsedFlags = new byte[DEF_FIELDS];
+    }
+
+    /**
+     * Splits the lines inside a byte array into fields and parses the numeric ones.
+     *
+     * @param data the bytes of a chunk of the trace file, which must contain just entire lines
+     * @param fieldDelimiterRegex a regex defining how fields are delimited, which must be
+     *                            {@link TraceLineTokenizer#isSupportedDelimiter(String) supported}
+     * @param commentStrings the Strings that identify the start of a comment line
+     * @return the new batch
+     */
+    static TraceRecordBatch parse(final byte[] data, final String fieldDelimiterRegex, final String[] commentStrings) {
+        final var batch = new TraceRecordBatch(data);
+        final var tokenizer = new TraceLineTokenizer(data, data.length, fieldDelimiterRegex, commentStrings);
+        try {
+            while (tokenizer.nextLine()) {
+                if (!tokenizer.isComment()) {
+                    batch.addLine(tokenizer);
+                }
+            }
+        } catch (IOException e) {
+            // The tokenizer reads from the byte array, which cannot fail
+            throw new UncheckedIOException(e);
+        }
+
+        batch.lineFields[batch.lines] = batch.fields;
+        return batch;
+    }
+
+    private void addLine(final TraceLineTokenizer tokenizer) {
+        final int count = tokenizer.getFieldCount();
+        ensureCapacity(count);
+        lineFields[lines++] = fields;
+        for (int i = 0; i < count; i++, fields++) {
+            fieldStarts[fields] = tokenizer.getFieldStart(i);
+            fieldEnds[fields] = tokenizer.getFieldEnd(i);
+            parsedFlags[fields] = parseField(tokenizer, i);
+        }
+    }
+
+    /**
+     * Parses a field as a number when it's an integer or decimal value.
+     * @param tokenizer the tokenizer holding the current line
+     * @param field the index of the field
+     * @return the flags indicating how the field was parsed
+     */
+    private byte parseField(final TraceLineTokenizer tokenizer, final int field) {
+        if (!tokenizer.isDecimal(field)) {
+            return 0;
+        }
+
+        byte flags = DOUBLE_PARSED;
+        doubles[fields] = tokenizer.parseDouble(field);
+        if (tokenizer.isInteger(field) && tokenizer.getFieldLength(field) <= 18) {
+            final long value = tokenizer.parseLong(field);
+            longs[fields] = value;
+            flags |= LONG_PARSED;
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                flags |= INT_PARSED;
+            }
+        }
+
+        return flags;
+    }
+
+    private void ensureCapacity(final int lineFieldsCount) {
+        if (lines + 2 > lineFields.length) {
+            lineFields = Arrays.copyOf(lineFields, lineFields.length * 2);
+        }
+
+        final int required = fields + lineFieldsCount;
+        if (required > fieldStarts.length) {
+            final int capacity = Math.max(required, fieldStarts.length * 2);
+            fieldStarts = Arrays.copyOf(fieldStarts, capacity);
+            fieldEnds = Arrays.copyOf(fieldEnds, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            doubles = Arrays.copyOf(doubles, capacity);
+            parsedFlags = Arrays.copyOf(parsedFlags, capacity);
+        }
+    }
+
+    /** {@return the number of lines in the batch} */
+    int getLines() {
+        return lines;
+    }
+}
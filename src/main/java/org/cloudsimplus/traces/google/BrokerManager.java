@@ -97,7 +97,14 @@ public final class BrokerManager {
      *         (ii) the default broker if one was set.
      */
     DatacenterBroker getOrCreateBroker(final String username){
-        return getBroker(() -> brokersMap.computeIfAbsent(username, this::createBroker));
+        final var broker = getBroker(() -> brokersMap.computeIfAbsent(username, this::createBroker));
+        if(reader.isStreamingReplayEnabled()) {
+            /* While the trace is replayed, new Cloudlets may be submitted to the broker later on.
+             * This way, it must not shut down just because it has become idle. */
+            broker.setShutdownWhenIdle(false);
+        }
+
+        return broker;
     }
 
     private DatacenterBroker createBroker(final String username) {
@@ -290,6 +290,11 @@ public final class GoogleMachineEventsTraceReader extends GoogleTraceReaderAbstr
         return hostsForRemoval.size();
     }
 
+    @Override
+    /* default */ double getLastLineTimestamp() {
+        return MachineEventField.TIMESTAMP.getValue(this);
+    }
+
     /**
      * Gets the enum value that represents the event type of the current trace line.
      *
@@ -300,7 +305,7 @@ public final class GoogleMachineEventsTraceReader extends GoogleTraceReaderAbstr
     }
 
     /**
-     * Creates a Host instance from the {@link #getLastParsedLineArray() last parsed line},
+     * Creates a Host instance from the {@link #getLastParsedLine() last parsed line},
      * using the given {@link #setHostCreationFunction(Function) host create function}.
      *
      * @return the Host instance
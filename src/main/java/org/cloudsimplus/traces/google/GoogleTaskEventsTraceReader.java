@@ -63,6 +63,13 @@ import static java.util.Objects.requireNonNull;
  * <p>The documentation for fields and values were obtained from the Google Cluster trace documentation in the link above.
  * It's strongly recommended to read such a documentation before trying to use this class.</p>
  *
+ * <p>By default, the entire trace is read when it's {@link #process() processed}
+ * and all the events changing the status of Cloudlets are sent when the simulation starts.
+ * For large traces, that makes both the memory usage and the size of the simulation's future event queue
+ * grow with the trace length. Setting a {@link #setReadAheadWindow(double) read-ahead window}
+ * enables the streaming replay mode: trace lines are read as the simulation clock gets
+ * close to their timestamp, so that just the events inside such a window are created and sent at a time.</p>
+ *
  * <p>Check important details at {@link TraceReaderAbstract}.</p>
  *
  * @see #process()
@@ -113,6 +120,24 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
 
     private final CloudSimPlus simulation;
 
+    /**
+     * The Cloudlets that reached a final status (finished, failed or killed)
+     * while the trace is replayed in streaming mode,
+     * where the key of each entry is the simulation time such a status is reached
+     * and the value is the Cloudlet ID.
+     * They are removed from the list of available Cloudlets once this trace
+     * and the {@link #usageReaders} were replayed beyond that time.
+     * Since trace lines are sorted by timestamp, entries are sorted by time too.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Deque<Map.Entry<Double, Long>> finishedCloudlets;
+
+    /**
+     * The usage trace readers linked to this one, which change the usage of the Cloudlets created here.
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<GoogleTaskUsageTraceReader> usageReaders;
+
     /**
      * Gets a {@link GoogleTaskEventsTraceReader} instance to read a "task events" trace file
      * inside the <b>application's resource directory</b>.
@@ -185,6 +210,8 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
         this.cloudletCreationFunction = requireNonNull(cloudletCreationFunction);
         this.autoSubmitCloudlets = true;
         this.cloudletEvents = new HashMap<>();
+        this.finishedCloudlets = new ArrayDeque<>();
+        this.usageReaders = new ArrayList<>();
         this.brokerManager = new BrokerManager(this);
         setMaxCloudletsToCreate(Integer.MAX_VALUE);
     }
@@ -225,6 +252,10 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
 
     private void sendCloudletEvents() {
         cloudletEvents.values().forEach(this::sendCloudletEvents);
+        if(isStreamingReplayEnabled()) {
+            // The events don't need to be kept in memory while the rest of the trace is replayed
+            cloudletEvents.clear();
+        }
     }
 
     protected void sendCloudletEvents(final List<CloudSimEvent> events) {
@@ -237,6 +268,79 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
         return eventType.process(this);
     }
 
+    /**
+     * Enables the streaming replay of the trace, defining how far ahead of the simulation clock
+     * trace lines are read. Cloudlets and their status change events are created just when
+     * the timestamp of the respective trace line enters such a window.
+     * It must be called before the trace is {@link #process() processed}.
+     *
+     * <p>While the trace is replayed, the brokers created from it are not shut down
+     * when they become idle, since new Cloudlets may still be submitted.
+     * Usage trace readers linked to this one should also be replayed in streaming mode,
+     * since they can only find Cloudlets already created.
+     * Finished Cloudlets are kept available until such readers are replayed beyond their finish time.</p>
+     *
+     * @param readAheadWindow the length of the window (in seconds) or {@link Double#MAX_VALUE}
+     *                        to read the entire trace at once when it's processed (default)
+     * @return this instance
+     */
+    public GoogleTaskEventsTraceReader setReadAheadWindow(final double readAheadWindow) {
+        setReadAheadWindow(simulation, readAheadWindow);
+        return this;
+    }
+
+    @Override
+    /* default */ double getLastLineTimestamp() {
+        return TaskEventField.TIMESTAMP.getValue(this);
+    }
+
+    /**
+     * Links a usage trace reader to this one, so that Cloudlets are kept available
+     * until the usage reader is replayed beyond the time they reached a final status.
+     * @param usageReader the usage trace reader to link
+     */
+    /* default */ void addUsageReader(final GoogleTaskUsageTraceReader usageReader) {
+        usageReaders.add(usageReader);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Cloudlets that reached a final status up to the time both this trace and
+     * all the linked usage traces were replayed are removed from the list of
+     * available Cloudlets before that, since no usage change can be applied to them anymore.
+     * That way, the list of available Cloudlets doesn't grow with the trace length.
+     */
+    @Override
+    /* default */ boolean replayUntil(final double time) {
+        removeFinishedCloudlets();
+        return super.replayUntil(time);
+    }
+
+    private void removeFinishedCloudlets() {
+        final double usageReplayedTime = usageReaders.stream()
+                                                     .mapToDouble(GoogleTraceReaderAbstract::getReplayedTime)
+                                                     .min().orElse(Double.MAX_VALUE);
+        final double replayedTime = Math.min(getReplayedTime(), usageReplayedTime);
+        while (!finishedCloudlets.isEmpty() && finishedCloudlets.peekFirst().getKey() <= replayedTime) {
+            removeAvailableObject(finishedCloudlets.pollFirst().getValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Brokers created from the trace are then allowed to shut down when they become idle.
+     */
+    @Override
+    /* default */ void finishReplay() {
+        super.finishReplay();
+        for (final var broker : brokerManager.getBrokers()) {
+            broker.setShutdownWhenIdle(true);
+            if (simulation.isRunning()) {
+                broker.requestShutdownWhenIdle();
+            }
+        }
+    }
+
     /**
      * Send a message to the broker to request change in a Cloudlet status,
      * using some tags from {@link CloudSimTag} such as {@link CloudSimTag#CLOUDLET_READY}.
@@ -246,11 +350,22 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
     /* default */ boolean requestCloudletStatusChange(final int tag) {
         final var taskEvent = TaskEvent.of(this);
         final var broker = brokerManager.getBroker(taskEvent.getUserName());
-        final double delay = taskEvent.getTimestamp();
+        final double delay = getEventDelay(taskEvent.getTimestamp());
 
-        return findObject(taskEvent.getUniqueTaskId())
+        final boolean requested =
+            findObject(taskEvent.getUniqueTaskId())
                 .map(cloudlet -> addCloudletStatusChangeEvents(new CloudSimEvent(delay, broker, tag, cloudlet), taskEvent))
                 .isPresent();
+
+        if(requested && isStreamingReplayEnabled() && isFinalStatusTag(tag)) {
+            finishedCloudlets.addLast(Map.entry(simulation.clock() + delay, taskEvent.getUniqueTaskId()));
+        }
+
+        return requested;
+    }
+
+    private static boolean isFinalStatusTag(final int tag) {
+        return tag == CloudSimTag.CLOUDLET_FINISH || tag == CloudSimTag.CLOUDLET_FAIL || tag == CloudSimTag.CLOUDLET_CANCEL;
     }
 
     /**
@@ -343,7 +458,7 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
          * This way, it will be executed only when the event is processed.*/
         final var attrsChangeSimEvt =
             new CloudSimEvent(
-                taskEvent.getTimestamp(),
+                getEventDelay(taskEvent.getTimestamp()),
                 statusChangeSimEvt.getDestination(),
                 CloudSimTag.CLOUDLET_UPDATE_ATTRIBUTES, attributesUpdateRunnable);
 
@@ -354,11 +469,18 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
     }
 
     /**
-     * Adds a Cloudlet event to the map of events to send
+     * Adds a Cloudlet event to the map of events to send,
+     * or sends it right away if the trace is being replayed in streaming mode
+     * after the simulation has started.
      * @param cloudlet
      * @param evt
      */
     private void addEventToSend(final Cloudlet cloudlet, final CloudSimEvent evt) {
+        if(isTimeToSendEventsNow()) {
+            evt.getSource().schedule(evt);
+            return;
+        }
+
         cloudletEvents
             .compute(cloudlet, (key, list) -> list == null ? new LinkedList<>() : list)
             .add(evt);
@@ -409,6 +531,6 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
      * @return true to indicate the Cloudlet is allowed to be created, false otherwise.
      */
     protected boolean allowCloudletCreation() {
-        return availableObjectsCount() < getMaxCloudletsToCreate();
+        return createdObjectsNumber() < getMaxCloudletsToCreate();
     }
 }
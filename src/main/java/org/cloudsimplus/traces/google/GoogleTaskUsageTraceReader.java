@@ -56,6 +56,10 @@ import java.util.List;
  * <p>The documentation for fields and values were obtained from the Google Cluster trace documentation in the link above.
  * It's strongly recommended to read such a documentation before trying to use this class.</p>
  *
+ * <p>The trace can be replayed in streaming mode by setting a
+ * {@link #setReadAheadWindow(double) read-ahead window},
+ * so that resource usage change events are created just when the simulation clock gets close to them.</p>
+ *
  * <p>Check important details at {@link TraceReaderAbstract}.</p>
  *
  * @see #process()
@@ -301,6 +305,7 @@ public final class GoogleTaskUsageTraceReader extends GoogleTraceReaderAbstract<
     {
         super(filePath);
         this.taskEventsReader = taskEventsReader;
+        taskEventsReader.addUsageReader(this);
         final var brokerList = getBrokers();
         if(brokerList.isEmpty()){
             throw new IllegalArgumentException("The broker list in your GoogleTaskEventsTraceReader is empty");
@@ -364,6 +369,40 @@ public final class GoogleTaskUsageTraceReader extends GoogleTraceReaderAbstract<
      */
     private void onSimulationStart(final EventInfo info) {
         cloudletUsageChangeEvents.forEach(evt -> evt.getSource().schedule(evt));
+        if(isStreamingReplayEnabled()) {
+            // The events don't need to be kept in memory while the rest of the trace is replayed
+            cloudletUsageChangeEvents.clear();
+        }
+    }
+
+    /**
+     * Enables the streaming replay of the trace, defining how far ahead of the simulation clock
+     * trace lines are read. Resource usage change events are created just when
+     * the timestamp of the respective trace line enters such a window.
+     * It must be called before the trace is {@link #process() processed}.
+     *
+     * <p>Since usage changes can only be applied to Cloudlets already created,
+     * if the {@link GoogleTaskEventsTraceReader} is also replayed in streaming mode,
+     * it's requested to read its trace up to the same time before this trace is read.</p>
+     *
+     * @param readAheadWindow the length of the window (in seconds) or {@link Double#MAX_VALUE}
+     *                        to read the entire trace at once when it's processed (default)
+     * @return this instance
+     */
+    public GoogleTaskUsageTraceReader setReadAheadWindow(final double readAheadWindow) {
+        setReadAheadWindow(simulation, readAheadWindow);
+        return this;
+    }
+
+    @Override
+    /* default */ boolean replayUntil(final double time) {
+        taskEventsReader.replayUntil(time);
+        return super.replayUntil(time);
+    }
+
+    @Override
+    /* default */ double getLastLineTimestamp() {
+        return FieldIndex.START_TIME.getValue(this);
     }
 
     @Override
@@ -413,8 +452,12 @@ public final class GoogleTaskUsageTraceReader extends GoogleTraceReaderAbstract<
             addAvailableObject(cloudlet);
             final CloudSimEvent evt =
                 new CloudSimEvent(
-                    taskUsage.getStartTime(), cloudlet.getBroker(),
+                    getEventDelay(taskUsage.getStartTime()), cloudlet.getBroker(),
                     CloudSimTag.CLOUDLET_UPDATE_ATTRIBUTES, resourceUsageUpdateRunnable);
+            if(isTimeToSendEventsNow()) {
+                return evt.getSource().schedule(evt);
+            }
+
             return cloudletUsageChangeEvents.add(evt);
         }
 
@@ -23,18 +23,29 @@
  */
 package org.cloudsimplus.traces.google;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.core.Identifiable;
+import org.cloudsimplus.core.Simulation;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.traces.ParsingException;
+import org.cloudsimplus.traces.TraceLineTokenizer;
 import org.cloudsimplus.traces.TraceReaderAbstract;
+import org.cloudsimplus.util.MathUtil;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 /**
  * An abstract class for creating <a href="https://github.com/google/cluster-data/blob/master/ClusterData2011_2.md">Google Cluster Trace</a>
  * readers.
  *
+ * <p>Readers of traces whose lines create events along the simulation time
+ * may replay the trace in streaming mode, by setting a
+ * {@link #getReadAheadWindow() read-ahead window}.</p>
+ *
  * <p>Check important details at {@link TraceReaderAbstract}.</p>
  *
  * @param <T> the type of objects that will be created for each line read from the trace file
@@ -57,10 +68,70 @@ abstract class GoogleTraceReaderAbstract<T extends Identifiable> extends TraceRe
      */
     private final Map<Long, T> availableObjectsMap;
 
+    /**
+     * The number of objects created from the trace file so far.
+     * @see #createdObjectsNumber()
+     */
+    private int createdObjectsNumber;
+
+    /**
+     * The length of the time window (in seconds) defining how far ahead of the simulation clock
+     * trace lines are read when the trace is replayed in streaming mode,
+     * or {@link Double#MAX_VALUE} if the entire trace is read at once when it's {@link #process() processed} (default).
+     */
+    @Getter
+    private double readAheadWindow;
+
+    /**
+     * The simulation where events created from the trace are sent to when it's replayed in streaming mode,
+     * or null if the streaming replay is disabled.
+     */
+    private Simulation replaySimulation;
+
+    /**
+     * The simulation time when the streaming replay started, which corresponds to the timestamp 0 inside the trace.
+     */
+    private double replayStartTime;
+
+    /**
+     * Indicates if the streaming replay was started, so that the trace is not processed again.
+     */
+    private boolean replayStarted;
+
+    /**
+     * A tokenizer to read the trace lines while the trace is replayed in streaming mode,
+     * or null if the replay didn't start or was finished.
+     */
+    private TraceLineTokenizer replayLine;
+
+    /**
+     * Indicates if the last line read by the {@link #replayLine} is waiting to be processed,
+     * because it's beyond the current read-ahead window.
+     */
+    private boolean replayLinePending;
+
+    /**
+     * The simulation time of the next trace line to be processed in streaming mode,
+     * or {@link Double#MAX_VALUE} if there is no line left.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private double nextReplayTime;
+
+    /**
+     * The simulation time up to which trace lines were processed,
+     * {@link Double#MAX_VALUE} if the entire trace was processed,
+     * or {@link Double#NEGATIVE_INFINITY} if no line was processed yet.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private double replayedTime;
+
     /* default */  GoogleTraceReaderAbstract(final String filePath) {
         super(filePath);
         this.setFieldDelimiterRegex(",");
         availableObjectsMap = new HashMap<>();
+        readAheadWindow = Double.MAX_VALUE;
+        nextReplayTime = Double.MAX_VALUE;
+        replayedTime = Double.NEGATIVE_INFINITY;
     }
 
     /**
@@ -74,9 +145,14 @@ abstract class GoogleTraceReaderAbstract<T extends Identifiable> extends TraceRe
     public Collection<T> process() {
         preProcess();
         //If the file was not processed yet, process it
-        if (availableObjectsMap.isEmpty()) {
+        if (availableObjectsMap.isEmpty() && !replayStarted) {
             try {
-                readFile(this::processParsedLine);
+                if (isStreamingReplayEnabled()) {
+                    startReplay();
+                } else {
+                    readLines(this::processParsedLine);
+                    replayedTime = Double.MAX_VALUE;
+                }
             } catch (Exception e) {
                 throw new ParsingException("Error when processing the trace file. Current trace line: " + getLastLineNumber(), e);
             }
@@ -87,6 +163,120 @@ abstract class GoogleTraceReaderAbstract<T extends Identifiable> extends TraceRe
         return availableObjectsMap.values();
     }
 
+    /**
+     * Sets the length of the time window defining how far ahead of the simulation clock
+     * trace lines are read when the trace is replayed in streaming mode.
+     * It must be called before the trace is {@link #process() processed}.
+     *
+     * @param simulation the simulation where events created from the trace are sent to
+     * @param readAheadWindow the length of the window (in seconds) or {@link Double#MAX_VALUE}
+     *                        to read the entire trace at once when it's processed
+     * @see #getReadAheadWindow()
+     */
+    /* default */ final void setReadAheadWindow(final Simulation simulation, final double readAheadWindow) {
+        this.readAheadWindow = MathUtil.nonNegative(readAheadWindow, "Read-ahead window");
+        this.replaySimulation = isStreamingReplayEnabled() ? Objects.requireNonNull(simulation) : null;
+    }
+
+    /**
+     * Checks if the trace is replayed in streaming mode,
+     * reading the lines inside a {@link #getReadAheadWindow() read-ahead window}
+     * as the simulation clock advances, instead of reading the entire trace at once.
+     * @return true if the streaming replay is enabled, false otherwise
+     */
+    public boolean isStreamingReplayEnabled() {
+        return readAheadWindow < Double.MAX_VALUE;
+    }
+
+    /**
+     * Starts replaying the trace in streaming mode,
+     * processing the lines inside the first read-ahead window
+     * and creating a {@link GoogleTraceReplaySource} to process the remaining lines
+     * as the simulation clock advances.
+     */
+    private void startReplay() {
+        replayStarted = true;
+        replayStartTime = replaySimulation.clock();
+        replayLine = openLines();
+        if (replayUntil(replayStartTime + readAheadWindow)) {
+            new GoogleTraceReplaySource(replaySimulation, this);
+        }
+    }
+
+    /**
+     * Processes all trace lines (not processed yet) whose timestamp is up to a given simulation time,
+     * when the trace is replayed in streaming mode.
+     *
+     * @param time the simulation time to process the trace lines up to
+     * @return true if there are trace lines left to be processed, false otherwise
+     */
+    /* default */ boolean replayUntil(final double time) {
+        if (replayLine == null) {
+            return false;
+        }
+
+        while (replayLinePending || nextLine(replayLine)) {
+            setLastParsedLine(replayLine);
+            nextReplayTime = replayStartTime + getLastLineTimestamp();
+            replayLinePending = nextReplayTime > time;
+            if (replayLinePending) {
+                replayedTime = time;
+                return true;
+            }
+
+            processLine(replayLine, this::processParsedLine);
+        }
+
+        finishReplay();
+        return false;
+    }
+
+    /**
+     * Closes the trace file after all lines were replayed in streaming mode.
+     */
+    /* default */ void finishReplay() {
+        try {
+            replayLine.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            replayLine = null;
+            nextReplayTime = Double.MAX_VALUE;
+            replayedTime = Double.MAX_VALUE;
+        }
+    }
+
+    /**
+     * {@return the timestamp (in seconds) of the last parsed trace line}
+     */
+    /* default */ abstract double getLastLineTimestamp();
+
+    /**
+     * Gets the delay to send an event for something that happens at a given timestamp inside the trace.
+     * When the trace is replayed in streaming mode, the delay is relative to the current simulation time.
+     *
+     * @param timestamp the timestamp (in seconds) read from the trace
+     * @return the delay to send the event (in seconds)
+     */
+    /* default */ final double getEventDelay(final double timestamp) {
+        if (replaySimulation == null) {
+            return timestamp;
+        }
+
+        return Math.max(0, replayStartTime + timestamp - replaySimulation.clock());
+    }
+
+    /**
+     * Checks if events created from the trace must be sent right away, instead of
+     * being stored to be sent when the simulation starts.
+     * That happens when the trace is replayed in streaming mode after the simulation has started.
+     *
+     * @return true if events must be immediately sent, false otherwise
+     */
+    /* default */ final boolean isTimeToSendEventsNow() {
+        return replaySimulation != null && replaySimulation.isRunning();
+    }
+
     /**
      * Executes any pre-process before starting to read the trace file,
      * such as checking if required attributes were set.
@@ -109,11 +299,11 @@ abstract class GoogleTraceReaderAbstract<T extends Identifiable> extends TraceRe
     /**
      * Process the parsed line according to the event type.
      *
-     * @param parsedLineArray an array containing the field values from the last parsed trace line.
+     * @param parsedLine a tokenizer holding the field values from the last parsed trace line.
      * @return true if the parsed line was processed, false otherwise
      */
-    /* default */ final boolean processParsedLine(final String[] parsedLineArray) {
-        this.setLastParsedLineArray(parsedLineArray);
+    /* default */ final boolean processParsedLine(final TraceLineTokenizer parsedLine) {
+        this.setLastParsedLine(parsedLine);
         return processParsedLineInternal();
     }
 
@@ -121,8 +311,8 @@ abstract class GoogleTraceReaderAbstract<T extends Identifiable> extends TraceRe
      * Process the last parsed trace line.
      * @return true if the parsed line was processed, false otherwise
      *
-     * @see #processParsedLine(String[])
-     * @see #getLastParsedLineArray()
+     * @see #processParsedLine(TraceLineTokenizer)
+     * @see #getLastParsedLine()
      */
     protected abstract boolean processParsedLineInternal();
 
@@ -137,7 +327,31 @@ abstract class GoogleTraceReaderAbstract<T extends Identifiable> extends TraceRe
      * @see #availableObjectsMap
      */
     /* default */ final boolean addAvailableObject(final T object){
-        return availableObjectsMap.put(object.getId(), Objects.requireNonNull(object)) == null;
+        if(availableObjectsMap.put(object.getId(), Objects.requireNonNull(object)) == null){
+            createdObjectsNumber++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes an object T from the list of available objects,
+     * when it isn't required anymore while the trace is replayed in streaming mode.
+     * @param id id of the object to remove
+     * @see #availableObjectsMap
+     */
+    /* default */ final void removeAvailableObject(final long id){
+        availableObjectsMap.remove(id);
+    }
+
+    /**
+     * Gets the number of objects created so far,
+     * including the ones {@link #removeAvailableObject(long) removed} from the list of available objects.
+     * @return
+     */
+    protected final int createdObjectsNumber(){
+        return createdObjectsNumber;
     }
 
     /**
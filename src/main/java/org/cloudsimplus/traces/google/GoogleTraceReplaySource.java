@@ -0,0 +1,100 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces.google;
+
+import org.cloudsimplus.core.CloudSimEntity;
+import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.core.events.SimEvent;
+import org.cloudsimplus.traces.ParsingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An entity that replays a Google Cluster trace file in streaming mode,
+ * reading the trace lines just when the simulation clock gets close to their timestamp.
+ * Every time the entity wakes up, it makes the reader process the lines inside
+ * a {@link GoogleTraceReaderAbstract#getReadAheadWindow() read-ahead time window}
+ * starting at the current time, then schedules itself to wake up when the timestamp
+ * of the next line enters the window.
+ * That way, the events created from the trace are sent as the simulation advances,
+ * instead of all of them being created and sent when the simulation starts.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class GoogleTraceReplaySource extends CloudSimEntity {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GoogleTraceReplaySource.class.getSimpleName());
+
+    /**
+     * The reader of the trace being replayed.
+     */
+    private final GoogleTraceReaderAbstract<?> reader;
+
+    /**
+     * Creates an entity to replay a trace file.
+     * The reader must have already read the lines inside the first time window.
+     *
+     * @param simulation the simulation the entity belongs to
+     * @param reader the reader of the trace to replay
+     */
+    GoogleTraceReplaySource(final Simulation simulation, final GoogleTraceReaderAbstract<?> reader) {
+        super(simulation);
+        this.reader = reader;
+        setName("%s_%s".formatted(getClass().getSimpleName(), reader.getClass().getSimpleName()));
+    }
+
+    @Override
+    protected void startInternal() {
+        LOGGER.info("{}: {} is starting...", getSimulation().clockStr(), getName());
+        scheduleNextReplay();
+    }
+
+    @Override
+    public void processEvent(final SimEvent evt) {
+        if (evt.getTag() != CloudSimTag.TRACE_REPLAY) {
+            LOGGER.trace("{}: {}: Unknown event {} received.", getSimulation().clockStr(), this, evt.getTag());
+            return;
+        }
+
+        if (replayUntil(getSimulation().clock() + reader.getReadAheadWindow())) {
+            scheduleNextReplay();
+        }
+    }
+
+    private boolean replayUntil(final double time) {
+        try {
+            return reader.replayUntil(time);
+        } catch (RuntimeException e) {
+            throw new ParsingException("Error when replaying the trace file. Current trace line: " + reader.getLastLineNumber(), e);
+        }
+    }
+
+    /**
+     * Schedules the entity to wake up when the next trace line enters the read-ahead window.
+     */
+    private void scheduleNextReplay() {
+        final double delay = reader.getNextReplayTime() - reader.getReadAheadWindow() - getSimulation().clock();
+        schedule(Math.max(0, delay), CloudSimTag.TRACE_REPLAY);
+    }
+}
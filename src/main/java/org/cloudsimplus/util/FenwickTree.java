@@ -0,0 +1,176 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.util;
+
+import java.util.Arrays;
+
+/**
+ * A <a href="https://en.wikipedia.org/wiki/Fenwick_tree">Fenwick tree</a> (binary indexed tree)
+ * storing a growable sequence of values, which enables
+ * updating a value and getting the sum of the first values in O(log n) time.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class FenwickTree {
+    private static final int DEF_CAPACITY = 16;
+
+    /**
+     * The values stored, indexed from 0.
+     */
+    private long[] values;
+
+    /**
+     * The tree of partial sums, indexed from 1 (where index 0 is unused).
+     */
+    private long[] tree;
+
+    /**
+     * The number of values stored.
+     */
+    private int size;
+
+    /**
+     * Creates an empty tree.
+     */
+    public FenwickTree() {
+        this(DEF_CAPACITY);
+    }
+
+    /**
+     * Creates an empty tree with a given initial capacity.
+     * @param capacity the number of values the tree can store before growing
+     */
+    public FenwickTree(final int capacity) {
+        values = new long[Math.max(1, capacity)];
+        tree = new long[values.length + 1];
+    }
+
+    /**
+     * {@return the number of values stored}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a value at the end of the sequence.
+     * @param value the value to append
+     * @return the index of the value
+     */
+    public int add(final long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            rebuild();
+        }
+
+        size++;
+        set(size - 1, value);
+        return size - 1;
+    }
+
+    /**
+     * {@return the value at a given index}
+     * @param index the index of the value to get
+     */
+    public long get(final int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Replaces the value at a given index.
+     * @param index the index of the value to set
+     * @param value the new value
+     */
+    public void set(final int index, final long value) {
+        final long delta = value - values[checkIndex(index)];
+        values[index] = value;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * {@return the sum of the values} from index 0 to a given index (inclusive).
+     * @param index the index of the last value to sum (or -1 to get zero)
+     */
+    public long prefixSum(final int index) {
+        if (index != -1) {
+            checkIndex(index);
+        }
+
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * {@return the sum of all values}
+     */
+    public long sum() {
+        return size == 0 ? 0 : prefixSum(size - 1);
+    }
+
+    /**
+     * Replaces all values in the tree, building it in O(n) time.
+     * @param newValues the array with the new values
+     * @param newSize the number of elements from the array to store
+     */
+    public void reset(final long[] newValues, final int newSize) {
+        values = Arrays.copyOf(newValues, Math.max(DEF_CAPACITY, newSize));
+        size = newSize;
+        rebuild();
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        reset(new long[0], 0);
+    }
+
+    /**
+     * Builds the tree of partial sums from the {@link #values} in O(n) time.
+     */
+    private void rebuild() {
+        tree = new long[values.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += values[i - 1];
+            final int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private int checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index %d out of bounds for size %d".formatted(index, size));
+        }
+
+        return index;
+    }
+}
@@ -29,10 +29,14 @@ import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -125,6 +129,30 @@ public final class ResourceLoader {
         }
     }
 
+    /**
+     * Instantiates a {@link ReadableByteChannel} to read a file.
+     * If the file is found by the class loader (such as inside a jar package or the resources' directory),
+     * the channel reads the {@link #newInputStream(String, Class) resource stream}.
+     * Otherwise, a {@link FileChannel} is directly opened for the file in the filesystem,
+     * enabling bulk reads without intermediate copies.
+     *
+     * @param filePath the path of the file to get a channel for it
+     * @param klass a class from the project that will be used just to assist in getting the path of the given resource
+     * @return a {@link ReadableByteChannel} to read the resource
+     * @throws UncheckedIOException when the file doesn't exist or can't be accessed
+     */
+    public static ReadableByteChannel newReadableChannel(final String filePath, final Class klass) {
+        if(klass.getClassLoader().getResource(File.separator+filePath) != null || klass.getResource(File.separator+filePath) != null){
+            return Channels.newChannel(newInputStream(filePath, klass));
+        }
+
+        try {
+            return FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Gets the absolute path of a resource (a file or subdirectory) inside the resources' directory.
      *
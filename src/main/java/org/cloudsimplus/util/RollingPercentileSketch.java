@@ -0,0 +1,164 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.util;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * A compact sketch to estimate a percentile (such as the P95) of the last values
+ * of a time series in scale from 0 to 1 (such as resource utilization percentages).
+ *
+ * <p>Values are quantized into a fixed number of buckets and the bucket of each one of the
+ * last {@link #getWindowSize() window size} values is kept in a ring buffer,
+ * so that the oldest value can be evicted from the histogram when a new one is added.
+ * The percentile is updated when a value is added (in time proportional to the number of buckets),
+ * so that getting it takes constant time.
+ * The percentile is conservative: it's the upper bound of the bucket where it's in.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class RollingPercentileSketch {
+    /**
+     * The number of buckets values in scale from 0 to 1 are quantized into.
+     */
+    @Getter
+    private final int buckets;
+
+    /**
+     * The maximum number of last values considered to estimate the percentile.
+     */
+    @Getter
+    private final int windowSize;
+
+    /**
+     * The percentile to estimate, in scale from 0 to 1 (such as 0.95 for the P95).
+     */
+    @Getter
+    private final double percentile;
+
+    /**
+     * The number of values in the window inside each bucket.
+     */
+    private final int[] histogram;
+
+    /**
+     * A ring buffer with the bucket of the last values.
+     */
+    private final short[] window;
+
+    /**
+     * The index in the {@link #window} where the next value will be stored.
+     */
+    private int next;
+
+    /**
+     * The number of values in the window.
+     */
+    @Getter
+    private int count;
+
+    private double percentileValue;
+
+    /**
+     * Creates a sketch.
+     *
+     * @param windowSize the maximum number of last values considered to estimate the percentile
+     * @param percentile the percentile to estimate, in scale from 0 to 1 (such as 0.95 for the P95)
+     * @param buckets the number of buckets values are quantized into (up to {@link Short#MAX_VALUE})
+     */
+    public RollingPercentileSketch(final int windowSize, final double percentile, final int buckets) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than zero.");
+        }
+
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be in the range (0, 1].");
+        }
+
+        if (buckets <= 0 || buckets > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Number of buckets must be in the range [1, %d].".formatted(Short.MAX_VALUE));
+        }
+
+        this.windowSize = windowSize;
+        this.percentile = percentile;
+        this.buckets = buckets;
+        this.histogram = new int[buckets];
+        this.window = new short[windowSize];
+    }
+
+    /**
+     * Adds a value to the sketch, evicting the oldest one if the window is full.
+     * @param value the value to add, in scale from 0 to 1 (values out of such a range are clamped)
+     */
+    public void add(final double value) {
+        final int bucket = (int) Math.min(buckets - 1, Math.max(0, Math.ceil(value * buckets) - 1));
+        if (count == windowSize) {
+            histogram[window[next]]--;
+        } else {
+            count++;
+        }
+
+        window[next] = (short) bucket;
+        histogram[bucket]++;
+        next = (next + 1) % windowSize;
+        updatePercentile();
+    }
+
+    /**
+     * Finds the bucket containing the percentile, counting values from the highest bucket down.
+     */
+    private void updatePercentile() {
+        final long valuesAbove = (long) Math.floor(count * (1 - percentile));
+        long cumulative = 0;
+        for (int bucket = buckets - 1; bucket >= 0; bucket--) {
+            cumulative += histogram[bucket];
+            if (cumulative > valuesAbove) {
+                percentileValue = (bucket + 1) / (double) buckets;
+                return;
+            }
+        }
+
+        percentileValue = 0;
+    }
+
+    /**
+     * {@return the estimated percentile of the values in the window} or 0 if no value was added.
+     * The value is an upper bound, given the resolution of the {@link #getBuckets() buckets}.
+     */
+    public double getPercentileValue() {
+        return percentileValue;
+    }
+
+    /**
+     * Removes all values from the sketch.
+     */
+    public void clear() {
+        Arrays.fill(histogram, 0);
+        count = 0;
+        next = 0;
+        percentileValue = 0;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.utilizationmodels;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Stores PlanetLab traces shared among {@link UtilizationModelPlanetLab} instances,
+ * so that each trace file is read only once, no matter how many models use it.
+ * The models created by the store are just cursors over the shared trace.
+ *
+ * <p>Samples are quantised to one byte each, in steps of {@link #QUANTUM} (0.5%),
+ * which is enough for the PlanetLab traces since they store integer percentages.
+ * Values above {@code 255 * QUANTUM} (127.5%) are capped.
+ * Traces with the same content, even if read from different files,
+ * are deduplicated and share the same buffer.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class PlanetLabWorkloadStore {
+    /**
+     * The utilization represented by each unit of a quantised sample (in scale from 0 to 1).
+     */
+    public static final double QUANTUM = 0.005;
+
+    private static final PlanetLabWorkloadStore INSTANCE = new PlanetLabWorkloadStore();
+
+    /**
+     * Maps the path and number of samples read from a trace file to its quantised samples.
+     */
+    private final Map<String, byte[]> tracesByFile = new ConcurrentHashMap<>();
+
+    /**
+     * Maps the content of each distinct trace to the buffer shared by all files with that content.
+     */
+    private final Map<ByteBuffer, byte[]> tracesByContent = new ConcurrentHashMap<>();
+
+    /**
+     * {@return the default store} used by {@link UtilizationModelPlanetLab#getSharedInstance(String)}.
+     */
+    public static PlanetLabWorkloadStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a PlanetLab utilization model that is a cursor over a trace
+     * file <b>inside the application's resource directory</b>,
+     * loading the trace only if it wasn't loaded by this store yet.
+     *
+     * @param workloadFilePath the <b>relative path</b> of a PlanetLab Datacenter trace file.
+     * @param schedulingInterval the time interval in which precise utilization can be got from the file
+     * @param mapper the Function to map each value read from the trace
+     * @return the new utilization model
+     * @throws NumberFormatException when a value inside the side is not a valid number
+     */
+    public UtilizationModelPlanetLab newModel(
+        final String workloadFilePath,
+        final double schedulingInterval,
+        final DoubleUnaryOperator mapper)
+    {
+        return new UtilizationModelPlanetLab(getTrace(workloadFilePath, -1), schedulingInterval, mapper);
+    }
+
+    /**
+     * {@return the quantised samples of a trace file}, reading the file if it wasn't loaded yet.
+     * @param workloadFilePath the <b>relative path</b> of a PlanetLab Datacenter trace file.
+     * @param dataSamples number of samples to read from the file
+     *                    (-1 to use the value in the header of the file, as in {@link UtilizationModelPlanetLab})
+     */
+    byte[] getTrace(final String workloadFilePath, final int dataSamples) {
+        return tracesByFile.computeIfAbsent(workloadFilePath + '#' + dataSamples, key -> load(workloadFilePath, dataSamples));
+    }
+
+    private byte[] load(final String workloadFilePath, final int dataSamples) {
+        final var reader = UtilizationModelPlanetLab.newReader(workloadFilePath);
+        final double[] utilization = UtilizationModelPlanetLab.readWorkloadFile(reader, dataSamples, DoubleUnaryOperator.identity());
+        final byte[] trace = new byte[utilization.length];
+        for (int i = 0; i < trace.length; i++) {
+            trace[i] = quantise(utilization[i]);
+        }
+
+        return tracesByContent.computeIfAbsent(ByteBuffer.wrap(trace), content -> trace);
+    }
+
+    /**
+     * {@return a utilization value quantised to a single byte}
+     * @param utilization the utilization value to quantise (in scale from 0 to 1)
+     */
+    static byte quantise(final double utilization) {
+        return (byte) Math.min(255, Math.max(0, Math.round(utilization / QUANTUM)));
+    }
+
+    /**
+     * {@return the utilization value (in scale from 0 to 1) represented by a quantised sample}
+     * @param sample the quantised sample
+     */
+    static double toUtilization(final byte sample) {
+        return (sample & 0xFF) * QUANTUM;
+    }
+
+    /**
+     * {@return the number of distinct traces} stored, after deduplication.
+     */
+    public int getTracesNumber() {
+        return tracesByContent.size();
+    }
+
+    /**
+     * {@return the number of bytes} used by all stored samples.
+     */
+    public long getSize() {
+        return tracesByContent.values().stream().mapToLong(trace -> trace.length).sum();
+    }
+
+    /**
+     * Removes all traces from the store.
+     * Models already created keep working, since they hold a reference to their trace.
+     */
+    public void clear() {
+        tracesByFile.clear();
+        tracesByContent.clear();
+    }
+}
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.UnaryOperator;
 
 /**
@@ -36,6 +37,12 @@ import java.util.function.UnaryOperator;
  * to get some trace files.
  * The <a href="https://github.com/cloudsimplus/cloudsimplus-examples">CloudSim Plus Examples</a>
  * repository also provides some of these files.
+ *
+ * <p>Instances created through the {@code getSharedInstance} factory methods don't keep
+ * their own copy of the trace. They are lightweight cursors over a quantised trace
+ * held by the {@link PlanetLabWorkloadStore}, which reads each file only once
+ * and shares it among all models using it. That is useful when thousands of
+ * Cloudlets or VMs use the same set of traces.</p>
  */
 public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
     /**
@@ -66,10 +73,21 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      * by such a Function. If no mapper Function is set, the values
      * are returned and stored as read from the trace file (always in scale from 0 to 1).</p>
      *
-     * @see #readWorkloadFile(InputStreamReader, int)
+     * <p>It's null when the model is a cursor over a trace shared by the {@link PlanetLabWorkloadStore}.
+     * Subclasses should read the values through {@link #getSample(int)}, which works for both kinds of models.</p>
+     *
+     * @see #readWorkloadFile(InputStreamReader, int, DoubleUnaryOperator)
+     * @see #getSample(int)
      */
     protected final double[] utilization;
 
+    /**
+     * The quantised utilization samples shared by the {@link PlanetLabWorkloadStore}
+     * among all models reading the same trace, or null if the model has its own {@link #utilization} array.
+     * The {@link #mapper} is applied when the samples are read, since the shared trace must keep the original values.
+     */
+    private final byte[] samples;
+
     /**
      * A {@link UnaryOperator} Function that will be used to map the utilization values
      * read from the trace value to a different value.
@@ -83,7 +101,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      * without any change (except that the scale is always converted to [0..1]).</p>
      * @see #UtilizationModelPlanetLab(String, UnaryOperator)
      */
-    private final UnaryOperator<Double> mapper;
+    private final DoubleUnaryOperator mapper;
 
     /**
      * The time interval (in seconds) in which precise
@@ -280,13 +298,38 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
     {
         super();
         setSchedulingInterval(schedulingInterval);
-        this.mapper = Objects.requireNonNull(mapper);
+        this.mapper = Objects.requireNonNull(mapper)::apply;
 
         Objects.requireNonNull(utilization, "Utilization array cannot be null.");
         if(utilization.length <= 1){
             throw new IllegalArgumentException("The number of utilization samples must be greater than 1.");
         }
         this.utilization = utilization;
+        this.samples = null;
+    }
+
+    /**
+     * Creates a PlanetLab UtilizationModel that works as a cursor
+     * over a trace shared by the {@link PlanetLabWorkloadStore}.
+     *
+     * @param samples the quantised samples of the shared trace
+     * @param schedulingInterval the time interval in which precise utilization can be got from the trace
+     * @param mapper the Function to map the utilization values read from the trace
+     */
+    UtilizationModelPlanetLab(
+        @NonNull final byte[] samples,
+        final double schedulingInterval,
+        @NonNull final DoubleUnaryOperator mapper)
+    {
+        super();
+        if(samples.length <= 1){
+            throw new IllegalArgumentException("The number of utilization samples must be greater than 1.");
+        }
+
+        setSchedulingInterval(schedulingInterval);
+        this.mapper = mapper;
+        this.utilization = null;
+        this.samples = samples;
     }
 
     private UtilizationModelPlanetLab(
@@ -297,11 +340,62 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
     {
         super();
         setSchedulingInterval(schedulingInterval);
-        this.mapper = Objects.requireNonNull(mapper);
-        utilization = readWorkloadFile(reader, dataSamples);
+        this.mapper = Objects.requireNonNull(mapper)::apply;
+        utilization = readWorkloadFile(reader, dataSamples, this.mapper);
+        samples = null;
+    }
+
+    /**
+     * Creates a PlanetLab utilization model that is a cursor over a trace
+     * file <b>inside the application's resource directory</b>, which is loaded only once
+     * by the default {@link PlanetLabWorkloadStore} and shared among all models using it.
+     * It considers that the interval between each data line inside the trace
+     * is the {@link #DEF_SCHEDULING_INTERVAL default one}.
+     *
+     * @param workloadFilePath the <b>relative path</b> of a PlanetLab Datacenter trace file.
+     * @throws NumberFormatException when a value inside the side is not a valid number
+     * @see #getInstance(String)
+     */
+    public static UtilizationModelPlanetLab getSharedInstance(final String workloadFilePath) {
+        return getSharedInstance(workloadFilePath, DEF_SCHEDULING_INTERVAL);
     }
 
-    private static InputStreamReader newReader(final String workloadFilePath) {
+    /**
+     * Creates a PlanetLab utilization model that is a cursor over a trace
+     * file <b>inside the application's resource directory</b>, which is loaded only once
+     * by the default {@link PlanetLabWorkloadStore} and shared among all models using it.
+     *
+     * @param workloadFilePath the <b>relative path</b> of a PlanetLab Datacenter trace file.
+     * @param schedulingInterval the time interval in which precise utilization can be got from the file
+     * @throws NumberFormatException when a value inside the side is not a valid number
+     * @see #getInstance(String, double)
+     */
+    public static UtilizationModelPlanetLab getSharedInstance(final String workloadFilePath, final double schedulingInterval) {
+        return getSharedInstance(workloadFilePath, schedulingInterval, DoubleUnaryOperator.identity());
+    }
+
+    /**
+     * Creates a PlanetLab utilization model that is a cursor over a trace
+     * file <b>inside the application's resource directory</b>, which is loaded only once
+     * by the default {@link PlanetLabWorkloadStore} and shared among all models using it.
+     *
+     * @param workloadFilePath the <b>relative path</b> of a PlanetLab Datacenter trace file.
+     * @param schedulingInterval the time interval in which precise utilization can be got from the file
+     * @param mapper A {@link DoubleUnaryOperator} Function that will be used to map the utilization values
+     * read from the trace value to a different value.
+     * Since the trace is shared, the Function is applied every time a value is read.
+     * @throws NumberFormatException when a value inside the side is not a valid number
+     * @see #getInstance(String, UnaryOperator)
+     */
+    public static UtilizationModelPlanetLab getSharedInstance(
+        final String workloadFilePath,
+        final double schedulingInterval,
+        final DoubleUnaryOperator mapper)
+    {
+        return PlanetLabWorkloadStore.getInstance().newModel(workloadFilePath, schedulingInterval, mapper);
+    }
+
+    static InputStreamReader newReader(final String workloadFilePath) {
         return ResourceLoader.newInputStreamReader(workloadFilePath, UtilizationModelPlanetLab.class);
     }
 
@@ -322,12 +416,13 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      *                    If the file doesn't have such a comment with a valid line number,
      *                    it will be tried to read just {@link #DEF_DATA_SAMPLES} lines
      *                    from the trace.
+     * @param mapper the Function to map each value read from the trace
      * @return an array containing the utilization values read from the trace file (in scale from 0 to 1)
      * @throws UncheckedIOException when the trace file cannot be read
      * @see #utilization
      */
     @SneakyThrows(IOException.class)
-    private double[] readWorkloadFile(@NonNull final InputStreamReader reader, int dataSamples) {
+    static double[] readWorkloadFile(@NonNull final InputStreamReader reader, int dataSamples, final DoubleUnaryOperator mapper) {
         double[] utilization = {0};
 
         try (var buffer = new BufferedReader(reader)) {
@@ -340,7 +435,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
                 }
 
                 if(!isComment(line)) {
-                    utilization[lineNum++] = mapper.apply(Double.parseDouble(line) / 100.0);
+                    utilization[lineNum++] = mapper.applyAsDouble(Double.parseDouble(line) / 100.0);
                 }
             }
         }
@@ -361,7 +456,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      *         and the file doesn't contain the number of lines in the first line;
      *         the number of lines read from the file
      */
-    private int parseDataSamples(final String line, int dataSamples) {
+    private static int parseDataSamples(final String line, int dataSamples) {
         if(dataSamples < 0){
             dataSamples = isComment(line) ? MathUtil.parseInt(line.substring(1), DEF_DATA_SAMPLES) : DEF_DATA_SAMPLES;
         }
@@ -373,14 +468,26 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      * {@return the number of data samples} actually read from the trace file.
      */
     public int getDataSamples(){
-        return utilization.length;
+        return utilization == null ? samples.length : utilization.length;
+    }
+
+    /**
+     * {@return the utilization stored at a given index of the trace} (after applying the {@link #mapper}).
+     * @param index the index of the sample to get
+     */
+    protected final double getSample(final int index) {
+        if(utilization == null) {
+            return mapper.applyAsDouble(PlanetLabWorkloadStore.toUtilization(samples[index]));
+        }
+
+        return utilization[index];
     }
 
-    private boolean isComment(final String line) {
+    private static boolean isComment(final String line) {
         return line.startsWith("#");
     }
 
-    private double[] createEmptyArray(final int size) {
+    private static double[] createEmptyArray(final int size) {
         final double[] data = new double[size];
         for (int i = 0; i < size; i++) {
             data[i]=0;
@@ -394,7 +501,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
     	/* If the time requested is multiple of the scheduling interval,
     	gets a precise value from the trace file */
         if (Math.round(time) % getSchedulingInterval() == 0) {
-            return utilization[(int) getUtilizationIndex(time)];
+            return getSample((int) getUtilizationIndex(time));
         }
 
         /* Otherwise, computes a utilization based the
@@ -403,7 +510,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
         final int prevIndex = getPrevUtilizationIndex(time);
         final int nextIndex = getNextUtilizationIndex(time);
 
-        return (utilization[prevIndex] + utilization[nextIndex]) / 2.0;
+        return (getSample(prevIndex) + getSample(nextIndex)) / 2.0;
     }
 
     /**
@@ -424,7 +531,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
          * ensures we start reading data from the beginning of the
          * file if its end is reached.
          */
-        return (time / schedulingInterval) % utilization.length;
+        return (time / schedulingInterval) % getDataSamples();
     }
 
     /**
@@ -455,7 +562,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
      */
     private int getNextUtilizationIndex(final double time) {
         //Computes the modulo again since the Math.ceil may return an index higher than the size of the utilization array
-        return (int)Math.ceil(getUtilizationIndex(time)) % utilization.length;
+        return (int)Math.ceil(getUtilizationIndex(time)) % getDataSamples();
     }
 
     /**
@@ -485,7 +592,7 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
                It needs to be checked the impact in tests.*/
         final int index = endIndex - startIndex;
 
-        return index >= 0 ? index : (utilization.length - startIndex) + endIndex;
+        return index >= 0 ? index : (getDataSamples() - startIndex) + endIndex;
     }
 
     /**
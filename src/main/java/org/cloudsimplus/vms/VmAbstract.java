@@ -1,5 +1,6 @@
 package org.cloudsimplus.vms;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -26,6 +27,7 @@ import org.cloudsimplus.util.MathUtil;
 import org.cloudsimplus.utilizationmodels.BootModel;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * A base class for implementing {@link Vm}s.
@@ -64,6 +66,13 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
     protected String description;
     protected long freePesNumber;
     protected long expectedFreePesNumber;
+
+    /**
+     * A listener notified every time the {@link #getExpectedFreePesNumber() expected number of free PEs} changes,
+     * so that the index of VMs kept by the broker is updated even when such a number is changed directly.
+     */
+    @Getter(AccessLevel.NONE) @Setter @NonNull
+    private Consumer<Vm> onExpectedFreePesNumberChangeListener = vm -> {};
     @Setter  @NonNull
     protected MipsShare allocatedMips;
     @Setter  @NonNull
@@ -267,7 +276,33 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
 
     private double processing(final double currentTime, final MipsShare mipsShare) {
         notifyOnUpdateProcessingListeners();
-        return isStartingUp() ? bootProcessing() : cloudletsProcessing(currentTime, mipsShare);
+        if (isStartingUp()) {
+            return bootProcessing();
+        }
+
+        final boolean idle = cloudletScheduler.isEmpty();
+        final double nextSimulationDelay = cloudletsProcessing(currentTime, mipsShare);
+        if (!idle) {
+            updateUtilizationTriggers(currentTime);
+        }
+
+        return nextSimulationDelay;
+    }
+
+    /**
+     * Checks the utilization of VM resources against the registered {@link UtilizationTrigger}s.
+     * That is performed just after the Cloudlets processing is updated,
+     * since the {@link CloudletScheduler} only then recomputes the RAM and BW used by running Cloudlets.
+     * Before that, the VM resources may be entirely allocated by the Host provisioners
+     * (such as after the VM is created or scaled), which would fire the triggers
+     * with a utilization the Cloudlets don't have.
+     *
+     * @param currentTime the current simulation time
+     */
+    private void updateUtilizationTriggers(final double currentTime) {
+        ram.updateUtilizationTriggers(currentTime);
+        bw.updateUtilizationTriggers(currentTime);
+        processor.updateUtilizationTriggers(currentTime);
     }
 
     /**
@@ -345,7 +380,12 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
      * @param expectedFreePes the expected free PEs number to set
      */
     private Vm setExpectedFreePesNumber(final long expectedFreePes) {
+        final long previous = this.expectedFreePesNumber;
         this.expectedFreePesNumber = Math.max(expectedFreePes, 0);
+        if (previous != this.expectedFreePesNumber) {
+            onExpectedFreePesNumberChangeListener.accept(this);
+        }
+
         return this;
     }
 
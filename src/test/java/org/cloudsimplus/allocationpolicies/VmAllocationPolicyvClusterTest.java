@@ -0,0 +1,77 @@
+package org.cloudsimplus.allocationpolicies;
+
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.distributions.UniformDistr;
+import org.cloudsimplus.heuristics.VmToHostMappingSimulatedAnnealing;
+import org.cloudsimplus.heuristics.VmToHostMappingSolution;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostMultiClusters;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.hosts.HostSuitability;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmOversubscribable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VmAllocationPolicyvClusterTest {
+    private static final List<Float> LEVELS = List.of(1f, 2f, 3f);
+    private static final int HOST_PES = 16;
+
+    @Test
+    void allocateBatchOfVmsWithPlacementHeuristic() {
+        final var solutions = new int[1];
+        final var heuristic = new VmToHostMappingSimulatedAnnealing(10, new UniformDistr(0, 1, 3)) {
+            @Override
+            public VmToHostMappingSolution solve() {
+                solutions[0]++;
+                return super.solve();
+            }
+        };
+        heuristic.setColdTemperature(0.01);
+        heuristic.setCoolingRate(0.01);
+        heuristic.setChains(2);
+
+        final var policy = new VmAllocationPolicyvCluster().setPlacementHeuristic(heuristic);
+        final List<Host> hosts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            hosts.add(new HostMultiClusters(64 * 1024, 10000, 100000, createPes(), LEVELS));
+        }
+
+        // Hosts which don't support oversubscription levels must be ignored by the heuristic
+        hosts.add(new HostSimple(64 * 1024, 10000, 100000, createPes()));
+        new DatacenterSimple(new CloudSimPlus(), hosts, policy);
+
+        final List<Vm> vms = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final var vm = new VmOversubscribable(i, 1000, 1 + i % 4, LEVELS.get(i % LEVELS.size()));
+            vm.setRam(1024);
+            vms.add(vm);
+        }
+
+        final var suitabilities = policy.allocateHostForVm(vms);
+
+        assertEquals(1, solutions[0]);
+        assertEquals(vms.size(), suitabilities.size());
+        assertTrue(suitabilities.stream().allMatch(HostSuitability::fully));
+        for (final Vm vm : vms) {
+            assertInstanceOf(HostMultiClusters.class, vm.getHost(), "Host of " + vm);
+            assertTrue(vm.getHost().getVmList().contains(vm));
+        }
+    }
+
+    private static List<Pe> createPes() {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        return peList;
+    }
+}
@@ -0,0 +1,134 @@
+package org.cloudsimplus.autoscaling;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.resources.Processor;
+import org.cloudsimplus.resources.Ram;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudsimplus.utilizationmodels.UtilizationModel;
+import org.cloudsimplus.utilizationmodels.UtilizationModelAbstract;
+import org.cloudsimplus.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UtilizationTriggerScalingTest {
+    private static final long VM_RAM = 1000;
+
+    @Test
+    void verticalScalingRequestsOnceForEachThresholdCrossing() {
+        final var simulation = new CloudSimPlus();
+        final var broker = createDatacenterAndBroker(simulation);
+        final var vm = new VmSimple(1000, 1).setRam(VM_RAM);
+        final var scaling = new CountingVerticalScaling();
+        scaling.setUtilizationTrigger(0, 0.7, 0.05);
+        vm.setRamVerticalScaling(scaling);
+
+        /* RAM usage goes to 80% of the initial capacity at 10s and to 900 MB at 20s.
+         * Each scaling adds just 10% of RAM, which keeps the VM overloaded after the first scaling at 10s.
+         * The trigger is re-armed when the capacity changes, requesting a second scaling. */
+        final var cloudlet = new CloudletSimple(30_000, 1)
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setUtilizationModelRam(new StepRamUtilization());
+        broker.submitVm(vm);
+        broker.submitCloudlet(cloudlet);
+        simulation.start();
+
+        assertEquals(3, scaling.requestTimes.size(), "Request times: " + scaling.requestTimes);
+        assertEquals(10, scaling.requestTimes.get(0), 0.5);
+        assertEquals(11, scaling.requestTimes.get(1), 0.5);
+        assertEquals(20, scaling.requestTimes.get(2), 0.5);
+        assertEquals(1331, vm.getRam().getCapacity());
+        assertSame(vm.getRam(), scaling.getResource());
+    }
+
+    @Test
+    void horizontalScalingRequestsOnceWhileOverloaded() {
+        final var simulation = new CloudSimPlus();
+        final var broker = createDatacenterAndBroker(simulation);
+        final var vm = new VmSimple(1000, 2, new CloudletSchedulerSpaceShared()).setRam(VM_RAM);
+        final var scaling = new CountingHorizontalScaling();
+        scaling.setUtilizationTrigger(Processor.class, 0.7, 0.1).setVmSupplier(() -> new VmSimple(1000, 2).setRam(VM_RAM));
+        vm.setHorizontalScaling(scaling);
+        broker.submitVm(vm);
+
+        // The VM gets overloaded at 5s and a Cloudlet arrives at 7s while it's still overloaded
+        final var cloudlets = new ArrayList<Cloudlet>();
+        for (final double delay : new double[]{0, 5, 7}) {
+            final var cloudlet = new CloudletSimple(delay == 0 ? 20_000 : 5_000, 1);
+            cloudlet.setSubmissionDelay(delay);
+            cloudlets.add(cloudlet);
+            broker.bindCloudletToVm(cloudlet, vm);
+        }
+
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        assertEquals(1, scaling.requestTimes.size());
+        assertEquals(5, scaling.requestTimes.get(0), 0.5);
+        assertEquals(2, broker.getVmCreatedList().size());
+    }
+
+    private static DatacenterBrokerSimple createDatacenterAndBroker(final CloudSimPlus simulation) {
+        final var hostList = List.of(
+            new HostSimple(100_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000))),
+            new HostSimple(100_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000))));
+        new DatacenterSimple(simulation, hostList).setSchedulingInterval(1);
+        return new DatacenterBrokerSimple(simulation);
+    }
+
+    /**
+     * Requires 500 MB of RAM until 10s, 800 MB until 20s and 900 MB after that.
+     */
+    private static final class StepRamUtilization extends UtilizationModelAbstract {
+        private StepRamUtilization() {
+            super(UtilizationModel.Unit.ABSOLUTE);
+        }
+
+        @Override
+        protected double getUtilizationInternal(final double time) {
+            if (time < 10) {
+                return 500;
+            }
+
+            return time < 20 ? 800 : 900;
+        }
+    }
+
+    private static final class CountingVerticalScaling extends VerticalVmScalingSimple {
+        private final List<Double> requestTimes = new ArrayList<>();
+
+        private CountingVerticalScaling() {
+            super(Ram.class, 0.1);
+        }
+
+        @Override
+        protected boolean requestUpScaling(final double time) {
+            requestTimes.add(time);
+            return super.requestUpScaling(time);
+        }
+    }
+
+    private static final class CountingHorizontalScaling extends HorizontalVmScalingSimple {
+        private final List<Double> requestTimes = new ArrayList<>();
+
+        @Override
+        protected boolean requestUpScaling(final double time) {
+            final boolean requested = super.requestUpScaling(time);
+            if (requested) {
+                requestTimes.add(time);
+            }
+
+            return requested;
+        }
+    }
+}
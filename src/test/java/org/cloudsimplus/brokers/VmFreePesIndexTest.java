@@ -0,0 +1,76 @@
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VmFreePesIndexTest {
+    @Test
+    void findBestFitAndFirstFitMatchLinearSearch() {
+        final var random = new Random(3);
+        final var index = new VmFreePesIndex();
+        for (int i = 0; i < 50; i++) {
+            final var vm = new VmSimple(i, 1000, 1 + random.nextInt(8));
+            index.getCreatedVms().add(vm);
+            index.getRunningVms().add(vm);
+        }
+
+        for (int step = 0; step < 2000; step++) {
+            final List<Vm> created = index.getCreatedVms();
+            final Vm vm = created.get(random.nextInt(created.size()));
+            final int pes = 1 + random.nextInt(3);
+            switch (random.nextInt(4)) {
+                case 0 -> ((VmSimple) vm).removeExpectedFreePesNumber(pes);
+                case 1 -> ((VmSimple) vm).addExpectedFreePesNumber(pes);
+                case 2 -> index.getRunningVms().remove(vm);
+                default -> {
+                    if (!index.getRunningVms().contains(vm)) {
+                        index.getRunningVms().add(vm);
+                    }
+                }
+            }
+
+            final int cloudletPes = 1 + random.nextInt(8);
+            final Vm expectedBestFit = index.getRunningVms().stream()
+                .filter(candidate -> candidate.getExpectedFreePesNumber() >= cloudletPes)
+                .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
+                .orElse(Vm.NULL);
+            assertSame(expectedBestFit, index.findBestFit(cloudletPes), "step " + step);
+
+            final int fromIndex = random.nextInt(created.size());
+            assertEquals(linearFirstFit(created, cloudletPes, fromIndex), index.findFirstFit(cloudletPes, fromIndex), "step " + step);
+        }
+    }
+
+    @Test
+    void findFirstFitAfterCreatedVmRemoval() {
+        final var index = new VmFreePesIndex();
+        final var vm0 = new VmSimple(0, 1000, 1);
+        final var vm1 = new VmSimple(1, 1000, 4);
+        final var vm2 = new VmSimple(2, 1000, 2);
+        index.getCreatedVms().addAll(List.of(vm0, vm1, vm2));
+
+        assertEquals(1, index.findFirstFit(2, 0));
+        index.getCreatedVms().remove(vm1);
+        assertEquals(1, index.findFirstFit(2, 0));
+        assertEquals(-1, index.findFirstFit(3, 1));
+        assertSame(Vm.NULL, index.findBestFit(1));
+    }
+
+    private static int linearFirstFit(final List<Vm> vms, final long pes, final int fromIndex) {
+        for (int i = 0; i < vms.size(); i++) {
+            final int vmIndex = (fromIndex + i) % vms.size();
+            if (vms.get(vmIndex).getExpectedFreePesNumber() >= pes) {
+                return vmIndex;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,123 @@
+package org.cloudsimplus.builders.tables;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultExporterTest {
+    @Test
+    void exportOnReturnAndDestroyWritesCsvAndColumnarRecords() throws IOException {
+        final var simulation = new CloudSimPlus();
+        final var hosts = List.of(new HostSimple(List.of(new PeSimple(1000), new PeSimple(1000))));
+        new DatacenterSimple(simulation, hosts);
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vms = IntStream.range(0, 2).mapToObj(i -> (Vm)new VmSimple(1000, 1)).toList();
+        final List<Cloudlet> cloudlets = IntStream.range(0, 4).mapToObj(i -> (Cloudlet)new CloudletSimple(1000 * (i + 1), 1)).toList();
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+
+        final var csv = new StringWriter();
+        final var cloudletExporter = new CloudletResultExporter(new CsvRecordWriter(csv)).exportOnReturn(broker);
+        final var binary = new ByteArrayOutputStream();
+        final var vmExporter = new VmResultExporter(new AsyncRecordWriter(new ColumnarRecordWriter(binary, 1), 2)).exportOnDestroy(vms);
+        simulation.start();
+        cloudletExporter.close();
+        vmExporter.close();
+
+        final var lines = csv.toString().lines().toList();
+        assertEquals(cloudlets.size() + 1, lines.size());
+        assertEquals(String.join(",", cloudletExporter.getColumnNames()), lines.get(0));
+        assertTrue(lines.get(1).startsWith("0,SUCCESS,"), lines.get(1));
+
+        try (var reader = new ColumnarRecordReader(new ByteArrayInputStream(binary.toByteArray()))) {
+            assertEquals(vmExporter.getColumnNames(), reader.getColumnNames());
+            final var records = reader.readAll();
+            assertEquals(vms.size(), records.size());
+            for (final Object[] record : records) {
+                final var vm = vms.get(((Long) record[0]).intValue());
+                assertEquals(vm.getPesNumber(), record[3]);
+                assertEquals(vm.getMips(), record[4]);
+                assertEquals(vm.getFinishTime(), record[8]);
+            }
+        }
+    }
+
+    @Test
+    void columnarRecordsRoundTrip() throws IOException {
+        final var output = new ByteArrayOutputStream();
+        final Object[][] records = {
+            {1L, 2.5, "a"},
+            {-7, 3, "b,c"},
+            {Long.MAX_VALUE, 1.0, 10},
+        };
+
+        try (var writer = new ColumnarRecordWriter(output, 2)) {
+            writer.writeHeader(List.of("Id", "Value", "Name"));
+            for (final Object[] record : records) {
+                writer.writeRecord(record);
+            }
+        }
+
+        try (var reader = new ColumnarRecordReader(new ByteArrayInputStream(output.toByteArray()))) {
+            final var result = reader.readAll();
+            assertArrayEquals(new Object[]{1L, 2.5, "a"}, result.get(0));
+            assertArrayEquals(new Object[]{-7L, 3.0, "b,c"}, result.get(1));
+            // the last record is in a block of its own, where the name column has only integers
+            assertArrayEquals(new Object[]{Long.MAX_VALUE, 1.0, 10L}, result.get(2));
+        }
+    }
+
+    @Test
+    void asyncRecordWriterReportsUncheckedErrors() {
+        final var failingWriter = new RecordWriter() {
+            @Override
+            public void writeHeader(final List<String> columnNames) {/**/}
+
+            @Override
+            public void writeRecord(final Object[] values) {
+                throw new ClassCastException("Unexpected value");
+            }
+
+            @Override
+            public void close() {/**/}
+        };
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final var writer = new AsyncRecordWriter(failingWriter, 1);
+            final var exception = assertThrows(IOException.class, () -> {
+                for (int i = 0; i < 1000; i++) {
+                    writer.writeRecord(new Object[]{i});
+                }
+            });
+            assertInstanceOf(ClassCastException.class, exception.getCause().getCause());
+            assertThrows(IOException.class, writer::close);
+        });
+    }
+
+    @Test
+    void csvRecordWriterQuotesSpecialValues() throws IOException {
+        final var output = new StringWriter();
+        try (var writer = new CsvRecordWriter(output)) {
+            writer.writeRecord(new Object[]{1, "a,b", "say \"hi\"", null});
+        }
+
+        assertEquals("1,\"a,b\",\"say \"\"hi\"\"\",null" + System.lineSeparator(), output.toString());
+    }
+}
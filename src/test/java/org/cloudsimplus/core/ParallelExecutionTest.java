@@ -0,0 +1,277 @@
+package org.cloudsimplus.core;
+
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.events.PredicateType;
+import org.cloudsimplus.core.events.SimEvent;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.network.topologies.BriteNetworkTopology;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelExecutionTest {
+    private static final int DATACENTERS = 4;
+    private static final int CLOUDLETS = DATACENTERS * 6;
+
+    @Test
+    void parallelExecutionWithOneBrokerPerDatacenterProducesSequentialResults() {
+        final var sequential = runSimulation(1, true, null, false);
+        final var threads = ConcurrentHashMap.<String>newKeySet();
+        final var parallel = runSimulation(4, true, threads, false);
+        assertEquals(sequential, parallel);
+        assertTrue(parallel.stream().skip(1).allMatch(result -> result.contains(Cloudlet.Status.SUCCESS.name())));
+        assertTrue(threads.stream().anyMatch(name -> name.startsWith("CloudSimPlus-LogicalProcess")));
+    }
+
+    @Test
+    void parallelExecutionWithSharedBrokerProducesSequentialResults() {
+        final var threads = ConcurrentHashMap.<String>newKeySet();
+        assertEquals(runSimulation(1, false, null, false), runSimulation(4, false, threads, false));
+        assertEquals(Set.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    void parallelExecutionWithCancellationsProducesSequentialResults() {
+        final var sequential = runSimulation(1, true, null, true);
+        assertEquals(sequential, runSimulation(4, true, null, true));
+
+        // Cancelling no event or an event just scheduled must not change the Cloudlets results
+        final var withoutCancellations = runSimulation(1, true, null, false);
+        assertEquals(withoutCancellations.subList(1, CLOUDLETS + 1), sequential.subList(1, CLOUDLETS + 1));
+    }
+
+    @Test
+    void parallelExecutionWithLazyNetworkDelaysProducesSequentialResults() {
+        final var sequential = runSimulation(1, true, null, false, true);
+        final var threads = ConcurrentHashMap.<String>newKeySet();
+        assertEquals(sequential, runSimulation(4, true, threads, false, true));
+        assertNotEquals(runSimulation(1, true, null, false), sequential);
+        assertTrue(threads.stream().anyMatch(name -> name.startsWith("CloudSimPlus-LogicalProcess")));
+    }
+
+    @Test
+    void parallelExecutionOfIsolatedEntitiesProducesSequentialResults() {
+        final var sequential = runIsolatedEntities(1, ConcurrentHashMap.newKeySet());
+        final var threads = ConcurrentHashMap.<String>newKeySet();
+        final var parallel = runIsolatedEntities(4, threads);
+        assertEquals(sequential, parallel);
+        assertTrue(threads.stream().anyMatch(name -> name.startsWith("CloudSimPlus-LogicalProcess")));
+    }
+
+    @Test
+    void setParallelismInvalidThreads() {
+        final var simulation = new CloudSimPlus();
+        assertThrows(IllegalArgumentException.class, () -> simulation.setParallelism(0));
+        simulation.setParallelism(3);
+        assertEquals(3, simulation.getParallelism());
+        simulation.setParallelism(1);
+        assertEquals(1, simulation.getParallelism());
+    }
+
+    private static List<String> runSimulation(
+        final int parallelism, final boolean brokerPerDatacenter,
+        final Set<String> threads, final boolean cancellations)
+    {
+        return runSimulation(parallelism, brokerPerDatacenter, threads, cancellations, false);
+    }
+
+    /**
+     * Runs a simulation with {@link #DATACENTERS} Datacenters.
+     *
+     * @param parallelism the number of threads to use
+     * @param brokerPerDatacenter true to create a broker for each Datacenter, false to use a single broker for all of them
+     * @param threads a set to store the name of the threads processing Hosts or null to ignore them
+     * @param cancellations true to use {@link CancelingDatacenter}s, false to use regular Datacenters
+     * @param lazyNetwork true to link every broker to every Datacenter through a network topology
+     *                    with {@link BriteNetworkTopology#isLazyDelays() lazy delays}, false to use no network
+     * @return a list of strings representing the results of the simulation
+     */
+    private static List<String> runSimulation(
+        final int parallelism, final boolean brokerPerDatacenter,
+        final Set<String> threads, final boolean cancellations, final boolean lazyNetwork)
+    {
+        final var simulation = new CloudSimPlus();
+        simulation.setParallelism(parallelism);
+
+        final var datacenters = new ArrayList<DatacenterSimple>();
+        for (int i = 0; i < DATACENTERS; i++) {
+            final var hostList = new ArrayList<Host>();
+            for (int j = 0; j < 2; j++) {
+                final var host = new HostSimple(List.of(new PeSimple(1000), new PeSimple(1000)));
+                if (threads != null) {
+                    host.addOnUpdateProcessingListener(info -> threads.add(Thread.currentThread().getName()));
+                }
+
+                hostList.add(host);
+            }
+
+            final var dc = cancellations ? new CancelingDatacenter(simulation, hostList) : new DatacenterSimple(simulation, hostList);
+            dc.setSchedulingInterval(1 + i);
+            datacenters.add(dc);
+        }
+
+        final var brokers = new ArrayList<DatacenterBroker>();
+        for (int i = 0; i < (brokerPerDatacenter ? DATACENTERS : 1); i++) {
+            final var broker = new DatacenterBrokerSimple(simulation);
+            broker.setDatacenterMapper((lastDc, vm) -> datacenters.get((int) vm.getId() / 2));
+            brokers.add(broker);
+        }
+
+        if (lazyNetwork) {
+            final var topology = new BriteNetworkTopology(true);
+            for (int i = 0; i < DATACENTERS; i++) {
+                // Links Datacenters in a chain, so that delays between brokers and Datacenters may use many links
+                if (i > 0) {
+                    topology.addLink(datacenters.get(i - 1), datacenters.get(i), 1000, 0.1);
+                }
+
+                topology.addLink(brokers.get(brokers.size() - 1 - i % brokers.size()), datacenters.get(i), 1000, 0.5 + i);
+            }
+
+            simulation.setNetworkTopology(topology);
+        }
+
+        final var cloudlets = new ArrayList<Cloudlet>();
+        for (int i = 0; i < DATACENTERS; i++) {
+            final var broker = brokers.get(brokerPerDatacenter ? i : 0);
+            final var vmList = List.of(new VmSimple(i * 2, 1000, 2), new VmSimple(i * 2 + 1, 1000, 2));
+            broker.submitVmList(vmList);
+            for (int j = 0; j < 6; j++) {
+                final var utilization = new UtilizationModelDynamic(0.2 + j * 0.1).setMaxResourceUtilization(1);
+                final var cloudlet = new CloudletSimple(2000L * (i + j + 1), 1, utilization);
+                cloudlet.setSubmissionDelay(j);
+                cloudlets.add(cloudlet);
+                broker.bindCloudletToVm(cloudlet, vmList.get(j % 2));
+                broker.submitCloudlet(cloudlet);
+            }
+        }
+
+        simulation.start();
+
+        final var results = new ArrayList<String>();
+        results.add("clock %.6f events %d".formatted(simulation.clock(), simulation.getGeneratedEventsNumber()));
+        for (final var cloudlet : cloudlets) {
+            results.add("%s %s %s %s %.6f %.6f".formatted(
+                cloudlet, cloudlet.getStatus(), cloudlet.getVm(), cloudlet.getVm().getHost(),
+                cloudlet.getStartTime(), cloudlet.getFinishTime()));
+        }
+
+        for (final var dc : datacenters) {
+            if (dc instanceof CancelingDatacenter canceling) {
+                results.addAll(canceling.received);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * A Datacenter that, for every received event, tries to cancel an event which doesn't exist
+     * and then schedules and cancels an event before it's processed.
+     * It records the received events, so that their serial numbers can be compared.
+     */
+    private static final class CancelingDatacenter extends DatacenterSimple {
+        private static final int CANCELED = 1_000_001;
+        private final List<String> received = new ArrayList<>();
+
+        private CancelingDatacenter(final Simulation simulation, final List<Host> hostList) {
+            super(simulation, hostList);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            received.add("%s %.6f %d %d".formatted(getName(), evt.getTime(), evt.getTag(), evt.getSerial()));
+            cancelEvent(new PredicateType(CANCELED));
+            schedule(5, CANCELED);
+            cancelEvent(new PredicateType(CANCELED));
+            super.processEvent(evt);
+        }
+    }
+
+    /**
+     * Runs a simulation where many {@link IsolatedEntity isolated entities} receive events at the same time
+     * and send events to a collector entity.
+     *
+     * @param parallelism the number of threads to use
+     * @param threads a set to store the name of the threads processing the isolated entities
+     * @return a list of strings representing the events the collector received
+     */
+    private static List<String> runIsolatedEntities(final int parallelism, final Set<String> threads) {
+        final var simulation = new CloudSimPlus();
+        simulation.setParallelism(parallelism);
+        final var received = new ArrayList<String>();
+        final var collector = new CloudSimEntity(simulation) {
+            @Override
+            protected void startInternal() {/**/}
+
+            @Override
+            public void processEvent(final SimEvent evt) {
+                if (evt.getTag() == Worker.REPORT) {
+                    received.add("%.1f %d %s".formatted(evt.getTime(), evt.getSerial(), evt.getData()));
+                }
+            }
+        };
+
+        for (int i = 0; i < 8; i++) {
+            new Worker(simulation, collector, threads);
+        }
+
+        simulation.start();
+        received.add("events " + simulation.getGeneratedEventsNumber());
+        return received;
+    }
+
+    private static final class Worker extends CloudSimEntity implements IsolatedEntity {
+        private static final int TICK = 1_000_001;
+        private static final int CANCELED = 1_000_002;
+        private static final int REPORT = 1_000_003;
+
+        private final SimEntity collector;
+        private final Set<String> threads;
+        private int ticks;
+
+        private Worker(final Simulation simulation, final SimEntity collector, final Set<String> threads) {
+            super(simulation);
+            this.collector = collector;
+            this.threads = threads;
+        }
+
+        @Override
+        protected void startInternal() {
+            schedule(1, TICK);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() != TICK) {
+                return;
+            }
+
+            threads.add(Thread.currentThread().getName());
+            ticks++;
+            // Cancels the event scheduled in the previous tick, which must never be received
+            cancelEvent(new PredicateType(CANCELED));
+            schedule(5, CANCELED);
+            for (int i = 0; i < 3; i++) {
+                schedule(collector, i % 2, REPORT, "%s#%d.%d".formatted(getName(), ticks, i));
+            }
+
+            if (ticks < 10) {
+                schedule(1 + getId() % 3, TICK);
+            } else cancelEvent(new PredicateType(CANCELED));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.cloudsimplus.core;
+
+import org.cloudsimplus.core.events.CloudSimEvent;
+import org.cloudsimplus.core.events.SimEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationProfilerTest {
+    private static final int PING = 1_000_001;
+
+    @Test
+    void profilerDisabledByDefault() {
+        final var simulation = new CloudSimPlus();
+        final var pinger = new Pinger(simulation, 5);
+        simulation.start();
+        assertEquals(5, pinger.pings);
+        assertFalse(simulation.getProfiler().isEnabled());
+        assertTrue(simulation.getProfiler().getTagStats().isEmpty());
+        assertTrue(simulation.getProfiler().getQueueSamples().isEmpty());
+    }
+
+    @Test
+    void profilerRecordsEventsPerTagAndEntityClass() {
+        final var simulation = new CloudSimPlus();
+        simulation.getProfiler().setEnabled(true);
+        new Pinger(simulation, 5);
+        simulation.start();
+
+        final var profiler = simulation.getProfiler();
+        final var tagStats = profiler.getTagStats().get(PING);
+        assertEquals(5, tagStats.getDispatched());
+        assertEquals(5, tagStats.getHandled());
+        assertTrue(tagStats.getTotalNanos() > 0);
+
+        final var entityStats = profiler.getEntityStats().get(Pinger.class);
+        // The pings plus the SIMULATION_END event
+        assertEquals(6, entityStats.getHandled());
+        assertTrue(profiler.getQueueSamples().size() >= 5);
+        assertTrue(profiler.getSummary().contains(Pinger.class.getSimpleName()));
+        assertTrue(profiler.getSummary().contains("SIMULATION_END"));
+    }
+
+    @Test
+    void queueSamplesAreDecimated() {
+        final var profiler = new SimulationProfiler(4);
+        for (int time = 0; time < 10; time++) {
+            profiler.eventDispatched(new CloudSimEvent(time, SimEntity.NULL, PING), time, 0);
+            profiler.eventDispatched(new CloudSimEvent(time, SimEntity.NULL, PING), time, 0);
+        }
+
+        final var times = profiler.getQueueSamples().stream().mapToDouble(SimulationProfiler.QueueSample::time).toArray();
+        assertArrayEquals(new double[]{0, 4, 8}, times);
+        assertEquals(9, profiler.getMaxFutureEvents());
+        assertEquals(20, profiler.getTagStats().get(PING).getDispatched());
+    }
+
+    @Test
+    void invalidMaxQueueSamples() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationProfiler(1));
+    }
+
+    private static final class Pinger extends CloudSimEntity {
+        private final int maxPings;
+        private int pings;
+
+        private Pinger(final Simulation simulation, final int maxPings) {
+            super(simulation);
+            this.maxPings = maxPings;
+        }
+
+        @Override
+        protected void startInternal() {
+            schedule(1, PING);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() == PING && ++pings < maxPings) {
+                schedule(1, PING);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.cloudsimplus.core.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.cloudsimplus.allocationpolicies.migration.VmAllocationPolicyMigrationFirstFitStaticThreshold;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.selectionpolicies.VmSelectionPolicyMinimumUtilization;
+import org.cloudsimplus.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+    private static final List<Class<? extends Event>> EVENT_CLASSES = List.of(
+        VmPlacementEvent.class, MigrationPlanningEvent.class,
+        DatacenterProcessingEvent.class, EventQueueGrowthEvent.class);
+
+    @Test
+    void simulationEmitsEventsWhenRecording() throws IOException {
+        final var events = recordSimulation();
+        final Map<String, List<RecordedEvent>> byName =
+            events.stream().collect(Collectors.groupingBy(evt -> evt.getEventType().getName()));
+
+        final var placements = byName.get("org.cloudsimplus.VmPlacement");
+        assertEquals(2, placements.size());
+        assertTrue(placements.stream().allMatch(evt -> evt.getBoolean("placed") && evt.getLong("hostId") >= 0));
+        assertEquals(2, placements.get(0).getInt("hostsNumber"));
+
+        assertFalse(byName.get("org.cloudsimplus.MigrationPlanning").isEmpty());
+
+        final var ticks = byName.get("org.cloudsimplus.DatacenterProcessing");
+        assertFalse(ticks.isEmpty());
+        assertTrue(ticks.stream().anyMatch(evt -> evt.getDouble("simulationTime") > 0));
+        assertTrue(ticks.stream().allMatch(evt -> evt.getInt("vmsNumber") <= 2));
+
+        final var sizes = byName.get("org.cloudsimplus.EventQueueGrowth").stream().mapToInt(evt -> evt.getInt("queueSize")).toArray();
+        assertTrue(sizes.length > 1);
+        for (final int size : sizes) {
+            assertEquals(1, Integer.bitCount(size));
+        }
+    }
+
+    private static List<RecordedEvent> recordSimulation() throws IOException {
+        final var file = Files.createTempFile("cloudsimplus", ".jfr");
+        try (var recording = new Recording()) {
+            EVENT_CLASSES.forEach(eventClass -> recording.enable(eventClass).withThreshold(Duration.ZERO));
+            recording.start();
+            runSimulation();
+            recording.stop();
+            recording.dump(file);
+            return new ArrayList<>(RecordingFile.readAllEvents(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void runSimulation() {
+        final var simulation = new CloudSimPlus();
+        final var hostList = List.of(
+            new HostSimple(10_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000))),
+            new HostSimple(10_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000))));
+        final var policy = new VmAllocationPolicyMigrationFirstFitStaticThreshold(new VmSelectionPolicyMinimumUtilization());
+        new DatacenterSimple(simulation, hostList, policy).setSchedulingInterval(1);
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVmList(List.of(new VmSimple(1000, 1), new VmSimple(1000, 1)));
+        for (int i = 0; i < 4; i++) {
+            broker.submitCloudlet(new CloudletSimple(10_000, 1, new UtilizationModelFull()));
+        }
+
+        simulation.start();
+    }
+}
@@ -0,0 +1,82 @@
+package org.cloudsimplus.datacenters;
+
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatacenterSimpleTest {
+    @Test
+    void getHostByIdAfterAddingAndRemovingHosts() {
+        final var hostList = createHosts(3);
+        final var host0 = hostList.get(0);
+        final var host1 = hostList.get(1);
+        final var dc = new DatacenterSimple(new CloudSimPlus(), hostList);
+        assertSame(host1, dc.getHostById(1));
+
+        final var newHost = createHosts(1).get(0);
+        dc.addHost(newHost);
+        assertEquals(3, newHost.getId());
+        assertSame(newHost, dc.getHostById(3));
+
+        dc.removeHost(host0);
+        assertSame(Host.NULL, dc.getHostById(0));
+
+        // changing the ID of a Host after it was added must not prevent finding it
+        host1.setId(10);
+        assertSame(host1, dc.getHostById(10));
+        assertSame(Host.NULL, dc.getHostById(1));
+    }
+
+    @Test
+    void getOptimizedAllocationMapReceivesAllVmsOnce() {
+        final var simulation = new CloudSimPlus();
+        final var vmLists = new ArrayList<List<? extends Vm>>();
+        final var policy = new VmAllocationPolicySimple() {
+            @Override
+            public Map<Vm, Host> getOptimizedAllocationMap(final List<? extends Vm> vmList) {
+                vmLists.add(vmList);
+                return super.getOptimizedAllocationMap(vmList);
+            }
+
+            @Override
+            public boolean isVmMigrationSupported() {
+                return true;
+            }
+        };
+
+        new DatacenterSimple(simulation, createHosts(2), policy);
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final var vmList = IntStream.range(0, 3).mapToObj(i -> (Vm)new VmSimple(1000, 1)).toList();
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(IntStream.range(0, 3).mapToObj(i -> new CloudletSimple(10000, 1)).toList());
+        simulation.start();
+
+        assertFalse(vmLists.isEmpty());
+        assertTrue(vmLists.stream().anyMatch(list -> list.size() == vmList.size() && new HashSet<>(list).containsAll(vmList)));
+        vmLists.forEach(list -> assertEquals(list.size(), new HashSet<>(list).size()));
+    }
+
+    private static List<Host> createHosts(final int count) {
+        final var hostList = new ArrayList<Host>();
+        for (int i = 0; i < count; i++) {
+            hostList.add(new HostSimple(List.of(new PeSimple(1000), new PeSimple(1000))));
+        }
+
+        return hostList;
+    }
+}
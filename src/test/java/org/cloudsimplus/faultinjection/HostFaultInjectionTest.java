@@ -0,0 +1,179 @@
+package org.cloudsimplus.faultinjection;
+
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicyFirstFit;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.distributions.UniformDistr;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.hosts.HostSuitability;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HostFaultInjectionTest {
+    private static final double FAULT_TIME = 5;
+
+    @Test
+    void generateDomainFaultWithBatchEvacuationReplacesVms() {
+        final var scenario = new Scenario(true);
+        scenario.simulation.start();
+
+        assertEquals(1, scenario.fault.getDomainFaultsNumber());
+        assertEquals(2, scenario.fault.getEvacuatedVmsNumber());
+        for (final Vm vm : scenario.vms) {
+            assertFalse(vm.isFailed());
+            assertEquals(scenario.hosts.get(2), vm.getHost());
+        }
+
+        assertTrue(scenario.cloudlets.stream().allMatch(cloudlet -> cloudlet.getStatus() == Cloudlet.Status.SUCCESS));
+    }
+
+    @Test
+    void generateDomainFaultWithBatchEvacuationReplacesVmsAfterAnUnplaceableOne() {
+        final var scenario = new Scenario(true, 4, 3, 1);
+        scenario.simulation.start();
+
+        assertEquals(1, scenario.fault.getEvacuatedVmsNumber());
+        assertTrue(scenario.vms.get(0).isFailed());
+        assertFalse(scenario.vms.get(1).isFailed());
+        assertEquals(scenario.hosts.get(2), scenario.vms.get(1).getHost());
+    }
+
+    @Test
+    void generateDomainFaultWithBatchEvacuationFindsTheUnplaceableVmForAnyPlacementOrder() {
+        //Places the batch of VMs in reverse order, so the unplaceable VM is not the first one not created
+        final var policy = new VmAllocationPolicyFirstFit() {
+            @Override
+            protected Set<HostSuitability> allocateHostForVmInternal(final List<Vm> vmList) {
+                final var reversedVmList = new ArrayList<>(vmList);
+                Collections.reverse(reversedVmList);
+                return super.allocateHostForVmInternal(reversedVmList);
+            }
+        };
+
+        final var scenario = new Scenario(policy, true, 4, 1, 3);
+        scenario.simulation.start();
+
+        assertEquals(1, scenario.fault.getEvacuatedVmsNumber());
+        assertFalse(scenario.vms.get(0).isFailed());
+        assertEquals(scenario.hosts.get(2), scenario.vms.get(0).getHost());
+        assertEquals(Cloudlet.Status.SUCCESS, scenario.cloudlets.get(0).getStatus());
+        assertTrue(scenario.vms.get(1).isFailed());
+    }
+
+    @Test
+    void generateDomainFaultWhenAllHostsAlreadyFailed() {
+        final var scenario = new Scenario(false);
+        final var domain = scenario.fault.getFailureDomains().get(0);
+        scenario.fault.generateDomainFault(domain);
+        scenario.fault.generateDomainFault(domain);
+
+        assertEquals(1, scenario.fault.getDomainFaultsNumber());
+        assertEquals(2, scenario.fault.getHostFaultsNumber());
+    }
+
+    @Test
+    void generateDomainFaultWithoutEvacuationDestroysVms() {
+        final var scenario = new Scenario(false);
+        scenario.simulation.start();
+
+        assertEquals(0, scenario.fault.getEvacuatedVmsNumber());
+        assertTrue(scenario.vms.stream().allMatch(Vm::isFailed));
+        assertTrue(scenario.cloudlets.stream().noneMatch(cloudlet -> cloudlet.getStatus() == Cloudlet.Status.SUCCESS));
+    }
+
+    @Test
+    void addFailureDomainWithHostFromOtherDatacenter() {
+        final var scenario = new Scenario(false);
+        final var otherHost = new HostSimple(10_000, 100_000, 100_000, List.of(new PeSimple(1000)));
+        assertThrows(IllegalArgumentException.class, () -> scenario.fault.addFailureDomain(new FailureDomain("other", List.of(otherHost))));
+        assertThrows(IllegalArgumentException.class, () -> new FailureDomain("empty", List.of()));
+        assertEquals(1, scenario.fault.getFailureDomains().size());
+    }
+
+    /**
+     * A Datacenter with 4 Hosts, where the first two ones belong to a {@link FailureDomain}
+     * that fails at {@link #FAULT_TIME}, while all VMs are running on the first Host.
+     * By default, each Host has 2 PEs and there are 2 VMs with 1 PE each.
+     */
+    private static final class Scenario {
+        private final CloudSimPlus simulation = new CloudSimPlus();
+        private final List<Host> hosts = new ArrayList<>();
+        private final List<Vm> vms = new ArrayList<>();
+        private final List<Cloudlet> cloudlets = new ArrayList<>();
+        private final HostFaultInjection fault;
+        private boolean faultInjected;
+
+        private Scenario(final boolean batchEvacuation) {
+            this(batchEvacuation, 2, 1, 1);
+        }
+
+        /**
+         * @param firstHostPes number of PEs for the first Host (the other ones have 2 PEs)
+         * @param vmsPes number of PEs for each VM to create
+         */
+        private Scenario(final boolean batchEvacuation, final int firstHostPes, final int... vmsPes) {
+            this(new VmAllocationPolicyFirstFit(), batchEvacuation, firstHostPes, vmsPes);
+        }
+
+        /**
+         * @param policy the policy to place VMs into Hosts
+         * @param firstHostPes number of PEs for the first Host (the other ones have 2 PEs)
+         * @param vmsPes number of PEs for each VM to create
+         */
+        private Scenario(
+            final VmAllocationPolicy policy, final boolean batchEvacuation,
+            final int firstHostPes, final int... vmsPes)
+        {
+            for (int i = 0; i < 4; i++) {
+                final int pesNumber = i == 0 ? firstHostPes : 2;
+                final var peList = new ArrayList<Pe>();
+                for (int j = 0; j < pesNumber; j++) {
+                    peList.add(new PeSimple(1000));
+                }
+
+                hosts.add(new HostSimple(10_000, 100_000, 100_000, peList));
+            }
+
+            final var dc = new DatacenterSimple(simulation, hosts, policy);
+            dc.setSchedulingInterval(1);
+            final var broker = new DatacenterBrokerSimple(simulation);
+            for (final int pesNumber : vmsPes) {
+                final var vm = new VmSimple(1000, pesNumber);
+                vms.add(vm);
+                final var cloudlet = new CloudletSimple(10_000, 1);
+                cloudlets.add(cloudlet);
+                broker.bindCloudletToVm(cloudlet, vm);
+            }
+
+            broker.submitVmList(vms);
+            broker.submitCloudletList(cloudlets);
+
+            fault = new HostFaultInjection(dc, new UniformDistr(1, 2, 1));
+            fault.setBatchEvacuationEnabled(batchEvacuation);
+            fault.setMaxTimeToFailInHours(0.001);
+            final var domain = new FailureDomain("rack-0", hosts.subList(0, 2));
+            fault.addFailureDomain(domain);
+            simulation.addOnClockTickListener(info -> {
+                if (info.getTime() >= FAULT_TIME && !faultInjected) {
+                    faultInjected = true;
+                    fault.generateDomainFault(domain);
+                }
+            });
+        }
+    }
+}
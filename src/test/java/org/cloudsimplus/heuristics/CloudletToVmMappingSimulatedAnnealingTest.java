@@ -0,0 +1,73 @@
+package org.cloudsimplus.heuristics;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletTestUtil;
+import org.cloudsimplus.distributions.UniformDistr;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CloudletToVmMappingSimulatedAnnealingTest {
+    private static final int CLOUDLETS = 200;
+    private static final int VMS = 40;
+
+    @Test
+    void solveWithMultipleChains() {
+        final var heuristic = createHeuristic(4);
+        final double initialCost = heuristic.getInitialSolution().getCost();
+        final var solution = heuristic.solve();
+
+        assertSame(solution, heuristic.getBestSolutionSoFar());
+        assertEquals(CLOUDLETS, solution.getResult().size());
+        assertTrue(solution.getCost() <= initialCost);
+        assertEquals(solution.getCost(true), solution.getCost());
+    }
+
+    @Test
+    void solveWithMultipleChainsIsDeterministic() {
+        final double cost1 = createHeuristic(4).solve().getCost();
+        final double cost2 = createHeuristic(4).solve().getCost();
+        assertEquals(cost1, cost2);
+    }
+
+    @Test
+    void solveWithMultipleChainsIsNotWorseThanSingleChain() {
+        final double sequentialCost = createHeuristic(1).solve().getCost();
+        final double parallelCost = createHeuristic(4).solve().getCost();
+        assertTrue(parallelCost <= sequentialCost, "%.0f > %.0f".formatted(parallelCost, sequentialCost));
+    }
+
+    @Test
+    void setInvalidChains() {
+        final var heuristic = createHeuristic(1);
+        assertThrows(IllegalArgumentException.class, () -> heuristic.setChains(0));
+        assertThrows(IllegalArgumentException.class, () -> heuristic.setExchangeInterval(0));
+    }
+
+    private static CloudletToVmMappingSimulatedAnnealing createHeuristic(final int chains) {
+        final var heuristic = new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(0, 1, 17));
+        heuristic.setColdTemperature(0.0001);
+        heuristic.setCoolingRate(0.01);
+        heuristic.setChains(chains);
+        heuristic.setExchangeInterval(50);
+
+        final List<Vm> vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmTestUtil.createVm(i, 1000, 1 + i % 4));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(CloudletTestUtil.createCloudlet(i, 1000, 1 + i % 3));
+        }
+
+        heuristic.setVmList(vms);
+        heuristic.setCloudletList(cloudlets);
+        return heuristic;
+    }
+}
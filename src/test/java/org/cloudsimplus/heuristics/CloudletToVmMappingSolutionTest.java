@@ -25,6 +25,7 @@ package org.cloudsimplus.heuristics;
 
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.cloudlets.CloudletTestUtil;
+import org.cloudsimplus.distributions.UniformDistr;
 import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmTestUtil;
 import org.junit.jupiter.api.Test;
@@ -175,4 +176,53 @@ public class CloudletToVmMappingSolutionTest {
                 swappedVmsEntries.get(1).getValue().getId());
         assertEquals(swappedVmsEntries, originalEntries, msg);
     }
+
+    @Test
+    public void testIncrementalCostAfterSwapsAndRebinds() {
+        final int CLOUDLETS = 50;
+        final int VMS = 8;
+        final var heuristic = new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(0, 1, 5));
+        final Vm[] vms = new Vm[VMS];
+        for (int i = 0; i < VMS; i++) {
+            vms[i] = VmTestUtil.createVm(i, 1000, 1 + i % 4);
+        }
+
+        final Cloudlet[] cloudlets = new Cloudlet[CLOUDLETS];
+        var solution = new CloudletToVmMappingSolution(heuristic);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets[i] = CloudletTestUtil.createCloudlet(i, 1000, 1 + i % 3);
+            solution.bindCloudletToVm(cloudlets[i], vms[i % VMS]);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            solution = new CloudletToVmMappingSolution(solution, i);
+            if (i % 10 == 0) {
+                solution.bindCloudletToVm(cloudlets[i % CLOUDLETS], vms[(i / 10) % VMS]);
+            } else {
+                solution.swapVmsOfTwoRandomSelectedMapEntries();
+            }
+
+            final double incrementalCost = solution.getCost();
+            assertEquals(solution.getCost(true), incrementalCost, "Incremental cost differs from the recomputed one at step " + i);
+        }
+
+        assertEquals(CLOUDLETS, solution.getResult().size());
+    }
+
+    @Test
+    public void testRandomMapEntryFollowsMapEntryContract() {
+        final var solution = new CloudletToVmMappingSolution(Heuristic.NULL);
+        final Cloudlet cloudlet = CloudletTestUtil.createCloudlet(0, 1000, 1);
+        final Vm vm = VmTestUtil.createVm(0, 1000, 1);
+        solution.bindCloudletToVm(cloudlet, vm);
+
+        final Map.Entry<Cloudlet, Vm> entry = solution.getRandomMapEntries().get(0);
+        final Map.Entry<Cloudlet, Vm> expected = Map.entry(cloudlet, vm);
+        assertEquals(expected, entry);
+        assertEquals(entry, expected);
+        assertEquals(expected.hashCode(), entry.hashCode());
+
+        entry.setValue(VmTestUtil.createVm(1, 1000, 1));
+        assertNotEquals(expected, entry);
+    }
 }
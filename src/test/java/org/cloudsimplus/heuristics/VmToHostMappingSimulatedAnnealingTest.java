@@ -0,0 +1,123 @@
+package org.cloudsimplus.heuristics;
+
+import org.cloudsimplus.distributions.UniformDistr;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostMultiClusters;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.vm.VmSchedulerMultiClusters;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmOversubscribable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VmToHostMappingSimulatedAnnealingTest {
+    private static final List<Float> LEVELS = List.of(1f, 2f, 3f);
+    private static final int HOST_PES = 16;
+    private static final long HOST_RAM = 64 * 1024;
+
+    @Test
+    void solvePlacesAllVmsWithinHostCapacity() {
+        final var hosts = createHosts(6);
+        final var vms = createVms(40);
+        final var heuristic = createHeuristic(hosts, vms);
+
+        final var solution = heuristic.solve();
+        final double initialCost = heuristic.getInitialSolution().getCost();
+        assertEquals(vms.size(), solution.getMappedVmsNumber());
+        assertTrue(solution.getCost() <= initialCost, "%.2f > %.2f".formatted(solution.getCost(), initialCost));
+        assertWithinCapacity(hosts, solution.getResult());
+    }
+
+    @Test
+    void solveWithMultipleChains() {
+        final var hosts = createHosts(6);
+        final var vms = createVms(40);
+        final var heuristic = createHeuristic(hosts, vms);
+        heuristic.setChains(3);
+
+        final var solution = heuristic.solve();
+        assertSame(heuristic, solution.getHeuristic());
+        assertEquals(vms.size(), solution.getMappedVmsNumber());
+        assertWithinCapacity(hosts, solution.getResult());
+    }
+
+    @Test
+    void solveLeavesUnmappedVmsWhichDontFit() {
+        final var hosts = createHosts(1);
+        final var vms = List.of(
+            createVm(0, HOST_PES, 1f, 1024),
+            createVm(1, 1, 1f, 1024));
+        final var solution = createHeuristic(hosts, vms).solve();
+
+        assertEquals(1, solution.getMappedVmsNumber());
+        assertFalse(solution.getResult().containsKey(vms.get(1)));
+    }
+
+    private static void assertWithinCapacity(final List<HostMultiClusters> hosts, final Map<Vm, Host> placement) {
+        for (final var host : hosts) {
+            final long[] vcpus = new long[LEVELS.size()];
+            final int[] vmCounts = new int[LEVELS.size()];
+            long ram = 0;
+            for (final var entry : placement.entrySet()) {
+                if (entry.getValue() == host) {
+                    final var vm = (VmOversubscribable) entry.getKey();
+                    final int level = LEVELS.indexOf(vm.getOversubscriptionLevel());
+                    vcpus[level] += vm.getPesNumber();
+                    vmCounts[level]++;
+                    ram += vm.getRam().getCapacity();
+                }
+            }
+
+            final var scheduler = (VmSchedulerMultiClusters) host.getVmScheduler();
+            assertTrue(scheduler.getUsedResources(vcpus, vmCounts, 0) <= HOST_PES, "PEs exceeded for host " + host.getId());
+            assertTrue(ram <= HOST_RAM, "RAM exceeded for host " + host.getId());
+        }
+    }
+
+    private static VmToHostMappingSimulatedAnnealing createHeuristic(
+        final List<HostMultiClusters> hosts, final List<VmOversubscribable> vms)
+    {
+        final var heuristic = new VmToHostMappingSimulatedAnnealing(10, new UniformDistr(0, 1, 3));
+        heuristic.setColdTemperature(0.01);
+        heuristic.setCoolingRate(0.01);
+        heuristic.setHostList(hosts).setVmList(vms);
+        return heuristic;
+    }
+
+    private static List<HostMultiClusters> createHosts(final int count) {
+        final List<HostMultiClusters> hosts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final List<Pe> peList = new ArrayList<>(HOST_PES);
+            for (int pe = 0; pe < HOST_PES; pe++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            final var host = new HostMultiClusters(HOST_RAM, 10000, 100000, peList, LEVELS);
+            host.setId(i);
+            hosts.add(host);
+        }
+
+        return hosts;
+    }
+
+    private static List<VmOversubscribable> createVms(final int count) {
+        final List<VmOversubscribable> vms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            vms.add(createVm(i, 1 + i % 4, LEVELS.get(i % LEVELS.size()), 1024L * (1 + i % 8)));
+        }
+
+        return vms;
+    }
+
+    private static VmOversubscribable createVm(final int id, final long pes, final Float level, final long ram) {
+        final var vm = new VmOversubscribable(id, 1000, pes, level);
+        vm.setRam(ram);
+        return vm;
+    }
+}
@@ -0,0 +1,58 @@
+package org.cloudsimplus.hosts;
+
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.MipsShare;
+import org.cloudsimplus.schedulers.vm.VmSchedulerMultiClusters;
+import org.cloudsimplus.vms.VmOversubscribable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VClusterMetricsTest {
+    @Test
+    void addSamples() {
+        final var host = createHost();
+        final var scheduler = (VmSchedulerMultiClusters) host.getVmScheduler();
+        assertSame(VClusterMetrics.NULL, host.getVClusterMetrics());
+        host.enableVClusterMetrics();
+        final var metrics = host.getVClusterMetrics();
+        assertEquals(List.of(1f, 2f, 3f), metrics.getOversubscriptionLevels());
+
+        final int samples = 100;
+        for (int i = 0; i < samples; i++) {
+            if (i == 50) {
+                for (int id = 0; id < 2; id++) {
+                    final var vm = new VmOversubscribable(id, 1000, 4, 2f);
+                    scheduler.allocatePesForVm(vm, new MipsShare(vm.getProcessor()));
+                }
+            }
+
+            metrics.add(i, scheduler);
+        }
+
+        metrics.add(samples - 1, scheduler);
+        assertEquals(samples, metrics.size());
+        assertEquals(samples - 1, metrics.getTimes()[samples - 1]);
+        assertEquals(0, metrics.getVcpus(2f)[49]);
+        assertEquals(8, metrics.getVcpus(2f)[50]);
+        assertEquals(4, metrics.getReservedPes(2f)[samples - 1]);
+        assertEquals(0, metrics.getVcpus(1f)[samples - 1]);
+        assertEquals(samples, metrics.getDemandedMips(3f).length);
+        assertThrows(IllegalArgumentException.class, () -> metrics.getVcpus(4f));
+    }
+
+    private static HostMultiClusters createHost() {
+        final List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final var host = new HostMultiClusters(8192, 1000, 10000, peList, List.of(2f, 1f, 3f));
+        host.setId(0);
+        return host;
+    }
+}
@@ -0,0 +1,122 @@
+package org.cloudsimplus.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloydWarshallTest {
+    private static final double NO_PATH = Double.MAX_VALUE;
+
+    @Test
+    void computeShortestPathsLineGraph() {
+        final double[][] delays = {
+            {0, 1, 0, 0},
+            {1, 0, 2, 0},
+            {0, 2, 0, 3},
+            {0, 0, 3, 0}
+        };
+
+        final var floyd = new FloydWarshall(delays.length, true, 2);
+        final double[][] result = floyd.computeShortestPaths(delays);
+        assertEquals(6, result[0][3]);
+        assertEquals(6, result[3][0]);
+        assertEquals(0, result[2][2]);
+        assertEquals(List.of(0, 1, 2, 3), floyd.getPath(0, 3));
+        assertEquals(2, floyd.getPredecessor(0, 3));
+    }
+
+    @Test
+    void computeShortestPathsUnreachableVertex() {
+        final double[][] delays = {
+            {0, 1, 0},
+            {1, 0, 0},
+            {0, 0, 0}
+        };
+
+        final var floyd = new FloydWarshall(delays.length);
+        final double[][] result = floyd.computeShortestPaths(delays);
+        assertEquals(NO_PATH, result[0][2]);
+        assertEquals(-1, floyd.getPredecessor(0, 2));
+        assertTrue(floyd.getPath(0, 2).isEmpty());
+    }
+
+    @Test
+    void computeShortestPathsBlockedMatchesNaive() {
+        assertBlockedMatchesNaive(37);
+    }
+
+    @Test
+    void computeShortestPathsParallelBlockedMatchesNaive() {
+        assertBlockedMatchesNaive(300);
+    }
+
+    private static void assertBlockedMatchesNaive(final int vertices) {
+        final var random = new Random(7);
+        final double[][] delays = new double[vertices][vertices];
+        for (int i = 0; i < vertices; i++) {
+            for (int j = 0; j < vertices; j++) {
+                if (i != j && random.nextDouble() < 5.0 / vertices) {
+                    delays[i][j] = 1 + random.nextInt(20);
+                }
+            }
+        }
+
+        final double[][] expected = naiveShortestPaths(delays);
+        for (final int blockSize : new int[]{1, 5, 8, 64}) {
+            final var floyd = new FloydWarshall(vertices, true, blockSize);
+            final double[][] result = floyd.computeShortestPaths(delays);
+            for (int i = 0; i < vertices; i++) {
+                assertArrayEquals(expected[i], result[i], "block size " + blockSize + ", row " + i);
+                for (int j = 0; j < vertices; j++) {
+                    assertPathDelay(delays, result[i][j], floyd.getPath(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    void getPathWhenPathsDisabled() {
+        final var floyd = new FloydWarshall(2, false);
+        floyd.computeShortestPaths(new double[]{0, 1, 1, 0});
+        assertThrows(IllegalStateException.class, () -> floyd.getPath(0, 1));
+    }
+
+    private static void assertPathDelay(final double[][] delays, final double expectedDelay, final List<Integer> path) {
+        if (expectedDelay == NO_PATH) {
+            assertTrue(path.isEmpty());
+            return;
+        }
+
+        double delay = 0;
+        for (int v = 1; v < path.size(); v++) {
+            delay += delays[path.get(v - 1)][path.get(v)];
+        }
+
+        assertEquals(expectedDelay, delay);
+    }
+
+    private static double[][] naiveShortestPaths(final double[][] delays) {
+        final int n = delays.length;
+        final double[][] dist = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                dist[i][j] = i == j ? 0 : delays[i][j] == 0 ? NO_PATH : delays[i][j];
+            }
+        }
+
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (dist[i][k] + dist[k][j] < dist[i][j]) {
+                        dist[i][j] = dist[i][k] + dist[k][j];
+                    }
+                }
+            }
+        }
+
+        return dist;
+    }
+}
@@ -0,0 +1,125 @@
+package org.cloudsimplus.network;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.network.CloudletExecutionTask;
+import org.cloudsimplus.cloudlets.network.CloudletReceiveTask;
+import org.cloudsimplus.cloudlets.network.CloudletSendTask;
+import org.cloudsimplus.cloudlets.network.NetworkCloudlet;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.network.NetworkDatacenter;
+import org.cloudsimplus.hosts.network.NetworkHost;
+import org.cloudsimplus.network.switches.EdgeSwitch;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.vms.network.NetworkVm;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HostPacketBatchTest {
+    @Test
+    void forwardComputesEachDelayOnce() {
+        final var host = new NetworkHost(1000, 1000, 1000, List.of(new PeSimple(1000)));
+        final var vm = new NetworkVm(1000, 1);
+        final var cloudlet = new NetworkCloudlet(1000, 1);
+        final var packets = new ArrayList<HostPacket>();
+        for (final long size : new long[]{1000, 2000, 1000, 3000}) {
+            packets.add(new HostPacket(host, new VmPacket(vm, vm, size, cloudlet, cloudlet)));
+        }
+
+        for (final boolean batched : new boolean[]{false, true}) {
+            final int[] delayCalls = {0};
+            final var sentPackets = new ArrayList<HostPacket>();
+            final int[] events = {0};
+            HostPacketBatch.forward(
+                packets, batched,
+                pkt -> { delayCalls[0]++; return pkt.getSize(); },
+                (data, delay) -> {
+                    events[0]++;
+                    HostPacketBatch.forEach(data, pkt -> {
+                        assertEquals(pkt.getSize(), delay);
+                        sentPackets.add(pkt);
+                    });
+                });
+
+            assertEquals(packets.size(), delayCalls[0]);
+            assertEquals(batched ? 3 : packets.size(), events[0]);
+            assertEquals(packets.size(), sentPackets.size());
+        }
+    }
+
+    @Test
+    void batchedForwardingKeepsPacketArrivalTimes() {
+        final var unbatched = runSimulation(false);
+        final var batched = runSimulation(true);
+        assertEquals(unbatched.subList(1, unbatched.size()), batched.subList(1, batched.size()));
+        assertTrue(Long.parseLong(batched.get(0)) < Long.parseLong(unbatched.get(0)));
+    }
+
+    /**
+     * Runs a simulation where a Cloudlet sends packets of different sizes
+     * to Cloudlets in other Hosts connected to the same switch.
+     *
+     * @param batched true to enable packet batching, false otherwise
+     * @return a list where the first element is the number of generated events
+     *         and the other ones represent the receive time of each packet and the Cloudlets finish times
+     */
+    private static List<String> runSimulation(final boolean batched) {
+        final var simulation = new CloudSimPlus();
+        final var hosts = new ArrayList<NetworkHost>();
+        for (int i = 0; i < 3; i++) {
+            hosts.add(new NetworkHost(10_000, 100_000, 100_000, List.of(new PeSimple(1000))));
+        }
+
+        final var dc = new NetworkDatacenter(simulation, hosts);
+        dc.setPacketBatchingEnabled(batched);
+        final var edgeSwitch = new EdgeSwitch(simulation, dc);
+        hosts.forEach(edgeSwitch::connectHost);
+        dc.addSwitch(edgeSwitch);
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final var vms = new ArrayList<NetworkVm>();
+        final var cloudlets = new ArrayList<NetworkCloudlet>();
+        for (int i = 0; i < 3; i++) {
+            final var vm = new NetworkVm(1000, 1);
+            final var cloudlet = new NetworkCloudlet(1000, 1);
+            cloudlet.setVm(vm);
+            vms.add(vm);
+            cloudlets.add(cloudlet);
+        }
+
+        final var sender = cloudlets.get(0);
+        sender.addTask(new CloudletExecutionTask(0, 1000));
+        final var sendTask = new CloudletSendTask(1);
+        sender.addTask(sendTask);
+
+        final long[][] packetSizes = {{}, {1000, 1000, 500_000}, {1000, 200_000}};
+        final var receiveTasks = new ArrayList<CloudletReceiveTask>();
+        for (int i = 1; i < cloudlets.size(); i++) {
+            final var receiveTask = new CloudletReceiveTask(0, vms.get(0));
+            receiveTask.setExpectedPacketsToReceive(packetSizes[i].length);
+            cloudlets.get(i).addTask(receiveTask);
+            cloudlets.get(i).addTask(new CloudletExecutionTask(1, 1000));
+            receiveTasks.add(receiveTask);
+            for (final long size : packetSizes[i]) {
+                sendTask.addPacket(cloudlets.get(i), size);
+            }
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        final var results = new ArrayList<String>();
+        results.add(String.valueOf(simulation.getGeneratedEventsNumber()));
+        for (final var task : receiveTasks) {
+            assertEquals(task.getExpectedPacketsToReceive(), task.getPacketsReceived().size());
+            task.getPacketsReceived().forEach(pkt -> results.add("%d %.6f".formatted(pkt.getSize(), pkt.getReceiveTime())));
+        }
+
+        cloudlets.forEach(cloudlet -> results.add("%s %.6f".formatted(cloudlet, cloudlet.getFinishTime())));
+        return results;
+    }
+}
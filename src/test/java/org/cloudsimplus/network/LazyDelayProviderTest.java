@@ -0,0 +1,74 @@
+package org.cloudsimplus.network;
+
+import org.cloudsimplus.network.topologies.TopologicalGraph;
+import org.cloudsimplus.network.topologies.TopologicalLink;
+import org.cloudsimplus.network.topologies.TopologicalNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyDelayProviderTest {
+    @Test
+    void getDelayMatchesDelayMatrix() {
+        final int nodes = 60;
+        final var random = new Random(11);
+        final var graph = createGraph(nodes);
+        for (int i = 0; i < nodes * 2; i++) {
+            final int src = random.nextInt(nodes);
+            final int dest = random.nextInt(nodes);
+            if (src != dest) {
+                graph.addLink(new TopologicalLink(src, dest, 1 + random.nextInt(10), 100));
+            }
+        }
+
+        for (final boolean directed : new boolean[]{true, false}) {
+            final var matrix = new DelayMatrix(graph, directed);
+            final var lazy = new LazyDelayProvider(graph, directed, 8);
+            for (int src = 0; src < nodes; src++) {
+                for (int dest = 0; dest < nodes; dest++) {
+                    assertEquals(matrix.getDelay(src, dest), lazy.getDelay(src, dest), "%d -> %d".formatted(src, dest));
+                }
+            }
+
+            assertEquals(8, lazy.getCachedSourcesNumber());
+        }
+    }
+
+    @Test
+    void getDelayAfterInvalidate() {
+        final var graph = createGraph(3);
+        graph.addLink(new TopologicalLink(0, 1, 1, 100));
+        graph.addLink(new TopologicalLink(1, 2, 1, 100));
+
+        final var lazy = new LazyDelayProvider(graph, false);
+        assertEquals(2, lazy.getDelay(0, 2));
+
+        graph.addLink(new TopologicalLink(0, 2, 0.5, 100));
+        lazy.invalidate();
+        assertEquals(0, lazy.getCachedSourcesNumber());
+        assertEquals(0.5, lazy.getDelay(2, 0));
+
+        graph.removeLinks(0, 2, false);
+        graph.removeLinks(1, 2, false);
+        lazy.invalidate();
+        assertEquals(Double.MAX_VALUE, lazy.getDelay(0, 2));
+    }
+
+    @Test
+    void getDelayInvalidNode() {
+        final var lazy = new LazyDelayProvider(createGraph(2), false);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> lazy.getDelay(-1, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> lazy.getDelay(0, 2));
+    }
+
+    private static TopologicalGraph createGraph(final int nodes) {
+        final var graph = new TopologicalGraph();
+        for (int i = 0; i < nodes; i++) {
+            graph.addNode(new TopologicalNode(i));
+        }
+
+        return graph;
+    }
+}
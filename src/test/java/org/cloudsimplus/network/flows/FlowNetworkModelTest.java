@@ -0,0 +1,97 @@
+package org.cloudsimplus.network.flows;
+
+import org.cloudsimplus.cloudlets.network.NetworkCloudlet;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.network.NetworkDatacenter;
+import org.cloudsimplus.hosts.network.NetworkHost;
+import org.cloudsimplus.network.HostPacket;
+import org.cloudsimplus.network.VmPacket;
+import org.cloudsimplus.network.switches.EdgeSwitch;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.util.BytesConversion;
+import org.cloudsimplus.vms.network.NetworkVm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FlowNetworkModelTest {
+    private static final double HOST_BW = 800;
+    private static final double DELTA = 0.0001;
+
+    private CloudSimPlus simulation;
+    private List<NetworkHost> hosts;
+    private EdgeSwitch edgeSwitch;
+    private FlowNetworkModel model;
+
+    @BeforeEach
+    void setUp() {
+        simulation = new CloudSimPlus();
+        simulation.terminateAt(10);
+        hosts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            hosts.add(new NetworkHost(1000, 1000, 1000, List.of(new PeSimple(1000))));
+        }
+
+        final var dc = new NetworkDatacenter(simulation, hosts);
+        edgeSwitch = new EdgeSwitch(simulation, dc);
+        edgeSwitch.setDownlinkBandwidth(HOST_BW);
+        hosts.forEach(edgeSwitch::connectHost);
+        dc.addSwitch(edgeSwitch);
+
+        model = new FlowNetworkModel(simulation, dc);
+        dc.setFlowNetworkModel(model);
+    }
+
+    @Test
+    void flowsSharingLinkGetFairRates() {
+        final long bytes = (long) (HOST_BW / BytesConversion.bytesToMegaBits(1));
+        simulation.startSync();
+        final NetworkFlow flow1 = model.startFlow(newPacket(0, 2, bytes));
+        final NetworkFlow flow2 = model.startFlow(newPacket(1, 2, bytes));
+        runSimulation();
+
+        // Both flows share the link to host 2, each one getting half of its bandwidth
+        assertEquals(2, flow1.getExpectedFinishTime(), DELTA);
+        assertEquals(2, flow2.getExpectedFinishTime(), DELTA);
+        assertEquals(2, model.getFinishedFlowsNumber());
+        assertEquals(0, model.getActiveFlowsNumber());
+    }
+
+    @Test
+    void flowRateIncreasesWhenAnotherFlowFinishes() {
+        final long bytes = (long) (HOST_BW / BytesConversion.bytesToMegaBits(1));
+        simulation.startSync();
+        final NetworkFlow shortFlow = model.startFlow(newPacket(0, 2, bytes / 2));
+        final NetworkFlow longFlow = model.startFlow(newPacket(1, 2, bytes));
+        runSimulation();
+
+        // Each flow first gets 400 Mbps. After 1s, the short one finishes and the long one gets 800 Mbps
+        assertEquals(1, shortFlow.getExpectedFinishTime(), DELTA);
+        assertEquals(1.5, longFlow.getExpectedFinishTime(), DELTA);
+    }
+
+    private void runSimulation() {
+        while (simulation.isRunning()) {
+            simulation.runFor(1);
+        }
+    }
+
+    private HostPacket newPacket(final int sourceHost, final int destinationHost, final long bytes) {
+        final var sourceVm = newVm(hosts.get(sourceHost));
+        final var destinationVm = newVm(hosts.get(destinationHost));
+        final var vmPacket = new VmPacket(
+            sourceVm, destinationVm, bytes,
+            new NetworkCloudlet(1000, 1), new NetworkCloudlet(1000, 1));
+        return new HostPacket(hosts.get(sourceHost), vmPacket);
+    }
+
+    private static NetworkVm newVm(final NetworkHost host) {
+        final var vm = new NetworkVm(1000, 1);
+        vm.setHost(host);
+        return vm;
+    }
+}
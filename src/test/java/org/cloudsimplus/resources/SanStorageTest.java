@@ -466,6 +466,52 @@ public class SanStorageTest {
         assertEquals(fileList, san.getFileList());
     }
 
+    @Test
+    public void testGetFileSeekTimeAfterDeletingFiles() {
+        final var san = createSanStorage(BANDWIDTH, NETWORK_LATENCY, CAPACITY * 10);
+        final var fileList = createFileList(100, 10);
+        san.addFile(fileList);
+        for (int i = 0; i < 70; i++) {
+            san.deleteFile(fileList.get(i));
+        }
+
+        // deleting most files compacts the storage, which must keep the order of the remaining ones
+        final var remaining = fileList.subList(70, fileList.size());
+        assertEquals(remaining, san.getFileList());
+        assertEquals(30, san.getNumStoredFile());
+        long size = 0;
+        for (final File file : remaining) {
+            size += file.getSize();
+            final double expected = san.getSeekTime((int) size) + san.getTransferTime(file.getSize());
+            assertEquals(expected, san.getFile(file.getName()).orElseThrow().getTransactionTime());
+        }
+    }
+
+    @Test
+    public void testHasPotentialAvailableSpaceWhenFilesMarkedAsDeleted() {
+        final var san = createSanStorage(BANDWIDTH, NETWORK_LATENCY, 100);
+        final var fileList = createFileList(4, 25);
+        san.addFile(fileList);
+        assertFalse(san.hasPotentialAvailableSpace(40));
+
+        fileList.get(0).setDeleted(true);
+        fileList.get(1).setDeleted(true);
+        assertTrue(san.hasPotentialAvailableSpace(40));
+
+        fileList.get(1).setDeleted(false);
+        assertFalse(san.hasPotentialAvailableSpace(40));
+
+        fileList.get(0).setSize(50);
+        assertTrue(san.hasPotentialAvailableSpace(40));
+        fileList.get(0).setSize(25);
+
+        // a file removed from the storage doesn't count as deleted space anymore
+        san.deleteFile(fileList.get(0));
+        assertFalse(san.hasPotentialAvailableSpace(40));
+        fileList.get(0).setDeleted(true);
+        assertFalse(san.hasPotentialAvailableSpace(40));
+    }
+
     @Test
     public void testGetFileWhenInvalidFile() {
         final var san = createSanStorage();
@@ -563,4 +609,22 @@ public class SanStorageTest {
         assertTrue(san.deleteFile(file) > 0);
         assertTrue(san.isAmountAvailable(CAPACITY));
     }
+
+    @Test
+    public void testAddFileStoredInAnotherStorage() {
+        final var san1 = createSanStorage();
+        final var san2 = createSanStorage();
+        final var file = new File(FILE1, 100);
+        assertTrue(san1.addFile(file) > 0);
+
+        assertThrows(IllegalArgumentException.class, () -> san2.addFile(file));
+        assertEquals(0, san2.getAllocatedResource());
+        assertTrue(san2.addFile(new File(file)) > 0);
+        assertEquals(100, san2.getAllocatedResource());
+
+        san1.deleteFile(file);
+        san2.deleteFile(FILE1);
+        assertTrue(san2.addFile(file) > 0);
+        assertTrue(san2.contains(file));
+    }
 }
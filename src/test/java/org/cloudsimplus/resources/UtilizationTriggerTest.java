@@ -0,0 +1,63 @@
+package org.cloudsimplus.resources;
+
+import org.cloudsimplus.resources.UtilizationTrigger.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UtilizationTriggerTest {
+    @Test
+    void updateNotifiesOnlyThresholdCrossingsWithHysteresis() {
+        final var crossings = new ArrayList<String>();
+        final var trigger = new UtilizationTrigger(0.2, 0.8, 0.1,
+            (t, previous, time) -> crossings.add("%s->%s@%.0f".formatted(previous, t.getState(), time)));
+
+        final double[] utilization = {0.5, 0.85, 0.9, 0.75, 0.81, 0.7, 0.5, 0.1, 0.25, 0.35, 0.95};
+        for (int time = 0; time < utilization.length; time++) {
+            trigger.update(utilization[time], time);
+        }
+
+        final var expected = List.of(
+            "NORMAL->OVERLOADED@1", "OVERLOADED->NORMAL@5", "NORMAL->UNDERLOADED@7",
+            "UNDERLOADED->NORMAL@9", "NORMAL->OVERLOADED@10");
+        assertEquals(expected, crossings);
+        assertEquals(0.95, trigger.getLastUtilization());
+    }
+
+    @Test
+    void resourceUpdatesTriggersAndReArmsThemWhenCapacityChanges() {
+        final var crossings = new ArrayList<State>();
+        final var ram = new Ram(1000);
+        final var trigger = new UtilizationTrigger(0.1, 0.5, 0.05, (t, previous, time) -> crossings.add(t.getState()));
+        ram.addUtilizationTrigger(trigger);
+
+        ram.allocateResource(600);
+        ram.updateUtilizationTriggers(1);
+        ram.updateUtilizationTriggers(2);
+        assertEquals(List.of(State.OVERLOADED), crossings);
+
+        ram.setCapacity(1100);
+        assertEquals(State.NORMAL, trigger.getState());
+        ram.updateUtilizationTriggers(3);
+        assertEquals(List.of(State.OVERLOADED, State.OVERLOADED), crossings);
+
+        assertTrue(ram.removeUtilizationTrigger(trigger));
+        ram.deallocateAllResources();
+        ram.updateUtilizationTriggers(4);
+        assertEquals(2, crossings.size());
+        assertFalse(new Ram(10).removeUtilizationTrigger(trigger));
+    }
+
+    @Test
+    void invalidThresholds() {
+        final UtilizationTrigger.Listener listener = (t, previous, time) -> {};
+        assertThrows(IllegalArgumentException.class, () -> new UtilizationTrigger(0.8, 0.2, 0, listener));
+        assertThrows(IllegalArgumentException.class, () -> new UtilizationTrigger(-0.1, 0.5, 0, listener));
+        assertThrows(IllegalArgumentException.class, () -> new UtilizationTrigger(0.2, 1.1, 0, listener));
+        assertThrows(IllegalArgumentException.class, () -> new UtilizationTrigger(0.2, 0.8, -0.1, listener));
+        assertThrows(IllegalArgumentException.class, () -> new UtilizationTrigger(0.4, 0.6, 0.2, listener));
+    }
+}
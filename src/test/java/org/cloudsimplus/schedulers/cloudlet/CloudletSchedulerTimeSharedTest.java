@@ -6,7 +6,9 @@ import org.cloudsimplus.cloudlets.CloudletExecution;
 import org.cloudsimplus.cloudlets.CloudletSimple;
 import org.cloudsimplus.cloudlets.CloudletTestUtil;
 import org.cloudsimplus.mocks.CloudSimMocker;
+import org.cloudsimplus.schedulers.MipsShare;
 import org.cloudsimplus.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.vms.VmSimple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -283,6 +285,73 @@ public class CloudletSchedulerTimeSharedTest {
         assertEquals(0, instance.getCloudletExecList().size());
     }
 
+    @Test
+    public void testUpdateProcessingThroughExecutionTableMatchesPerCloudletUpdate() {
+        final long mips = 1000;
+        final int vmPes = 2;
+        final var tableScheduler = createCloudletSchedulerWithMipsList(vmPes, mips).setExecutionTableEnabled(true);
+        final var objectScheduler = createCloudletSchedulerWithMipsList(vmPes, mips);
+
+        final long[] lengths = {1500, 4000, 2500, 700};
+        final int[] pes = {1, 2, 1, 1};
+        for (int i = 0; i < lengths.length; i++) {
+            submitRunningCloudlet(tableScheduler, i, lengths[i], pes[i]);
+            submitRunningCloudlet(objectScheduler, i, lengths[i], pes[i]);
+        }
+
+        assertTrue(tableScheduler.isExecutionTableEnabled());
+        assertFalse(objectScheduler.isExecutionTableEnabled());
+        for (int time = 1; time <= 3; time++) {
+            final double expected = objectScheduler.updateProcessing(time, objectScheduler.getCurrentMipsShare());
+            assertEquals(expected, tableScheduler.updateProcessing(time, tableScheduler.getCurrentMipsShare()));
+
+            final var expectedList = objectScheduler.getCloudletExecList();
+            final var actualList = tableScheduler.getCloudletExecList();
+            assertEquals(expectedList.size(), actualList.size());
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertEquals(expectedList.get(i).getRemainingCloudletLength(), actualList.get(i).getRemainingCloudletLength());
+                assertEquals(expectedList.get(i).getLastAllocatedMips(), actualList.get(i).getLastAllocatedMips());
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateProcessingCallsOverriddenMethodsByDefault() {
+        final long mips = 1000;
+        final int vmPes = 2;
+        final int[] calls = {0, 0};
+        final var scheduler = new CloudletSchedulerTimeShared() {
+            @Override
+            protected long updateCloudletProcessing(final CloudletExecution cle, final double currentTime) {
+                calls[0]++;
+                return super.updateCloudletProcessing(cle, currentTime);
+            }
+
+            @Override
+            protected double cloudletEstimatedFinishTime(final CloudletExecution cle, final double currentTime) {
+                calls[1]++;
+                return super.cloudletEstimatedFinishTime(cle, currentTime);
+            }
+        };
+        scheduler.setVm(new VmSimple(0, mips, vmPes));
+        scheduler.setCurrentMipsShare(new MipsShare(vmPes, mips));
+        submitRunningCloudlet(scheduler, 0, 5000, 1);
+        submitRunningCloudlet(scheduler, 1, 5000, 1);
+
+        calls[0] = calls[1] = 0;
+        scheduler.updateProcessing(1, scheduler.getCurrentMipsShare());
+        assertEquals(2, calls[0]);
+        assertEquals(2, calls[1]);
+    }
+
+    private static void submitRunningCloudlet(
+        final CloudletSchedulerTimeShared scheduler, final int id, final long length, final int pes)
+    {
+        final var cloudlet = CloudletTestUtil.createCloudlet(id, length, pes);
+        cloudlet.registerArrivalInDatacenter();
+        scheduler.cloudletSubmit(cloudlet);
+    }
+
     private static DatacenterBrokerSimple createBroker() {
         final var simulation = CloudSimMocker.createMock(cloudsim -> cloudsim.clock(List.of(2)));
         final var broker = new DatacenterBrokerSimple(simulation);
@@ -0,0 +1,146 @@
+package org.cloudsimplus.schedulers.vm;
+
+import org.cloudsimplus.hosts.HostMultiClusters;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.MipsShare;
+import org.cloudsimplus.vms.VmOversubscribable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VmSchedulerMultiClustersTest {
+    private static final double PE_MIPS = 1000;
+    private static final int HOST_PES = 4;
+    private static final Float OC2 = 2f;
+
+    @Test
+    void getAllocatedMipsWhenVClusterIsThrottled() {
+        final var scheduler = createScheduler();
+        scheduler.setContentionAware(true);
+        final var vm0 = new DemandingVm(0, 4, OC2, 1);
+        final var vm1 = new DemandingVm(1, 4, OC2, 0.5);
+        assertTrue(scheduler.allocatePesForVm(vm0, new MipsShare(vm0.getProcessor())));
+        assertTrue(scheduler.allocatePesForVm(vm1, new MipsShare(vm1.getProcessor())));
+
+        updateVmDemands(scheduler, 1, vm0, vm1);
+        assertEquals(HOST_PES * PE_MIPS, scheduler.getCapacityMipsFor(OC2));
+        assertEquals(6000, scheduler.getDemandedMipsFor(OC2));
+        assertEquals(4000, scheduler.getDeliveredMipsFor(OC2), 0.001);
+        assertEquals(1 / 3.0, scheduler.getThrottlingFor(OC2), 0.001);
+        assertEquals(4000 * 2 / 3.0, scheduler.getAllocatedMips(vm0).totalMips(), 0.001);
+        assertEquals(2000 * 2 / 3.0, scheduler.getAllocatedMips(vm1).totalMips(), 0.001);
+
+        vm0.demand = 0.25;
+        vm1.demand = 0.25;
+        updateVmDemands(scheduler, 11, vm0, vm1);
+        assertEquals(10, scheduler.getThrottledTimeFor(OC2));
+        assertEquals(0, scheduler.getThrottlingFor(OC2));
+        assertEquals(4000, scheduler.getAllocatedMips(vm0).totalMips());
+
+        scheduler.deallocatePesFromVm(vm0);
+        assertEquals(1000, scheduler.getDemandedMipsFor(OC2));
+        assertEquals(4000, scheduler.getCapacityMipsFor(OC2));
+    }
+
+    @Test
+    void getAllocatedMipsWhenContentionIsDisabled() {
+        final var scheduler = createScheduler();
+        final var vm0 = new DemandingVm(0, 4, OC2, 1);
+        final var vm1 = new DemandingVm(1, 4, OC2, 1);
+        scheduler.allocatePesForVm(vm0, new MipsShare(vm0.getProcessor()));
+        scheduler.allocatePesForVm(vm1, new MipsShare(vm1.getProcessor()));
+
+        updateVmDemands(scheduler, 1, vm0, vm1);
+        assertEquals(0.5, scheduler.getThrottlingFor(OC2));
+        assertEquals(8000, scheduler.getDeliveredMipsFor(OC2));
+        assertEquals(4000, scheduler.getAllocatedMips(vm0).totalMips());
+    }
+
+    @Test
+    void isSuitableForVmWithPredictiveAdmission() {
+        final var scheduler = createScheduler();
+        final var vm0 = new DemandingVm(0, 4, OC2, 1);
+        final var vm1 = new DemandingVm(1, 4, OC2, 1);
+        scheduler.allocatePesForVm(vm0, new MipsShare(vm0.getProcessor()));
+        scheduler.allocatePesForVm(vm1, new MipsShare(vm1.getProcessor()));
+        final var smallVm = new DemandingVm(2, 2, OC2, 1);
+        final var largeVm = new DemandingVm(3, 4, OC2, 1);
+
+        // The static footprint of 10 vCPUs with oc 2 is 5 PEs
+        assertFalse(isSuitableForVm(scheduler, smallVm));
+
+        scheduler.enablePredictiveAdmission(10, 0.95, 3);
+        assertFalse(isSuitableForVm(scheduler, smallVm), "Static admission must be used without enough samples");
+        sampleDemand(scheduler, 1, 3);
+        assertEquals(8, scheduler.getPredictedPeakDemand(null), 0.1);
+        assertFalse(isSuitableForVm(scheduler, smallVm), "Predicted demand must fit");
+
+        vm0.demand = 0.1;
+        vm1.demand = 0.1;
+        scheduler.enablePredictiveAdmission(10, 0.95, 3);
+        sampleDemand(scheduler, 4, 3);
+        assertTrue(isSuitableForVm(scheduler, smallVm), "A VM rejected by the static footprint must be admitted by prediction");
+        assertFalse(isSuitableForVm(scheduler, largeVm), "The worst-case demand of the VM must fit");
+
+        scheduler.enablePredictiveAdmission(10, 0.95, 3, 1.2);
+        sampleDemand(scheduler, 7, 3);
+        assertFalse(isSuitableForVm(scheduler, smallVm), "The static footprint must not exceed the cap");
+    }
+
+    private static void updateVmDemands(final VmSchedulerMultiClusters scheduler, final double time, final VmOversubscribable... vms) {
+        scheduler.updateThrottledTime(time);
+        for (final var vm : vms) {
+            scheduler.updateVmDemand(vm, time);
+        }
+    }
+
+    private static boolean isSuitableForVm(final VmSchedulerMultiClusters scheduler, final VmOversubscribable vm) {
+        return scheduler.isSuitableForVm(vm, new MipsShare(vm.getProcessor()));
+    }
+
+    /**
+     * Samples the demand of each vCluster a given number of times, once a second from a given time.
+     */
+    private static void sampleDemand(final VmSchedulerMultiClusters scheduler, final int fromTime, final int samples) {
+        for (int time = fromTime; time < fromTime + samples; time++) {
+            scheduler.updateDemandSketches(time);
+        }
+    }
+
+    private static VmSchedulerMultiClusters createScheduler() {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(PE_MIPS));
+        }
+
+        final var host = new HostMultiClusters(8192, 1000, 10000, peList, List.of(1f, 2f, 3f));
+        host.setId(0);
+        return (VmSchedulerMultiClusters) host.getVmScheduler();
+    }
+
+    /**
+     * A VM requesting a fixed percentage of its CPU capacity.
+     */
+    private static final class DemandingVm extends VmOversubscribable {
+        private double demand;
+
+        private DemandingVm(final long id, final long pes, final Float oversubscriptionLevel, final double demand) {
+            super(id, PE_MIPS, pes, oversubscriptionLevel);
+            this.demand = demand;
+        }
+
+        @Override
+        public double getCpuPercentRequested(final double time) {
+            return demand;
+        }
+
+        @Override
+        public double getCpuPercentUtilization(final double time) {
+            return demand;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.cloudsimplus.traces;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceChunkParserTest {
+    private static final String[] COMMENTS = {"#"};
+
+    @Test
+    void batchesKeepFileOrder(@TempDir final Path dir) throws IOException {
+        final var random = new Random(5);
+        final var content = new StringBuilder("# header\n");
+        final var expected = new ArrayList<String>();
+        for (int i = 0; i < 500; i++) {
+            final String line = String.format(Locale.ROOT, "%d,%.3f,%s,", i, random.nextDouble() * 100, "x".repeat(random.nextInt(40)));
+            content.append(line).append(i % 7 == 0 ? "\r\n" : "\n");
+            expected.add(line);
+        }
+
+        final Path file = Files.writeString(dir.resolve("trace.csv"), content);
+        for (final int chunkSize : new int[]{1, 17, 256, 1 << 20}) {
+            final var lines = new ArrayList<String>();
+            final var tokenizer = new TraceLineTokenizer();
+            try (var channel = FileChannel.open(file);
+                 var parser = new TraceChunkParser(channel, ",", COMMENTS, chunkSize))
+            {
+                while (parser.hasNext()) {
+                    final var batch = parser.next();
+                    for (int line = 0; line < batch.getLines(); line++) {
+                        tokenizer.loadLine(batch, line);
+                        lines.add(String.join(",", tokenizer.toArray()));
+                        assertEquals(lines.size() - 1, tokenizer.parseInt(0));
+                        assertEquals(Double.parseDouble(tokenizer.getString(1)), tokenizer.parseDouble(1));
+                    }
+                }
+            }
+
+            assertEquals(expected, lines, "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    void fileReaderParsesInParallel(@TempDir final Path dir) throws IOException {
+        final Path file = Files.writeString(dir.resolve("trace.txt"), "1 2\n# comment\n3   4\n5 6");
+        final var reader = new FileReader(file.toString());
+        reader.setParallelParsingEnabled(true);
+        final var lines = new ArrayList<List<String>>();
+        reader.readFile(fields -> lines.add(List.of(fields)));
+        assertEquals(List.of(List.of("1", "2"), List.of("3", "4"), List.of("5", "6")), lines);
+        assertEquals(3, reader.getLastLineNumber());
+    }
+}
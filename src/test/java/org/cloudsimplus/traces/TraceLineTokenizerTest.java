@@ -0,0 +1,128 @@
+package org.cloudsimplus.traces;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceLineTokenizerTest {
+    private static final String[] COMMENTS = {"#", ";"};
+
+    @Test
+    void nextLineSplitsLikeStringSplit() throws IOException {
+        final String content = "1,,2.5,abc,\r\n# comment\n  3,4 , 5  \n\n6";
+        for (final int bufferSize : new int[]{4, 1024}) {
+            final var tokenizer = newTokenizer(content, ",", bufferSize);
+            final var lines = new ArrayList<List<String>>();
+            while (tokenizer.nextLine()) {
+                if (!tokenizer.isComment()) {
+                    lines.add(List.of(tokenizer.toArray()));
+                }
+            }
+
+            assertEquals(List.of(
+                List.of("1", "", "2.5", "abc", ""),
+                List.of("3", "4 ", " 5"),
+                List.of(""),
+                List.of("6")), lines);
+            assertEquals(List.of("6"), List.of(tokenizer.toArray()), "The last line must be kept at the end of the channel");
+        }
+    }
+
+    @Test
+    void nextLineSplitsByWhitespaces() throws IOException {
+        final var tokenizer = newTokenizer("\t 1   22\t333 \n", "\\s+", 3);
+        assertTrue(tokenizer.nextLine());
+        assertArrayEquals(new String[]{"1", "22", "333"}, tokenizer.toArray());
+        assertFalse(tokenizer.nextLine());
+    }
+
+    @Test
+    void isSupportedDelimiter() {
+        assertAll(
+            () -> assertTrue(TraceLineTokenizer.isSupportedDelimiter(",")),
+            () -> assertTrue(TraceLineTokenizer.isSupportedDelimiter("\\t")),
+            () -> assertTrue(TraceLineTokenizer.isSupportedDelimiter("\\|")),
+            () -> assertTrue(TraceLineTokenizer.isSupportedDelimiter("\\s+")),
+            () -> assertFalse(TraceLineTokenizer.isSupportedDelimiter("|")),
+            () -> assertFalse(TraceLineTokenizer.isSupportedDelimiter(",\\s*"))
+        );
+    }
+
+    @Test
+    void parseNumbersLikeJdk() {
+        final var random = new Random(3);
+        final var values = new ArrayList<>(List.of(
+            "0", "-0", "+7", "123456789012345678", "9223372036854775807", "-9223372036854775808",
+            "0.1", "-12.345", "5.", ".5", "1e5", "1.5E-3", "2e-30", "123456789.123456789", "0.000000000000000000000001"));
+        for (int i = 0; i < 200; i++) {
+            values.add(Long.toString(random.nextLong()));
+            values.add(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10)));
+            values.add(String.format(Locale.ROOT, "%.6f", random.nextDouble() * 1000));
+        }
+
+        final var tokenizer = new TraceLineTokenizer().setFields(values.toArray(String[]::new));
+        for (int i = 0; i < values.size(); i++) {
+            final String value = values.get(i);
+            assertEquals(Double.parseDouble(value), tokenizer.parseDouble(i), value);
+            if (value.matches("^[-+]?\\d+$") && value.length() < 20) {
+                assertEquals(Long.parseLong(value), tokenizer.parseLong(i), value);
+            }
+
+            assertEquals(value.matches("^-?\\d+$"), tokenizer.isInteger(i), value);
+            assertEquals(value.matches("^-?\\d+(\\.?\\d+)?$"), tokenizer.isDecimal(i), value);
+        }
+    }
+
+    @Test
+    void parseInvalidNumbers() {
+        final var tokenizer = new TraceLineTokenizer().setFields("", "abc", "1e", "99999999999", " 1");
+        assertAll(
+            () -> assertThrows(NumberFormatException.class, () -> tokenizer.parseLong(0)),
+            () -> assertThrows(NumberFormatException.class, () -> tokenizer.parseDouble(1)),
+            () -> assertThrows(NumberFormatException.class, () -> tokenizer.parseDouble(2)),
+            () -> assertThrows(NumberFormatException.class, () -> tokenizer.parseInt(3)),
+            () -> assertThrows(NumberFormatException.class, () -> tokenizer.parseInt(4)),
+            () -> assertEquals(1, tokenizer.trimFields().parseInt(4)),
+            () -> assertThrows(ArrayIndexOutOfBoundsException.class, () -> tokenizer.parseInt(5))
+        );
+    }
+
+    @Test
+    void fileReaderReadsGzipAndPlainFiles(@TempDir final Path dir) throws IOException {
+        final String content = "# header\n1,2\n3,4\n5,6\n";
+        final Path plain = Files.writeString(dir.resolve("trace.csv"), content);
+        final Path gzip = dir.resolve("trace.csv.gz");
+        try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        for (final Path path : List.of(plain, gzip)) {
+            final var reader = new FileReader(",", path.toString());
+            assertArrayEquals(new String[]{"5", "6"}, reader.readFile());
+            assertEquals(3, reader.getLastLineNumber());
+
+            reader.setMaxLinesToRead(2);
+            assertArrayEquals(new String[]{"3", "4"}, reader.readFile());
+            assertEquals(2, reader.getLastLineNumber());
+        }
+    }
+
+    private static TraceLineTokenizer newTokenizer(final String content, final String delimiter, final int bufferSize) {
+        final var channel = Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return new TraceLineTokenizer(channel, delimiter, COMMENTS, bufferSize);
+    }
+}
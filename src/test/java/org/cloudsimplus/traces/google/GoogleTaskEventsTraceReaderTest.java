@@ -23,10 +23,26 @@
  */
 package org.cloudsimplus.traces.google;
 
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.vms.VmSimple;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import static org.junit.jupiter.api.Assertions.assertAll;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Manoel Campos da Silva Filho
@@ -91,4 +107,148 @@ public class GoogleTaskEventsTraceReaderTest {
             () -> assertEquals(12, TaskEventField.DIFFERENT_MACHINE_CONSTRAINT.ordinal())
         );
     }
+
+    /**
+     * Replays a trace in streaming mode and checks the Cloudlets finish at the same time
+     * as when the entire trace is read at once, while just the events inside the
+     * read-ahead window are in the future event queue at any time.
+     */
+    @Test
+    public void testStreamingReplayMatchesUpFrontProcessing(@TempDir final Path dir) throws IOException {
+        final int tasks = 40;
+        final var trace = dir.resolve("task-events.csv");
+        final var builder = new StringBuilder();
+        for (int i = 0; i < tasks; i++) {
+            final long submitTime = i * 100_000_000L;
+            builder.append(taskEventLine(submitTime, i, TaskEventType.SUBMIT));
+            builder.append(taskEventLine(submitTime + 10_000_000L, i, TaskEventType.SCHEDULE));
+        }
+
+        Files.writeString(trace, builder);
+
+        final var upFront = new long[1];
+        final Map<Long, Double> expected = runTrace(trace, Double.MAX_VALUE, upFront);
+        final var streaming = new long[1];
+        final Map<Long, Double> actual = runTrace(trace, 150, streaming);
+
+        assertEquals(tasks, expected.size());
+        assertEquals(expected, actual);
+        assertTrue(streaming[0] < upFront[0] / 4, "max future events: %d vs %d".formatted(streaming[0], upFront[0]));
+    }
+
+    /**
+     * Replays a trace in streaming mode and checks finished Cloudlets are removed
+     * from the list of available ones, without affecting the maximum number of Cloudlets to create.
+     */
+    @Test
+    public void testStreamingReplayRemovesFinishedCloudlets(@TempDir final Path dir) throws IOException {
+        final int tasks = 40;
+        final int maxCloudlets = 30;
+        final var trace = dir.resolve("task-events.csv");
+        final var builder = new StringBuilder();
+        for (int i = 0; i < tasks; i++) {
+            final long submitTime = i * 100_000_000L;
+            builder.append(taskEventLine(submitTime, i, TaskEventType.SUBMIT));
+            builder.append(taskEventLine(submitTime + 10_000_000L, i, TaskEventType.SCHEDULE));
+            builder.append(taskEventLine(submitTime + 50_000_000L, i, TaskEventType.FINISH));
+        }
+
+        Files.writeString(trace, builder);
+
+        final var simulation = new CloudSimPlus();
+        new DatacenterSimple(simulation, List.of(new HostSimple(4096, 10_000, 100_000, List.of(new PeSimple(1000)))));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 1).setRam(1024).setBw(1000).setSize(1000));
+
+        final var reader = new GoogleTaskEventsTraceReader(simulation, trace.toString(), GoogleTaskEventsTraceReaderTest::createCloudlet);
+        reader.getBrokerManager().setDefaultBroker(broker);
+        reader.setMaxCloudletsToCreate(maxCloudlets).setReadAheadWindow(150).process();
+
+        final var maxAvailableCloudlets = new int[1];
+        simulation.addOnClockTickListener(info ->
+            maxAvailableCloudlets[0] = Math.max(maxAvailableCloudlets[0], reader.getAvailableObjects().size()));
+        simulation.start();
+
+        assertEquals(maxCloudlets, broker.getCloudletFinishedList().size());
+        assertTrue(maxAvailableCloudlets[0] <= 4, "max available Cloudlets: " + maxAvailableCloudlets[0]);
+    }
+
+    /**
+     * Replays a task events trace and a task usage trace in streaming mode, with different read-ahead windows,
+     * and checks finished Cloudlets are just removed from the list of available ones
+     * after the usage trace was replayed beyond their finish time.
+     */
+    @Test
+    public void testStreamingReplayKeepsFinishedCloudletsForUsageReader(@TempDir final Path dir) throws IOException {
+        final int tasks = 40;
+        final var taskEventsTrace = dir.resolve("task-events.csv");
+        final var taskUsageTrace = dir.resolve("task-usage.csv");
+        final var taskEventsBuilder = new StringBuilder();
+        final var taskUsageBuilder = new StringBuilder();
+        for (int i = 0; i < tasks; i++) {
+            final long submitTime = i * 100_000_000L;
+            taskEventsBuilder.append(taskEventLine(submitTime, i, TaskEventType.SUBMIT));
+            taskEventsBuilder.append(taskEventLine(submitTime + 10_000_000L, i, TaskEventType.SCHEDULE));
+            taskEventsBuilder.append(taskEventLine(submitTime + 50_000_000L, i, TaskEventType.FINISH));
+            taskUsageBuilder.append("%d,%d,1,%d,1,0.5,0.2,0.2,0,0,0.2,0,0,0.5,0%n".formatted(
+                submitTime + 40_000_000L, submitTime + 45_000_000L, i));
+        }
+
+        Files.writeString(taskEventsTrace, taskEventsBuilder);
+        Files.writeString(taskUsageTrace, taskUsageBuilder);
+
+        final var simulation = new CloudSimPlus();
+        new DatacenterSimple(simulation, List.of(new HostSimple(4096, 10_000, 100_000, List.of(new PeSimple(1000)))));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 1).setRam(1024).setBw(1000).setSize(1000));
+
+        final var taskEventsReader = new GoogleTaskEventsTraceReader(simulation, taskEventsTrace.toString(), GoogleTaskEventsTraceReaderTest::createCloudlet);
+        taskEventsReader.getBrokerManager().setDefaultBroker(broker);
+        taskEventsReader.setReadAheadWindow(150).process();
+        final var taskUsageReader = GoogleTaskUsageTraceReader.getInstance(taskEventsReader, taskUsageTrace.toString());
+        taskUsageReader.setReadAheadWindow(5).process();
+
+        final var maxAvailableCloudlets = new int[1];
+        simulation.addOnClockTickListener(info ->
+            maxAvailableCloudlets[0] = Math.max(maxAvailableCloudlets[0], taskEventsReader.getAvailableObjects().size()));
+        simulation.start();
+
+        assertEquals(tasks, taskUsageReader.getAvailableObjects().size());
+        assertTrue(maxAvailableCloudlets[0] <= 6, "max available Cloudlets: " + maxAvailableCloudlets[0]);
+    }
+
+    private static String taskEventLine(final long timestamp, final int taskIndex, final TaskEventType type) {
+        return "%d,0,1,%d,1,%d,user,0,1,0.5,0.1,0.01,0%n".formatted(timestamp, taskIndex, type.ordinal());
+    }
+
+    /**
+     * Runs a simulation for a trace file.
+     * @param trace the trace file
+     * @param readAheadWindow the read-ahead window for replaying the trace
+     * @param maxFutureEvents an array to store the max number of events in the future event queue
+     * @return a map where each key is a Cloudlet id and each value is its finish time
+     */
+    private static Map<Long, Double> runTrace(final Path trace, final double readAheadWindow, final long[] maxFutureEvents) throws IOException {
+        final var simulation = new CloudSimPlus();
+        new DatacenterSimple(simulation, List.of(new HostSimple(4096, 10_000, 100_000, List.of(new PeSimple(1000)))));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 1).setRam(1024).setBw(1000).setSize(1000));
+
+        final var reader = new GoogleTaskEventsTraceReader(simulation, trace.toString(), GoogleTaskEventsTraceReaderTest::createCloudlet);
+        reader.getBrokerManager().setDefaultBroker(broker);
+        reader.setReadAheadWindow(readAheadWindow).process();
+
+        simulation.addOnEventProcessingListener(evt ->
+            maxFutureEvents[0] = Math.max(maxFutureEvents[0], simulation.getNumberOfFutureEvents(e -> true)));
+        simulation.start();
+
+        final var finishTimes = new TreeMap<Long, Double>();
+        broker.getCloudletFinishedList().forEach(cloudlet -> finishTimes.put(cloudlet.getId(), cloudlet.getFinishTime()));
+        return finishTimes;
+    }
+
+    private static Cloudlet createCloudlet(final TaskEvent event) {
+        return new CloudletSimple(10_000, 1)
+            .setUtilizationModelRam(new UtilizationModelDynamic(event.getResourceRequestForRam()));
+    }
 }
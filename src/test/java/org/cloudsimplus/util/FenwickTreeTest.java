@@ -0,0 +1,50 @@
+package org.cloudsimplus.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenwickTreeTest {
+    @Test
+    void prefixSumMatchesNaiveSum() {
+        final var random = new Random(3);
+        final var tree = new FenwickTree(1);
+        final long[] values = new long[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(100);
+            assertEquals(i, tree.add(values[i]));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            final int index = random.nextInt(values.length);
+            values[index] = random.nextInt(100);
+            tree.set(index, values[index]);
+        }
+
+        long sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+            assertEquals(values[i], tree.get(i));
+            assertEquals(sum, tree.prefixSum(i));
+        }
+
+        assertEquals(sum, tree.sum());
+        assertEquals(0, tree.prefixSum(-1));
+    }
+
+    @Test
+    void reset() {
+        final var tree = new FenwickTree();
+        tree.add(5);
+        tree.reset(new long[]{1, 2, 3, 4}, 3);
+        assertEquals(3, tree.size());
+        assertEquals(6, tree.sum());
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(3));
+
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.sum());
+    }
+}
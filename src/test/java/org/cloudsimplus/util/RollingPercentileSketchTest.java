@@ -0,0 +1,65 @@
+package org.cloudsimplus.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollingPercentileSketchTest {
+    @Test
+    void getPercentileValueMatchesSortedWindow() {
+        final int windowSize = 50;
+        final int buckets = 100;
+        final var sketch = new RollingPercentileSketch(windowSize, 0.95, buckets);
+        final var window = new ArrayDeque<Double>();
+        final var random = new Random(13);
+        for (int i = 0; i < 500; i++) {
+            final double value = random.nextDouble() * (i < 250 ? 1 : 0.3);
+            sketch.add(value);
+            window.addLast(value);
+            if (window.size() > windowSize) {
+                window.removeFirst();
+            }
+
+            final double expected = exactPercentile(window, 0.95);
+            final double actual = sketch.getPercentileValue();
+            assertTrue(actual >= expected && actual - expected <= 1.0 / buckets, "%f vs %f at %d".formatted(actual, expected, i));
+        }
+
+        assertEquals(windowSize, sketch.getCount());
+        assertTrue(sketch.getPercentileValue() <= 0.31);
+    }
+
+    @Test
+    void addOutOfRangeValues() {
+        final var sketch = new RollingPercentileSketch(10, 1, 10);
+        sketch.add(-1);
+        assertEquals(0.1, sketch.getPercentileValue());
+        sketch.add(2);
+        assertEquals(1, sketch.getPercentileValue());
+    }
+
+    @Test
+    void clear() {
+        final var sketch = new RollingPercentileSketch(10, 0.5, 10);
+        sketch.add(0.5);
+        sketch.clear();
+        assertEquals(0, sketch.getCount());
+        assertEquals(0, sketch.getPercentileValue());
+    }
+
+    @Test
+    void createWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RollingPercentileSketch(0, 0.95, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RollingPercentileSketch(10, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RollingPercentileSketch(10, 0.95, 0));
+    }
+
+    private static double exactPercentile(final ArrayDeque<Double> window, final double percentile) {
+        final double[] sorted = window.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        final int valuesAbove = (int) Math.floor(sorted.length * (1 - percentile));
+        return sorted[sorted.length - 1 - valuesAbove];
+    }
+}
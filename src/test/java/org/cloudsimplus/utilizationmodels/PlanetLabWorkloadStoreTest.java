@@ -0,0 +1,53 @@
+package org.cloudsimplus.utilizationmodels;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanetLabWorkloadStoreTest {
+    private static final String FILE = "146-179_surfsnel_dsl_internl_net_colostate_557.dat";
+    private static final int SCHEDULING_INTERVAL = 300;
+
+    @Test
+    void newModelSharesTraceAndMatchesRegularModel() {
+        final var store = new PlanetLabWorkloadStore();
+        final var regular = UtilizationModelPlanetLab.getInstance(FILE, SCHEDULING_INTERVAL);
+        final var shared1 = store.newModel(FILE, SCHEDULING_INTERVAL, DoubleUnaryOperator.identity());
+        final var shared2 = store.newModel(FILE, SCHEDULING_INTERVAL, value -> value * 2);
+
+        assertSame(store.getTrace(FILE, -1), store.getTrace(FILE, -1));
+        assertEquals(1, store.getTracesNumber());
+        assertEquals(regular.getDataSamples(), store.getSize());
+        assertEquals(regular.getDataSamples(), shared1.getDataSamples());
+        for (int time = 0; time < regular.getDataSamples() * SCHEDULING_INTERVAL; time += SCHEDULING_INTERVAL / 2) {
+            final double expected = Math.min(regular.getUtilization(time), 1);
+            assertEquals(expected, shared1.getUtilization(time), PlanetLabWorkloadStore.QUANTUM / 2, "time " + time);
+            assertEquals(Math.min(expected * 2, 1), shared2.getUtilization(time), PlanetLabWorkloadStore.QUANTUM, "time " + time);
+        }
+    }
+
+    @Test
+    void getTraceDeduplicatesContent() {
+        final var store = new PlanetLabWorkloadStore();
+        final byte[] all = store.getTrace(FILE, -1);
+        final byte[] sameContent = store.getTrace(FILE, all.length);
+        assertSame(all, sameContent);
+        assertEquals(1, store.getTracesNumber());
+
+        assertNotSame(all, store.getTrace(FILE, 10));
+        assertEquals(2, store.getTracesNumber());
+
+        store.clear();
+        assertEquals(0, store.getTracesNumber());
+        assertNotSame(all, store.getTrace(FILE, -1));
+    }
+
+    @Test
+    void quantise() {
+        assertEquals(0, PlanetLabWorkloadStore.toUtilization(PlanetLabWorkloadStore.quantise(-1)));
+        assertEquals(0.37, PlanetLabWorkloadStore.toUtilization(PlanetLabWorkloadStore.quantise(0.37)), 1e-9);
+        assertEquals(1.275, PlanetLabWorkloadStore.toUtilization(PlanetLabWorkloadStore.quantise(3)), 1e-9);
+    }
+}